@@ -0,0 +1,95 @@
+package com.proyek.coffeeshop.benchmark;
+
+import com.proyek.coffeeshop.model.value.Money;
+import org.openjdk.jmh.annotations.*;
+
+import java.math.BigDecimal;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Perbandingan aritmatika harga BigDecimal (implementasi lama) dengan Money (long sen)
+ * untuk pola yang sama dengan pembuatan order: subtotal per item dari harga satuan,
+ * quantity dan kustomisasi, lalu total order dan kembalian.
+ * Jalankan dengan {@code ./gradlew jmh -PjmhInclude=MoneyArithmetic}; kolom
+ * {@code gc.alloc.rate.norm} menunjukkan byte yang dialokasikan per operasi.
+ *
+ * @author Coffee Shop Team
+ * @version 1.0
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class MoneyArithmeticBenchmark {
+
+    private static final int CUSTOMIZATIONS_PER_LINE = 2;
+
+    @Param({"5", "20"})
+    int lines;
+
+    private int[] quantities;
+
+    private BigDecimal[] unitPrices;
+    private BigDecimal[][] adjustments;
+    private BigDecimal tendered;
+
+    private Money[] unitPriceMoney;
+    private Money[][] adjustmentMoney;
+    private Money tenderedMoney;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        quantities = new int[lines];
+        unitPrices = new BigDecimal[lines];
+        adjustments = new BigDecimal[lines][CUSTOMIZATIONS_PER_LINE];
+        unitPriceMoney = new Money[lines];
+        adjustmentMoney = new Money[lines][CUSTOMIZATIONS_PER_LINE];
+
+        for (int line = 0; line < lines; line++) {
+            quantities[line] = 1 + random.nextInt(4);
+            unitPrices[line] = new BigDecimal(15000 + random.nextInt(40) * 500).setScale(2);
+            unitPriceMoney[line] = Money.of(unitPrices[line]);
+            for (int i = 0; i < CUSTOMIZATIONS_PER_LINE; i++) {
+                adjustments[line][i] = new BigDecimal(1000 + random.nextInt(5) * 1000).setScale(2);
+                adjustmentMoney[line][i] = Money.of(adjustments[line][i]);
+            }
+        }
+        tendered = new BigDecimal("2000000.00");
+        tenderedMoney = Money.of(tendered);
+    }
+
+    /**
+     * Pola lama di OrderServiceImpl dan OrderDetail: multiply, valueOf, add, reduce.
+     */
+    @Benchmark
+    public BigDecimal bigDecimalPricing() {
+        BigDecimal total = BigDecimal.ZERO;
+        for (int line = 0; line < lines; line++) {
+            BigDecimal customizationTotal = BigDecimal.ZERO;
+            for (BigDecimal adjustment : adjustments[line]) {
+                customizationTotal = customizationTotal.add(adjustment);
+            }
+            BigDecimal basePrice = unitPrices[line].multiply(BigDecimal.valueOf(quantities[line]));
+            BigDecimal subtotal = basePrice.add(customizationTotal.multiply(BigDecimal.valueOf(quantities[line])));
+            total = total.add(subtotal);
+        }
+        return tendered.subtract(total);
+    }
+
+    /**
+     * Pola baru: akumulasi dalam long sen, satu Money hanya untuk hasil akhir.
+     */
+    @Benchmark
+    public Money moneyPricing() {
+        long totalCents = 0;
+        for (int line = 0; line < lines; line++) {
+            long unitCents = unitPriceMoney[line].getCents();
+            for (Money adjustment : adjustmentMoney[line]) {
+                unitCents = Math.addExact(unitCents, adjustment.getCents());
+            }
+            totalCents = Math.addExact(totalCents, Math.multiplyExact(unitCents, (long) quantities[line]));
+        }
+        return tenderedMoney.minus(Money.ofCents(totalCents));
+    }
+}
@@ -0,0 +1,51 @@
+package com.proyek.coffeeshop.benchmark;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.proyek.coffeeshop.config.MoneyJsonComponent;
+import com.proyek.coffeeshop.dto.response.OrderResponseDto;
+import com.proyek.coffeeshop.model.value.Money;
+import com.proyek.coffeeshop.service.impl.OrderMapper;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark serialisasi JSON OrderResponseDto dengan konfigurasi Jackson yang
+ * setara dengan default Spring Boot (tanggal ISO-8601, modul java.time, serializer Money).
+ *
+ * @author Coffee Shop Team
+ * @version 1.0
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class OrderJsonBenchmark {
+
+    @Param({"1", "5", "20"})
+    int lines;
+
+    private ObjectWriter writer;
+    private OrderResponseDto response;
+
+    @Setup
+    public void setUp() {
+        writer = JsonMapper.builder()
+                .findAndAddModules()
+                .addModule(new SimpleModule()
+                        .addSerializer(Money.class, new MoneyJsonComponent.Serializer())
+                        .addDeserializer(Money.class, new MoneyJsonComponent.Deserializer()))
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .build()
+                .writerFor(OrderResponseDto.class);
+        response = new OrderMapper().toOrderResponseDto(new SyntheticOrders().order(1, lines));
+    }
+
+    @Benchmark
+    public byte[] serializeOrderResponse() throws JsonProcessingException {
+        return writer.writeValueAsBytes(response);
+    }
+}
@@ -0,0 +1,42 @@
+package com.proyek.coffeeshop.benchmark;
+
+import com.proyek.coffeeshop.dto.response.CashierOrderResponseDTO;
+import com.proyek.coffeeshop.dto.response.OrderResponseDto;
+import com.proyek.coffeeshop.model.entity.Order;
+import com.proyek.coffeeshop.service.impl.OrderMapper;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark mapping graph order (item, produk, kategori, kustomisasi) ke DTO response.
+ *
+ * @author Coffee Shop Team
+ * @version 1.0
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class OrderMappingBenchmark {
+
+    @Param({"1", "5", "20"})
+    int lines;
+
+    private final OrderMapper orderMapper = new OrderMapper();
+    private Order order;
+
+    @Setup
+    public void setUp() {
+        order = new SyntheticOrders().order(1, lines);
+    }
+
+    @Benchmark
+    public OrderResponseDto toOrderResponseDto() {
+        return orderMapper.toOrderResponseDto(order);
+    }
+
+    @Benchmark
+    public CashierOrderResponseDTO toCashierOrderResponseDto() {
+        return orderMapper.toCashierOrderResponseDto(order);
+    }
+}
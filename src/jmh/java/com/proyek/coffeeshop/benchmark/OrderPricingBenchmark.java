@@ -0,0 +1,43 @@
+package com.proyek.coffeeshop.benchmark;
+
+import com.proyek.coffeeshop.model.entity.Order;
+import com.proyek.coffeeshop.model.entity.OrderDetail;
+import com.proyek.coffeeshop.model.value.Money;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark perhitungan harga order dengan Money (long sen): subtotal per item
+ * (harga x quantity + kustomisasi), total order, dan kembalian tunai seperti
+ * pada pembuatan order kasir.
+ *
+ * @author Coffee Shop Team
+ * @version 1.0
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class OrderPricingBenchmark {
+
+    @Param({"1", "5", "20"})
+    int lines;
+
+    private Order order;
+    private Money amountTendered;
+
+    @Setup
+    public void setUp() {
+        order = new SyntheticOrders().order(1, lines);
+        amountTendered = order.getTotalAmount().plus(Money.of("50000"));
+    }
+
+    @Benchmark
+    public Money priceOrder() {
+        for (OrderDetail detail : order.getOrderDetails()) {
+            detail.calculateSubtotalPrice();
+        }
+        order.calculateTotalAmount();
+        return amountTendered.minus(order.getTotalAmount());
+    }
+}
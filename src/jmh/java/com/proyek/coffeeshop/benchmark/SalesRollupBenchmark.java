@@ -0,0 +1,66 @@
+package com.proyek.coffeeshop.benchmark;
+
+import com.proyek.coffeeshop.model.entity.Order;
+import com.proyek.coffeeshop.model.value.Money;
+import com.proyek.coffeeshop.service.impl.SalesRollupServiceImpl;
+import com.proyek.coffeeshop.service.impl.SalesRollupServiceImpl.ProductTotals;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark agregasi penjualan per produk yang dipakai untuk memelihara rollup laporan
+ * (pengganti agregasi in-memory lama di ReportServiceImpl), atas set order sintetis
+ * berukuran 10 ribu sampai 1 juta item.
+ *
+ * @author Coffee Shop Team
+ * @version 1.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 3)
+public class SalesRollupBenchmark {
+
+    private static final int LINES_PER_ORDER = 4;
+
+    @Param({"10000", "100000", "1000000"})
+    int totalLines;
+
+    private List<Order> orders;
+
+    @Setup
+    public void setUp() {
+        orders = new SyntheticOrders().orders(totalLines, LINES_PER_ORDER);
+    }
+
+    /**
+     * Agregasi per order (yang dilakukan setiap kali order dicatat ke rollup).
+     */
+    @Benchmark
+    public long totalsPerOrder() {
+        long products = 0;
+        for (Order order : orders) {
+            products += SalesRollupServiceImpl.totalsByProduct(order.getOrderDetails()).size();
+        }
+        return products;
+    }
+
+    /**
+     * Agregasi seluruh set order menjadi total per produk (setara laporan penjualan produk).
+     */
+    @Benchmark
+    public Map<Long, Money> revenueByProduct() {
+        Map<Long, Money> revenue = new TreeMap<>();
+        for (Order order : orders) {
+            for (Map.Entry<Long, ProductTotals> entry : SalesRollupServiceImpl.totalsByProduct(order.getOrderDetails()).entrySet()) {
+                revenue.merge(entry.getKey(), entry.getValue().getRevenue(), Money::plus);
+            }
+        }
+        return revenue;
+    }
+}
@@ -0,0 +1,152 @@
+package com.proyek.coffeeshop.benchmark;
+
+import com.proyek.coffeeshop.model.entity.*;
+import com.proyek.coffeeshop.model.enums.OrderStatus;
+import com.proyek.coffeeshop.model.value.Money;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Pembuat graph order sintetis untuk benchmark.
+ * Bentuknya meniru order nyata: beberapa item per order, sebagian item memiliki
+ * kustomisasi, dan harga dengan dua digit desimal. Seed tetap agar hasil antar run
+ * bisa dibandingkan.
+ *
+ * @author Coffee Shop Team
+ * @version 1.0
+ */
+final class SyntheticOrders {
+
+    static final int PRODUCT_COUNT = 60;
+    static final int CUSTOMIZATION_COUNT = 12;
+
+    private final Random random = new Random(42);
+    private final List<Product> products = new ArrayList<>();
+    private final List<Customization> customizations = new ArrayList<>();
+    private final List<PaymentMethod> paymentMethods = new ArrayList<>();
+    private final Customer customer;
+    private final User kasir;
+
+    SyntheticOrders() {
+        List<Category> categories = new ArrayList<>();
+        for (long id = 1; id <= 6; id++) {
+            Category category = new Category();
+            category.setCategoryId(id);
+            category.setName("Category " + id);
+            categories.add(category);
+        }
+
+        for (long id = 1; id <= PRODUCT_COUNT; id++) {
+            Product product = new Product();
+            product.setProductId(id);
+            product.setName("Product " + id);
+            product.setDescription("Synthetic product number " + id);
+            product.setPrice(new BigDecimal(15000 + random.nextInt(40) * 500).setScale(2));
+            product.setImageUrl("https://example.com/img/" + id + ".png");
+            product.setCategory(categories.get((int) (id % categories.size())));
+            products.add(product);
+        }
+
+        for (long id = 1; id <= CUSTOMIZATION_COUNT; id++) {
+            Customization customization = new Customization();
+            customization.setCustomizationId(id);
+            customization.setName("Extra " + id);
+            customization.setType(id % 2 == 0 ? "TOPPING" : "SIZE");
+            customization.setPriceAdjustment(new BigDecimal(id * 1000).setScale(2));
+            customization.setDescription("Synthetic customization " + id);
+            customizations.add(customization);
+        }
+
+        for (String name : List.of("Cash", "QRIS", "Debit")) {
+            PaymentMethod paymentMethod = new PaymentMethod();
+            paymentMethod.setPaymentId((long) paymentMethods.size() + 1);
+            paymentMethod.setName(name);
+            paymentMethod.setDescription("Pembayaran " + name);
+            paymentMethods.add(paymentMethod);
+        }
+
+        User customerUser = new User();
+        customerUser.setUserId(1L);
+        customerUser.setUsername("customer001");
+        customer = new Customer();
+        customer.setCustomerId(1L);
+        customer.setUser(customerUser);
+        customer.setFullName("Budi Santoso");
+        customer.setPhoneNumber("081234567890");
+        customer.setAddress("Jl. Merdeka No. 1");
+
+        kasir = new User();
+        kasir.setUserId(2L);
+        kasir.setUsername("kasir001");
+    }
+
+    /**
+     * Membuat order dengan jumlah item tertentu; subtotal dan total sudah dihitung.
+     */
+    Order order(long orderId, int lines) {
+        Order order = new Order();
+        order.setOrderId(orderId);
+        order.setOrderDate(LocalDateTime.of(2024, 1, 1, 8, 0).plusMinutes(orderId));
+        order.setStatus(OrderStatus.PAID);
+        order.setPaymentMethod(paymentMethods.get((int) (orderId % paymentMethods.size())));
+        if (orderId % 3 == 0) {
+            order.setProcessedByKasir(kasir);
+        } else {
+            order.setCustomer(customer);
+        }
+        order.setCustomerNotes("Less sugar");
+
+        List<OrderDetail> details = new ArrayList<>(lines);
+        for (int line = 0; line < lines; line++) {
+            details.add(detail(order, orderId * 100 + line));
+        }
+        order.setOrderDetails(details);
+        order.calculateTotalAmount();
+        order.setAmountTendered(order.getTotalAmount().plus(Money.of("10000")));
+        order.setChangeGiven(Money.of("10000"));
+        return order;
+    }
+
+    /**
+     * Membuat sejumlah order sampai total item mencapai {@code totalLines}.
+     */
+    List<Order> orders(int totalLines, int linesPerOrder) {
+        List<Order> orders = new ArrayList<>(totalLines / linesPerOrder + 1);
+        long orderId = 1;
+        for (int remaining = totalLines; remaining > 0; remaining -= linesPerOrder) {
+            orders.add(order(orderId++, Math.min(linesPerOrder, remaining)));
+        }
+        return orders;
+    }
+
+    private OrderDetail detail(Order order, long detailId) {
+        Product product = products.get(random.nextInt(products.size()));
+
+        OrderDetail detail = new OrderDetail();
+        detail.setDetailId(detailId);
+        detail.setOrder(order);
+        detail.setProduct(product);
+        detail.setQuantity(1 + random.nextInt(4));
+        detail.setUnitPrice(Money.of(product.getPrice()));
+
+        int customizationCount = random.nextInt(3);
+        List<OrderDetailCustomization> detailCustomizations = new ArrayList<>(customizationCount);
+        for (int i = 0; i < customizationCount; i++) {
+            Customization customization = customizations.get(random.nextInt(customizations.size()));
+            OrderDetailCustomization detailCustomization = new OrderDetailCustomization();
+            detailCustomization.setDetailCustomizationId(detailId * 10 + i);
+            detailCustomization.setOrderDetail(detail);
+            detailCustomization.setCustomization(customization);
+            detailCustomization.setCustomizationNameSnapshot(customization.getName());
+            detailCustomization.setPriceAdjustmentSnapshot(Money.of(customization.getPriceAdjustment()));
+            detailCustomizations.add(detailCustomization);
+        }
+        detail.setCustomizations(detailCustomizations);
+        detail.calculateSubtotalPrice();
+        return detail;
+    }
+}
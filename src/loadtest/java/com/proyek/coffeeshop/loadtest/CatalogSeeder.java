@@ -0,0 +1,108 @@
+package com.proyek.coffeeshop.loadtest;
+
+import com.proyek.coffeeshop.model.entity.Category;
+import com.proyek.coffeeshop.model.entity.Customer;
+import com.proyek.coffeeshop.model.entity.Product;
+import com.proyek.coffeeshop.model.entity.User;
+import com.proyek.coffeeshop.model.enums.UserRole;
+import com.proyek.coffeeshop.repository.CategoryRepository;
+import com.proyek.coffeeshop.repository.CustomerRepository;
+import com.proyek.coffeeshop.repository.ProductRepository;
+import com.proyek.coffeeshop.repository.UserRepository;
+import org.springframework.context.ApplicationContext;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Mengisi database load test dengan katalog dan akun sesuai konfigurasi.
+ * Data bawaan DataInitializer (admin, kasir01, metode pembayaran, kustomisasi) tetap dipakai.
+ *
+ * @author Coffee Shop Team
+ * @version 1.0
+ */
+final class CatalogSeeder {
+
+    static final String PASSWORD = "loadtest123";
+    static final int STOCK_PER_PRODUCT = 10_000_000;
+
+    private final CategoryRepository categoryRepository;
+    private final ProductRepository productRepository;
+    private final UserRepository userRepository;
+    private final CustomerRepository customerRepository;
+    private final PasswordEncoder passwordEncoder;
+
+    CatalogSeeder(ApplicationContext context) {
+        categoryRepository = context.getBean(CategoryRepository.class);
+        productRepository = context.getBean(ProductRepository.class);
+        userRepository = context.getBean(UserRepository.class);
+        customerRepository = context.getBean(CustomerRepository.class);
+        passwordEncoder = context.getBean(PasswordEncoder.class);
+    }
+
+    /**
+     * @return ID semua produk yang bisa dipesan
+     */
+    List<Long> seedProducts(int count) {
+        List<Category> categories = categoryRepository.findAll();
+        Random random = new Random(7);
+
+        List<Product> products = new ArrayList<>(count);
+        for (int i = 1; i <= count; i++) {
+            Product product = new Product();
+            product.setName("Load Test Product " + i);
+            product.setDescription("Produk sintetis untuk load test");
+            product.setPrice(new BigDecimal(15000 + random.nextInt(40) * 500));
+            product.setCategory(categories.get(i % categories.size()));
+            product.setStockQuantity(STOCK_PER_PRODUCT);
+            product.setMaxStockLevel(STOCK_PER_PRODUCT);
+            product.setAvailable(true);
+            products.add(product);
+        }
+        productRepository.saveAll(products);
+
+        // Produk bawaan DataInitializer juga diberi stok besar agar tidak habis di tengah run
+        List<Product> all = productRepository.findAll();
+        all.forEach(product -> {
+            product.setStockQuantity(STOCK_PER_PRODUCT);
+            product.setMaxStockLevel(STOCK_PER_PRODUCT);
+            product.setAvailable(true);
+        });
+        return productRepository.saveAll(all).stream().map(Product::getProductId).toList();
+    }
+
+    /**
+     * @return username semua akun dengan role tersebut
+     */
+    List<String> seedUsers(String prefix, UserRole role, int count) {
+        // Satu hash dipakai untuk semua akun agar seeding tidak didominasi BCrypt
+        String encodedPassword = passwordEncoder.encode(PASSWORD);
+        List<String> usernames = new ArrayList<>(count);
+
+        for (int i = 1; i <= count; i++) {
+            String username = String.format("%s%03d", prefix, i);
+            User user = new User();
+            user.setUsername(username);
+            user.setEmail(username + "@loadtest.local");
+            user.setPassword(encodedPassword);
+            user.setRole(role);
+            user.setCreatedAt(LocalDateTime.now());
+            user.setUpdatedAt(LocalDateTime.now());
+            user = userRepository.save(user);
+
+            if (role == UserRole.ROLE_CUSTOMER) {
+                Customer customer = new Customer();
+                customer.setUser(user);
+                customer.setFullName("Load Test Customer " + i);
+                customer.setPhoneNumber("0800000" + String.format("%05d", i));
+                customerRepository.save(customer);
+            }
+            usernames.add(username);
+        }
+        return usernames;
+    }
+}
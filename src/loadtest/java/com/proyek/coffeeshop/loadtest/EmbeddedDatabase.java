@@ -0,0 +1,45 @@
+package com.proyek.coffeeshop.loadtest;
+
+import ch.vorburger.exec.ManagedProcessException;
+import ch.vorburger.mariadb4j.DB;
+import ch.vorburger.mariadb4j.DBConfigurationBuilder;
+
+/**
+ * MariaDB embedded (MariaDB4j) sebagai pengganti MySQL saat load test.
+ * Port dipilih otomatis dan data disimpan di direktori sementara.
+ *
+ * @author Coffee Shop Team
+ * @version 1.0
+ */
+final class EmbeddedDatabase implements AutoCloseable {
+
+    static final String DATABASE_NAME = "coffeeshop_loadtest";
+
+    private final DB db;
+
+    private EmbeddedDatabase(DB db) {
+        this.db = db;
+    }
+
+    static EmbeddedDatabase start() throws ManagedProcessException {
+        DBConfigurationBuilder config = DBConfigurationBuilder.newBuilder();
+        config.setPort(0); // Port bebas
+        config.addArg("--max-connections=500");
+        config.addArg("--innodb-buffer-pool-size=512M");
+
+        DB db = DB.newEmbeddedDB(config.build());
+        db.start();
+        db.createDB(DATABASE_NAME);
+        return new EmbeddedDatabase(db);
+    }
+
+    String jdbcUrl() {
+        return "jdbc:mysql://localhost:" + db.getConfiguration().getPort() + "/" + DATABASE_NAME
+                + "?rewriteBatchedStatements=true";
+    }
+
+    @Override
+    public void close() throws ManagedProcessException {
+        db.stop();
+    }
+}
@@ -0,0 +1,73 @@
+package com.proyek.coffeeshop.loadtest;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Statistik per endpoint: histogram latency dari sisi client dan jumlah statement SQL
+ * dari sisi server. Kunci endpoint berbentuk {@code "METHOD /pola/url"}.
+ *
+ * @author Coffee Shop Team
+ * @version 1.0
+ */
+final class EndpointStats {
+
+    private static final long MAX_LATENCY_NANOS = TimeUnit.MINUTES.toNanos(1);
+
+    private final Map<String, Endpoint> endpoints = new ConcurrentHashMap<>();
+    private volatile boolean recording;
+
+    void startRecording() {
+        endpoints.clear();
+        recording = true;
+    }
+
+    void stopRecording() {
+        recording = false;
+    }
+
+    void recordLatency(String endpoint, long nanos, boolean success) {
+        if (recording) {
+            Endpoint stats = endpoint(endpoint);
+            stats.latency.recordValue(Math.min(nanos, MAX_LATENCY_NANOS));
+            if (!success) {
+                stats.errors.increment();
+            }
+        }
+    }
+
+    void recordSql(String endpoint, int statements) {
+        if (recording) {
+            Endpoint stats = endpoint(endpoint);
+            stats.sqlRequests.increment();
+            stats.sqlStatements.add(statements);
+        }
+    }
+
+    Map<String, Endpoint> snapshot() {
+        return new TreeMap<>(endpoints);
+    }
+
+    private Endpoint endpoint(String name) {
+        return endpoints.computeIfAbsent(name, key -> new Endpoint());
+    }
+
+    static final class Endpoint {
+
+        final Histogram latency = new ConcurrentHistogram(MAX_LATENCY_NANOS, 3);
+        final LongAdder errors = new LongAdder();
+        final LongAdder sqlRequests = new LongAdder();
+        final LongAdder sqlStatements = new LongAdder();
+
+        double sqlPerRequest() {
+            long requests = sqlRequests.sum();
+            return requests == 0 ? 0 : (double) sqlStatements.sum() / requests;
+        }
+    }
+}
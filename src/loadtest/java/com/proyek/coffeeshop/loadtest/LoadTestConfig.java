@@ -0,0 +1,51 @@
+package com.proyek.coffeeshop.loadtest;
+
+import java.time.Duration;
+
+/**
+ * Konfigurasi load test, dibaca dari system property {@code loadtest.*}
+ * (diteruskan oleh task Gradle {@code loadTest} dari {@code -Ploadtest.*}).
+ *
+ * @author Coffee Shop Team
+ * @version 1.0
+ */
+final class LoadTestConfig {
+
+    final int products;
+    final int tills;
+    final int customers;
+    final int admins;
+    final Duration warmup;
+    final Duration duration;
+    final Duration thinkTime;
+    final int maxItemsPerOrder;
+    final String reportFile;
+
+    private LoadTestConfig() {
+        products = intProperty("loadtest.products", 200);
+        tills = intProperty("loadtest.tills", 20);
+        customers = intProperty("loadtest.customers", 50);
+        admins = intProperty("loadtest.admins", 2);
+        warmup = Duration.ofSeconds(intProperty("loadtest.warmup-seconds", 15));
+        duration = Duration.ofSeconds(intProperty("loadtest.duration-seconds", 60));
+        thinkTime = Duration.ofMillis(intProperty("loadtest.think-ms", 50));
+        maxItemsPerOrder = intProperty("loadtest.max-items", 4);
+        reportFile = System.getProperty("loadtest.report", "build/reports/loadtest/summary.json");
+    }
+
+    static LoadTestConfig fromSystemProperties() {
+        return new LoadTestConfig();
+    }
+
+    private static int intProperty(String name, int defaultValue) {
+        String value = System.getProperty(name);
+        return value == null || value.isBlank() ? defaultValue : Integer.parseInt(value.trim());
+    }
+
+    @Override
+    public String toString() {
+        return "products=" + products + ", tills=" + tills + ", customers=" + customers + ", admins=" + admins
+                + ", warmup=" + warmup.toSeconds() + "s, duration=" + duration.toSeconds() + "s, think="
+                + thinkTime.toMillis() + "ms, maxItems=" + maxItemsPerOrder;
+    }
+}
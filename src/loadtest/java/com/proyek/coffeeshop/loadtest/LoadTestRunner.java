@@ -0,0 +1,237 @@
+package com.proyek.coffeeshop.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.proyek.coffeeshop.CoffeeShopApplication;
+import com.proyek.coffeeshop.model.enums.UserRole;
+import com.proyek.coffeeshop.repository.PaymentMethodRepository;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.File;
+import java.net.http.HttpClient;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Load test end-to-end: menjalankan aplikasi di atas MariaDB embedded, mengisi katalog,
+ * lalu menjalankan kasir, customer, dan admin virtual (satu virtual thread per aktor)
+ * dan melaporkan throughput, latency p50/p95/p99/p99.9, serta jumlah SQL per request.
+ *
+ * <p>Jalankan dengan {@code ./gradlew loadTest -Ploadtest.tills=30 -Ploadtest.duration-seconds=120}.</p>
+ *
+ * @author Coffee Shop Team
+ * @version 1.0
+ */
+public final class LoadTestRunner {
+
+    static final String CASHIER_ORDER = "POST /api/orders/kasir";
+    static final String CUSTOMER_ORDER = "POST /api/orders";
+    static final String MY_ORDERS = "GET /api/orders/my-orders";
+    static final String TRANSACTION_REPORT = "GET /api/reports/transactions";
+    static final String PRODUCT_SALES_REPORT = "GET /api/reports/products/sales";
+    static final String TOP_SELLING_REPORT = "GET /api/reports/products/top-selling";
+
+    private final LoadTestConfig config;
+    private final EndpointStats stats = LoadTestSupport.STATS;
+
+    private List<Long> productIds;
+    private Long customerPaymentMethodId;
+    private volatile long deadline;
+
+    private LoadTestRunner(LoadTestConfig config) {
+        this.config = config;
+    }
+
+    public static void main(String[] args) throws Exception {
+        LoadTestConfig config = LoadTestConfig.fromSystemProperties();
+        System.out.println("Load test configuration: " + config);
+
+        try (EmbeddedDatabase database = EmbeddedDatabase.start();
+             ConfigurableApplicationContext context = startApplication(database)) {
+            new LoadTestRunner(config).run(context);
+        }
+    }
+
+    private static ConfigurableApplicationContext startApplication(EmbeddedDatabase database) {
+        return new SpringApplicationBuilder(CoffeeShopApplication.class, LoadTestSupport.class)
+                .properties(
+                        "spring.datasource.url=" + database.jdbcUrl(),
+                        "spring.datasource.username=root",
+                        "spring.datasource.password=",
+                        "spring.datasource.hikari.maximum-pool-size=40",
+                        "spring.jpa.show-sql=false",
+                        "spring.jpa.properties.hibernate.format_sql=false",
+                        "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+                                + SqlStatementCounter.class.getName(),
+                        "server.port=0",
+                        "server.tomcat.threads.max=400",
+                        "logging.level.com.proyek.coffeeshop=WARN",
+                        "logging.level.org.springframework.security=WARN")
+                .run();
+    }
+
+    private void run(ConfigurableApplicationContext context) throws Exception {
+        CatalogSeeder seeder = new CatalogSeeder(context);
+        productIds = seeder.seedProducts(config.products);
+        List<String> tills = seeder.seedUsers("till", UserRole.ROLE_KASIR, config.tills);
+        List<String> customers = seeder.seedUsers("lt-customer", UserRole.ROLE_CUSTOMER, config.customers);
+        customerPaymentMethodId = context.getBean(PaymentMethodRepository.class)
+                .findByName("Digital Wallet").orElseThrow().getPaymentId();
+
+        int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+        String baseUrl = "http://localhost:" + port;
+        HttpClient httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+
+        List<Runnable> actors = new ArrayList<>();
+        for (String till : tills) {
+            VirtualClient client = new VirtualClient(httpClient, baseUrl, till, CatalogSeeder.PASSWORD, stats);
+            client.login();
+            actors.add(actor(() -> tillIteration(client)));
+        }
+        for (String customer : customers) {
+            VirtualClient client = new VirtualClient(httpClient, baseUrl, customer, CatalogSeeder.PASSWORD, stats);
+            client.login();
+            actors.add(actor(() -> customerIteration(client)));
+        }
+        for (int i = 0; i < config.admins; i++) {
+            VirtualClient client = new VirtualClient(httpClient, baseUrl, "admin", "admin123", stats);
+            client.login();
+            actors.add(actor(() -> adminIteration(client)));
+        }
+
+        System.out.printf("Running %d actors against %s (warmup %ds, measure %ds)%n",
+                actors.size(), baseUrl, config.warmup.toSeconds(), config.duration.toSeconds());
+
+        long startNanos = System.nanoTime();
+        deadline = startNanos + config.warmup.plus(config.duration).toNanos();
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            actors.forEach(executor::submit);
+
+            Thread.sleep(config.warmup.toMillis());
+            stats.startRecording();
+            long measureStart = System.nanoTime();
+            Thread.sleep(config.duration.toMillis());
+            stats.stopRecording();
+            report(System.nanoTime() - measureStart);
+        }
+    }
+
+    private Runnable actor(Iteration iteration) {
+        return () -> {
+            try {
+                while (System.nanoTime() < deadline) {
+                    iteration.run();
+                    if (!config.thinkTime.isZero()) {
+                        Thread.sleep(config.thinkTime.toMillis());
+                    }
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        };
+    }
+
+    private void tillIteration(VirtualClient client) throws InterruptedException {
+        StringBuilder items = new StringBuilder();
+        appendItems(items, "orderItems");
+        client.post(CASHIER_ORDER, "/api/orders/kasir",
+                "{" + items + ",\"paymentMethodName\":\"Cash\",\"amountTendered\":10000000}");
+    }
+
+    private void customerIteration(VirtualClient client) throws InterruptedException {
+        StringBuilder items = new StringBuilder();
+        appendItems(items, "items");
+        client.post(CUSTOMER_ORDER, "/api/orders",
+                "{" + items + ",\"paymentMethodId\":" + customerPaymentMethodId + "}");
+
+        if (ThreadLocalRandom.current().nextInt(3) == 0) {
+            client.get(MY_ORDERS, "/api/orders/my-orders");
+        }
+    }
+
+    private void adminIteration(VirtualClient client) throws InterruptedException {
+        LocalDate today = LocalDate.now();
+        String range = "?startDate=" + today.minusDays(30) + "&endDate=" + today;
+        switch (ThreadLocalRandom.current().nextInt(3)) {
+            case 0 -> client.get(TRANSACTION_REPORT, "/api/reports/transactions" + range);
+            case 1 -> client.get(PRODUCT_SALES_REPORT, "/api/reports/products/sales" + range);
+            default -> client.get(TOP_SELLING_REPORT, "/api/reports/products/top-selling" + range + "&limit=10");
+        }
+    }
+
+    private void appendItems(StringBuilder json, String field) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        int count = 1 + random.nextInt(config.maxItemsPerOrder);
+        json.append('"').append(field).append("\":[");
+        for (int i = 0; i < count; i++) {
+            if (i > 0) {
+                json.append(',');
+            }
+            json.append("{\"productId\":").append(productIds.get(random.nextInt(productIds.size())))
+                    .append(",\"quantity\":").append(1 + random.nextInt(3)).append('}');
+        }
+        json.append(']');
+    }
+
+    private void report(long elapsedNanos) throws Exception {
+        double seconds = elapsedNanos / 1e9;
+        Map<String, Object> summary = new LinkedHashMap<>();
+
+        System.out.println();
+        System.out.printf("%-40s %9s %7s %9s %9s %9s %9s %9s %9s %8s%n",
+                "endpoint", "requests", "errors", "req/s", "p50 ms", "p95 ms", "p99 ms", "p99.9 ms", "max ms", "sql/req");
+        for (Map.Entry<String, EndpointStats.Endpoint> entry : stats.snapshot().entrySet()) {
+            EndpointStats.Endpoint endpoint = entry.getValue();
+            long requests = endpoint.latency.getTotalCount();
+            if (requests == 0) {
+                continue;
+            }
+            Map<String, Object> row = new LinkedHashMap<>();
+            row.put("requests", requests);
+            row.put("errors", endpoint.errors.sum());
+            row.put("throughputPerSecond", requests / seconds);
+            row.put("p50Ms", millis(endpoint.latency.getValueAtPercentile(50)));
+            row.put("p95Ms", millis(endpoint.latency.getValueAtPercentile(95)));
+            row.put("p99Ms", millis(endpoint.latency.getValueAtPercentile(99)));
+            row.put("p999Ms", millis(endpoint.latency.getValueAtPercentile(99.9)));
+            row.put("maxMs", millis(endpoint.latency.getMaxValue()));
+            row.put("sqlPerRequest", endpoint.sqlPerRequest());
+            summary.put(entry.getKey(), row);
+
+            System.out.printf("%-40s %9d %7d %9.1f %9.2f %9.2f %9.2f %9.2f %9.2f %8.1f%n",
+                    entry.getKey(), requests, endpoint.errors.sum(), requests / seconds,
+                    row.get("p50Ms"), row.get("p95Ms"), row.get("p99Ms"), row.get("p999Ms"), row.get("maxMs"),
+                    endpoint.sqlPerRequest());
+        }
+
+        File reportFile = new File(config.reportFile);
+        if (reportFile.getParentFile() != null) {
+            reportFile.getParentFile().mkdirs();
+        }
+        new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT).writeValue(reportFile,
+                Map.of("configuration", config.toString(), "measuredSeconds", seconds, "endpoints", summary));
+        System.out.println("\nReport written to " + reportFile.getAbsolutePath());
+    }
+
+    private static double millis(long nanos) {
+        return nanos / (double) TimeUnit.MILLISECONDS.toNanos(1);
+    }
+
+    @FunctionalInterface
+    private interface Iteration {
+        void run() throws InterruptedException;
+    }
+}
@@ -0,0 +1,27 @@
+package com.proyek.coffeeshop.loadtest;
+
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+/**
+ * Konfigurasi tambahan yang hanya dimuat saat load test: filter penghitung SQL
+ * dipasang paling depan agar query autentikasi ikut terhitung.
+ *
+ * @author Coffee Shop Team
+ * @version 1.0
+ */
+@Configuration
+class LoadTestSupport {
+
+    static final EndpointStats STATS = new EndpointStats();
+
+    @Bean
+    FilterRegistrationBean<SqlCountingFilter> sqlCountingFilter() {
+        FilterRegistrationBean<SqlCountingFilter> registration = new FilterRegistrationBean<>(new SqlCountingFilter(STATS));
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE);
+        registration.addUrlPatterns("/api/*");
+        return registration;
+    }
+}
@@ -0,0 +1,39 @@
+package com.proyek.coffeeshop.loadtest;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+
+/**
+ * Filter yang mencatat jumlah statement SQL setiap request ke {@link EndpointStats},
+ * dikelompokkan per method dan pola URL handler (misalnya {@code GET /api/orders/{id}}).
+ *
+ * @author Coffee Shop Team
+ * @version 1.0
+ */
+class SqlCountingFilter extends OncePerRequestFilter {
+
+    private final EndpointStats stats;
+
+    SqlCountingFilter(EndpointStats stats) {
+        this.stats = stats;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        SqlStatementCounter.reset();
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+            String path = pattern != null ? pattern.toString() : request.getRequestURI();
+            stats.recordSql(request.getMethod() + " " + path, SqlStatementCounter.current());
+        }
+    }
+}
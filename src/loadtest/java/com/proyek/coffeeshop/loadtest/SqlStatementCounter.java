@@ -0,0 +1,30 @@
+package com.proyek.coffeeshop.loadtest;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+/**
+ * StatementInspector Hibernate yang menghitung jumlah statement SQL per thread.
+ * Didaftarkan lewat {@code hibernate.session_factory.statement_inspector}; penghitung
+ * di-reset dan dibaca oleh {@link SqlCountingFilter} di awal dan akhir setiap request.
+ *
+ * @author Coffee Shop Team
+ * @version 1.0
+ */
+public class SqlStatementCounter implements StatementInspector {
+
+    private static final ThreadLocal<int[]> COUNT = ThreadLocal.withInitial(() -> new int[1]);
+
+    @Override
+    public String inspect(String sql) {
+        COUNT.get()[0]++;
+        return sql;
+    }
+
+    static void reset() {
+        COUNT.get()[0] = 0;
+    }
+
+    static int current() {
+        return COUNT.get()[0];
+    }
+}
@@ -0,0 +1,96 @@
+package com.proyek.coffeeshop.loadtest;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Satu aktor HTTP (kasir, customer, atau admin) dengan kredensial sendiri.
+ * Setelah {@link #login()} berhasil, request memakai access token Bearer; jika login gagal
+ * aktor tetap memakai HTTP Basic.
+ * Setiap request diukur dan dicatat ke {@link EndpointStats} dengan nama endpoint
+ * yang sama dengan pola URL di sisi server.
+ *
+ * @author Coffee Shop Team
+ * @version 1.0
+ */
+final class VirtualClient {
+
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(30);
+    private static final Pattern ACCESS_TOKEN = Pattern.compile("\"accessToken\"\\s*:\\s*\"([^\"]+)\"");
+
+    private final HttpClient httpClient;
+    private final String baseUrl;
+    private final String username;
+    private final String password;
+    private final EndpointStats stats;
+    private String authorization;
+
+    VirtualClient(HttpClient httpClient, String baseUrl, String username, String password, EndpointStats stats) {
+        this.httpClient = httpClient;
+        this.baseUrl = baseUrl;
+        this.username = username;
+        this.password = password;
+        this.authorization = "Basic " + Base64.getEncoder()
+                .encodeToString((username + ":" + password).getBytes(StandardCharsets.UTF_8));
+        this.stats = stats;
+    }
+
+    /**
+     * Login sekali untuk mendapatkan access token; dipanggil sebelum aktor mulai berjalan.
+     */
+    void login() throws InterruptedException {
+        String json = "{\"username\":\"" + username + "\",\"password\":\"" + password + "\"}";
+        HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + "/api/auth/login"))
+                .timeout(REQUEST_TIMEOUT)
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(json))
+                .build();
+        try {
+            HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+            Matcher matcher = ACCESS_TOKEN.matcher(response.body());
+            if (response.statusCode() == 200 && matcher.find()) {
+                authorization = "Bearer " + matcher.group(1);
+            }
+        } catch (IOException e) {
+            // Tetap memakai HTTP Basic
+        }
+    }
+
+    void get(String endpoint, String pathAndQuery) throws InterruptedException {
+        send(endpoint, request(pathAndQuery).GET().build());
+    }
+
+    void post(String endpoint, String path, String json) throws InterruptedException {
+        send(endpoint, request(path)
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(json))
+                .build());
+    }
+
+    private HttpRequest.Builder request(String pathAndQuery) {
+        return HttpRequest.newBuilder(URI.create(baseUrl + pathAndQuery))
+                .timeout(REQUEST_TIMEOUT)
+                .header("Authorization", authorization)
+                .header("Accept", "application/json");
+    }
+
+    private void send(String endpoint, HttpRequest request) throws InterruptedException {
+        long start = System.nanoTime();
+        boolean success;
+        try {
+            HttpResponse<Void> response = httpClient.send(request, HttpResponse.BodyHandlers.discarding());
+            success = response.statusCode() < 400;
+        } catch (IOException e) {
+            success = false;
+        }
+        stats.recordLatency(endpoint, System.nanoTime() - start, success);
+    }
+}
@@ -0,0 +1,84 @@
+package com.proyek.coffeeshop.config;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.cache.transaction.TransactionAwareCacheManagerProxy;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.security.core.userdetails.UserCache;
+import org.springframework.security.core.userdetails.cache.SpringCacheBasedUserCache;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Konfigurasi cache in-memory (Caffeine) untuk data katalog: produk, kategori,
+ * kustomisasi, dan metode pembayaran, serta principal user hasil autentikasi.
+ * Setiap cache dibatasi ukuran dan TTL, serta mencatat statistik hit/miss/eviction
+ * yang diekspor otomatis ke actuator sebagai metrik {@code cache.*}.
+ * 
+ * @author Coffee Shop Team
+ * @version 1.0
+ */
+@Configuration
+@EnableCaching
+public class CacheConfig {
+
+    public static final String PRODUCTS = "products";
+    public static final String CATEGORIES = "categories";
+    public static final String CUSTOMIZATIONS = "customizations";
+    public static final String PAYMENT_METHODS = "paymentMethods";
+    public static final String USERS = "users";
+
+    private static final List<String> CATALOG_CACHES = List.of(PRODUCTS, CATEGORIES, CUSTOMIZATIONS, PAYMENT_METHODS);
+
+    @Value("${coffeeshop.cache.catalog.max-size:1000}")
+    private long catalogMaxSize;
+
+    @Value("${coffeeshop.cache.catalog.ttl:10m}")
+    private Duration catalogTtl;
+
+    @Value("${coffeeshop.cache.users.max-size:10000}")
+    private long usersMaxSize;
+
+    @Value("${coffeeshop.cache.users.ttl:5m}")
+    private Duration usersTtl;
+
+    /**
+     * CacheManager dibungkus TransactionAwareCacheManagerProxy sehingga eviction dari
+     * method create/update/delete baru dijalankan setelah transaksi commit. Tanpa ini,
+     * request baca yang berjalan bersamaan bisa mengisi ulang cache dengan data lama.
+     */
+    @Bean
+    public CacheManager cacheManager() {
+        CaffeineCacheManager cacheManager = new CaffeineCacheManager();
+        cacheManager.setAllowNullValues(false);
+        for (String cacheName : CATALOG_CACHES) {
+            cacheManager.registerCustomCache(cacheName, Caffeine.newBuilder()
+                    .maximumSize(catalogMaxSize)
+                    .expireAfterWrite(catalogTtl)
+                    .recordStats()
+                    .build());
+        }
+        // TTL membatasi berapa lama perubahan user di luar aplikasi (mis. langsung di database)
+        // masih terlihat basi; perubahan lewat aplikasi langsung menghapus entri terkait
+        cacheManager.registerCustomCache(USERS, Caffeine.newBuilder()
+                .maximumSize(usersMaxSize)
+                .expireAfterWrite(usersTtl)
+                .recordStats()
+                .build());
+        return new TransactionAwareCacheManagerProxy(cacheManager);
+    }
+
+    /**
+     * Cache principal user untuk authentication provider dan service.
+     * Dengan cache ini HTTP Basic tidak lagi memuat user dari database di setiap request.
+     */
+    @Bean
+    public UserCache userCache(CacheManager cacheManager) {
+        return new SpringCacheBasedUserCache(cacheManager.getCache(USERS));
+    }
+}
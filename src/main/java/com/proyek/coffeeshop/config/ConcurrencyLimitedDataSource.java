@@ -0,0 +1,153 @@
+package com.proyek.coffeeshop.config;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.FunctionTimer;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * DataSource pembungkus yang membatasi jumlah koneksi JDBC yang dipinjam bersamaan
+ * dengan {@link Semaphore} adil berukuran sama dengan connection pool.
+ * Permit diambil saat {@code getConnection()} dan dikembalikan saat koneksi ditutup.
+ * Dengan virtual thread, ribuan request bisa aktif sekaligus; tanpa pembatas ini semuanya
+ * berebut masuk ke antrian internal pool dan timeout bersamaan ketika database lambat.
+ * Thread yang menunggu permit cukup di-park (tidak memakan carrier thread).
+ *
+ * @author Coffee Shop Team
+ * @version 1.0
+ */
+public class ConcurrencyLimitedDataSource extends DelegatingDataSource {
+
+    private final Semaphore permits;
+    private final int maxPermits;
+    private final long acquireTimeoutNanos;
+
+    private final LongAdder acquireCount = new LongAdder();
+    private final LongAdder acquireWaitNanos = new LongAdder();
+    private final LongAdder acquireTimeouts = new LongAdder();
+
+    public ConcurrencyLimitedDataSource(DataSource targetDataSource, int maxPermits, Duration acquireTimeout) {
+        super(targetDataSource);
+        if (maxPermits <= 0) {
+            throw new IllegalArgumentException("maxPermits harus lebih dari 0");
+        }
+        this.maxPermits = maxPermits;
+        this.permits = new Semaphore(maxPermits, true);
+        this.acquireTimeoutNanos = acquireTimeout.toNanos();
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        acquirePermit();
+        try {
+            return releasingOnClose(obtainTargetDataSource().getConnection());
+        } catch (SQLException | RuntimeException e) {
+            permits.release();
+            throw e;
+        }
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        acquirePermit();
+        try {
+            return releasingOnClose(obtainTargetDataSource().getConnection(username, password));
+        } catch (SQLException | RuntimeException e) {
+            permits.release();
+            throw e;
+        }
+    }
+
+    public int getMaxPermits() {
+        return maxPermits;
+    }
+
+    public int getAvailablePermits() {
+        return permits.availablePermits();
+    }
+
+    /**
+     * Mendaftarkan metrik waktu tunggu, timeout dan jumlah permit ke registry Micrometer.
+     */
+    public void bindTo(MeterRegistry registry) {
+        FunctionTimer.builder("coffeeshop.jdbc.permit.wait", this,
+                        ds -> ds.acquireCount.sum(), ds -> ds.acquireWaitNanos.sum(), TimeUnit.NANOSECONDS)
+                .description("Waktu menunggu permit JDBC sebelum meminjam koneksi")
+                .register(registry);
+        FunctionCounter.builder("coffeeshop.jdbc.permit.timeouts", this, ds -> ds.acquireTimeouts.sum())
+                .description("Permintaan koneksi yang gagal karena permit tidak tersedia")
+                .register(registry);
+        Gauge.builder("coffeeshop.jdbc.permits.available", this, ConcurrencyLimitedDataSource::getAvailablePermits)
+                .register(registry);
+        Gauge.builder("coffeeshop.jdbc.permits.waiting", permits, Semaphore::getQueueLength)
+                .description("Thread yang sedang menunggu permit JDBC")
+                .register(registry);
+    }
+
+    private void acquirePermit() throws SQLException {
+        long start = System.nanoTime();
+        boolean acquired;
+        try {
+            acquired = permits.tryAcquire(acquireTimeoutNanos, TimeUnit.NANOSECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SQLTransientConnectionException("Interrupted while waiting for a JDBC permit", e);
+        } finally {
+            acquireCount.increment();
+            acquireWaitNanos.add(System.nanoTime() - start);
+        }
+        if (!acquired) {
+            acquireTimeouts.increment();
+            throw new SQLTransientConnectionException("No JDBC permit available after "
+                    + Duration.ofNanos(acquireTimeoutNanos).toMillis() + "ms (limit " + maxPermits + ")");
+        }
+    }
+
+    /**
+     * Membungkus koneksi agar permit dilepas tepat sekali saat {@code close()} dipanggil,
+     * termasuk ketika close pada koneksi asli melempar exception.
+     */
+    private Connection releasingOnClose(Connection target) {
+        AtomicBoolean released = new AtomicBoolean();
+        return (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(),
+                new Class<?>[] { Connection.class },
+                (proxy, method, args) -> {
+                    switch (method.getName()) {
+                        case "close":
+                            try {
+                                target.close();
+                            } finally {
+                                if (released.compareAndSet(false, true)) {
+                                    permits.release();
+                                }
+                            }
+                            return null;
+                        case "equals":
+                            return proxy == args[0];
+                        case "hashCode":
+                            return System.identityHashCode(proxy);
+                        case "toString":
+                            return "Permit-limited connection [" + target + "]";
+                        default:
+                            try {
+                                return method.invoke(target, args);
+                            } catch (InvocationTargetException e) {
+                                throw e.getTargetException();
+                            }
+                    }
+                });
+    }
+}
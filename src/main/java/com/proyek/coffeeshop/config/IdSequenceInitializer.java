@@ -0,0 +1,70 @@
+package com.proyek.coffeeshop.config;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.context.annotation.DependsOn;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Menyiapkan baris awal tabel IdSequences untuk database yang sudah berisi data.
+ * Order, OrderDetail dan OrderDetailCustomization sebelumnya memakai IDENTITY,
+ * sehingga generator harus dimulai setelah ID terbesar yang sudah ada.
+ *
+ * @author Coffee Shop Team
+ * @version 1.0
+ */
+@Component
+@DependsOn("entityManagerFactory")
+@RequiredArgsConstructor
+@Slf4j
+public class IdSequenceInitializer implements InitializingBean {
+
+    /**
+     * Harus sama dengan allocationSize pada @TableGenerator di entitas.
+     */
+    private static final long ALLOCATION_SIZE = 50;
+
+    /**
+     * Nama sequence (pkColumnValue) dan kolom ID tabel terkait.
+     */
+    private static final Map<String, String> ID_COLUMNS = new LinkedHashMap<>();
+
+    static {
+        ID_COLUMNS.put("Orders", "order_id");
+        ID_COLUMNS.put("OrderDetails", "detail_id");
+        ID_COLUMNS.put("OrderDetailsCustomization", "detail_customization_id");
+    }
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void afterPropertiesSet() {
+        ID_COLUMNS.forEach(this::initializeSequence);
+    }
+
+    private void initializeSequence(String table, String idColumn) {
+        Integer existing = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM IdSequences WHERE sequence_name = ?", Integer.class, table);
+        if (existing != null && existing > 0) {
+            return;
+        }
+
+        Long maxId = jdbcTemplate.queryForObject(
+                "SELECT COALESCE(MAX(" + idColumn + "), 0) FROM " + table, Long.class);
+        if (maxId == null || maxId == 0) {
+            // Tabel kosong, baris awal dibuat sendiri oleh Hibernate
+            return;
+        }
+
+        // Pooled optimizer membaca nilai di tabel sebagai batas atas blok pertama,
+        // sehingga blok pertama menjadi (maxId + 1) .. (maxId + ALLOCATION_SIZE)
+        jdbcTemplate.update("INSERT INTO IdSequences (sequence_name, next_val) VALUES (?, ?)",
+                table, maxId + ALLOCATION_SIZE);
+        log.info("Initialized ID sequence {} after existing max ID {}", table, maxId);
+    }
+}
@@ -0,0 +1,51 @@
+package com.proyek.coffeeshop.config;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.exc.InvalidFormatException;
+import com.proyek.coffeeshop.model.value.Money;
+import org.springframework.boot.jackson.JsonComponent;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+
+/**
+ * Serializer dan deserializer Jackson untuk {@link Money}.
+ * Money ditulis sebagai angka JSON dengan 2 digit desimal (misalnya {@code 40000.00}),
+ * bentuk yang sama dengan BigDecimal dari kolom DECIMAL sebelumnya, sehingga client tidak berubah.
+ *
+ * @author Coffee Shop Team
+ * @version 1.0
+ */
+@JsonComponent
+public class MoneyJsonComponent {
+
+    public static class Serializer extends JsonSerializer<Money> {
+
+        @Override
+        public void serialize(Money value, JsonGenerator generator, SerializerProvider serializers) throws IOException {
+            generator.writeNumber(value.toString());
+        }
+    }
+
+    public static class Deserializer extends JsonDeserializer<Money> {
+
+        @Override
+        public Money deserialize(JsonParser parser, DeserializationContext context) throws IOException {
+            try {
+                if (parser.currentToken() == JsonToken.VALUE_STRING) {
+                    return Money.of(new BigDecimal(parser.getText().trim()));
+                }
+                return Money.of(parser.getDecimalValue());
+            } catch (ArithmeticException | NumberFormatException e) {
+                throw new InvalidFormatException(parser, "Nominal uang harus angka dengan maksimal 2 digit desimal",
+                        parser.getText(), Money.class);
+            }
+        }
+    }
+}
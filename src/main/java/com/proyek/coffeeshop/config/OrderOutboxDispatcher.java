@@ -0,0 +1,57 @@
+package com.proyek.coffeeshop.config;
+
+import com.proyek.coffeeshop.service.OrderOutboxService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+/**
+ * Job terjadwal yang mengirim event order dari outbox ke listener.
+ * Batch diulang sampai outbox kosong; karena job tidak pernah berjalan bersamaan dengan
+ * dirinya sendiri, event dikirim berurutan. Event yang sudah terkirim dihapus setelah masa retensi.
+ * 
+ * @author Coffee Shop Team
+ * @version 1.0
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class OrderOutboxDispatcher {
+
+    private final OrderOutboxService orderOutboxService;
+
+    @Value("${coffeeshop.outbox.batch-size:200}")
+    private int batchSize;
+
+    @Value("${coffeeshop.outbox.retention:7d}")
+    private Duration retention;
+
+    @Scheduled(fixedDelayString = "${coffeeshop.outbox.poll-interval:500ms}")
+    public void dispatchPendingEvents() {
+        int dispatched;
+        do {
+            dispatched = orderOutboxService.dispatchPending(batchSize);
+        } while (dispatched == batchSize);
+    }
+
+    @Scheduled(fixedDelayString = "${coffeeshop.outbox.purge-interval:1h}",
+               initialDelayString = "${coffeeshop.outbox.purge-interval:1h}")
+    public void purgeDispatchedEvents() {
+        LocalDateTime cutoff = LocalDateTime.now().minus(retention);
+        int purged = 0;
+        int deleted;
+        do {
+            deleted = orderOutboxService.purgeDispatched(cutoff, batchSize);
+            purged += deleted;
+        } while (deleted == batchSize);
+
+        if (purged > 0) {
+            log.info("Purged {} dispatched order events older than {}", purged, cutoff);
+        }
+    }
+}
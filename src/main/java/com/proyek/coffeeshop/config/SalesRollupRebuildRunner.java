@@ -0,0 +1,33 @@
+package com.proyek.coffeeshop.config;
+
+import com.proyek.coffeeshop.service.SalesRollupService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.stereotype.Component;
+
+/**
+ * Mengisi ulang tabel rollup penjualan harian saat aplikasi dijalankan dengan
+ * argumen {@code --rebuild-rollups}, misalnya setelah deploy pertama atau perbaikan data.
+ * 
+ * @author Coffee Shop Team
+ * @version 1.0
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class SalesRollupRebuildRunner implements ApplicationRunner {
+
+    public static final String REBUILD_OPTION = "rebuild-rollups";
+
+    private final SalesRollupService salesRollupService;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if (args.containsOption(REBUILD_OPTION)) {
+            log.info("--{} specified, rebuilding sales rollups", REBUILD_OPTION);
+            salesRollupService.rebuildAll();
+        }
+    }
+}
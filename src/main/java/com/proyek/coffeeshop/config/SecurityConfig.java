@@ -1,7 +1,17 @@
 package com.proyek.coffeeshop.config;
 
-import com.proyek.coffeeshop.security.UserDetailsServiceImpl;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.proyek.coffeeshop.security.AccessTokenStore;
+import com.proyek.coffeeshop.security.AppUserDetailsService;
+import com.proyek.coffeeshop.security.BearerTokenAuthenticationFilter;
+import com.proyek.coffeeshop.security.BoundedPasswordEncoder;
+import com.proyek.coffeeshop.security.LoginAdmissionFilter;
+import com.proyek.coffeeshop.security.LoginRateLimiter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.HttpMethod;
@@ -13,14 +23,20 @@ import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
 import org.springframework.security.config.http.SessionCreationPolicy;
+import org.springframework.security.core.userdetails.UserCache;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
+import org.springframework.security.web.authentication.www.BasicAuthenticationFilter;
+
+import java.time.Duration;
 import org.springframework.security.config.Customizer;
 
 /**
  * Konfigurasi Spring Security untuk Coffee Shop application.
  * Mengatur autentikasi, autorisasi, dan konfigurasi security.
+ * Autentikasi utama memakai access token Bearer dari {@code POST /api/auth/login};
+ * HTTP Basic tetap tersedia sebagai fallback.
  * 
  * @author Coffee Shop Team
  * @version 1.0
@@ -31,23 +47,39 @@ import org.springframework.security.config.Customizer;
 @RequiredArgsConstructor
 public class SecurityConfig {
 
-    private final UserDetailsServiceImpl userDetailsService;
+    private final AppUserDetailsService userDetailsService;
+    private final UserCache userCache;
+    private final AccessTokenStore accessTokenStore;
+    private final LoginRateLimiter loginRateLimiter;
+    private final ObjectMapper objectMapper;
+
+    @Value("${coffeeshop.auth.hashing.threads:0}")
+    private int hashingThreads;
+
+    @Value("${coffeeshop.auth.hashing.queue-capacity:64}")
+    private int hashingQueueCapacity;
+
+    @Value("${coffeeshop.auth.hashing.max-wait:2s}")
+    private Duration hashingMaxWait;
 
     /**
      * Konfigurasi SecurityFilterChain.
      */
     @Bean
-    public SecurityFilterChain filterChain(HttpSecurity http) throws Exception {
+    public SecurityFilterChain filterChain(HttpSecurity http, DaoAuthenticationProvider authenticationProvider)
+            throws Exception {
         http
             .csrf(AbstractHttpConfigurer::disable)
             .sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))            .authorizeHttpRequests(authz -> authz
                 // Public endpoints
                 .requestMatchers("/auth/**").permitAll()
+                .requestMatchers(HttpMethod.POST, "/api/auth/login", "/api/auth/register", "/api/auth/logout").permitAll()
                 .requestMatchers("/actuator/health").permitAll()
                 .requestMatchers(HttpMethod.GET, "/products/**").permitAll()
                 .requestMatchers(HttpMethod.GET, "/categories/**").permitAll()
                 .requestMatchers(HttpMethod.GET, "/customizations/**").permitAll()
                 .requestMatchers(HttpMethod.GET, "/payment-methods/**").permitAll()
+                .requestMatchers(HttpMethod.GET, "/api/menu").permitAll()
                 
                 // Customer endpoints
                 .requestMatchers("/orders/**").hasRole("CUSTOMER")
@@ -62,26 +94,40 @@ public class SecurityConfig {
                 
                 // All other requests require authentication
                 .anyRequest().authenticated()            )
-            .authenticationProvider(authenticationProvider())
+            .authenticationProvider(authenticationProvider)
+            // Token Bearer divalidasi sebelum HTTP Basic sehingga BCrypt hanya berjalan saat login
+            .addFilterBefore(new BearerTokenAuthenticationFilter(accessTokenStore, userDetailsService),
+                    BasicAuthenticationFilter.class)
+            // Batas laju per IP/username untuk request yang menjalankan BCrypt
+            .addFilterBefore(new LoginAdmissionFilter(loginRateLimiter, objectMapper),
+                    BasicAuthenticationFilter.class)
             .httpBasic(Customizer.withDefaults());
 
         return http.build();
     }
 
     /**
-     * Password encoder menggunakan BCrypt.
+     * Password encoder menggunakan BCrypt yang dijalankan di pool hashing terbatas.
+     * Jumlah thread default setengah jumlah core agar lonjakan login tidak menghabiskan CPU.
      */
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public PasswordEncoder passwordEncoder(ObjectProvider<MeterRegistry> meterRegistries) {
+        int threads = hashingThreads > 0
+                ? hashingThreads
+                : Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+        return new BoundedPasswordEncoder(new BCryptPasswordEncoder(), threads, hashingQueueCapacity,
+                hashingMaxWait, meterRegistries.getIfAvailable(() -> Metrics.globalRegistry));
     }    /**
      * Authentication provider.
      */
     @Bean
-    public DaoAuthenticationProvider authenticationProvider() {
+    public DaoAuthenticationProvider authenticationProvider(PasswordEncoder passwordEncoder) {
         DaoAuthenticationProvider authProvider = new DaoAuthenticationProvider();
         authProvider.setUserDetailsService(userDetailsService);
-        authProvider.setPasswordEncoder(passwordEncoder());
+        authProvider.setPasswordEncoder(passwordEncoder);
+        // User yang sudah pernah login diambil dari cache; jika password tidak cocok
+        // dengan versi cache, provider memuat ulang dari database sebelum menolak
+        authProvider.setUserCache(userCache);
         return authProvider;
     }
 
@@ -0,0 +1,34 @@
+package com.proyek.coffeeshop.config;
+
+import com.proyek.coffeeshop.service.StockReservationService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Job terjadwal yang melepas reservasi stok yang kedaluwarsa.
+ * Setiap batch (sejumlah order) diproses dalam transaksinya sendiri sehingga kunci baris
+ * tidak ditahan lama; batch diulang sampai tidak ada lagi order dengan reservasi kedaluwarsa.
+ * 
+ * @author Coffee Shop Team
+ * @version 1.0
+ */
+@Component
+@RequiredArgsConstructor
+public class StockReservationSweeper {
+
+    private final StockReservationService stockReservationService;
+
+    @Value("${coffeeshop.reservation.sweep-batch-size:200}")
+    private int batchSize;
+
+    @Scheduled(fixedDelayString = "${coffeeshop.reservation.sweep-interval:30s}",
+               initialDelayString = "${coffeeshop.reservation.sweep-interval:30s}")
+    public void sweepExpiredReservations() {
+        int processed;
+        do {
+            processed = stockReservationService.releaseExpired(batchSize);
+        } while (processed == batchSize);
+    }
+}
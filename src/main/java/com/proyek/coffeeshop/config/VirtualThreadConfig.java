@@ -0,0 +1,78 @@
+package com.proyek.coffeeshop.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.scheduling.annotation.EnableAsync;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+import java.time.Duration;
+
+/**
+ * Konfigurasi mode eksekusi virtual thread.
+ * Virtual thread untuk Tomcat, {@code @Async} dan {@code @Scheduled} diaktifkan oleh Spring Boot
+ * lewat {@code spring.threads.virtual.enabled}; kelas ini menambahkan pembatas konkurensi JDBC
+ * agar jumlah request aktif yang tidak lagi dibatasi thread pool tetap tidak melebihi
+ * kapasitas connection pool.
+ *
+ * @author Coffee Shop Team
+ * @version 1.0
+ */
+@Slf4j
+@Configuration
+@EnableAsync
+public class VirtualThreadConfig {
+
+    /**
+     * Membungkus DataSource dengan {@link ConcurrencyLimitedDataSource}. Jumlah permit mengikuti
+     * {@code maximum-pool-size} Hikari kecuali {@code coffeeshop.jdbc.concurrency-limit.permits} diisi.
+     * Method static agar post-processor tidak memaksa inisialisasi awal kelas konfigurasi.
+     */
+    @Bean
+    @ConditionalOnProperty(name = "coffeeshop.jdbc.concurrency-limit.enabled", havingValue = "true")
+    public static BeanPostProcessor jdbcConcurrencyLimitPostProcessor(Environment environment) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (!(bean instanceof DataSource dataSource) || bean instanceof ConcurrencyLimitedDataSource) {
+                    return bean;
+                }
+                int permits = environment.getProperty("coffeeshop.jdbc.concurrency-limit.permits", Integer.class, 0);
+                if (permits <= 0 && bean instanceof HikariDataSource hikari) {
+                    permits = hikari.getMaximumPoolSize();
+                }
+                if (permits <= 0) {
+                    log.warn("JDBC concurrency limit disabled for '{}': pool size unknown and no permits configured", beanName);
+                    return bean;
+                }
+                Duration acquireTimeout = environment.getProperty("coffeeshop.jdbc.concurrency-limit.acquire-timeout",
+                        Duration.class, Duration.ofSeconds(30));
+                log.info("Limiting DataSource '{}' to {} concurrent connections", beanName, permits);
+                return new ConcurrencyLimitedDataSource(dataSource, permits, acquireTimeout);
+            }
+        };
+    }
+
+    /**
+     * Metrik waktu tunggu permit JDBC, dipasang hanya bila DataSource memang dibungkus pembatas.
+     */
+    @Bean
+    public MeterBinder jdbcConcurrencyLimitMetrics(ObjectProvider<DataSource> dataSources) {
+        return registry -> dataSources.orderedStream().forEach(dataSource -> {
+            try {
+                if (dataSource.isWrapperFor(ConcurrencyLimitedDataSource.class)) {
+                    dataSource.unwrap(ConcurrencyLimitedDataSource.class).bindTo(registry);
+                }
+            } catch (SQLException e) {
+                log.warn("Unable to bind JDBC concurrency limit metrics: {}", e.getMessage());
+            }
+        });
+    }
+}
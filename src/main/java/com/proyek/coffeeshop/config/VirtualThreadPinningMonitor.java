@@ -0,0 +1,89 @@
+package com.proyek.coffeeshop.config;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordingStream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Memantau virtual thread yang ter-pin ke carrier thread (misalnya blok {@code synchronized}
+ * di sekitar I/O) lewat event JFR {@code jdk.VirtualThreadPinned}.
+ * Setiap event dicatat sebagai metrik {@code coffeeshop.virtual.pinned} beserta durasinya,
+ * dan frame teratas dari stack trace ditulis ke log agar sumbernya mudah dicari.
+ * Hanya aktif bila {@code spring.threads.virtual.enabled=true}.
+ *
+ * @author Coffee Shop Team
+ * @version 1.0
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "spring.threads.virtual.enabled", havingValue = "true")
+public class VirtualThreadPinningMonitor implements SmartLifecycle {
+
+    private static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+    private static final int LOGGED_FRAMES = 5;
+
+    private final Counter pinnedCount;
+    private final Timer pinnedDuration;
+    private final Duration threshold;
+
+    private RecordingStream stream;
+
+    public VirtualThreadPinningMonitor(MeterRegistry meterRegistry,
+                                       @Value("${coffeeshop.virtual-threads.pinned-threshold:20ms}") Duration threshold) {
+        this.threshold = threshold;
+        this.pinnedCount = Counter.builder("coffeeshop.virtual.pinned")
+                .description("Virtual thread yang ter-pin ke carrier thread lebih lama dari threshold")
+                .register(meterRegistry);
+        this.pinnedDuration = Timer.builder("coffeeshop.virtual.pinned.duration")
+                .description("Lama carrier thread tertahan oleh virtual thread yang ter-pin")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public synchronized void start() {
+        stream = new RecordingStream();
+        stream.enable(PINNED_EVENT).withThreshold(threshold).withStackTrace();
+        stream.onEvent(PINNED_EVENT, this::record);
+        stream.startAsync();
+        log.info("Monitoring virtual thread pinning longer than {}", threshold);
+    }
+
+    @Override
+    public synchronized void stop() {
+        if (stream != null) {
+            stream.close();
+            stream = null;
+        }
+    }
+
+    @Override
+    public synchronized boolean isRunning() {
+        return stream != null;
+    }
+
+    private void record(RecordedEvent event) {
+        pinnedCount.increment();
+        pinnedDuration.record(event.getDuration());
+        if (log.isDebugEnabled() && event.getStackTrace() != null) {
+            List<RecordedFrame> frames = event.getStackTrace().getFrames();
+            StringBuilder trace = new StringBuilder();
+            for (RecordedFrame frame : frames.subList(0, Math.min(LOGGED_FRAMES, frames.size()))) {
+                trace.append("\n\tat ").append(frame.getMethod().getType().getName())
+                        .append('.').append(frame.getMethod().getName())
+                        .append(':').append(frame.getLineNumber());
+            }
+            log.debug("Virtual thread pinned for {} ms{}", event.getDuration().toMillis(), trace);
+        }
+    }
+}
@@ -0,0 +1,273 @@
+package com.proyek.coffeeshop.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.proyek.coffeeshop.exception.GlobalExceptionHandler.ErrorResponse;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.security.SecurityProperties;
+import org.springframework.core.annotation.Order;
+import org.springframework.core.env.Environment;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Filter bulkhead yang memisahkan beban kerja berdasarkan {@link WorkloadClass}.
+ * Karena open-in-view dimatikan, satu request memegang paling banyak satu koneksi JDBC,
+ * sehingga anggaran request bersamaan diturunkan dari ukuran connection pool:
+ * sejumlah {@code till-intake.reserved-connections} koneksi dicadangkan untuk kasir, dan
+ * kelas lain berbagi sisanya, masing-masing dibatasi {@code pool-share} dari sisa tersebut.
+ * Kasir boleh memakai seluruh pool, sedangkan laporan panjang dan aplikasi customer tidak
+ * bisa menghabiskan koneksi yang dibutuhkan kasir. Request yang tidak mendapat permit
+ * dalam {@code max-wait} ditolak dengan 503 dan header {@code Retry-After}.
+ * Dipasang setelah filter Spring Security agar request yang ditolak autentikasi tidak memakai anggaran.
+ *
+ * @author Coffee Shop Team
+ * @version 1.0
+ */
+@Slf4j
+@Component
+@Order(SecurityProperties.DEFAULT_FILTER_ORDER + 1)
+public class WorkloadBulkheadFilter extends OncePerRequestFilter {
+
+    private static final int DEFAULT_POOL_SIZE = 10;
+
+    private final Map<WorkloadClass, Bulkhead> bulkheads = new EnumMap<>(WorkloadClass.class);
+    private final ObjectMapper objectMapper;
+    private final Duration retryAfter;
+
+    public WorkloadBulkheadFilter(Environment environment, ObjectProvider<MeterRegistry> meterRegistries,
+                                  ObjectMapper objectMapper) {
+        // Slice test seperti @WebMvcTest memuat filter tanpa metrics auto-configuration
+        MeterRegistry meterRegistry = meterRegistries.getIfAvailable(() -> Metrics.globalRegistry);
+        this.objectMapper = objectMapper;
+        this.retryAfter = environment.getProperty("coffeeshop.bulkhead.retry-after", Duration.class, Duration.ofSeconds(5));
+
+        int poolSize = environment.getProperty("spring.datasource.hikari.maximum-pool-size", Integer.class, DEFAULT_POOL_SIZE);
+        int tillReserved = environment.getRequiredProperty("coffeeshop.bulkhead.till-intake.reserved-connections", Integer.class);
+        if (tillReserved < 0 || tillReserved >= poolSize) {
+            throw new IllegalStateException("coffeeshop.bulkhead.till-intake.reserved-connections harus antara 0 dan "
+                    + (poolSize - 1) + " (maximum-pool-size " + poolSize + ")");
+        }
+        int sharedConnections = poolSize - tillReserved;
+        Semaphore shared = new Semaphore(sharedConnections, true);
+
+        for (WorkloadClass workload : WorkloadClass.values()) {
+            String prefix = "coffeeshop.bulkhead." + workload.getKey();
+            Duration maxWait = environment.getRequiredProperty(prefix + ".max-wait", Duration.class);
+            Bulkhead bulkhead;
+            if (workload == WorkloadClass.TILL_INTAKE) {
+                bulkhead = new Bulkhead(workload, poolSize, null, maxWait, meterRegistry);
+            } else {
+                double share = environment.getRequiredProperty(prefix + ".pool-share", Double.class);
+                int maxConcurrent = Math.max(1, (int) Math.floor(share * sharedConnections));
+                bulkhead = new Bulkhead(workload, Math.min(maxConcurrent, sharedConnections), shared, maxWait, meterRegistry);
+            }
+            bulkheads.put(workload, bulkhead);
+            log.info("Bulkhead {}: {} concurrent requests", workload, bulkhead.maxConcurrent);
+        }
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        WorkloadClass workload = classify(request);
+        if (workload == null) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        Bulkhead bulkhead = bulkheads.get(workload);
+        if (!bulkhead.tryAcquire()) {
+            log.warn("Bulkhead {} full, rejecting {} {}", workload, request.getMethod(), request.getRequestURI());
+            writeServiceUnavailable(request, response, workload);
+            return;
+        }
+
+        boolean asyncStarted = false;
+        try {
+            filterChain.doFilter(request, response);
+            asyncStarted = request.isAsyncStarted();
+            if (asyncStarted) {
+                // Response streaming (mis. export) tetap memegang permit sampai selesai ditulis
+                request.getAsyncContext().addListener(new ReleasingAsyncListener(bulkhead));
+            }
+        } finally {
+            if (!asyncStarted) {
+                bulkhead.release();
+            }
+        }
+    }
+
+    /**
+     * Menentukan kelas beban kerja dari method dan path request.
+     *
+     * @return kelas beban kerja, atau null bila request tidak dibatasi bulkhead
+     */
+    static WorkloadClass classify(HttpServletRequest request) {
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        String method = request.getMethod();
+
+        if (path.endsWith("/stream")) {
+            // Stream SSE terbuka lama tanpa memegang koneksi database, jadi tidak memakai permit
+            return null;
+        }
+        if (path.startsWith("/api/reports/") || path.startsWith("/api/orders/admin/")) {
+            return WorkloadClass.REPORTING;
+        }
+        if (path.equals("/api/orders/kasir")) {
+            return WorkloadClass.TILL_INTAKE;
+        }
+        if (path.startsWith("/api/orders") || path.startsWith("/api/auth/")) {
+            return WorkloadClass.CUSTOMER_APP;
+        }
+        if (HttpMethod.GET.matches(method) && (path.equals("/api/menu")
+                || path.startsWith("/api/products")
+                || path.startsWith("/api/categories")
+                || path.startsWith("/api/customizations")
+                || path.startsWith("/api/payment-methods"))) {
+            return WorkloadClass.CATALOG_READ;
+        }
+        return null;
+    }
+
+    private void writeServiceUnavailable(HttpServletRequest request, HttpServletResponse response,
+                                         WorkloadClass workload) throws IOException {
+        ErrorResponse errorResponse = ErrorResponse.builder()
+                .timestamp(LocalDateTime.now())
+                .status(HttpStatus.SERVICE_UNAVAILABLE.value())
+                .error("Service Unavailable")
+                .message("Server sedang sibuk memproses " + workload.getKey() + ", silakan coba lagi")
+                .path(request.getRequestURI())
+                .build();
+
+        response.setStatus(HttpStatus.SERVICE_UNAVAILABLE.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(Math.max(1, retryAfter.toSeconds())));
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        objectMapper.writeValue(response.getOutputStream(), errorResponse);
+    }
+
+    /**
+     * Anggaran konkurensi satu kelas beban kerja beserta metriknya.
+     * Kelas selain kasir juga harus mendapat permit dari semaphore bersama
+     * (pool dikurangi cadangan kasir) sebelum request diteruskan.
+     */
+    private static final class Bulkhead {
+
+        private final int maxConcurrent;
+        private final Semaphore permits;
+        private final Semaphore shared;
+        private final long maxWaitNanos;
+        private final Counter rejected;
+
+        Bulkhead(WorkloadClass workload, int maxConcurrent, Semaphore shared, Duration maxWait,
+                 MeterRegistry meterRegistry) {
+            this.maxConcurrent = maxConcurrent;
+            this.permits = new Semaphore(maxConcurrent, true);
+            this.shared = shared;
+            this.maxWaitNanos = maxWait.toNanos();
+            this.rejected = Counter.builder("coffeeshop.bulkhead.rejected")
+                    .tag("workload", workload.getKey())
+                    .description("Request yang ditolak karena anggaran bulkhead habis")
+                    .register(meterRegistry);
+            Gauge.builder("coffeeshop.bulkhead.active", permits, p -> maxConcurrent - p.availablePermits())
+                    .tag("workload", workload.getKey())
+                    .register(meterRegistry);
+            Gauge.builder("coffeeshop.bulkhead.waiting", permits, Semaphore::getQueueLength)
+                    .tag("workload", workload.getKey())
+                    .register(meterRegistry);
+        }
+
+        boolean tryAcquire() {
+            long deadline = System.nanoTime() + maxWaitNanos;
+            if (!acquire(permits, maxWaitNanos)) {
+                rejected.increment();
+                return false;
+            }
+            if (shared == null || acquire(shared, deadline - System.nanoTime())) {
+                return true;
+            }
+            permits.release();
+            rejected.increment();
+            return false;
+        }
+
+        private static boolean acquire(Semaphore semaphore, long timeoutNanos) {
+            try {
+                return semaphore.tryAcquire(timeoutNanos, TimeUnit.NANOSECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return false;
+            }
+        }
+
+        void release() {
+            if (shared != null) {
+                shared.release();
+            }
+            permits.release();
+        }
+    }
+
+    /**
+     * Melepas permit tepat sekali ketika request async selesai, gagal, atau timeout.
+     */
+    private static final class ReleasingAsyncListener implements AsyncListener {
+
+        private final Bulkhead bulkhead;
+        private final AtomicBoolean released = new AtomicBoolean();
+
+        ReleasingAsyncListener(Bulkhead bulkhead) {
+            this.bulkhead = bulkhead;
+        }
+
+        @Override
+        public void onComplete(AsyncEvent event) {
+            releaseOnce();
+        }
+
+        @Override
+        public void onTimeout(AsyncEvent event) {
+            releaseOnce();
+        }
+
+        @Override
+        public void onError(AsyncEvent event) {
+            releaseOnce();
+        }
+
+        @Override
+        public void onStartAsync(AsyncEvent event) {
+            // Listener tetap terpasang bila async dimulai ulang
+            event.getAsyncContext().addListener(this);
+        }
+
+        private void releaseOnce() {
+            if (released.compareAndSet(false, true)) {
+                bulkhead.release();
+            }
+        }
+    }
+}
@@ -0,0 +1,34 @@
+package com.proyek.coffeeshop.config;
+
+/**
+ * Kelas beban kerja yang masing-masing mendapat bulkhead (anggaran konkurensi) sendiri.
+ * Nama properti konfigurasi diambil dari {@link #getKey()},
+ * misalnya {@code coffeeshop.bulkhead.reporting.pool-share}.
+ *
+ * @author Coffee Shop Team
+ * @version 1.0
+ */
+public enum WorkloadClass {
+
+    /** Pesanan dari kasir di counter ({@code POST /api/orders/kasir}). */
+    TILL_INTAKE("till-intake"),
+
+    /** Aplikasi customer: login, checkout, dan riwayat pesanan. */
+    CUSTOMER_APP("customer-app"),
+
+    /** Baca katalog: menu, produk, kategori, kustomisasi, metode pembayaran. */
+    CATALOG_READ("catalog-read"),
+
+    /** Laporan dan listing admin yang bisa memindai rentang data besar. */
+    REPORTING("reporting");
+
+    private final String key;
+
+    WorkloadClass(String key) {
+        this.key = key;
+    }
+
+    public String getKey() {
+        return key;
+    }
+}
@@ -2,8 +2,12 @@ package com.proyek.coffeeshop.controller;
 
 import com.proyek.coffeeshop.dto.request.LoginRequestDto;
 import com.proyek.coffeeshop.dto.request.RegisterRequestDto;
+import com.proyek.coffeeshop.dto.response.LoginResponseDto;
 import com.proyek.coffeeshop.dto.response.UserResponseDto;
+import com.proyek.coffeeshop.exception.BadRequestException;
+import com.proyek.coffeeshop.security.BearerTokenAuthenticationFilter;
 import com.proyek.coffeeshop.service.AuthService;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -44,18 +48,37 @@ public class AuthController {
 
     /**
      * Endpoint untuk login user.
+     * Access token pada response dikirim di header {@code Authorization: Bearer <token>}.
      *
      * @param request data login
-     * @return ResponseEntity dengan data user yang login
+     * @return ResponseEntity dengan access token dan data user yang login
      */
     @PostMapping("/login")
-    public ResponseEntity<UserResponseDto> login(@Valid @RequestBody LoginRequestDto request) {
+    public ResponseEntity<LoginResponseDto> login(@Valid @RequestBody LoginRequestDto request) {
         log.info("POST /api/auth/login - User login: {}", request.getUsername());
         
-        UserResponseDto response = authService.login(request);
+        LoginResponseDto response = authService.login(request);
         return ResponseEntity.ok(response);
     }
 
+    /**
+     * Endpoint untuk logout, mencabut access token pada header Authorization.
+     *
+     * @param request HTTP request berisi header Authorization Bearer
+     * @return ResponseEntity tanpa body
+     */
+    @PostMapping("/logout")
+    public ResponseEntity<Void> logout(HttpServletRequest request) {
+        log.info("POST /api/auth/logout - Revoking access token");
+        
+        String accessToken = BearerTokenAuthenticationFilter.resolveToken(request);
+        if (accessToken == null) {
+            throw new BadRequestException("Header Authorization Bearer tidak ditemukan");
+        }
+        authService.logout(accessToken);
+        return ResponseEntity.noContent().build();
+    }
+
     /**
      * Endpoint untuk mendapatkan informasi user yang sedang login.
      *
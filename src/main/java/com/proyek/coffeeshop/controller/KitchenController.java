@@ -0,0 +1,108 @@
+package com.proyek.coffeeshop.controller;
+
+import com.proyek.coffeeshop.dto.response.KitchenTaskDto;
+import com.proyek.coffeeshop.service.KitchenBoardService;
+import com.proyek.coffeeshop.service.KitchenQueueService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.core.Authentication;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.List;
+
+/**
+ * REST Controller untuk papan order dan antrian kerja dapur/barista.
+ * Menggantikan polling {@code GET /api/orders/admin/status/PROCESSING} dengan stream
+ * Server-Sent Events yang hanya mengirim perubahan, dan menyediakan antrian tugas
+ * yang diambil serta diselesaikan oleh station barista.
+ * 
+ * @author Coffee Shop Team
+ * @version 1.0
+ */
+@RestController
+@RequestMapping("/api/kitchen")
+@RequiredArgsConstructor
+@Slf4j
+@CrossOrigin(origins = "*", maxAge = 3600)
+public class KitchenController {
+
+    private final KitchenBoardService kitchenBoardService;
+    private final KitchenQueueService kitchenQueueService;
+
+    /**
+     * Endpoint stream papan order. Event {@code snapshot} dikirim saat connect,
+     * lalu {@code order-updated} dan {@code order-removed} untuk setiap perubahan.
+     * Hanya dapat diakses oleh admin dan kasir.
+     *
+     * @param authentication data autentikasi dari Spring Security
+     * @return emitter SSE
+     */
+    @GetMapping(value = "/orders/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @PreAuthorize("hasAnyRole('ADMIN', 'KASIR')")
+    public SseEmitter streamKitchenBoard(Authentication authentication) {
+        log.info("GET /api/kitchen/orders/stream - Kitchen board connected by: {}", authentication.getName());
+        return kitchenBoardService.subscribe();
+    }
+
+    /**
+     * Endpoint untuk melihat tugas berikutnya yang belum diambil station, terurut prioritas.
+     * Hanya dapat diakses oleh admin dan kasir.
+     *
+     * @param limit jumlah tugas maksimum
+     * @return ResponseEntity dengan daftar tugas
+     */
+    @GetMapping("/tasks")
+    @PreAuthorize("hasAnyRole('ADMIN', 'KASIR')")
+    public ResponseEntity<List<KitchenTaskDto>> getNextTasks(@RequestParam(defaultValue = "10") int limit) {
+        log.info("GET /api/kitchen/tasks - Getting next {} kitchen tasks", limit);
+        return ResponseEntity.ok(kitchenQueueService.getNextTasks(limit));
+    }
+
+    /**
+     * Endpoint untuk mengambil tugas berprioritas tertinggi oleh sebuah station.
+     * Mengembalikan 204 jika antrian kosong.
+     *
+     * @param station nama station barista
+     * @return ResponseEntity dengan tugas yang diambil
+     */
+    @PostMapping("/stations/{station}/claim")
+    @PreAuthorize("hasAnyRole('ADMIN', 'KASIR')")
+    public ResponseEntity<KitchenTaskDto> claimNextTask(@PathVariable String station) {
+        log.info("POST /api/kitchen/stations/{}/claim - Claiming next kitchen task", station);
+        return kitchenQueueService.claimNext(station)
+                .map(ResponseEntity::ok)
+                .orElseGet(() -> ResponseEntity.noContent().build());
+    }
+
+    /**
+     * Endpoint untuk menyelesaikan tugas milik station; status order diubah menjadi siap.
+     *
+     * @param station nama station barista
+     * @param orderId ID order
+     * @return ResponseEntity dengan tugas yang diselesaikan
+     */
+    @PostMapping("/stations/{station}/tasks/{orderId}/complete")
+    @PreAuthorize("hasAnyRole('ADMIN', 'KASIR')")
+    public ResponseEntity<KitchenTaskDto> completeTask(@PathVariable String station, @PathVariable Long orderId) {
+        log.info("POST /api/kitchen/stations/{}/tasks/{}/complete - Completing kitchen task", station, orderId);
+        return ResponseEntity.ok(kitchenQueueService.complete(orderId, station));
+    }
+
+    /**
+     * Endpoint untuk mengembalikan tugas milik station ke antrian.
+     *
+     * @param station nama station barista
+     * @param orderId ID order
+     * @return ResponseEntity dengan tugas yang dikembalikan
+     */
+    @PostMapping("/stations/{station}/tasks/{orderId}/release")
+    @PreAuthorize("hasAnyRole('ADMIN', 'KASIR')")
+    public ResponseEntity<KitchenTaskDto> releaseTask(@PathVariable String station, @PathVariable Long orderId) {
+        log.info("POST /api/kitchen/stations/{}/tasks/{}/release - Releasing kitchen task", station, orderId);
+        return ResponseEntity.ok(kitchenQueueService.release(orderId, station));
+    }
+}
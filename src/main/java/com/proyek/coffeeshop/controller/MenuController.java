@@ -0,0 +1,44 @@
+package com.proyek.coffeeshop.controller;
+
+import com.proyek.coffeeshop.service.MenuSnapshotService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+/**
+ * REST Controller untuk menu lengkap.
+ * Menyajikan produk, kategori, kustomisasi, dan metode pembayaran dalam satu response
+ * yang diambil dari snapshot menu yang sudah di-serialize.
+ * 
+ * @author Coffee Shop Team
+ * @version 1.0
+ */
+@RestController
+@RequestMapping("/api/menu")
+@RequiredArgsConstructor
+@Slf4j
+@CrossOrigin(origins = "*", maxAge = 3600, exposedHeaders = HttpHeaders.ETAG)
+public class MenuController {
+
+    private final MenuSnapshotService menuSnapshotService;
+
+    /**
+     * Endpoint untuk mendapatkan menu lengkap.
+     * Dapat diakses tanpa login. Request dengan If-None-Match yang cocok
+     * mendapat 304 tanpa query database maupun serialisasi.
+     *
+     * @param ifNoneMatch header If-None-Match dari client
+     * @param acceptEncoding header Accept-Encoding dari client
+     * @return ResponseEntity dengan JSON menu, atau 304
+     */
+    @GetMapping
+    public ResponseEntity<byte[]> getMenu(
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+        log.debug("GET /api/menu - Getting menu snapshot");
+
+        return menuSnapshotService.getSnapshot().getMenu().toResponse(ifNoneMatch, acceptEncoding);
+    }
+}
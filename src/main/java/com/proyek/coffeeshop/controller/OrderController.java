@@ -3,9 +3,11 @@ package com.proyek.coffeeshop.controller;
 import com.proyek.coffeeshop.dto.request.CashierOrderRequestDTO;
 import com.proyek.coffeeshop.dto.request.OrderRequestDto;
 import com.proyek.coffeeshop.dto.response.CashierOrderResponseDTO;
+import com.proyek.coffeeshop.dto.response.CursorPageDto;
 import com.proyek.coffeeshop.dto.response.OrderResponseDto;
 import com.proyek.coffeeshop.model.enums.OrderStatus;
 import com.proyek.coffeeshop.service.OrderService;
+import com.proyek.coffeeshop.service.OrderTrackingService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -14,10 +16,12 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.data.web.PageableDefault;
 import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.time.LocalDateTime;
 import java.util.List;
@@ -37,6 +41,7 @@ import java.util.List;
 public class OrderController {
 
     private final OrderService orderService;
+    private final OrderTrackingService orderTrackingService;
 
     /**
      * Endpoint untuk membuat order baru.
@@ -92,6 +97,36 @@ public class OrderController {
         return ResponseEntity.ok(orders);
     }
 
+    /**
+     * Endpoint stream perubahan status semua order customer yang sedang login (Server-Sent Events).
+     * Hanya dapat diakses oleh customer.
+     *
+     * @param authentication data autentikasi dari Spring Security
+     * @return emitter SSE dengan event {@code status}
+     */
+    @GetMapping(value = "/my-orders/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @PreAuthorize("hasRole('CUSTOMER')")
+    public SseEmitter streamMyOrders(Authentication authentication) {
+        log.info("GET /api/orders/my-orders/stream - Tracking orders for user: {}", authentication.getName());
+        return orderTrackingService.subscribe(authentication.getName());
+    }
+
+    /**
+     * Endpoint stream perubahan status satu order milik customer (Server-Sent Events).
+     * Event {@code snapshot} berisi status saat ini, lalu {@code status} untuk setiap perubahan.
+     * Hanya dapat diakses oleh customer pemilik order.
+     *
+     * @param id ID order
+     * @param authentication data autentikasi dari Spring Security
+     * @return emitter SSE
+     */
+    @GetMapping(value = "/{id}/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @PreAuthorize("hasRole('CUSTOMER')")
+    public SseEmitter streamOrder(@PathVariable Long id, Authentication authentication) {
+        log.info("GET /api/orders/{}/stream - Tracking order for user: {}", id, authentication.getName());
+        return orderTrackingService.subscribe(authentication.getName(), id);
+    }
+
     /**
      * Endpoint untuk mendapatkan detail order berdasarkan ID.
      * Customer hanya bisa melihat order miliknya, admin bisa melihat semua.
@@ -143,6 +178,43 @@ public class OrderController {
         return ResponseEntity.ok(orders);
     }
 
+    /**
+     * Endpoint untuk mendapatkan semua order dengan keyset pagination (admin only).
+     * Tidak menghitung total; gunakan nextCursor dari response untuk halaman berikutnya.
+     *
+     * @param cursor token halaman berikutnya (kosong untuk halaman pertama)
+     * @param size jumlah order per halaman
+     * @return ResponseEntity dengan halaman order
+     */
+    @GetMapping("/admin/feed")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<CursorPageDto<OrderResponseDto>> getAllOrdersFeed(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size) {
+        log.info("GET /api/orders/admin/feed - Getting all orders with cursor pagination");
+        
+        return ResponseEntity.ok(orderService.getAllOrders(cursor, size));
+    }
+
+    /**
+     * Endpoint untuk mendapatkan order berdasarkan status dengan keyset pagination (admin only).
+     *
+     * @param status status order
+     * @param cursor token halaman berikutnya (kosong untuk halaman pertama)
+     * @param size jumlah order per halaman
+     * @return ResponseEntity dengan halaman order
+     */
+    @GetMapping("/admin/status/{status}/feed")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<CursorPageDto<OrderResponseDto>> getOrdersByStatusFeed(
+            @PathVariable OrderStatus status,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size) {
+        log.info("GET /api/orders/admin/status/{}/feed - Getting orders by status with cursor pagination", status);
+        
+        return ResponseEntity.ok(orderService.getOrdersByStatus(status, cursor, size));
+    }
+
     /**
      * Endpoint untuk mendapatkan order berdasarkan range tanggal (admin only).
      * Hanya dapat diakses oleh admin.
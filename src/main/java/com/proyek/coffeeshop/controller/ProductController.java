@@ -3,6 +3,7 @@ package com.proyek.coffeeshop.controller;
 import com.proyek.coffeeshop.dto.request.ProductRequestDto;
 import com.proyek.coffeeshop.dto.response.CategoryDto;
 import com.proyek.coffeeshop.dto.response.ProductDto;
+import com.proyek.coffeeshop.service.MenuSnapshotService;
 import com.proyek.coffeeshop.service.ProductService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
@@ -10,6 +11,7 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.web.PageableDefault;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
@@ -29,10 +31,11 @@ import java.util.List;
 @RequestMapping("/api/products")
 @RequiredArgsConstructor
 @Slf4j
-@CrossOrigin(origins = "*", maxAge = 3600)
+@CrossOrigin(origins = "*", maxAge = 3600, exposedHeaders = HttpHeaders.ETAG)
 public class ProductController {
 
     private final ProductService productService;
+    private final MenuSnapshotService menuSnapshotService;
 
     /**
      * Endpoint untuk mendapatkan semua produk dengan pagination.
@@ -53,15 +56,20 @@ public class ProductController {
     /**
      * Endpoint untuk mendapatkan semua produk.
      * Dapat diakses oleh semua user yang sudah login.
+     * Body diambil dari snapshot menu yang sudah di-serialize; request dengan
+     * If-None-Match yang cocok mendapat 304 tanpa query database.
      *
-     * @return ResponseEntity dengan list produk
+     * @param ifNoneMatch header If-None-Match dari client
+     * @param acceptEncoding header Accept-Encoding dari client
+     * @return ResponseEntity dengan JSON list produk, atau 304
      */
     @GetMapping
-    public ResponseEntity<List<ProductDto>> getAllProducts() {
-        log.info("GET /api/products - Getting all products");
+    public ResponseEntity<byte[]> getAllProducts(
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+        log.debug("GET /api/products - Getting all products");
         
-        List<ProductDto> products = productService.getAllProducts();
-        return ResponseEntity.ok(products);
+        return menuSnapshotService.getSnapshot().getProducts().toResponse(ifNoneMatch, acceptEncoding);
     }
 
     /**
@@ -2,18 +2,27 @@ package com.proyek.coffeeshop.controller;
 
 import com.proyek.coffeeshop.dto.response.ApiResponse;
 import com.proyek.coffeeshop.dto.response.DailyKasirReportDTO;
+import com.proyek.coffeeshop.dto.response.PreEncodedJson;
 import com.proyek.coffeeshop.dto.response.ProductSalesReportDTO;
 import com.proyek.coffeeshop.dto.response.TransactionReportDTO;
+import com.proyek.coffeeshop.exception.BadRequestException;
+import com.proyek.coffeeshop.model.enums.ExportFormat;
+import com.proyek.coffeeshop.service.OrderExportService;
 import com.proyek.coffeeshop.service.ReportService;
+import com.proyek.coffeeshop.service.SalesRollupService;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.time.LocalDate;
 import java.util.List;
+import java.util.zip.GZIPOutputStream;
 
 /**
  * REST Controller for handling report-related operations.
@@ -28,6 +37,14 @@ public class ReportController {
     @Autowired
     private ReportService reportService;
 
+    @Autowired
+    private SalesRollupService salesRollupService;
+
+    @Autowired
+    private OrderExportService orderExportService;
+
+    private static final int GZIP_BUFFER_SIZE = 64 * 1024;
+
     /**
      * Generate daily kasir (cashier) report
      * 
@@ -228,4 +245,74 @@ public class ReportController {
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(response);
         }
     }
+
+    /**
+     * Rebuild daily sales rollup tables from existing orders
+     * 
+     * @return Rebuild result
+     */
+    @PostMapping("/rollups/rebuild")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<ApiResponse<Void>> rebuildSalesRollups() {
+        try {
+            salesRollupService.rebuildAll();
+            
+            ApiResponse<Void> response = new ApiResponse<>(
+                true, "Sales rollups rebuilt successfully", null);
+            
+            return ResponseEntity.ok(response);
+        } catch (Exception e) {
+            ApiResponse<Void> response = new ApiResponse<>(
+                false, "Failed to rebuild sales rollups: " + e.getMessage(), null);
+            
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(response);
+        }
+    }
+
+    /**
+     * Export order lines for a date range as CSV or NDJSON.
+     * Rows are streamed from a database cursor straight to the response, so
+     * memory use does not grow with the size of the range.
+     * 
+     * @param startDate Start date of the export period
+     * @param endDate End date of the export period
+     * @param format Output format (optional, defaults to CSV)
+     * @param acceptEncoding Accept-Encoding header; the body is gzipped when gzip has a non-zero q-value
+     * @return Streaming export body
+     */
+    @GetMapping("/export/orders")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<StreamingResponseBody> exportOrders(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate,
+            @RequestParam(defaultValue = "CSV") ExportFormat format,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+        
+        if (endDate.isBefore(startDate)) {
+            throw new BadRequestException("Tanggal akhir tidak boleh sebelum tanggal awal");
+        }
+        
+        boolean gzip = PreEncodedJson.acceptsGzip(acceptEncoding);
+        String fileName = "orders-" + startDate + "_" + endDate + "." + format.getExtension();
+        
+        StreamingResponseBody body = outputStream -> {
+            if (gzip) {
+                GZIPOutputStream gzipStream = new GZIPOutputStream(outputStream, GZIP_BUFFER_SIZE);
+                orderExportService.exportOrders(startDate, endDate, format, gzipStream);
+                gzipStream.finish();
+            } else {
+                orderExportService.exportOrders(startDate, endDate, format, outputStream);
+            }
+        };
+        
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.parseMediaType(format.getContentType() + ";charset=UTF-8"));
+        headers.set(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"" + fileName + "\"");
+        headers.set(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        if (gzip) {
+            headers.set(HttpHeaders.CONTENT_ENCODING, "gzip");
+        }
+        
+        return new ResponseEntity<>(body, headers, HttpStatus.OK);
+    }
 }
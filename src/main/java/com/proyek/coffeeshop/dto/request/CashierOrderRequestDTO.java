@@ -5,6 +5,8 @@ import lombok.Data;
 import lombok.NoArgsConstructor;
 
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.Digits;
 import jakarta.validation.constraints.NotEmpty;
 import jakarta.validation.constraints.NotNull;
 import java.math.BigDecimal;
@@ -22,7 +24,10 @@ public class CashierOrderRequestDTO {
     @NotNull(message = "Metode pembayaran tidak boleh kosong")
     private String paymentMethodName; // Atau Long paymentMethodId
 
-    private BigDecimal amountTendered; // Opsional, untuk pembayaran tunai
+    // Opsional, untuk pembayaran tunai; skala dan presisi mengikuti kolom amount_tendered (12,2)
+    @DecimalMin(value = "0.0", message = "Jumlah uang yang dibayarkan tidak boleh negatif")
+    @Digits(integer = 10, fraction = 2, message = "Format jumlah uang yang dibayarkan tidak valid")
+    private BigDecimal amountTendered;
 
     private String customerNotes; // Opsional
 }
@@ -1,11 +1,11 @@
 package com.proyek.coffeeshop.dto.response;
 
 import com.proyek.coffeeshop.model.enums.OrderStatus;
+import com.proyek.coffeeshop.model.value.Money;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
-import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.List;
 
@@ -18,10 +18,10 @@ public class CashierOrderResponseDTO {
     private LocalDateTime orderDate;
     private String kasirUsername;
     private List<OrderItemResponseDTO> orderItems; // Anda mungkin perlu membuat OrderItemResponseDTO jika belum ada
-    private BigDecimal totalPrice;
+    private Money totalPrice;
     private String paymentMethodName;
     private OrderStatus status;
-    private BigDecimal amountTendered;
-    private BigDecimal changeGiven;
+    private Money amountTendered;
+    private Money changeGiven;
     private String customerNotes;
 }
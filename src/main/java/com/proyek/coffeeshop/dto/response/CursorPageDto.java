@@ -0,0 +1,26 @@
+package com.proyek.coffeeshop.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * DTO untuk satu halaman hasil keyset pagination.
+ * Tidak ada total elemen; halaman berikutnya diminta dengan {@code nextCursor}
+ * yang bernilai null jika sudah tidak ada data lagi.
+ * 
+ * @author Coffee Shop Team
+ * @version 1.0
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CursorPageDto<T> {
+
+    private List<T> content;
+    private int size;
+    private boolean hasNext;
+    private String nextCursor;
+}
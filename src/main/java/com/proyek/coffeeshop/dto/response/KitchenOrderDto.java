@@ -0,0 +1,46 @@
+package com.proyek.coffeeshop.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.proyek.coffeeshop.model.enums.OrderStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * DTO ringkas satu order di papan dapur/barista.
+ * Hanya berisi yang perlu disiapkan (produk, jumlah, kustomisasi, catatan), tanpa harga.
+ * Event {@code order-removed} hanya mengisi orderId dan status.
+ * 
+ * @author Coffee Shop Team
+ * @version 1.0
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder(toBuilder = true)
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class KitchenOrderDto {
+
+    private Long orderId;
+    private OrderStatus status;
+    private LocalDateTime orderDate;
+    private String customerName; // null untuk order walk-in dari kasir
+    private String customerNotes;
+    private List<Item> items;
+
+    /**
+     * Satu item yang harus disiapkan.
+     */
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Item {
+        private String productName;
+        private Integer quantity;
+        private List<String> customizations;
+    }
+}
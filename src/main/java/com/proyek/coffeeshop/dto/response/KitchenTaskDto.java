@@ -0,0 +1,36 @@
+package com.proyek.coffeeshop.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.proyek.coffeeshop.model.enums.OrderStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * DTO satu tugas di antrian dapur: order yang harus disiapkan beserta prioritas dan station-nya.
+ * 
+ * @author Coffee Shop Team
+ * @version 1.0
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class KitchenTaskDto {
+
+    private Long orderId;
+    private OrderStatus status;
+    private LocalDateTime orderDate;
+    private LocalDateTime promisedReadyAt;
+    private Integer prepUnits;
+    private String station;        // null jika belum diambil station mana pun
+    private LocalDateTime claimedAt;
+    private String customerName;   // null untuk order walk-in dari kasir
+    private String customerNotes;
+    private List<KitchenOrderDto.Item> items;
+}
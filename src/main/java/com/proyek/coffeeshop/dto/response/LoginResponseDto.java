@@ -0,0 +1,27 @@
+package com.proyek.coffeeshop.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+
+/**
+ * DTO untuk response login.
+ * Berisi access token yang dikirim client di header {@code Authorization: Bearer <token>}
+ * pada request berikutnya, beserta data user yang login.
+ * 
+ * @author Coffee Shop Team
+ * @version 1.0
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class LoginResponseDto {
+
+    private String accessToken;
+    private String tokenType;
+    private long expiresIn;
+    private Instant expiresAt;
+    private UserResponseDto user;
+}
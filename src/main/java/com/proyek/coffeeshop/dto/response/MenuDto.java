@@ -0,0 +1,26 @@
+package com.proyek.coffeeshop.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * DTO untuk response menu lengkap.
+ * Berisi semua produk (beserta kategori), kategori, kustomisasi, dan metode pembayaran.
+ * 
+ * @author Coffee Shop Team
+ * @version 1.0
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class MenuDto {
+
+    private long version;
+    private List<ProductDto> products;
+    private List<CategoryDto> categories;
+    private List<CustomizationDto> customizations;
+    private List<PaymentMethodDto> paymentMethods;
+}
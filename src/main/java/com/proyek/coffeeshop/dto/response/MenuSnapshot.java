@@ -0,0 +1,21 @@
+package com.proyek.coffeeshop.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Snapshot menu immutable untuk satu versi katalog.
+ * Menyimpan daftar produk (body {@code GET /api/products}) dan menu lengkap
+ * (body {@code GET /api/menu}) dalam bentuk JSON yang sudah di-encode.
+ * 
+ * @author Coffee Shop Team
+ * @version 1.0
+ */
+@Getter
+@AllArgsConstructor
+public final class MenuSnapshot {
+
+    private final long version;
+    private final PreEncodedJson products;
+    private final PreEncodedJson menu;
+}
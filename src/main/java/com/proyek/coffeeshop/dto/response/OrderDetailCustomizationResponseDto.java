@@ -1,11 +1,10 @@
 package com.proyek.coffeeshop.dto.response;
 
+import com.proyek.coffeeshop.model.value.Money;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
-import java.math.BigDecimal;
-
 /**
  * DTO untuk response kustomisasi dalam order detail.
  * Berisi informasi kustomisasi yang dipilih dalam order.
@@ -21,5 +20,5 @@ public class OrderDetailCustomizationResponseDto {
     private Long detailCustomizationId;
     private CustomizationDto customization;
     private String customizationNameSnapshot;
-    private BigDecimal priceAdjustmentSnapshot;
+    private Money priceAdjustmentSnapshot;
 }
@@ -1,10 +1,10 @@
 package com.proyek.coffeeshop.dto.response;
 
+import com.proyek.coffeeshop.model.value.Money;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
-import java.math.BigDecimal;
 import java.util.List;
 
 /**
@@ -22,7 +22,7 @@ public class OrderDetailResponseDto {
     private Long detailId;
     private ProductDto product;
     private Integer quantity;
-    private BigDecimal unitPrice;
-    private BigDecimal subtotalPrice;
+    private Money unitPrice;
+    private Money subtotalPrice;
     private List<OrderDetailCustomizationResponseDto> customizations;
 }
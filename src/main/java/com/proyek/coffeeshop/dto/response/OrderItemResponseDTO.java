@@ -1,11 +1,11 @@
 package com.proyek.coffeeshop.dto.response;
 
+import com.proyek.coffeeshop.model.value.Money;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
-import java.math.BigDecimal;
 import java.util.List;
 
 @Data
@@ -17,7 +17,7 @@ public class OrderItemResponseDTO {
     private Long detailId; // Changed from orderDetailId to detailId to match OrderServiceImpl
     private ProductDto product; // Menggunakan ProductDto yang sudah ada
     private Integer quantity;
-    private BigDecimal unitPrice;
-    private BigDecimal subtotalPrice;
+    private Money unitPrice;
+    private Money subtotalPrice;
     private List<OrderDetailCustomizationResponseDto> customizations; // Changed to match expected type
 }
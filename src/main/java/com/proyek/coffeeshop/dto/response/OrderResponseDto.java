@@ -1,11 +1,11 @@
 package com.proyek.coffeeshop.dto.response;
 
 import com.proyek.coffeeshop.model.enums.OrderStatus;
+import com.proyek.coffeeshop.model.value.Money;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
-import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.List;
 
@@ -24,7 +24,7 @@ public class OrderResponseDto {
     private Long orderId;
     private CustomerDto customer;
     private LocalDateTime orderDate;
-    private BigDecimal totalAmount;
+    private Money totalAmount;
     private OrderStatus status;
     private PaymentMethodDto paymentMethod;
     private String customerNotes;
@@ -0,0 +1,28 @@
+package com.proyek.coffeeshop.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.proyek.coffeeshop.model.enums.OrderStatus;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * DTO perubahan status satu order yang dikirim ke aplikasi customer.
+ * Cukup untuk memperbarui tampilan status tanpa memuat ulang seluruh {@link OrderResponseDto}.
+ * 
+ * @author Coffee Shop Team
+ * @version 1.0
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class OrderStatusChangeDto {
+
+    private Long orderId;
+    private OrderStatus previousStatus; // null pada event snapshot saat connect
+    private OrderStatus status;
+    private LocalDateTime changedAt;
+}
@@ -0,0 +1,156 @@
+package com.proyek.coffeeshop.dto.response;
+
+import lombok.Getter;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Locale;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Body JSON yang sudah di-serialize satu kali, beserta varian gzip dan strong ETag-nya.
+ * Objek ini immutable sehingga aman dibagikan ke semua request tanpa sinkronisasi.
+ * 
+ * @author Coffee Shop Team
+ * @version 1.0
+ */
+@Getter
+public final class PreEncodedJson {
+
+    private static final String GZIP = "gzip";
+
+    private final byte[] json;
+    private final byte[] gzip;
+    private final String etag;
+    private final String gzipEtag;
+
+    private PreEncodedJson(byte[] json, byte[] gzip, String etag) {
+        this.json = json;
+        this.gzip = gzip;
+        this.etag = "\"" + etag + "\"";
+        // Representasi gzip adalah byte berbeda, jadi strong ETag-nya juga harus berbeda
+        this.gzipEtag = "\"" + etag + "-gz\"";
+    }
+
+    /**
+     * Membuat body dari JSON yang sudah di-encode: menghitung gzip dan ETag (SHA-256).
+     *
+     * @param json byte JSON UTF-8
+     * @return body siap kirim
+     */
+    public static PreEncodedJson of(byte[] json) {
+        return new PreEncodedJson(json, gzip(json), sha256(json));
+    }
+
+    /**
+     * Membuat response untuk request dengan header If-None-Match dan Accept-Encoding tertentu.
+     * Jika ETag cocok, dikembalikan 304 tanpa body.
+     *
+     * @param ifNoneMatch nilai header If-None-Match, boleh null
+     * @param acceptEncoding nilai header Accept-Encoding, boleh null
+     * @return ResponseEntity berisi byte JSON (atau gzip), atau 304
+     */
+    public ResponseEntity<byte[]> toResponse(String ifNoneMatch, String acceptEncoding) {
+        boolean useGzip = acceptsGzip(acceptEncoding);
+        String currentEtag = useGzip ? gzipEtag : etag;
+
+        HttpHeaders headers = new HttpHeaders();
+        headers.setETag(currentEtag);
+        headers.setCacheControl(CacheControl.noCache());
+        headers.setVary(List.of(HttpHeaders.ACCEPT_ENCODING));
+
+        if (matches(ifNoneMatch, currentEtag)) {
+            return new ResponseEntity<>(headers, HttpStatus.NOT_MODIFIED);
+        }
+
+        byte[] body = useGzip ? gzip : json;
+        headers.setContentType(MediaType.APPLICATION_JSON);
+        headers.setContentLength(body.length);
+        if (useGzip) {
+            headers.set(HttpHeaders.CONTENT_ENCODING, GZIP);
+        }
+        return new ResponseEntity<>(body, headers, HttpStatus.OK);
+    }
+
+    /**
+     * Menentukan apakah header Accept-Encoding mengizinkan gzip (RFC 9110 §12.5.3).
+     * Coding {@code gzip}/{@code x-gzip} yang disebut eksplisit menang atas {@code *},
+     * dan q-value 0 berarti coding tersebut ditolak.
+     *
+     * @param acceptEncoding nilai header Accept-Encoding, boleh null
+     * @return true jika response boleh dikirim dengan Content-Encoding gzip
+     */
+    public static boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null || acceptEncoding.isBlank()) {
+            return false;
+        }
+        Double gzipQuality = null;
+        Double wildcardQuality = null;
+        for (String entry : acceptEncoding.split(",")) {
+            String[] parts = entry.split(";");
+            String coding = parts[0].trim().toLowerCase(Locale.ROOT);
+            double quality = quality(parts);
+            if (coding.equals(GZIP) || coding.equals("x-gzip")) {
+                gzipQuality = gzipQuality == null ? quality : Math.max(gzipQuality, quality);
+            } else if (coding.equals("*")) {
+                wildcardQuality = quality;
+            }
+        }
+        Double effective = gzipQuality != null ? gzipQuality : wildcardQuality;
+        return effective != null && effective > 0;
+    }
+
+    private static double quality(String[] parts) {
+        for (int i = 1; i < parts.length; i++) {
+            String param = parts[i].trim();
+            if (param.length() > 2 && (param.charAt(0) == 'q' || param.charAt(0) == 'Q') && param.charAt(1) == '=') {
+                try {
+                    return Double.parseDouble(param.substring(2).trim());
+                } catch (NumberFormatException e) {
+                    // q-value tidak valid diperlakukan sebagai penolakan
+                    return 0;
+                }
+            }
+        }
+        return 1;
+    }
+
+    private static boolean matches(String ifNoneMatch, String currentEtag) {
+        if (ifNoneMatch == null) {
+            return false;
+        }
+        return Arrays.stream(ifNoneMatch.split(","))
+                .map(String::trim)
+                .anyMatch(tag -> tag.equals("*") || tag.equals(currentEtag));
+    }
+
+    private static byte[] gzip(byte[] json) {
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream(json.length / 4 + 64);
+        try (GZIPOutputStream out = new GZIPOutputStream(buffer)) {
+            out.write(json);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return buffer.toByteArray();
+    }
+
+    private static String sha256(byte[] json) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(json);
+            return HexFormat.of().formatHex(digest, 0, 16);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 tidak tersedia", e);
+        }
+    }
+}
@@ -0,0 +1,25 @@
+package com.proyek.coffeeshop.event;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+
+/**
+ * Event yang dipublikasikan setiap kali data katalog (produk, kategori, kustomisasi,
+ * atau metode pembayaran) dibuat, diubah, atau dihapus.
+ * Listener sebaiknya memakai {@code @TransactionalEventListener} agar hanya bereaksi
+ * setelah perubahan benar-benar di-commit.
+ * 
+ * @author Coffee Shop Team
+ * @version 1.0
+ */
+@Getter
+@ToString
+@RequiredArgsConstructor
+public class CatalogChangedEvent {
+
+    /**
+     * Nama cache katalog yang berubah, lihat konstanta di {@code CacheConfig}.
+     */
+    private final String catalog;
+}
@@ -0,0 +1,39 @@
+package com.proyek.coffeeshop.event;
+
+import com.proyek.coffeeshop.model.enums.OrderEventType;
+import com.proyek.coffeeshop.model.enums.OrderStatus;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+
+import java.time.LocalDateTime;
+
+/**
+ * Event siklus hidup order yang dikirim dari outbox ke {@link OrderEventListener}.
+ * {@code eventId} naik monoton untuk order yang sama, sehingga listener dapat
+ * mengabaikan event yang sudah pernah diproses (pengiriman at-least-once).
+ * 
+ * @author Coffee Shop Team
+ * @version 1.0
+ */
+@Getter
+@ToString
+@RequiredArgsConstructor
+public class OrderEvent {
+
+    private final Long eventId;
+    private final Long orderId;
+
+    /**
+     * ID customer pemilik order, null untuk order walk-in dari kasir.
+     */
+    private final Long customerId;
+    private final OrderEventType type;
+
+    /**
+     * Status sebelum perubahan, null untuk event CREATED.
+     */
+    private final OrderStatus previousStatus;
+    private final OrderStatus status;
+    private final LocalDateTime occurredAt;
+}
@@ -0,0 +1,32 @@
+package com.proyek.coffeeshop.event;
+
+import org.springframework.util.ClassUtils;
+
+import java.util.List;
+
+/**
+ * Consumer event order dari outbox. Setiap bean yang mengimplementasikan interface ini
+ * menerima event secara batch, berurutan {@code eventId}, tanpa perlu memindai tabel Orders.
+ * Pengiriman bersifat at-least-once: jika satu listener melempar exception, event dikirim ulang
+ * per order ke semua listener, sehingga implementasi harus idempotent. Event order yang terus
+ * gagal diparkir setelah {@code coffeeshop.outbox.max-attempts} percobaan.
+ * 
+ * @author Coffee Shop Team
+ * @version 1.0
+ */
+public interface OrderEventListener {
+
+    /**
+     * @return nama listener untuk log dan tag metric
+     */
+    default String getName() {
+        return ClassUtils.getUserClass(this).getSimpleName();
+    }
+
+    /**
+     * Memproses satu batch event. Dipanggil dari thread dispatcher, di luar transaksi order.
+     *
+     * @param events event berurutan eventId
+     */
+    void onOrderEvents(List<OrderEvent> events);
+}
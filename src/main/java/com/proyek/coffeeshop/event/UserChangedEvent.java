@@ -0,0 +1,21 @@
+package com.proyek.coffeeshop.event;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+
+/**
+ * Event yang dipublikasikan setiap kali data user atau profil customer-nya dibuat,
+ * diubah, atau dihapus. Listener menghapus principal user tersebut dari cache
+ * setelah perubahan di-commit.
+ * 
+ * @author Coffee Shop Team
+ * @version 1.0
+ */
+@Getter
+@ToString
+@RequiredArgsConstructor
+public class UserChangedEvent {
+
+    private final String username;
+}
@@ -0,0 +1,31 @@
+package com.proyek.coffeeshop.exception;
+
+import java.time.Duration;
+
+/**
+ * Exception untuk request yang ditolak karena batas laju terlampaui atau server
+ * sedang kelebihan beban. Dipetakan ke HTTP 429 dengan header {@code Retry-After}.
+ * 
+ * @author Coffee Shop Team
+ * @version 1.0
+ */
+public class TooManyRequestsException extends RuntimeException {
+
+    private final Duration retryAfter;
+
+    public TooManyRequestsException(String message, Duration retryAfter) {
+        super(message);
+        this.retryAfter = retryAfter;
+    }
+
+    public Duration getRetryAfter() {
+        return retryAfter;
+    }
+
+    /**
+     * @return nilai header Retry-After dalam detik, minimal 1
+     */
+    public long getRetryAfterSeconds() {
+        return Math.max(1, (retryAfter.toMillis() + 999) / 1000);
+    }
+}
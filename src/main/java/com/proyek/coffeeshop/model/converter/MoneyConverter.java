@@ -0,0 +1,28 @@
+package com.proyek.coffeeshop.model.converter;
+
+import com.proyek.coffeeshop.model.value.Money;
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+
+import java.math.BigDecimal;
+
+/**
+ * Konversi {@link Money} ke kolom DECIMAL yang sudah ada, tanpa perubahan skema.
+ * Otomatis berlaku untuk setiap atribut entity bertipe Money.
+ *
+ * @author Coffee Shop Team
+ * @version 1.0
+ */
+@Converter(autoApply = true)
+public class MoneyConverter implements AttributeConverter<Money, BigDecimal> {
+
+    @Override
+    public BigDecimal convertToDatabaseColumn(Money attribute) {
+        return attribute != null ? attribute.toBigDecimal() : null;
+    }
+
+    @Override
+    public Money convertToEntityAttribute(BigDecimal dbData) {
+        return dbData != null ? Money.of(dbData) : null;
+    }
+}
@@ -0,0 +1,47 @@
+package com.proyek.coffeeshop.model.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * Entitas JPA untuk tabel rollup DailyPaymentSales.
+ * Menyimpan akumulasi jumlah order dan total pendapatan per (tanggal, kasir, metode pembayaran).
+ * Order dari aplikasi customer (tanpa kasir) dicatat dengan kasir_id 0.
+ * 
+ * @author Coffee Shop Team
+ * @version 1.0
+ */
+@Entity
+@Table(name = "DailyPaymentSales",
+        uniqueConstraints = @UniqueConstraint(name = "uk_daily_payment_sales",
+                columnNames = {"sales_date", "kasir_id", "payment_id"}))
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class DailyPaymentSales {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "rollup_id")
+    private Long rollupId;
+
+    @Column(name = "sales_date", nullable = false)
+    private LocalDate salesDate;
+
+    @Column(name = "kasir_id", nullable = false)
+    private Long kasirId;
+
+    @Column(name = "payment_id", nullable = false)
+    private Long paymentId;
+
+    @Column(name = "order_count", nullable = false)
+    private Long orderCount;
+
+    @Column(name = "total_amount", nullable = false, precision = 14, scale = 2)
+    private BigDecimal totalAmount;
+}
@@ -0,0 +1,48 @@
+package com.proyek.coffeeshop.model.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * Entitas JPA untuk tabel rollup DailyProductSales.
+ * Menyimpan akumulasi penjualan per (tanggal, kasir, produk) yang diperbarui
+ * setiap kali order dibuat atau dibatalkan, sehingga laporan tidak perlu memindai Orders.
+ * Order dari aplikasi customer (tanpa kasir) dicatat dengan kasir_id 0.
+ * 
+ * @author Coffee Shop Team
+ * @version 1.0
+ */
+@Entity
+@Table(name = "DailyProductSales",
+        uniqueConstraints = @UniqueConstraint(name = "uk_daily_product_sales",
+                columnNames = {"sales_date", "kasir_id", "product_id"}))
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class DailyProductSales {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "rollup_id")
+    private Long rollupId;
+
+    @Column(name = "sales_date", nullable = false)
+    private LocalDate salesDate;
+
+    @Column(name = "kasir_id", nullable = false)
+    private Long kasirId;
+
+    @Column(name = "product_id", nullable = false)
+    private Long productId;
+
+    @Column(name = "quantity_sold", nullable = false)
+    private Long quantitySold;
+
+    @Column(nullable = false, precision = 14, scale = 2)
+    private BigDecimal revenue;
+}
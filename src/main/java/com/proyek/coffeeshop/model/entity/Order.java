@@ -1,14 +1,14 @@
 package com.proyek.coffeeshop.model.entity;
 
 import com.proyek.coffeeshop.model.enums.OrderStatus;
+import com.proyek.coffeeshop.model.value.Money;
+import com.proyek.coffeeshop.model.value.PositiveMoney;
 import jakarta.persistence.*;
-import jakarta.validation.constraints.DecimalMin;
 import jakarta.validation.constraints.NotNull;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
-import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.List;
 
@@ -20,14 +20,50 @@ import java.util.List;
  * @version 1.0
  */
 @Entity
-@Table(name = "Orders")
+@Table(name = "Orders",
+        indexes = {
+                // Keyset pagination admin: ORDER BY order_date DESC, order_id DESC
+                @Index(name = "idx_orders_date_id", columnList = "order_date, order_id"),
+                @Index(name = "idx_orders_status_date_id", columnList = "status, order_date, order_id")
+        })
+@NamedEntityGraph(
+        name = Order.GRAPH_WITH_DETAILS,
+        attributeNodes = {
+                @NamedAttributeNode(value = "customer", subgraph = "customer"),
+                @NamedAttributeNode("paymentMethod"),
+                @NamedAttributeNode(value = "orderDetails", subgraph = "orderDetails")
+        },
+        subgraphs = {
+                @NamedSubgraph(name = "customer", attributeNodes = @NamedAttributeNode("user")),
+                @NamedSubgraph(name = "orderDetails", attributeNodes = @NamedAttributeNode(value = "product", subgraph = "product")),
+                @NamedSubgraph(name = "product", attributeNodes = @NamedAttributeNode("category"))
+        })
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
 public class Order {
 
+    /**
+     * Entity graph untuk memuat order beserta customer, metode pembayaran, detail,
+     * produk dan kategorinya dalam satu query. Kustomisasi tiap detail dimuat terpisah
+     * karena dua koleksi List tidak dapat di-fetch join sekaligus.
+     */
+    public static final String GRAPH_WITH_DETAILS = "Order.withDetails";
+
+    /**
+     * ID dialokasikan per blok 50 dari tabel IdSequences (pooled optimizer).
+     * IDENTITY membuat Hibernate mematikan JDBC batch insert, sehingga Order,
+     * OrderDetail dan OrderDetailCustomization memakai table generator.
+     */
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "order_id_generator")
+    @TableGenerator(
+            name = "order_id_generator",
+            table = "IdSequences",
+            pkColumnName = "sequence_name",
+            valueColumnName = "next_val",
+            pkColumnValue = "Orders",
+            allocationSize = 50)
     @Column(name = "order_id")
     private Long orderId;
 
@@ -53,9 +89,9 @@ public class Order {
     private LocalDateTime orderDate;
 
     @NotNull(message = "Total amount tidak boleh kosong")
-    @DecimalMin(value = "0.0", inclusive = false, message = "Total amount harus lebih besar dari 0")
+    @PositiveMoney(message = "Total amount harus lebih besar dari 0")
     @Column(name = "total_amount", nullable = false, precision = 12, scale = 2)
-    private BigDecimal totalAmount;
+    private Money totalAmount;
 
     @NotNull(message = "Status tidak boleh kosong")
     @Enumerated(EnumType.STRING)
@@ -83,21 +119,38 @@ public class Order {
 
     // Tambahan untuk pembayaran tunai oleh kasir
     @Column(name = "amount_tendered", precision = 12, scale = 2)
-    private BigDecimal amountTendered;
+    private Money amountTendered;
 
     @Column(name = "change_given", precision = 12, scale = 2)
-    private BigDecimal changeGiven;
+    private Money changeGiven;
+
+    /**
+     * Versi price book (baris PriceBookVersions) yang dipakai saat harga order dihitung.
+     */
+    @Column(name = "price_book_version")
+    private Long priceBookVersion;
+
+    /**
+     * Versi baris untuk optimistic locking. Perubahan status yang dihitung dari
+     * state basi gagal dengan OptimisticLockException, bukan menimpa diam-diam.
+     */
+    @Version
+    @Column(name = "version", nullable = false)
+    private Long version;
 
     /**
      * Method untuk menghitung total amount dari semua order details.
+     * Public agar bisa diukur langsung oleh benchmark harga order.
      */
     @PrePersist
     @PreUpdate
-    private void calculateTotalAmount() {
+    public void calculateTotalAmount() {
         if (orderDetails != null && !orderDetails.isEmpty()) {
-            this.totalAmount = orderDetails.stream()
-                    .map(OrderDetail::getSubtotalPrice)
-                    .reduce(BigDecimal.ZERO, BigDecimal::add);
+            long totalCents = 0;
+            for (OrderDetail orderDetail : orderDetails) {
+                totalCents = Math.addExact(totalCents, orderDetail.getSubtotalPrice().getCents());
+            }
+            this.totalAmount = Money.ofCents(totalCents);
         }
     }
 }
@@ -1,14 +1,14 @@
 package com.proyek.coffeeshop.model.entity;
 
+import com.proyek.coffeeshop.model.value.Money;
+import com.proyek.coffeeshop.model.value.PositiveMoney;
 import jakarta.persistence.*;
-import jakarta.validation.constraints.DecimalMin;
 import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotNull;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
-import java.math.BigDecimal;
 import java.util.List;
 
 /**
@@ -26,7 +26,14 @@ import java.util.List;
 public class OrderDetail {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "order_detail_id_generator")
+    @TableGenerator(
+            name = "order_detail_id_generator",
+            table = "IdSequences",
+            pkColumnName = "sequence_name",
+            valueColumnName = "next_val",
+            pkColumnValue = "OrderDetails",
+            allocationSize = 50)
     @Column(name = "detail_id")
     private Long detailId;
 
@@ -54,14 +61,14 @@ public class OrderDetail {
     private Integer quantity;
 
     @NotNull(message = "Unit price tidak boleh kosong")
-    @DecimalMin(value = "0.0", inclusive = false, message = "Unit price harus lebih besar dari 0")
+    @PositiveMoney(message = "Unit price harus lebih besar dari 0")
     @Column(name = "unit_price", nullable = false, precision = 10, scale = 2)
-    private BigDecimal unitPrice;
+    private Money unitPrice;
 
     @NotNull(message = "Subtotal price tidak boleh kosong")
-    @DecimalMin(value = "0.0", inclusive = false, message = "Subtotal price harus lebih besar dari 0")
+    @PositiveMoney(message = "Subtotal price harus lebih besar dari 0")
     @Column(name = "subtotal_price", nullable = false, precision = 12, scale = 2)
-    private BigDecimal subtotalPrice;
+    private Money subtotalPrice;
 
     /**
      * Relasi one-to-many dengan OrderDetailCustomization.
@@ -72,20 +79,20 @@ public class OrderDetail {
 
     /**
      * Method untuk menghitung subtotal price berdasarkan quantity, unit price, dan customizations.
+     * Public agar bisa diukur langsung oleh benchmark harga order.
      */
     @PrePersist
     @PreUpdate
-    private void calculateSubtotalPrice() {
-        BigDecimal basePrice = unitPrice.multiply(BigDecimal.valueOf(quantity));
-        
-        if (customizations != null && !customizations.isEmpty()) {
-            BigDecimal customizationTotal = customizations.stream()
-                    .map(OrderDetailCustomization::getPriceAdjustmentSnapshot)
-                    .reduce(BigDecimal.ZERO, BigDecimal::add);
-            
-            this.subtotalPrice = basePrice.add(customizationTotal.multiply(BigDecimal.valueOf(quantity)));
-        } else {
-            this.subtotalPrice = basePrice;
+    public void calculateSubtotalPrice() {
+        // Dihitung dalam sen (long) agar tidak ada objek perantara per kustomisasi
+        long unitCents = unitPrice.getCents();
+        if (customizations != null) {
+            for (OrderDetailCustomization customization : customizations) {
+                if (customization.getPriceAdjustmentSnapshot() != null) {
+                    unitCents = Math.addExact(unitCents, customization.getPriceAdjustmentSnapshot().getCents());
+                }
+            }
         }
+        this.subtotalPrice = Money.ofCents(Math.multiplyExact(unitCents, quantity.longValue()));
     }
 }
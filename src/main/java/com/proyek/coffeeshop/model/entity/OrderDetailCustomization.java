@@ -1,13 +1,12 @@
 package com.proyek.coffeeshop.model.entity;
 
+import com.proyek.coffeeshop.model.value.Money;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.NotNull;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
-import java.math.BigDecimal;
-
 /**
  * Entitas JPA untuk tabel OrderDetailsCustomization.
  * Menyimpan kustomisasi yang dipilih untuk setiap OrderDetail.
@@ -24,7 +23,14 @@ import java.math.BigDecimal;
 public class OrderDetailCustomization {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "order_detail_customization_id_generator")
+    @TableGenerator(
+            name = "order_detail_customization_id_generator",
+            table = "IdSequences",
+            pkColumnName = "sequence_name",
+            valueColumnName = "next_val",
+            pkColumnValue = "OrderDetailsCustomization",
+            allocationSize = 50)
     @Column(name = "detail_customization_id")
     private Long detailCustomizationId;
 
@@ -58,7 +64,7 @@ public class OrderDetailCustomization {
      * Digunakan untuk keperluan arsip jika harga kustomisasi berubah di masa depan.
      */
     @Column(name = "price_adjustment_snapshot", precision = 8, scale = 2)
-    private BigDecimal priceAdjustmentSnapshot;
+    private Money priceAdjustmentSnapshot;
 
     /**
      * Method untuk membuat snapshot dari data kustomisasi saat order dibuat.
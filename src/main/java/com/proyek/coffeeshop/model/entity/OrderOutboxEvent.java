@@ -0,0 +1,71 @@
+package com.proyek.coffeeshop.model.entity;
+
+import com.proyek.coffeeshop.model.enums.OrderEventType;
+import com.proyek.coffeeshop.model.enums.OrderStatus;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Entitas JPA untuk tabel OrderOutbox.
+ * Setiap baris adalah satu event siklus hidup order yang ditulis di transaksi yang sama
+ * dengan perubahan order, lalu dikirim ke listener oleh dispatcher.
+ * Index (dispatched_at, parked_at, event_id) dipakai dispatcher untuk membaca event yang belum
+ * terkirim dan tidak diparkir; index order_id dipakai untuk mencari order yang punya event terparkir.
+ * 
+ * @author Coffee Shop Team
+ * @version 1.0
+ */
+@Entity
+@Table(name = "OrderOutbox",
+        indexes = {
+                @Index(name = "idx_outbox_pending", columnList = "dispatched_at, parked_at, event_id"),
+                @Index(name = "idx_outbox_order", columnList = "order_id")
+        })
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class OrderOutboxEvent {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "event_id")
+    private Long eventId;
+
+    @Column(name = "order_id", nullable = false)
+    private Long orderId;
+
+    @Column(name = "customer_id")
+    private Long customerId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "event_type", nullable = false)
+    private OrderEventType eventType;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "previous_status")
+    private OrderStatus previousStatus;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private OrderStatus status;
+
+    @Column(name = "occurred_at", nullable = false)
+    private LocalDateTime occurredAt;
+
+    @Column(name = "dispatched_at")
+    private LocalDateTime dispatchedAt;
+
+    @Column(nullable = false)
+    private int attempts;
+
+    /**
+     * Waktu event diparkir setelah gagal dikirim sebanyak batas percobaan, atau karena event
+     * sebelumnya dari order yang sama sudah diparkir; null selama event masih akan dikirim.
+     */
+    @Column(name = "parked_at")
+    private LocalDateTime parkedAt;
+}
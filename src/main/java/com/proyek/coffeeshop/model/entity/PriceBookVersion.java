@@ -0,0 +1,37 @@
+package com.proyek.coffeeshop.model.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Entitas JPA untuk tabel PriceBookVersions.
+ * Setiap baris menyimpan isi price book (harga dan ketersediaan produk serta harga kustomisasi)
+ * dalam bentuk JSON. Kolom {@code Orders.price_book_version} mengacu ke baris ini sehingga
+ * harga yang dipakai saat order dibuat bisa direkonstruksi untuk audit.
+ * 
+ * @author Coffee Shop Team
+ * @version 1.0
+ */
+@Entity
+@Table(name = "PriceBookVersions")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class PriceBookVersion {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "version_id")
+    private Long versionId;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    @Lob
+    @Column(nullable = false, columnDefinition = "LONGTEXT")
+    private String entries;
+}
@@ -0,0 +1,59 @@
+package com.proyek.coffeeshop.model.entity;
+
+import com.proyek.coffeeshop.model.enums.ReservationStatus;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Entitas JPA untuk tabel StockReservations.
+ * Mencatat stok yang ditahan untuk satu produk dalam order WAITING_PAYMENT
+ * sampai pembayaran dikonfirmasi, order dibatalkan, atau batas waktunya habis.
+ * Index (status, expires_at) dipakai sweeper untuk mencari reservasi yang kedaluwarsa.
+ * 
+ * @author Coffee Shop Team
+ * @version 1.0
+ */
+@Entity
+@Table(name = "StockReservations",
+        indexes = {
+                @Index(name = "idx_reservation_status_expires", columnList = "status, expires_at"),
+                @Index(name = "idx_reservation_order", columnList = "order_id")
+        })
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class StockReservation {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "reservation_id")
+    private Long reservationId;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "order_id", nullable = false)
+    private Order order;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "product_id", nullable = false)
+    private Product product;
+
+    @Column(nullable = false)
+    private Integer quantity;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private ReservationStatus status;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "expires_at", nullable = false)
+    private LocalDateTime expiresAt;
+
+    @Column(name = "resolved_at")
+    private LocalDateTime resolvedAt;
+}
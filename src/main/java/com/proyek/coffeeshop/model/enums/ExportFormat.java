@@ -0,0 +1,28 @@
+package com.proyek.coffeeshop.model.enums;
+
+/**
+ * Enum untuk format file ekspor laporan.
+ * 
+ * @author Coffee Shop Team
+ * @version 1.0
+ */
+public enum ExportFormat {
+    CSV("text/csv", "csv"),
+    NDJSON("application/x-ndjson", "ndjson"); // Satu objek JSON per baris
+
+    private final String contentType;
+    private final String extension;
+
+    ExportFormat(String contentType, String extension) {
+        this.contentType = contentType;
+        this.extension = extension;
+    }
+
+    public String getContentType() {
+        return contentType;
+    }
+
+    public String getExtension() {
+        return extension;
+    }
+}
@@ -0,0 +1,14 @@
+package com.proyek.coffeeshop.model.enums;
+
+/**
+ * Enum untuk jenis event siklus hidup order yang ditulis ke outbox.
+ * 
+ * @author Coffee Shop Team
+ * @version 1.0
+ */
+public enum OrderEventType {
+    CREATED,           // Order baru dibuat (customer atau kasir)
+    STATUS_CHANGED,    // Status order diubah oleh admin/kasir
+    PAYMENT_CONFIRMED, // Pembayaran order customer dikonfirmasi
+    CANCELLED          // Order dibatalkan customer atau karena batas waktu pembayaran habis
+}
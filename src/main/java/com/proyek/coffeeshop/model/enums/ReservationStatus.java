@@ -0,0 +1,13 @@
+package com.proyek.coffeeshop.model.enums;
+
+/**
+ * Enum untuk status reservasi stok dari order customer.
+ * 
+ * @author Coffee Shop Team
+ * @version 1.0
+ */
+public enum ReservationStatus {
+    HELD,      // Stok ditahan, order menunggu pembayaran
+    COMMITTED, // Pembayaran dikonfirmasi, stok terpakai
+    RELEASED   // Order dibatalkan atau kedaluwarsa, stok dikembalikan
+}
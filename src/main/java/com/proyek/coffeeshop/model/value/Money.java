@@ -0,0 +1,116 @@
+package com.proyek.coffeeshop.model.value;
+
+import java.io.Serializable;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+/**
+ * Nilai uang immutable yang disimpan sebagai long dalam satuan sen (2 digit desimal),
+ * sama dengan skala kolom DECIMAL(x, 2) di database.
+ * Semua operasi aritmatika memakai {@link Math#addExact} / {@link Math#multiplyExact}
+ * sehingga overflow dilempar sebagai {@link ArithmeticException}, bukan nilai yang salah diam-diam.
+ * Untuk akumulasi di loop, jumlahkan {@link #getCents()} ke variabel long lalu buat
+ * satu Money di akhir dengan {@link #ofCents(long)}.
+ *
+ * @author Coffee Shop Team
+ * @version 1.0
+ */
+public final class Money implements Comparable<Money>, Serializable {
+
+    public static final int SCALE = 2;
+    public static final Money ZERO = new Money(0);
+
+    private static final long CENTS_PER_UNIT = 100;
+
+    private final long cents;
+
+    private Money(long cents) {
+        this.cents = cents;
+    }
+
+    public static Money ofCents(long cents) {
+        return cents == 0 ? ZERO : new Money(cents);
+    }
+
+    /**
+     * Membuat Money dari BigDecimal. Nilai dengan lebih dari 2 digit desimal ditolak
+     * agar pembulatan tidak terjadi tanpa disadari.
+     *
+     * @param amount nominal, tidak boleh null
+     * @return Money dengan nilai yang sama
+     * @throws ArithmeticException jika skala lebih dari 2 atau nilai di luar jangkauan long
+     */
+    public static Money of(BigDecimal amount) {
+        return ofCents(amount.setScale(SCALE, RoundingMode.UNNECESSARY).unscaledValue().longValueExact());
+    }
+
+    public static Money of(String amount) {
+        return of(new BigDecimal(amount));
+    }
+
+    public long getCents() {
+        return cents;
+    }
+
+    public Money plus(Money other) {
+        return ofCents(Math.addExact(cents, other.cents));
+    }
+
+    public Money minus(Money other) {
+        return ofCents(Math.subtractExact(cents, other.cents));
+    }
+
+    public Money times(long multiplier) {
+        return ofCents(Math.multiplyExact(cents, multiplier));
+    }
+
+    public Money negate() {
+        return ofCents(Math.negateExact(cents));
+    }
+
+    public boolean isNegative() {
+        return cents < 0;
+    }
+
+    public boolean isZero() {
+        return cents == 0;
+    }
+
+    public BigDecimal toBigDecimal() {
+        return BigDecimal.valueOf(cents, SCALE);
+    }
+
+    @Override
+    public int compareTo(Money other) {
+        return Long.compare(cents, other.cents);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        return this == o || (o instanceof Money other && cents == other.cents);
+    }
+
+    @Override
+    public int hashCode() {
+        return Long.hashCode(cents);
+    }
+
+    /**
+     * Representasi desimal dengan 2 digit, misalnya {@code 15000.00} atau {@code -0.50};
+     * format yang sama dengan {@link BigDecimal#toPlainString()} untuk skala 2.
+     */
+    @Override
+    public String toString() {
+        long units = cents / CENTS_PER_UNIT;
+        long fraction = Math.abs(cents % CENTS_PER_UNIT);
+        StringBuilder text = new StringBuilder(24);
+        if (cents < 0 && units == 0) {
+            text.append('-');
+        }
+        text.append(units).append('.');
+        if (fraction < 10) {
+            text.append('0');
+        }
+        return text.append(fraction).toString();
+    }
+}
@@ -0,0 +1,30 @@
+package com.proyek.coffeeshop.model.value;
+
+import jakarta.validation.Constraint;
+import jakarta.validation.Payload;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Validasi bahwa nilai {@link Money} lebih besar dari 0 (pengganti {@code @DecimalMin} untuk Money).
+ * Nilai null dianggap valid; gunakan {@code @NotNull} bila wajib diisi.
+ *
+ * @author Coffee Shop Team
+ * @version 1.0
+ */
+@Documented
+@Constraint(validatedBy = PositiveMoneyValidator.class)
+@Target({ElementType.FIELD, ElementType.PARAMETER})
+@Retention(RetentionPolicy.RUNTIME)
+public @interface PositiveMoney {
+
+    String message() default "Nilai harus lebih besar dari 0";
+
+    Class<?>[] groups() default {};
+
+    Class<? extends Payload>[] payload() default {};
+}
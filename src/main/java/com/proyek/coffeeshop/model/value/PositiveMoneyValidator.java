@@ -0,0 +1,18 @@
+package com.proyek.coffeeshop.model.value;
+
+import jakarta.validation.ConstraintValidator;
+import jakarta.validation.ConstraintValidatorContext;
+
+/**
+ * Validator untuk {@link PositiveMoney}.
+ *
+ * @author Coffee Shop Team
+ * @version 1.0
+ */
+public class PositiveMoneyValidator implements ConstraintValidator<PositiveMoney, Money> {
+
+    @Override
+    public boolean isValid(Money value, ConstraintValidatorContext context) {
+        return value == null || value.getCents() > 0;
+    }
+}
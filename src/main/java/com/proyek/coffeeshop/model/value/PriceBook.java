@@ -0,0 +1,112 @@
+package com.proyek.coffeeshop.model.value;
+
+import com.proyek.coffeeshop.model.entity.Customization;
+import com.proyek.coffeeshop.model.entity.Product;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Snapshot immutable harga dan ketersediaan produk serta harga kustomisasi.
+ * Pembuatan order memvalidasi dan menghitung harga hanya dari objek ini, tanpa query katalog.
+ * Nomor versi mengacu ke baris {@code PriceBookVersions} sehingga harga yang dipakai sebuah
+ * order bisa direkonstruksi saat audit.
+ *
+ * @author Coffee Shop Team
+ * @version 1.0
+ */
+@Getter
+public final class PriceBook {
+
+    private final long version;
+    private final LocalDateTime builtAt;
+    private final Map<Long, ProductEntry> products;
+    private final Map<Long, CustomizationEntry> customizations;
+
+    public PriceBook(long version, LocalDateTime builtAt,
+                     Collection<ProductEntry> products, Collection<CustomizationEntry> customizations) {
+        this.version = version;
+        this.builtAt = builtAt;
+        Map<Long, ProductEntry> productsById = new HashMap<>(products.size() * 2);
+        for (ProductEntry product : products) {
+            productsById.put(product.getProductId(), product);
+        }
+        Map<Long, CustomizationEntry> customizationsById = new HashMap<>(customizations.size() * 2);
+        for (CustomizationEntry customization : customizations) {
+            customizationsById.put(customization.getCustomizationId(), customization);
+        }
+        this.products = Collections.unmodifiableMap(productsById);
+        this.customizations = Collections.unmodifiableMap(customizationsById);
+    }
+
+    /**
+     * @return entri produk, atau null jika produk tidak ada di katalog
+     */
+    public ProductEntry product(Long productId) {
+        return products.get(productId);
+    }
+
+    /**
+     * @return entri kustomisasi, atau null jika kustomisasi tidak ada di katalog
+     */
+    public CustomizationEntry customization(Long customizationId) {
+        return customizations.get(customizationId);
+    }
+
+    /**
+     * Harga, ketersediaan, dan data tampilan satu produk.
+     */
+    @Getter
+    @RequiredArgsConstructor
+    public static final class ProductEntry {
+
+        private final Long productId;
+        private final String name;
+        private final String description;
+        private final String imageUrl;
+        private final Long categoryId;
+        private final String categoryName;
+        private final Money price;
+        private final boolean available;
+
+        public static ProductEntry of(Product product) {
+            return new ProductEntry(
+                    product.getProductId(),
+                    product.getName(),
+                    product.getDescription(),
+                    product.getImageUrl(),
+                    product.getCategory() != null ? product.getCategory().getCategoryId() : null,
+                    product.getCategory() != null ? product.getCategory().getName() : null,
+                    Money.of(product.getPrice()),
+                    product.isAvailable());
+        }
+    }
+
+    /**
+     * Harga dan data tampilan satu kustomisasi.
+     */
+    @Getter
+    @RequiredArgsConstructor
+    public static final class CustomizationEntry {
+
+        private final Long customizationId;
+        private final String name;
+        private final String type;
+        private final String description;
+        private final Money priceAdjustment;
+
+        public static CustomizationEntry of(Customization customization) {
+            return new CustomizationEntry(
+                    customization.getCustomizationId(),
+                    customization.getName(),
+                    customization.getType(),
+                    customization.getDescription(),
+                    Money.of(customization.getPriceAdjustment()));
+        }
+    }
+}
@@ -0,0 +1,105 @@
+package com.proyek.coffeeshop.repository;
+
+import com.proyek.coffeeshop.model.entity.DailyPaymentSales;
+import com.proyek.coffeeshop.repository.projection.OrderTotalsRow;
+import com.proyek.coffeeshop.repository.projection.PaymentMethodSalesRow;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Repository interface untuk rollup DailyPaymentSales.
+ * Menyediakan upsert inkremental, rebuild dari tabel Orders, dan query laporan.
+ * 
+ * @author Coffee Shop Team
+ * @version 1.0
+ */
+@Repository
+public interface DailyPaymentSalesRepository extends JpaRepository<DailyPaymentSales, Long> {
+
+    /**
+     * Menambahkan delta order ke baris rollup, membuat baris baru jika belum ada.
+     * Delta negatif dipakai untuk membatalkan order.
+     *
+     * @param salesDate tanggal order
+     * @param kasirId ID kasir, 0 untuk order tanpa kasir
+     * @param paymentId ID metode pembayaran
+     * @param orderCount delta jumlah order
+     * @param totalAmount delta total pendapatan
+     * @return jumlah baris yang terpengaruh
+     */
+    @Modifying
+    @Query(value = "INSERT INTO DailyPaymentSales (sales_date, kasir_id, payment_id, order_count, total_amount) " +
+                   "VALUES (:salesDate, :kasirId, :paymentId, :orderCount, :totalAmount) " +
+                   "ON DUPLICATE KEY UPDATE order_count = order_count + VALUES(order_count), " +
+                   "total_amount = total_amount + VALUES(total_amount)",
+           nativeQuery = true)
+    int upsert(@Param("salesDate") LocalDate salesDate, @Param("kasirId") Long kasirId,
+               @Param("paymentId") Long paymentId, @Param("orderCount") long orderCount,
+               @Param("totalAmount") BigDecimal totalAmount);
+
+    /**
+     * Menghapus seluruh baris rollup sebelum rebuild.
+     *
+     * @return jumlah baris yang dihapus
+     */
+    @Modifying
+    @Query(value = "DELETE FROM DailyPaymentSales", nativeQuery = true)
+    int deleteAllRows();
+
+    /**
+     * Mengisi ulang rollup dari tabel Orders (order yang dibatalkan tidak dihitung).
+     *
+     * @return jumlah baris rollup yang dibuat
+     */
+    @Modifying
+    @Query(value = "INSERT INTO DailyPaymentSales (sales_date, kasir_id, payment_id, order_count, total_amount) " +
+                   "SELECT DATE(o.order_date), COALESCE(o.processed_by_kasir_id, 0), o.payment_id, " +
+                   "COUNT(*), SUM(o.total_amount) " +
+                   "FROM Orders o WHERE o.status <> 'CANCELLED' " +
+                   "GROUP BY DATE(o.order_date), COALESCE(o.processed_by_kasir_id, 0), o.payment_id",
+           nativeQuery = true)
+    int rebuildFromOrders();
+
+    /**
+     * Menghitung jumlah order dan total pendapatan dalam range tanggal.
+     *
+     * @param startDate tanggal mulai
+     * @param endDate tanggal akhir
+     * @return baris agregat jumlah order dan total pendapatan
+     */
+    @Query("SELECT new com.proyek.coffeeshop.repository.projection.OrderTotalsRow(SUM(r.orderCount), SUM(r.totalAmount)) " +
+           "FROM DailyPaymentSales r WHERE r.salesDate BETWEEN :startDate AND :endDate")
+    OrderTotalsRow summarize(@Param("startDate") LocalDate startDate, @Param("endDate") LocalDate endDate);
+
+    /**
+     * Menghitung jumlah order dan total pendapatan kasir tertentu dalam range tanggal.
+     *
+     * @param kasirId ID kasir
+     * @param startDate tanggal mulai
+     * @param endDate tanggal akhir
+     * @return baris agregat jumlah order dan total pendapatan
+     */
+    @Query("SELECT new com.proyek.coffeeshop.repository.projection.OrderTotalsRow(SUM(r.orderCount), SUM(r.totalAmount)) " +
+           "FROM DailyPaymentSales r WHERE r.kasirId = :kasirId AND r.salesDate BETWEEN :startDate AND :endDate")
+    OrderTotalsRow summarizeByKasir(@Param("kasirId") Long kasirId, @Param("startDate") LocalDate startDate, @Param("endDate") LocalDate endDate);
+
+    /**
+     * Menghitung jumlah order dan total pendapatan per metode pembayaran dalam range tanggal.
+     *
+     * @param startDate tanggal mulai
+     * @param endDate tanggal akhir
+     * @return List baris agregat per metode pembayaran
+     */
+    @Query("SELECT new com.proyek.coffeeshop.repository.projection.PaymentMethodSalesRow(pm.name, SUM(r.orderCount), SUM(r.totalAmount)) " +
+           "FROM DailyPaymentSales r JOIN PaymentMethod pm ON pm.paymentId = r.paymentId " +
+           "WHERE r.salesDate BETWEEN :startDate AND :endDate " +
+           "GROUP BY pm.paymentId, pm.name HAVING SUM(r.orderCount) > 0 ORDER BY pm.name")
+    List<PaymentMethodSalesRow> summarizePaymentMethods(@Param("startDate") LocalDate startDate, @Param("endDate") LocalDate endDate);
+}
@@ -0,0 +1,127 @@
+package com.proyek.coffeeshop.repository;
+
+import com.proyek.coffeeshop.model.entity.DailyProductSales;
+import com.proyek.coffeeshop.repository.projection.ProductSalesRow;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Repository interface untuk rollup DailyProductSales.
+ * Menyediakan upsert inkremental, rebuild dari tabel Orders, dan query laporan.
+ * 
+ * @author Coffee Shop Team
+ * @version 1.0
+ */
+@Repository
+public interface DailyProductSalesRepository extends JpaRepository<DailyProductSales, Long> {
+
+    /**
+     * Menambahkan delta penjualan ke baris rollup, membuat baris baru jika belum ada.
+     * Delta negatif dipakai untuk membatalkan order.
+     *
+     * @param salesDate tanggal order
+     * @param kasirId ID kasir, 0 untuk order tanpa kasir
+     * @param productId ID produk
+     * @param quantity delta quantity
+     * @param revenue delta pendapatan (harga satuan x quantity)
+     * @return jumlah baris yang terpengaruh
+     */
+    @Modifying
+    @Query(value = "INSERT INTO DailyProductSales (sales_date, kasir_id, product_id, quantity_sold, revenue) " +
+                   "VALUES (:salesDate, :kasirId, :productId, :quantity, :revenue) " +
+                   "ON DUPLICATE KEY UPDATE quantity_sold = quantity_sold + VALUES(quantity_sold), " +
+                   "revenue = revenue + VALUES(revenue)",
+           nativeQuery = true)
+    int upsert(@Param("salesDate") LocalDate salesDate, @Param("kasirId") Long kasirId,
+               @Param("productId") Long productId, @Param("quantity") long quantity,
+               @Param("revenue") BigDecimal revenue);
+
+    /**
+     * Menghapus seluruh baris rollup sebelum rebuild.
+     *
+     * @return jumlah baris yang dihapus
+     */
+    @Modifying
+    @Query(value = "DELETE FROM DailyProductSales", nativeQuery = true)
+    int deleteAllRows();
+
+    /**
+     * Mengisi ulang rollup dari tabel Orders dan OrderDetails (order yang dibatalkan tidak dihitung).
+     *
+     * @return jumlah baris rollup yang dibuat
+     */
+    @Modifying
+    @Query(value = "INSERT INTO DailyProductSales (sales_date, kasir_id, product_id, quantity_sold, revenue) " +
+                   "SELECT DATE(o.order_date), COALESCE(o.processed_by_kasir_id, 0), od.product_id, " +
+                   "SUM(od.quantity), SUM(od.unit_price * od.quantity) " +
+                   "FROM Orders o JOIN OrderDetails od ON od.order_id = o.order_id " +
+                   "WHERE o.status <> 'CANCELLED' " +
+                   "GROUP BY DATE(o.order_date), COALESCE(o.processed_by_kasir_id, 0), od.product_id",
+           nativeQuery = true)
+    int rebuildFromOrders();
+
+    /**
+     * Menjumlahkan item terjual dalam range tanggal.
+     *
+     * @param startDate tanggal mulai
+     * @param endDate tanggal akhir
+     * @return total quantity, atau null jika tidak ada baris
+     */
+    @Query("SELECT SUM(r.quantitySold) FROM DailyProductSales r WHERE r.salesDate BETWEEN :startDate AND :endDate")
+    Long sumQuantityBySalesDateBetween(@Param("startDate") LocalDate startDate, @Param("endDate") LocalDate endDate);
+
+    /**
+     * Menjumlahkan item terjual oleh kasir tertentu dalam range tanggal.
+     *
+     * @param kasirId ID kasir
+     * @param startDate tanggal mulai
+     * @param endDate tanggal akhir
+     * @return total quantity, atau null jika tidak ada baris
+     */
+    @Query("SELECT SUM(r.quantitySold) FROM DailyProductSales r " +
+           "WHERE r.kasirId = :kasirId AND r.salesDate BETWEEN :startDate AND :endDate")
+    Long sumQuantityByKasirAndSalesDateBetween(@Param("kasirId") Long kasirId, @Param("startDate") LocalDate startDate, @Param("endDate") LocalDate endDate);
+
+    /**
+     * Mengagregasi penjualan per produk dalam range tanggal, diurutkan dari quantity terbanyak.
+     *
+     * @param startDate tanggal mulai
+     * @param endDate tanggal akhir
+     * @param pageable batas jumlah baris, {@code Pageable.unpaged()} untuk semua produk
+     * @return List baris agregat penjualan per produk
+     */
+    @Query("SELECT new com.proyek.coffeeshop.repository.projection.ProductSalesRow(" +
+           "p.productId, p.name, c.name, SUM(r.quantitySold), p.price, SUM(r.revenue), p.stockQuantity, p.minStockLevel) " +
+           "FROM DailyProductSales r JOIN Product p ON p.productId = r.productId JOIN p.category c " +
+           "WHERE r.salesDate BETWEEN :startDate AND :endDate " +
+           "GROUP BY p.productId, p.name, c.name, p.price, p.stockQuantity, p.minStockLevel " +
+           "HAVING SUM(r.quantitySold) > 0 " +
+           "ORDER BY SUM(r.quantitySold) DESC, p.productId")
+    List<ProductSalesRow> summarizeProductSales(@Param("startDate") LocalDate startDate, @Param("endDate") LocalDate endDate, Pageable pageable);
+
+    /**
+     * Mengagregasi penjualan per produk oleh kasir tertentu dalam range tanggal.
+     *
+     * @param kasirId ID kasir
+     * @param startDate tanggal mulai
+     * @param endDate tanggal akhir
+     * @param pageable batas jumlah baris
+     * @return List baris agregat penjualan per produk
+     */
+    @Query("SELECT new com.proyek.coffeeshop.repository.projection.ProductSalesRow(" +
+           "p.productId, p.name, c.name, SUM(r.quantitySold), p.price, SUM(r.revenue), p.stockQuantity, p.minStockLevel) " +
+           "FROM DailyProductSales r JOIN Product p ON p.productId = r.productId JOIN p.category c " +
+           "WHERE r.kasirId = :kasirId AND r.salesDate BETWEEN :startDate AND :endDate " +
+           "GROUP BY p.productId, p.name, c.name, p.price, p.stockQuantity, p.minStockLevel " +
+           "HAVING SUM(r.quantitySold) > 0 " +
+           "ORDER BY SUM(r.quantitySold) DESC, p.productId")
+    List<ProductSalesRow> summarizeProductSalesByKasir(@Param("kasirId") Long kasirId, @Param("startDate") LocalDate startDate, @Param("endDate") LocalDate endDate, Pageable pageable);
+}
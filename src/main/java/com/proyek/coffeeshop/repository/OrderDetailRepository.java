@@ -2,12 +2,19 @@ package com.proyek.coffeeshop.repository;
 
 import com.proyek.coffeeshop.model.entity.OrderDetail;
 import com.proyek.coffeeshop.model.entity.Order;
+import com.proyek.coffeeshop.repository.projection.OrderExportRow;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.stream.Stream;
 
 /**
  * Repository interface untuk entitas OrderDetail.
@@ -44,4 +51,41 @@ public interface OrderDetailRepository extends JpaRepository<OrderDetail, Long>
      */
     @Query("SELECT od FROM OrderDetail od WHERE od.product.productId = :productId")
     List<OrderDetail> findByProductId(@Param("productId") Long productId);
+
+    /**
+     * Memuat kustomisasi (beserta data Customization) untuk semua detail dari order tertentu.
+     * OrderDetail yang sudah ada di persistence context akan terisi koleksi kustomisasinya,
+     * sehingga mapping ke DTO tidak memicu lazy loading per detail.
+     *
+     * @param orderIds kumpulan ID order
+     * @return List OrderDetail dengan koleksi kustomisasi yang sudah dimuat
+     */
+    @Query("SELECT DISTINCT od FROM OrderDetail od LEFT JOIN FETCH od.customizations odc " +
+           "LEFT JOIN FETCH odc.customization WHERE od.order.orderId IN :orderIds")
+    List<OrderDetail> fetchCustomizationsByOrderIds(@Param("orderIds") Collection<Long> orderIds);
+
+    /**
+     * Membaca item order dalam rentang tanggal sebagai stream forward-only untuk ekspor.
+     * Fetch size Integer.MIN_VALUE membuat MySQL Connector/J mengirim baris satu per satu
+     * alih-alih memuat seluruh result set ke memori. Stream harus dipakai di dalam transaksi
+     * dan ditutup setelah selesai.
+     *
+     * @param startDate awal rentang (inklusif)
+     * @param endDate akhir rentang (eksklusif)
+     * @return stream baris ekspor terurut berdasarkan tanggal dan ID order
+     */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "" + Integer.MIN_VALUE),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "false")
+    })
+    @Query("SELECT new com.proyek.coffeeshop.repository.projection.OrderExportRow(" +
+           "o.orderId, o.orderDate, o.status, c.fullName, k.username, pm.name, o.totalAmount, " +
+           "od.detailId, p.productId, p.name, od.quantity, od.unitPrice, od.subtotalPrice) " +
+           "FROM OrderDetail od JOIN od.order o JOIN od.product p JOIN o.paymentMethod pm " +
+           "LEFT JOIN o.customer c LEFT JOIN o.processedByKasir k " +
+           "WHERE o.orderDate >= :startDate AND o.orderDate < :endDate " +
+           "ORDER BY o.orderDate, o.orderId, od.detailId")
+    Stream<OrderExportRow> streamExportRows(@Param("startDate") LocalDateTime startDate,
+                                            @Param("endDate") LocalDateTime endDate);
 }
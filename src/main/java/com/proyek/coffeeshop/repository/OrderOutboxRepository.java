@@ -0,0 +1,101 @@
+package com.proyek.coffeeshop.repository;
+
+import com.proyek.coffeeshop.model.entity.OrderOutboxEvent;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Repository interface untuk entitas OrderOutboxEvent.
+ * Dispatcher berjalan di luar transaksi order, sehingga method yang mengubah data
+ * membuka transaksinya sendiri.
+ * 
+ * @author Coffee Shop Team
+ * @version 1.0
+ */
+@Repository
+public interface OrderOutboxRepository extends JpaRepository<OrderOutboxEvent, Long> {
+
+    /**
+     * Mengambil satu batch event yang belum terkirim dan tidak diparkir, diurutkan dari yang paling lama.
+     * Memakai index (dispatched_at, parked_at, event_id) sehingga tidak memindai event yang sudah
+     * terkirim atau diparkir.
+     *
+     * @param pageable ukuran batch
+     * @return batch event
+     */
+    @Query("SELECT e FROM OrderOutboxEvent e WHERE e.dispatchedAt IS NULL AND e.parkedAt IS NULL ORDER BY e.eventId")
+    List<OrderOutboxEvent> findPending(Pageable pageable);
+
+    /**
+     * Menghitung event yang belum terkirim dan tidak diparkir (lag consumer).
+     *
+     * @return jumlah event
+     */
+    long countByDispatchedAtIsNullAndParkedAtIsNull();
+
+    /**
+     * Mencari order yang sudah punya event terparkir di antara order yang diberikan.
+     *
+     * @param orderIds ID order
+     * @return ID order dengan event terparkir
+     */
+    @Query("SELECT DISTINCT e.orderId FROM OrderOutboxEvent e WHERE e.parkedAt IS NOT NULL AND e.orderId IN :orderIds")
+    List<Long> findParkedOrderIds(@Param("orderIds") Collection<Long> orderIds);
+
+    /**
+     * Menandai event sebagai terkirim ke semua listener.
+     *
+     * @param eventIds ID event
+     * @param now waktu pengiriman
+     * @return jumlah baris yang diubah
+     */
+    @Transactional
+    @Modifying
+    @Query("UPDATE OrderOutboxEvent e SET e.dispatchedAt = :now WHERE e.eventId IN :eventIds")
+    int markDispatched(@Param("eventIds") Collection<Long> eventIds, @Param("now") LocalDateTime now);
+
+    /**
+     * Menambah jumlah percobaan untuk event yang gagal dikirim.
+     *
+     * @param eventIds ID event
+     * @return jumlah baris yang diubah
+     */
+    @Transactional
+    @Modifying
+    @Query("UPDATE OrderOutboxEvent e SET e.attempts = e.attempts + 1 WHERE e.eventId IN :eventIds")
+    int incrementAttempts(@Param("eventIds") Collection<Long> eventIds);
+
+    /**
+     * Memarkir event sehingga tidak dibaca lagi oleh dispatcher.
+     *
+     * @param eventIds ID event
+     * @param now waktu parkir
+     * @return jumlah baris yang diubah
+     */
+    @Transactional
+    @Modifying
+    @Query("UPDATE OrderOutboxEvent e SET e.parkedAt = :now WHERE e.eventId IN :eventIds")
+    int park(@Param("eventIds") Collection<Long> eventIds, @Param("now") LocalDateTime now);
+
+    /**
+     * Menghapus satu batch event yang sudah terkirim sebelum batas waktu.
+     *
+     * @param cutoff batas waktu pengiriman
+     * @param batchSize jumlah baris maksimum
+     * @return jumlah baris yang dihapus
+     */
+    @Transactional
+    @Modifying
+    @Query(value = "DELETE FROM OrderOutbox WHERE dispatched_at < :cutoff ORDER BY dispatched_at LIMIT :batchSize",
+           nativeQuery = true)
+    int deleteDispatchedBefore(@Param("cutoff") LocalDateTime cutoff, @Param("batchSize") int batchSize);
+}
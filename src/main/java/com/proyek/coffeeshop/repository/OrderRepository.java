@@ -3,15 +3,20 @@ package com.proyek.coffeeshop.repository;
 import com.proyek.coffeeshop.model.entity.Order;
 import com.proyek.coffeeshop.model.entity.Customer;
 import com.proyek.coffeeshop.model.enums.OrderStatus;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 /**
  * Repository interface untuk entitas Order.
@@ -58,6 +63,16 @@ public interface OrderRepository extends JpaRepository<Order, Long> {
     @Query("SELECT o FROM Order o WHERE o.customer.user.username = :username ORDER BY o.orderDate DESC")
     List<Order> findByCustomerUsername(@Param("username") String username);
 
+    /**
+     * Mencari order beserta seluruh detailnya berdasarkan username customer.
+     *
+     * @param username username customer
+     * @return List Order lengkap milik customer dengan username tertentu
+     */
+    @EntityGraph(Order.GRAPH_WITH_DETAILS)
+    @Query("SELECT o FROM Order o WHERE o.customer.user.username = :username ORDER BY o.orderDate DESC")
+    List<Order> findWithDetailsByCustomerUsername(@Param("username") String username);
+
     /**
      * Mencari order berdasarkan status.
      *
@@ -75,6 +90,19 @@ public interface OrderRepository extends JpaRepository<Order, Long> {
      */
     Page<Order> findByStatus(OrderStatus status, Pageable pageable);
 
+    /**
+     * Mencari ID order berdasarkan status dengan pagination.
+     * Tahap pertama dari pagination dua fase: halaman ID dipotong di database dengan
+     * urutan (order_date, order_id) menurun yang deterministik, lalu graph order dimuat dengan {@link #findWithDetailsByOrderIdIn(Collection)}.
+     *
+     * @param status status order yang dicari
+     * @param pageable informasi pagination
+     * @return Page ID order dengan status tertentu
+     */
+    @Query(value = "SELECT o.orderId FROM Order o WHERE o.status = :status ORDER BY o.orderDate DESC, o.orderId DESC",
+            countQuery = "SELECT COUNT(o) FROM Order o WHERE o.status = :status")
+    Page<Long> findOrderIdsByStatus(@Param("status") OrderStatus status, Pageable pageable);
+
     /**
      * Mencari order berdasarkan range tanggal.
      *
@@ -85,6 +113,17 @@ public interface OrderRepository extends JpaRepository<Order, Long> {
     @Query("SELECT o FROM Order o WHERE o.orderDate BETWEEN :startDate AND :endDate ORDER BY o.orderDate DESC")
     List<Order> findByOrderDateBetween(@Param("startDate") LocalDateTime startDate, @Param("endDate") LocalDateTime endDate);
 
+    /**
+     * Mencari order beserta seluruh detailnya berdasarkan range tanggal.
+     *
+     * @param startDate tanggal mulai
+     * @param endDate tanggal akhir
+     * @return List Order lengkap dalam range tanggal tertentu
+     */
+    @EntityGraph(Order.GRAPH_WITH_DETAILS)
+    @Query("SELECT o FROM Order o WHERE o.orderDate BETWEEN :startDate AND :endDate ORDER BY o.orderDate DESC")
+    List<Order> findWithDetailsByOrderDateBetween(@Param("startDate") LocalDateTime startDate, @Param("endDate") LocalDateTime endDate);
+
     /**
      * Mencari semua order dengan pagination dan sorting berdasarkan tanggal terbaru.
      *
@@ -92,7 +131,129 @@ public interface OrderRepository extends JpaRepository<Order, Long> {
      * @return Page Order diurutkan berdasarkan tanggal terbaru
      */
     @Query("SELECT o FROM Order o ORDER BY o.orderDate DESC")
-    Page<Order> findAllOrderByDateDesc(Pageable pageable);    /**
+    Page<Order> findAllOrderByDateDesc(Pageable pageable);
+
+    /**
+     * Mencari ID semua order dengan pagination, diurutkan berdasarkan tanggal terbaru.
+     * Tahap pertama dari pagination dua fase, lihat {@link #findOrderIdsByStatus(OrderStatus, Pageable)}.
+     *
+     * @param pageable informasi pagination
+     * @return Page ID order diurutkan berdasarkan tanggal terbaru
+     */
+    @Query(value = "SELECT o.orderId FROM Order o ORDER BY o.orderDate DESC, o.orderId DESC",
+            countQuery = "SELECT COUNT(o) FROM Order o")
+    Page<Long> findOrderIdsByDateDesc(Pageable pageable);
+
+    /**
+     * Halaman pertama keyset pagination: ID order terbaru, tanpa count query.
+     *
+     * @param limit jumlah baris (gunakan ukuran halaman + 1 untuk mendeteksi halaman berikutnya)
+     * @return ID order diurutkan dari (order_date, order_id) terbesar
+     */
+    @Query("SELECT o.orderId FROM Order o ORDER BY o.orderDate DESC, o.orderId DESC")
+    List<Long> findFirstOrderIds(Pageable limit);
+
+    /**
+     * Halaman berikutnya keyset pagination: ID order yang posisinya setelah cursor.
+     * Predikat ditulis dengan batas atas order_date terpisah agar MySQL bisa memakai
+     * range scan pada index (order_date, order_id).
+     *
+     * @param orderDate order_date dari order terakhir halaman sebelumnya
+     * @param orderId order_id dari order terakhir halaman sebelumnya
+     * @param limit jumlah baris
+     * @return ID order setelah cursor
+     */
+    @Query("SELECT o.orderId FROM Order o " +
+           "WHERE o.orderDate <= :orderDate AND (o.orderDate < :orderDate OR o.orderId < :orderId) " +
+           "ORDER BY o.orderDate DESC, o.orderId DESC")
+    List<Long> findOrderIdsBefore(@Param("orderDate") LocalDateTime orderDate,
+                                  @Param("orderId") Long orderId,
+                                  Pageable limit);
+
+    /**
+     * Halaman pertama keyset pagination untuk status tertentu.
+     *
+     * @param status status order
+     * @param limit jumlah baris
+     * @return ID order diurutkan dari (order_date, order_id) terbesar
+     */
+    @Query("SELECT o.orderId FROM Order o WHERE o.status = :status ORDER BY o.orderDate DESC, o.orderId DESC")
+    List<Long> findFirstOrderIdsByStatus(@Param("status") OrderStatus status, Pageable limit);
+
+    /**
+     * Halaman berikutnya keyset pagination untuk status tertentu,
+     * memakai index (status, order_date, order_id).
+     *
+     * @param status status order
+     * @param orderDate order_date dari order terakhir halaman sebelumnya
+     * @param orderId order_id dari order terakhir halaman sebelumnya
+     * @param limit jumlah baris
+     * @return ID order setelah cursor
+     */
+    @Query("SELECT o.orderId FROM Order o WHERE o.status = :status " +
+           "AND o.orderDate <= :orderDate AND (o.orderDate < :orderDate OR o.orderId < :orderId) " +
+           "ORDER BY o.orderDate DESC, o.orderId DESC")
+    List<Long> findOrderIdsByStatusBefore(@Param("status") OrderStatus status,
+                                          @Param("orderDate") LocalDateTime orderDate,
+                                          @Param("orderId") Long orderId,
+                                          Pageable limit);
+
+    /**
+     * Memuat order beserta seluruh detailnya berdasarkan kumpulan ID.
+     *
+     * @param orderIds kumpulan ID order
+     * @return List Order lengkap (urutan tidak dijamin)
+     */
+    @EntityGraph(Order.GRAPH_WITH_DETAILS)
+    @Query("SELECT o FROM Order o WHERE o.orderId IN :orderIds")
+    List<Order> findWithDetailsByOrderIdIn(@Param("orderIds") Collection<Long> orderIds);
+
+    /**
+     * Mengambil order dengan status tertentu sejak waktu tertentu beserta detailnya,
+     * untuk mengisi papan dapur saat layar pertama terhubung.
+     *
+     * @param statuses status order yang ditampilkan
+     * @param since batas awal tanggal order
+     * @return List order terurut dari yang paling lama
+     */
+    @EntityGraph(Order.GRAPH_WITH_DETAILS)
+    @Query("SELECT o FROM Order o WHERE o.status IN :statuses AND o.orderDate >= :since " +
+           "ORDER BY o.orderDate, o.orderId")
+    List<Order> findWithDetailsByStatusInSince(@Param("statuses") Collection<OrderStatus> statuses,
+                                               @Param("since") LocalDateTime since);
+
+    /**
+     * Mengunci baris order (SELECT ... FOR UPDATE) sampai transaksi selesai.
+     * Hanya baris Orders yang dikunci; detail dimuat sesudahnya dengan
+     * {@link #findWithDetailsById(Long)} agar baris produk tidak ikut terkunci.
+     *
+     * @param orderId ID order
+     * @return Optional Order yang sudah terkunci
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT o FROM Order o WHERE o.orderId = :orderId")
+    Optional<Order> lockById(@Param("orderId") Long orderId);
+
+    /**
+     * Membaca status order terkini tanpa memuat entitas order.
+     *
+     * @param orderId ID order
+     * @return Optional status order jika ditemukan
+     */
+    @Query("SELECT o.status FROM Order o WHERE o.orderId = :orderId")
+    Optional<OrderStatus> findStatusById(@Param("orderId") Long orderId);
+
+    /**
+     * Memuat satu order beserta seluruh detailnya.
+     *
+     * @param orderId ID order
+     * @return Optional Order lengkap jika ditemukan
+     */
+    @EntityGraph(Order.GRAPH_WITH_DETAILS)
+    @Query("SELECT o FROM Order o WHERE o.orderId = :orderId")
+    Optional<Order> findWithDetailsById(@Param("orderId") Long orderId);
+
+    /**
      * Mencari order berdasarkan kasir ID dan range tanggal.
      *
      * @param kasirId ID kasir yang memproses order
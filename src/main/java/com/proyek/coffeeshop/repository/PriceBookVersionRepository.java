@@ -0,0 +1,24 @@
+package com.proyek.coffeeshop.repository;
+
+import com.proyek.coffeeshop.model.entity.PriceBookVersion;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+/**
+ * Repository interface untuk entitas PriceBookVersion.
+ * 
+ * @author Coffee Shop Team
+ * @version 1.0
+ */
+@Repository
+public interface PriceBookVersionRepository extends JpaRepository<PriceBookVersion, Long> {
+
+    /**
+     * Mengambil versi price book terakhir yang tersimpan.
+     *
+     * @return versi terbaru, kosong jika belum pernah dibuat
+     */
+    Optional<PriceBookVersion> findTopByOrderByVersionIdDesc();
+}
@@ -5,11 +5,13 @@ import com.proyek.coffeeshop.model.entity.Category;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.math.BigDecimal;
+import java.util.Collection;
 import java.util.List;
 
 /**
@@ -48,6 +50,24 @@ public interface ProductRepository extends JpaRepository<Product, Long> {
     @Query("SELECT p FROM Product p WHERE p.category.categoryId = :categoryId")
     List<Product> findByCategoryId(@Param("categoryId") Long categoryId);
 
+    /**
+     * Mencari produk berdasarkan kumpulan ID sekaligus memuat kategorinya.
+     * Digunakan saat pembuatan order agar semua item di-resolve dalam satu query.
+     *
+     * @param productIds kumpulan ID produk
+     * @return List Product beserta kategorinya
+     */
+    @Query("SELECT p FROM Product p JOIN FETCH p.category WHERE p.productId IN :productIds")
+    List<Product> findAllWithCategoryByIdIn(@Param("productIds") Collection<Long> productIds);
+
+    /**
+     * Mencari semua produk beserta kategorinya dalam satu query, diurutkan berdasarkan ID.
+     *
+     * @return List semua Product dengan kategori yang sudah dimuat
+     */
+    @Query("SELECT p FROM Product p JOIN FETCH p.category ORDER BY p.productId")
+    List<Product> findAllWithCategory();
+
     /**
      * Mencari produk berdasarkan nama (contains, case insensitive).
      *
@@ -99,4 +119,37 @@ public interface ProductRepository extends JpaRepository<Product, Long> {
      * @return List Product dengan status available tertentu
      */
     List<Product> findByAvailable(Boolean available);
+
+    /**
+     * Mengurangi stok produk secara atomik hanya jika stok mencukupi.
+     * Kondisi dan pengurangan dijalankan dalam satu UPDATE sehingga hanya baris produk
+     * tersebut yang terkunci dan tidak ada read-modify-write yang bisa menjual melebihi stok.
+     * Kolom available di-set lebih dulu karena MySQL mengevaluasi SET dari kiri ke kanan.
+     *
+     * @param productId ID produk
+     * @param quantity jumlah yang dikurangi
+     * @return 1 jika berhasil, 0 jika stok tidak mencukupi
+     */
+    @Modifying
+    @Query("UPDATE Product p SET " +
+           "p.available = CASE WHEN p.stockQuantity - :quantity > 0 THEN p.available ELSE false END, " +
+           "p.stockQuantity = p.stockQuantity - :quantity " +
+           "WHERE p.productId = :productId AND p.stockQuantity >= :quantity")
+    int decrementStock(@Param("productId") Long productId, @Param("quantity") int quantity);
+
+    /**
+     * Mengembalikan stok produk (reservasi yang dilepas).
+     * Produk yang tadinya habis otomatis tersedia lagi; available di-set sebelum
+     * stockQuantity karena MySQL mengevaluasi SET dari kiri ke kanan.
+     *
+     * @param productId ID produk
+     * @param quantity jumlah yang dikembalikan
+     * @return jumlah baris yang berubah
+     */
+    @Modifying
+    @Query("UPDATE Product p SET " +
+           "p.available = CASE WHEN p.stockQuantity = 0 THEN true ELSE p.available END, " +
+           "p.stockQuantity = p.stockQuantity + :quantity " +
+           "WHERE p.productId = :productId")
+    int incrementStock(@Param("productId") Long productId, @Param("quantity") int quantity);
 }
@@ -0,0 +1,91 @@
+package com.proyek.coffeeshop.repository;
+
+import com.proyek.coffeeshop.model.entity.StockReservation;
+import com.proyek.coffeeshop.model.enums.ReservationStatus;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Repository interface untuk entitas StockReservation.
+ * Perubahan status dilakukan dengan conditional update agar konfirmasi pembayaran,
+ * pembatalan, dan sweeper tidak pernah memproses reservasi yang sama dua kali.
+ * 
+ * @author Coffee Shop Team
+ * @version 1.0
+ */
+@Repository
+public interface StockReservationRepository extends JpaRepository<StockReservation, Long> {
+
+    /**
+     * Mengambil reservasi milik satu order dengan status tertentu.
+     *
+     * @param orderId ID order
+     * @param status status reservasi
+     * @return daftar reservasi
+     */
+    @Query("SELECT r FROM StockReservation r JOIN FETCH r.product " +
+           "WHERE r.order.orderId = :orderId AND r.status = :status " +
+           "ORDER BY r.product.productId")
+    List<StockReservation> findByOrderIdAndStatus(@Param("orderId") Long orderId,
+                                                  @Param("status") ReservationStatus status);
+
+    /**
+     * Mengecek apakah order memiliki reservasi (order lama atau order kasir tidak punya).
+     *
+     * @param orderId ID order
+     * @return true jika ada reservasi
+     */
+    boolean existsByOrderOrderId(Long orderId);
+
+    /**
+     * Mengambil satu batch ID order yang reservasi HELD-nya sudah kedaluwarsa,
+     * diurutkan dari yang paling lama. Batch dihitung per order, bukan per reservasi,
+     * sehingga sweeper selalu melepas seluruh reservasi sebuah order sekaligus.
+     * Memakai index (status, expires_at) sehingga tidak memindai seluruh tabel.
+     *
+     * @param status status reservasi (HELD)
+     * @param now batas waktu
+     * @param pageable ukuran batch (jumlah order)
+     * @return batch ID order dengan reservasi kedaluwarsa
+     */
+    @Query("SELECT r.order.orderId FROM StockReservation r " +
+           "WHERE r.status = :status AND r.expiresAt <= :now " +
+           "GROUP BY r.order.orderId " +
+           "ORDER BY MIN(r.expiresAt), r.order.orderId")
+    List<Long> findExpiringOrderIds(@Param("status") ReservationStatus status,
+                                    @Param("now") LocalDateTime now,
+                                    Pageable pageable);
+
+    /**
+     * Mengubah status semua reservasi HELD milik order (konfirmasi pembayaran).
+     *
+     * @return jumlah reservasi yang berubah status
+     */
+    @Modifying
+    @Query("UPDATE StockReservation r SET r.status = :to, r.resolvedAt = :now " +
+           "WHERE r.order.orderId = :orderId AND r.status = :from")
+    int transitionByOrderId(@Param("orderId") Long orderId,
+                            @Param("from") ReservationStatus from,
+                            @Param("to") ReservationStatus to,
+                            @Param("now") LocalDateTime now);
+
+    /**
+     * Mengubah status satu reservasi hanya jika statusnya masih sesuai.
+     *
+     * @return 1 jika berhasil, 0 jika reservasi sudah diproses transaksi lain
+     */
+    @Modifying
+    @Query("UPDATE StockReservation r SET r.status = :to, r.resolvedAt = :now " +
+           "WHERE r.reservationId = :reservationId AND r.status = :from")
+    int transition(@Param("reservationId") Long reservationId,
+                   @Param("from") ReservationStatus from,
+                   @Param("to") ReservationStatus to,
+                   @Param("now") LocalDateTime now);
+}
@@ -2,6 +2,7 @@ package com.proyek.coffeeshop.repository;
 
 import com.proyek.coffeeshop.model.entity.User;
 import com.proyek.coffeeshop.model.enums.UserRole;
+import com.proyek.coffeeshop.repository.projection.UserPrincipalRow;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -27,6 +28,17 @@ public interface UserRepository extends JpaRepository<User, Long> {
      */
     Optional<User> findByUsername(String username);
 
+    /**
+     * Mengambil data identitas user dan ID customer-nya dalam satu query untuk autentikasi.
+     *
+     * @param username username yang dicari
+     * @return Optional data identitas jika user ditemukan
+     */
+    @Query("SELECT new com.proyek.coffeeshop.repository.projection.UserPrincipalRow(" +
+           "u.userId, u.username, u.password, u.email, u.role, c.customerId) " +
+           "FROM User u LEFT JOIN u.customer c WHERE u.username = :username")
+    Optional<UserPrincipalRow> findPrincipalByUsername(@Param("username") String username);
+
     /**
      * Mencari user berdasarkan email.
      *
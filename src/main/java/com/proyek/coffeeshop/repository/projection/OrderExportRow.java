@@ -0,0 +1,35 @@
+package com.proyek.coffeeshop.repository.projection;
+
+import com.proyek.coffeeshop.model.enums.OrderStatus;
+import com.proyek.coffeeshop.model.value.Money;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * Satu baris ekspor order: satu item order beserta data header order-nya.
+ * Diisi langsung oleh constructor expression JPQL, bukan entitas terkelola,
+ * sehingga persistence context tidak bertambah besar selama ekspor berjalan.
+ *
+ * @author Coffee Shop Team
+ * @version 1.0
+ */
+@Getter
+@AllArgsConstructor
+public class OrderExportRow {
+
+    private final Long orderId;
+    private final LocalDateTime orderDate;
+    private final OrderStatus status;
+    private final String customerName;
+    private final String kasirUsername;
+    private final String paymentMethod;
+    private final Money orderTotal;
+    private final Long detailId;
+    private final Long productId;
+    private final String productName;
+    private final Integer quantity;
+    private final Money unitPrice;
+    private final Money subtotalPrice;
+}
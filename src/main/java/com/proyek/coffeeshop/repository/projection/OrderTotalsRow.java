@@ -0,0 +1,35 @@
+package com.proyek.coffeeshop.repository.projection;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.math.BigDecimal;
+
+/**
+ * Baris hasil agregasi jumlah order dan total pendapatan.
+ * Diisi langsung oleh constructor expression JPQL, bukan entitas terkelola.
+ *
+ * @author Coffee Shop Team
+ * @version 1.0
+ */
+@Getter
+@AllArgsConstructor
+public class OrderTotalsRow {
+
+    private final Long orderCount;
+    private final BigDecimal totalRevenue;
+
+    /**
+     * Jumlah order, nol jika tidak ada baris (SUM menghasilkan NULL).
+     */
+    public Long getOrderCount() {
+        return orderCount != null ? orderCount : 0L;
+    }
+
+    /**
+     * Total pendapatan, nol jika tidak ada order (SUM menghasilkan NULL).
+     */
+    public BigDecimal getTotalRevenue() {
+        return totalRevenue != null ? totalRevenue : BigDecimal.ZERO;
+    }
+}
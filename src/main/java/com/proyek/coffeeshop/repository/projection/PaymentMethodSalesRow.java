@@ -0,0 +1,22 @@
+package com.proyek.coffeeshop.repository.projection;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.math.BigDecimal;
+
+/**
+ * Baris hasil agregasi order per metode pembayaran.
+ * Diisi langsung oleh constructor expression JPQL, bukan entitas terkelola.
+ *
+ * @author Coffee Shop Team
+ * @version 1.0
+ */
+@Getter
+@AllArgsConstructor
+public class PaymentMethodSalesRow {
+
+    private final String paymentMethodName;
+    private final Long orderCount;
+    private final BigDecimal totalRevenue;
+}
@@ -0,0 +1,35 @@
+package com.proyek.coffeeshop.repository.projection;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.math.BigDecimal;
+
+/**
+ * Baris hasil agregasi penjualan per produk.
+ * Diisi langsung oleh constructor expression JPQL, bukan entitas terkelola.
+ *
+ * @author Coffee Shop Team
+ * @version 1.0
+ */
+@Getter
+@AllArgsConstructor
+public class ProductSalesRow {
+
+    private final Long productId;
+    private final String productName;
+    private final String categoryName;
+    private final Long quantitySold;
+    private final BigDecimal unitPrice;
+    private final BigDecimal totalRevenue;
+    private final Integer stockQuantity;
+    private final Integer minStockLevel;
+
+    /**
+     * Mengecek apakah stok produk berada di bawah atau sama dengan batas minimum.
+     * Logika sama dengan {@code Product#isLowStock()}.
+     */
+    public boolean isLowStock() {
+        return stockQuantity <= minStockLevel;
+    }
+}
@@ -0,0 +1,25 @@
+package com.proyek.coffeeshop.repository.projection;
+
+import com.proyek.coffeeshop.model.enums.UserRole;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Data identitas satu user beserta ID customer-nya (null untuk admin dan kasir).
+ * Diisi oleh constructor expression JPQL dengan LEFT JOIN ke Customers, sehingga
+ * autentikasi cukup satu query dan tidak memuat relasi one-to-one User-Customer.
+ *
+ * @author Coffee Shop Team
+ * @version 1.0
+ */
+@Getter
+@AllArgsConstructor
+public class UserPrincipalRow {
+
+    private final Long userId;
+    private final String username;
+    private final String password;
+    private final String email;
+    private final UserRole role;
+    private final Long customerId;
+}
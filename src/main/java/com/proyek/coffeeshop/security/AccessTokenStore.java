@@ -0,0 +1,126 @@
+package com.proyek.coffeeshop.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.HexFormat;
+import java.util.Optional;
+
+/**
+ * Penyimpanan sesi in-memory untuk access token opaque.
+ * Token adalah 256 bit acak (base64url) yang hanya dikirim ke client; store menyimpan hash SHA-256-nya,
+ * sehingga isi memori tidak bisa dipakai langsung sebagai token. Validasi hanya berupa hash dan
+ * lookup di map konkuren, jauh lebih murah daripada BCrypt yang dijalankan HTTP Basic di setiap request.
+ * Jumlah sesi dibatasi {@code max-sessions} dan setiap sesi kedaluwarsa setelah {@code ttl};
+ * sesi hilang bila aplikasi restart sehingga client perlu login ulang.
+ * 
+ * @author Coffee Shop Team
+ * @version 1.0
+ */
+@Slf4j
+@Component
+public class AccessTokenStore {
+
+    private static final int TOKEN_BYTES = 32;
+
+    private final SecureRandom secureRandom = new SecureRandom();
+    private final Cache<String, Session> sessions;
+    private final Duration ttl;
+
+    public AccessTokenStore(@Value("${coffeeshop.auth.token.ttl:8h}") Duration ttl,
+                            @Value("${coffeeshop.auth.token.max-sessions:100000}") long maxSessions,
+                            ObjectProvider<MeterRegistry> meterRegistries) {
+        this.ttl = ttl;
+        this.sessions = Caffeine.newBuilder()
+                .maximumSize(maxSessions)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistries.getIfAvailable(() -> Metrics.globalRegistry),
+                sessions, "accessTokens");
+    }
+
+    /**
+     * Membuat sesi baru untuk user yang sudah diverifikasi passwordnya.
+     *
+     * @param username username pemilik sesi
+     * @return token beserta waktu kedaluwarsanya
+     */
+    public IssuedToken issue(String username) {
+        byte[] random = new byte[TOKEN_BYTES];
+        secureRandom.nextBytes(random);
+        String token = Base64.getUrlEncoder().withoutPadding().encodeToString(random);
+
+        Instant expiresAt = Instant.now().plus(ttl);
+        sessions.put(hash(token), new Session(username, expiresAt));
+        return new IssuedToken(token, expiresAt, ttl);
+    }
+
+    /**
+     * Mencari username pemilik token yang masih berlaku.
+     *
+     * @param token token dari header Authorization
+     * @return username, kosong jika token tidak dikenal, sudah dicabut, atau kedaluwarsa
+     */
+    public Optional<String> resolve(String token) {
+        Session session = sessions.getIfPresent(hash(token));
+        if (session == null || session.getExpiresAt().isBefore(Instant.now())) {
+            return Optional.empty();
+        }
+        return Optional.of(session.getUsername());
+    }
+
+    /**
+     * Mencabut satu token (logout).
+     *
+     * @param token token yang dicabut
+     */
+    public void revoke(String token) {
+        sessions.invalidate(hash(token));
+    }
+
+    private static String hash(String token) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(token.getBytes(StandardCharsets.US_ASCII)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 tidak tersedia", e);
+        }
+    }
+
+    @Getter
+    @RequiredArgsConstructor
+    private static final class Session {
+
+        private final String username;
+        private final Instant expiresAt;
+    }
+
+    /**
+     * Token yang baru diterbitkan; nilai token hanya tersedia di sini dan tidak disimpan.
+     */
+    @Getter
+    @RequiredArgsConstructor
+    public static final class IssuedToken {
+
+        private final String token;
+        private final Instant expiresAt;
+        private final Duration ttl;
+    }
+}
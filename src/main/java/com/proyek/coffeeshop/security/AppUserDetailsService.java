@@ -0,0 +1,31 @@
+package com.proyek.coffeeshop.security;
+
+import org.springframework.security.core.userdetails.UserDetailsService;
+
+import java.util.Optional;
+
+/**
+ * UserDetailsService yang menghasilkan {@link AppUserPrincipal} dan menyimpannya di cache user.
+ * Cache yang sama dipakai oleh authentication provider, sehingga principal yang dimuat
+ * saat autentikasi langsung bisa dibaca oleh service tanpa query ulang.
+ * 
+ * @author Coffee Shop Team
+ * @version 1.0
+ */
+public interface AppUserDetailsService extends UserDetailsService {
+
+    /**
+     * Mendapatkan principal user dari cache, atau dari database jika belum ada di cache.
+     *
+     * @param username username user
+     * @return Optional principal, kosong jika user tidak ditemukan
+     */
+    Optional<AppUserPrincipal> findPrincipal(String username);
+
+    /**
+     * Menghapus principal user dari cache setelah data user atau customer-nya berubah.
+     *
+     * @param username username user
+     */
+    void evict(String username);
+}
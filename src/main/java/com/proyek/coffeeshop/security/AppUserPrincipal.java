@@ -0,0 +1,74 @@
+package com.proyek.coffeeshop.security;
+
+import com.proyek.coffeeshop.model.enums.UserRole;
+import com.proyek.coffeeshop.repository.projection.UserPrincipalRow;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.ToString;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Principal hasil autentikasi yang membawa identitas lengkap pemanggil:
+ * ID user, role, dan ID customer (untuk customer) atau ID kasir (untuk kasir).
+ * Disimpan di cache user sehingga service tidak perlu mencari user dan customer
+ * ke database di setiap request.
+ * Sengaja tidak mengimplementasikan {@code CredentialsContainer}: objek yang sama dipakai
+ * ulang dari cache, sehingga hash password tidak boleh dihapus setelah autentikasi.
+ * 
+ * @author Coffee Shop Team
+ * @version 1.0
+ */
+@Getter
+@ToString(exclude = "password")
+@EqualsAndHashCode(of = "userId")
+public class AppUserPrincipal implements UserDetails {
+
+    private final Long userId;
+    private final String username;
+    private final String password;
+    private final String email;
+    private final UserRole role;
+    private final Long customerId;
+    private final List<GrantedAuthority> authorities;
+
+    public AppUserPrincipal(Long userId, String username, String password, String email,
+                            UserRole role, Long customerId) {
+        this.userId = userId;
+        this.username = username;
+        this.password = password;
+        this.email = email;
+        this.role = role;
+        this.customerId = customerId;
+        this.authorities = List.of(new SimpleGrantedAuthority(role.name()));
+    }
+
+    public static AppUserPrincipal of(UserPrincipalRow row) {
+        return new AppUserPrincipal(row.getUserId(), row.getUsername(), row.getPassword(), row.getEmail(),
+                row.getRole(), row.getCustomerId());
+    }
+
+    @Override
+    public Collection<? extends GrantedAuthority> getAuthorities() {
+        return authorities;
+    }
+
+    public boolean isCustomer() {
+        return role == UserRole.ROLE_CUSTOMER;
+    }
+
+    public boolean isKasir() {
+        return role == UserRole.ROLE_KASIR;
+    }
+
+    /**
+     * @return ID user kasir, atau null jika principal bukan kasir
+     */
+    public Long getKasirId() {
+        return isKasir() ? userId : null;
+    }
+}
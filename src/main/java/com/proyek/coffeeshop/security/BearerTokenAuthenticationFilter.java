@@ -0,0 +1,89 @@
+package com.proyek.coffeeshop.security;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
+import org.springframework.security.web.context.RequestAttributeSecurityContextRepository;
+import org.springframework.security.web.context.SecurityContextRepository;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.Optional;
+
+/**
+ * Filter autentikasi untuk header {@code Authorization: Bearer <token>}.
+ * Token divalidasi terhadap {@link AccessTokenStore} dan principal diambil dari cache user,
+ * sehingga request dengan token tidak menjalankan BCrypt maupun query database.
+ * Request tanpa header Bearer diteruskan apa adanya agar HTTP Basic tetap bisa dipakai
+ * sebagai fallback; token yang tidak valid langsung ditolak dengan 401.
+ * Security context juga disimpan sebagai atribut request, sehingga dispatch ASYNC
+ * (SSE dan StreamingResponseBody) yang tidak melewati filter ini tetap terautentikasi.
+ * Tidak didaftarkan sebagai bean agar tidak ikut terpasang sebagai servlet filter biasa;
+ * instance dibuat di {@code SecurityConfig} dan hanya berjalan di dalam security filter chain.
+ * 
+ * @author Coffee Shop Team
+ * @version 1.0
+ */
+public class BearerTokenAuthenticationFilter extends OncePerRequestFilter {
+
+    private static final String BEARER_PREFIX = "Bearer ";
+
+    private final AccessTokenStore accessTokenStore;
+    private final AppUserDetailsService userDetailsService;
+    private final WebAuthenticationDetailsSource detailsSource = new WebAuthenticationDetailsSource();
+    private final SecurityContextRepository securityContextRepository = new RequestAttributeSecurityContextRepository();
+
+    public BearerTokenAuthenticationFilter(AccessTokenStore accessTokenStore,
+                                           AppUserDetailsService userDetailsService) {
+        this.accessTokenStore = accessTokenStore;
+        this.userDetailsService = userDetailsService;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        String token = resolveToken(request);
+        if (token == null) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        Optional<AppUserPrincipal> principal = accessTokenStore.resolve(token)
+                .flatMap(userDetailsService::findPrincipal);
+        if (principal.isEmpty()) {
+            response.setHeader(HttpHeaders.WWW_AUTHENTICATE, "Bearer error=\"invalid_token\"");
+            response.sendError(HttpStatus.UNAUTHORIZED.value(), "Token tidak valid atau sudah kedaluwarsa");
+            return;
+        }
+
+        UsernamePasswordAuthenticationToken authentication = UsernamePasswordAuthenticationToken.authenticated(
+                principal.get(), null, principal.get().getAuthorities());
+        authentication.setDetails(detailsSource.buildDetails(request));
+
+        SecurityContext context = SecurityContextHolder.createEmptyContext();
+        context.setAuthentication(authentication);
+        SecurityContextHolder.setContext(context);
+        // Dibaca kembali oleh SecurityContextHolderFilter saat dispatch ASYNC
+        securityContextRepository.saveContext(context, request, response);
+        filterChain.doFilter(request, response);
+    }
+
+    /**
+     * @return token dari header Authorization, atau null jika request tidak memakai skema Bearer
+     */
+    public static String resolveToken(HttpServletRequest request) {
+        String header = request.getHeader(HttpHeaders.AUTHORIZATION);
+        if (header == null || !header.regionMatches(true, 0, BEARER_PREFIX, 0, BEARER_PREFIX.length())) {
+            return null;
+        }
+        String token = header.substring(BEARER_PREFIX.length()).trim();
+        return token.isEmpty() ? null : token;
+    }
+}
@@ -0,0 +1,139 @@
+package com.proyek.coffeeshop.security;
+
+import com.proyek.coffeeshop.exception.TooManyRequestsException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.time.Duration;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * PasswordEncoder yang menjalankan hashing (BCrypt) di pool thread terpisah dengan ukuran
+ * dan antrian terbatas. Lonjakan login, registrasi, atau HTTP Basic hanya bisa memakai
+ * {@code threads} core sekaligus, sehingga thread request dan CPU tetap tersedia untuk order.
+ * Jika antrian penuh, atau tugas belum mulai dijalankan dalam {@code max-wait}, pemanggil
+ * menerima {@link TooManyRequestsException} (HTTP 429) alih-alih ikut mengantri.
+ * Tugas yang sudah mulai berjalan selalu ditunggu sampai selesai.
+ * 
+ * @author Coffee Shop Team
+ * @version 1.0
+ */
+@Slf4j
+public class BoundedPasswordEncoder implements PasswordEncoder, AutoCloseable {
+
+    private final PasswordEncoder delegate;
+    private final ThreadPoolExecutor executor;
+    private final Duration maxWait;
+    private final Timer waitTimer;
+    private final Counter rejected;
+
+    public BoundedPasswordEncoder(PasswordEncoder delegate, int threads, int queueCapacity, Duration maxWait,
+                                  MeterRegistry meterRegistry) {
+        this.delegate = delegate;
+        this.maxWait = maxWait;
+        AtomicInteger threadNumber = new AtomicInteger();
+        // Hashing murni CPU, jadi memakai platform thread walaupun request berjalan di virtual thread
+        this.executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "password-hash-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+
+        this.waitTimer = Timer.builder("coffeeshop.auth.hash.wait")
+                .description("Waktu tunggu tugas hashing password di antrian sebelum dijalankan")
+                .register(meterRegistry);
+        this.rejected = Counter.builder("coffeeshop.auth.hash.rejected")
+                .description("Tugas hashing yang ditolak karena antrian penuh atau menunggu terlalu lama")
+                .register(meterRegistry);
+        Gauge.builder("coffeeshop.auth.hash.queue", executor, e -> e.getQueue().size())
+                .description("Jumlah tugas hashing yang sedang mengantri")
+                .register(meterRegistry);
+        Gauge.builder("coffeeshop.auth.hash.active", executor, ThreadPoolExecutor::getActiveCount)
+                .register(meterRegistry);
+        log.info("Password hashing pool: {} threads, queue capacity {}, max wait {}", threads, queueCapacity, maxWait);
+    }
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        return run(() -> delegate.encode(rawPassword));
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        return run(() -> delegate.matches(rawPassword, encodedPassword));
+    }
+
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        return delegate.upgradeEncoding(encodedPassword);
+    }
+
+    @Override
+    public void close() {
+        executor.shutdownNow();
+    }
+
+    private <T> T run(Callable<T> task) {
+        long submittedAt = System.nanoTime();
+        // Di-set oleh worker saat tugas mulai, atau oleh pemanggil saat menyerah menunggu;
+        // siapa pun yang lebih dulu menentukan apakah tugas dijalankan
+        AtomicBoolean claimed = new AtomicBoolean();
+        Future<T> future;
+        try {
+            future = executor.submit(() -> {
+                if (!claimed.compareAndSet(false, true)) {
+                    return null;
+                }
+                waitTimer.record(System.nanoTime() - submittedAt, TimeUnit.NANOSECONDS);
+                return task.call();
+            });
+        } catch (RejectedExecutionException e) {
+            throw overloaded();
+        }
+
+        try {
+            try {
+                return future.get(maxWait.toNanos(), TimeUnit.NANOSECONDS);
+            } catch (TimeoutException e) {
+                if (claimed.compareAndSet(false, true)) {
+                    // Belum mulai dalam max-wait: keluarkan dari antrian dan tolak
+                    future.cancel(false);
+                    throw overloaded();
+                }
+                // Sudah berjalan: hashing selesai dalam waktu terbatas, tunggu hasilnya
+                return future.get();
+            }
+        } catch (InterruptedException e) {
+            claimed.set(true);
+            future.cancel(false);
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Hashing password diinterupsi", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException("Hashing password gagal", e.getCause());
+        }
+    }
+
+    private TooManyRequestsException overloaded() {
+        rejected.increment();
+        return new TooManyRequestsException("Server sedang sibuk memproses login, silakan coba lagi", maxWait);
+    }
+}
@@ -0,0 +1,138 @@
+package com.proyek.coffeeshop.security;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.proyek.coffeeshop.exception.GlobalExceptionHandler.ErrorResponse;
+import com.proyek.coffeeshop.exception.TooManyRequestsException;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+/**
+ * Admission control untuk request yang menjalankan BCrypt: login, registrasi, dan HTTP Basic.
+ * Sebelum sampai ke authentication provider, request ditolak jika bucket IP (dan bucket username
+ * untuk HTTP Basic) sudah kosong. Token baru diambil setelah hasilnya diketahui: HTTP Basic yang
+ * dijawab 401 dan login yang gagal mengambil token, sedangkan kredensial yang benar tidak pernah
+ * dibatasi; registrasi selalu mengambil token IP. Alamat IP dibaca dari
+ * {@code request.getRemoteAddr()}, yang sudah diganti dengan alamat client asli oleh
+ * {@code server.forward-headers-strategy} bila aplikasi berada di belakang proxy.
+ * Filter ini juga mengubah {@link TooManyRequestsException} dari pool hashing yang terjadi di
+ * dalam security filter chain (di luar jangkauan {@code GlobalExceptionHandler}) menjadi response 429.
+ * Dibuat di {@code SecurityConfig} dan dipasang setelah filter Bearer, sehingga request
+ * dengan access token tidak terkena batas ini.
+ * 
+ * @author Coffee Shop Team
+ * @version 1.0
+ */
+public class LoginAdmissionFilter extends OncePerRequestFilter {
+
+    private static final String BASIC_PREFIX = "Basic ";
+    private static final String LOGIN_PATH = "/api/auth/login";
+    private static final String REGISTER_PATH = "/api/auth/register";
+
+    private final LoginRateLimiter loginRateLimiter;
+    private final ObjectMapper objectMapper;
+
+    public LoginAdmissionFilter(LoginRateLimiter loginRateLimiter, ObjectMapper objectMapper) {
+        this.loginRateLimiter = loginRateLimiter;
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        String basicUsername = basicUsername(request);
+        String credentialPath = credentialPath(request);
+        if (basicUsername == null && credentialPath == null) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        String clientIp = request.getRemoteAddr();
+        try {
+            loginRateLimiter.checkClient(clientIp);
+            if (basicUsername != null) {
+                loginRateLimiter.checkUsername(basicUsername);
+            }
+            filterChain.doFilter(request, response);
+        } catch (TooManyRequestsException e) {
+            if (response.isCommitted()) {
+                throw e;
+            }
+            logger.warn("Rejecting " + request.getMethod() + " " + request.getRequestURI() + ": " + e.getMessage());
+            writeTooManyRequests(request, response, e);
+            return;
+        }
+
+        if (REGISTER_PATH.equals(credentialPath)) {
+            loginRateLimiter.chargeClient(clientIp);
+        } else if (basicUsername != null && response.getStatus() == HttpStatus.UNAUTHORIZED.value()) {
+            // BasicAuthenticationFilter menjawab 401 hanya jika kredensial ditolak
+            loginRateLimiter.chargeClient(clientIp);
+            loginRateLimiter.chargeUsername(basicUsername);
+        } else if (LOGIN_PATH.equals(credentialPath) && isFailedLogin(response.getStatus())) {
+            // Bucket username untuk login di-charge oleh AuthService yang membaca body request
+            loginRateLimiter.chargeClient(clientIp);
+        }
+    }
+
+    /**
+     * @return path login atau registrasi untuk request POST ke endpoint tersebut, selain itu null
+     */
+    private static String credentialPath(HttpServletRequest request) {
+        if (!HttpMethod.POST.matches(request.getMethod())) {
+            return null;
+        }
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        return path.equals(LOGIN_PATH) || path.equals(REGISTER_PATH) ? path : null;
+    }
+
+    private static boolean isFailedLogin(int status) {
+        return status >= 400 && status < 500 && status != HttpStatus.TOO_MANY_REQUESTS.value();
+    }
+
+    /**
+     * @return username dari header Authorization Basic, atau null jika request tidak memakai HTTP Basic
+     */
+    private static String basicUsername(HttpServletRequest request) {
+        String header = request.getHeader(HttpHeaders.AUTHORIZATION);
+        if (header == null || !header.regionMatches(true, 0, BASIC_PREFIX, 0, BASIC_PREFIX.length())) {
+            return null;
+        }
+        try {
+            String credentials = new String(Base64.getDecoder().decode(header.substring(BASIC_PREFIX.length()).trim()),
+                    StandardCharsets.UTF_8);
+            int separator = credentials.indexOf(':');
+            return separator > 0 ? credentials.substring(0, separator) : null;
+        } catch (IllegalArgumentException e) {
+            // Header rusak ditolak oleh BasicAuthenticationFilter
+            return null;
+        }
+    }
+
+    private void writeTooManyRequests(HttpServletRequest request, HttpServletResponse response,
+                                      TooManyRequestsException exception) throws IOException {
+        ErrorResponse errorResponse = ErrorResponse.builder()
+                .timestamp(LocalDateTime.now())
+                .status(HttpStatus.TOO_MANY_REQUESTS.value())
+                .error("Too Many Requests")
+                .message(exception.getMessage())
+                .path(request.getRequestURI())
+                .build();
+
+        response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(exception.getRetryAfterSeconds()));
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        objectMapper.writeValue(response.getOutputStream(), errorResponse);
+    }
+}
@@ -0,0 +1,151 @@
+package com.proyek.coffeeshop.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.proyek.coffeeshop.exception.TooManyRequestsException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * Pembatas laju percobaan autentikasi dengan token bucket per alamat IP dan per username.
+ * Hanya percobaan yang gagal (password salah, username tidak dikenal) yang mengambil token,
+ * sehingga client yang terus mengirim kredensial benar lewat HTTP Basic tidak pernah dibatasi;
+ * registrasi selalu mengambil token IP karena setiap registrasi menjalankan BCrypt.
+ * Sebelum BCrypt dijalankan, request ditolak jika bucket-nya sudah kosong.
+ * Bucket terisi ulang dengan laju tetap hingga kapasitasnya dan disimpan di Caffeine yang
+ * dibatasi ukuran serta dihapus setelah tidak dipakai, sehingga serangan dari banyak IP atau
+ * username acak tidak membuat memori tumbuh tanpa batas.
+ * 
+ * @author Coffee Shop Team
+ * @version 1.0
+ */
+@Component
+public class LoginRateLimiter {
+
+    private static final String CLIENT_MESSAGE = "Terlalu banyak percobaan login dari alamat ini, silakan coba lagi nanti";
+    private static final String USERNAME_MESSAGE = "Terlalu banyak percobaan login untuk akun ini, silakan coba lagi nanti";
+
+    private final Limit ipLimit;
+    private final Limit usernameLimit;
+
+    public LoginRateLimiter(Environment environment, ObjectProvider<MeterRegistry> meterRegistries) {
+        MeterRegistry meterRegistry = meterRegistries.getIfAvailable(() -> Metrics.globalRegistry);
+        long maxTracked = environment.getProperty("coffeeshop.auth.rate-limit.max-tracked", Long.class, 100_000L);
+        this.ipLimit = new Limit("ip", environment, maxTracked, meterRegistry);
+        this.usernameLimit = new Limit("username", environment, maxTracked, meterRegistry);
+    }
+
+    /**
+     * Memastikan bucket alamat IP masih berisi token, tanpa mengambilnya.
+     *
+     * @throws TooManyRequestsException jika bucket kosong
+     */
+    public void checkClient(String clientIp) {
+        ipLimit.check(clientIp, CLIENT_MESSAGE);
+    }
+
+    /**
+     * Memastikan bucket username masih berisi token, tanpa mengambilnya.
+     *
+     * @throws TooManyRequestsException jika bucket kosong
+     */
+    public void checkUsername(String username) {
+        usernameLimit.check(username.toLowerCase(), USERNAME_MESSAGE);
+    }
+
+    /**
+     * Mengambil satu token dari bucket alamat IP (percobaan gagal atau registrasi).
+     */
+    public void chargeClient(String clientIp) {
+        ipLimit.charge(clientIp);
+    }
+
+    /**
+     * Mengambil satu token dari bucket username (percobaan gagal).
+     */
+    public void chargeUsername(String username) {
+        usernameLimit.charge(username.toLowerCase());
+    }
+
+    /**
+     * Batas laju untuk satu jenis kunci (IP atau username).
+     */
+    private static final class Limit {
+
+        private final int capacity;
+        private final double tokensPerNano;
+        private final Cache<String, TokenBucket> buckets;
+        private final Counter throttled;
+
+        Limit(String key, Environment environment, long maxTracked, MeterRegistry meterRegistry) {
+            String prefix = "coffeeshop.auth.rate-limit." + key;
+            this.capacity = environment.getRequiredProperty(prefix + ".capacity", Integer.class);
+            int refillPerMinute = environment.getRequiredProperty(prefix + ".refill-per-minute", Integer.class);
+            this.tokensPerNano = refillPerMinute / (double) Duration.ofMinutes(1).toNanos();
+            // Bucket yang tidak dipakai selama waktu pengisian penuh sama dengan bucket baru
+            Duration idle = Duration.ofNanos((long) Math.ceil(capacity / tokensPerNano));
+            this.buckets = Caffeine.newBuilder()
+                    .maximumSize(maxTracked)
+                    .expireAfterAccess(idle)
+                    .build();
+            this.throttled = Counter.builder("coffeeshop.auth.throttled")
+                    .tag("key", key)
+                    .description("Percobaan autentikasi yang ditolak oleh batas laju")
+                    .register(meterRegistry);
+        }
+
+        void check(String key, String message) {
+            TokenBucket bucket = buckets.getIfPresent(key);
+            long waitNanos = bucket == null ? 0 : bucket.waitNanos(capacity, tokensPerNano);
+            if (waitNanos > 0) {
+                throttled.increment();
+                throw new TooManyRequestsException(message, Duration.ofNanos(waitNanos));
+            }
+        }
+
+        void charge(String key) {
+            buckets.get(key, k -> new TokenBucket(capacity)).take(capacity, tokensPerNano);
+        }
+    }
+
+    /**
+     * Token bucket sederhana; diisi ulang secara malas setiap kali diakses.
+     */
+    private static final class TokenBucket {
+
+        private double tokens;
+        private long refilledAt = System.nanoTime();
+
+        TokenBucket(int capacity) {
+            this.tokens = capacity;
+        }
+
+        /**
+         * @return 0 jika masih ada token, selain itu perkiraan waktu tunggu dalam nanodetik
+         */
+        synchronized long waitNanos(int capacity, double tokensPerNano) {
+            refill(capacity, tokensPerNano);
+            return tokens >= 1 ? 0 : (long) Math.ceil((1 - tokens) / tokensPerNano);
+        }
+
+        /**
+         * Mengambil satu token; percobaan gagal yang lolos bersamaan tidak membuat saldo negatif.
+         */
+        synchronized void take(int capacity, double tokensPerNano) {
+            refill(capacity, tokensPerNano);
+            tokens = Math.max(0, tokens - 1);
+        }
+
+        private void refill(int capacity, double tokensPerNano) {
+            long now = System.nanoTime();
+            tokens = Math.min(capacity, tokens + (now - refilledAt) * tokensPerNano);
+            refilledAt = now;
+        }
+    }
+}
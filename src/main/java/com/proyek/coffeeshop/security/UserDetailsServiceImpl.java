@@ -1,38 +1,64 @@
 package com.proyek.coffeeshop.security;
 
-import com.proyek.coffeeshop.model.entity.User;
+import com.proyek.coffeeshop.event.UserChangedEvent;
 import com.proyek.coffeeshop.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
-import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.security.core.userdetails.UserCache;
 import org.springframework.security.core.userdetails.UserDetails;
-import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
 
-import java.util.Collections;
+import java.util.Optional;
 
 /**
  * Implementasi UserDetailsService untuk Spring Security.
- * Mengload user dari database untuk proses autentikasi.
+ * Mengload user beserta ID customer-nya dari database dalam satu query untuk proses autentikasi.
+ * Principal disimpan di {@link UserCache} (Caffeine, dibatasi ukuran dan TTL) yang juga dipakai
+ * authentication provider, dan dihapus dari cache setelah perubahan user di-commit.
  * 
  * @author Coffee Shop Team
  * @version 1.0
  */
 @Service
 @RequiredArgsConstructor
-public class UserDetailsServiceImpl implements UserDetailsService {
+@Slf4j
+public class UserDetailsServiceImpl implements AppUserDetailsService {
 
     private final UserRepository userRepository;
+    private final UserCache userCache;
 
     @Override
     public UserDetails loadUserByUsername(String username) throws UsernameNotFoundException {
-        User user = userRepository.findByUsername(username)
+        return userRepository.findPrincipalByUsername(username)
+                .map(AppUserPrincipal::of)
                 .orElseThrow(() -> new UsernameNotFoundException("User tidak ditemukan: " + username));
+    }
+
+    @Override
+    public Optional<AppUserPrincipal> findPrincipal(String username) {
+        if (userCache.getUserFromCache(username) instanceof AppUserPrincipal cached) {
+            return Optional.of(cached);
+        }
+
+        Optional<AppUserPrincipal> principal = userRepository.findPrincipalByUsername(username)
+                .map(AppUserPrincipal::of);
+        principal.ifPresent(userCache::putUserInCache);
+        return principal;
+    }
+
+    @Override
+    public void evict(String username) {
+        userCache.removeUserFromCache(username);
+    }
 
-        return org.springframework.security.core.userdetails.User.builder()
-                .username(user.getUsername())
-                .password(user.getPassword())
-                .authorities(Collections.singletonList(new SimpleGrantedAuthority(user.getRole().name())))
-                .build();
+    /**
+     * Menghapus principal dari cache setelah perubahan user atau customer di-commit.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onUserChanged(UserChangedEvent event) {
+        log.debug("User {} changed, evicting cached principal", event.getUsername());
+        evict(event.getUsername());
     }
 }
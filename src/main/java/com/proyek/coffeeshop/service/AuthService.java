@@ -2,6 +2,7 @@ package com.proyek.coffeeshop.service;
 
 import com.proyek.coffeeshop.dto.request.LoginRequestDto;
 import com.proyek.coffeeshop.dto.request.RegisterRequestDto;
+import com.proyek.coffeeshop.dto.response.LoginResponseDto;
 import com.proyek.coffeeshop.dto.response.UserResponseDto;
 
 /**
@@ -24,12 +25,19 @@ public interface AuthService {
 
     /**
      * Login user.
-     * Melakukan autentikasi berdasarkan username dan password.
+     * Melakukan autentikasi berdasarkan username dan password, lalu menerbitkan access token.
      *
      * @param request data login
-     * @return UserResponseDto data user yang berhasil login
+     * @return LoginResponseDto access token dan data user yang berhasil login
      */
-    UserResponseDto login(LoginRequestDto request);
+    LoginResponseDto login(LoginRequestDto request);
+
+    /**
+     * Logout user dengan mencabut access token.
+     *
+     * @param accessToken access token yang dicabut
+     */
+    void logout(String accessToken);
 
     /**
      * Mendapatkan user berdasarkan username.
@@ -0,0 +1,23 @@
+package com.proyek.coffeeshop.service;
+
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+/**
+ * Service interface untuk papan order dapur/barista.
+ * Papan disimpan di memori dan diperbarui dari event outbox order; setiap layar yang terhubung
+ * menerima snapshot saat connect lalu hanya perubahan (delta) lewat Server-Sent Events.
+ * 
+ * @author Coffee Shop Team
+ * @version 1.0
+ */
+public interface KitchenBoardService {
+
+    /**
+     * Membuka stream papan order untuk satu layar.
+     * Event pertama bernama {@code snapshot} berisi semua order aktif, diikuti
+     * {@code order-updated} dan {@code order-removed} untuk setiap perubahan.
+     *
+     * @return emitter SSE
+     */
+    SseEmitter subscribe();
+}
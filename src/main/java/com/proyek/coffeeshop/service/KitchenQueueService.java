@@ -0,0 +1,53 @@
+package com.proyek.coffeeshop.service;
+
+import com.proyek.coffeeshop.dto.response.KitchenTaskDto;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Service interface untuk antrian kerja dapur/barista.
+ * Order PAID, PROCESSING, dan PREPARING diurutkan berdasarkan janji waktu siap lalu biaya
+ * persiapannya; station barista mengambil dan menyelesaikan tugas tanpa menulis ke database,
+ * kecuali perubahan status saat tugas selesai.
+ * 
+ * @author Coffee Shop Team
+ * @version 1.0
+ */
+public interface KitchenQueueService {
+
+    /**
+     * Mengambil tugas berikutnya yang belum diambil station, sesuai prioritas.
+     *
+     * @param limit jumlah tugas maksimum
+     * @return daftar tugas terurut prioritas
+     */
+    List<KitchenTaskDto> getNextTasks(int limit);
+
+    /**
+     * Mengambil tugas berprioritas tertinggi untuk sebuah station.
+     *
+     * @param station nama station barista
+     * @return tugas yang diambil, kosong jika antrian kosong
+     */
+    Optional<KitchenTaskDto> claimNext(String station);
+
+    /**
+     * Menyelesaikan tugas milik station: order diubah ke READY_FOR_PICKUP (order customer)
+     * atau READY_TO_SERVE (order kasir) dan dikeluarkan dari antrian.
+     *
+     * @param orderId ID order
+     * @param station nama station yang mengambil tugas
+     * @return tugas yang diselesaikan
+     */
+    KitchenTaskDto complete(Long orderId, String station);
+
+    /**
+     * Mengembalikan tugas milik station ke antrian, misalnya saat station ditutup.
+     *
+     * @param orderId ID order
+     * @param station nama station yang mengambil tugas
+     * @return tugas yang dikembalikan
+     */
+    KitchenTaskDto release(Long orderId, String station);
+}
@@ -0,0 +1,28 @@
+package com.proyek.coffeeshop.service;
+
+import com.proyek.coffeeshop.dto.response.MenuSnapshot;
+
+/**
+ * Service interface untuk snapshot menu yang sudah di-serialize.
+ * Snapshot hanya dibangun ulang ketika data katalog berubah.
+ * 
+ * @author Coffee Shop Team
+ * @version 1.0
+ */
+public interface MenuSnapshotService {
+
+    /**
+     * Mendapatkan snapshot menu untuk versi katalog saat ini.
+     * Tidak menyentuh database selama katalog tidak berubah.
+     *
+     * @return snapshot menu terbaru
+     */
+    MenuSnapshot getSnapshot();
+
+    /**
+     * Mendapatkan versi katalog saat ini.
+     *
+     * @return nomor versi, naik setiap kali katalog berubah
+     */
+    long getCatalogVersion();
+}
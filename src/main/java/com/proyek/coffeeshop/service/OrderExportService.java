@@ -0,0 +1,31 @@
+package com.proyek.coffeeshop.service;
+
+import com.proyek.coffeeshop.model.enums.ExportFormat;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.LocalDate;
+
+/**
+ * Service interface untuk ekspor order dalam jumlah besar.
+ * Baris dibaca dengan cursor forward-only dan langsung ditulis ke output stream,
+ * sehingga pemakaian heap tetap datar berapapun panjang rentang tanggalnya.
+ * 
+ * @author Coffee Shop Team
+ * @version 1.0
+ */
+public interface OrderExportService {
+
+    /**
+     * Menulis semua item order dalam rentang tanggal ke output stream.
+     * Output stream tidak ditutup oleh method ini.
+     *
+     * @param startDate tanggal awal (inklusif)
+     * @param endDate tanggal akhir (inklusif)
+     * @param format format ekspor (CSV atau NDJSON)
+     * @param out tujuan penulisan
+     * @return jumlah baris data yang ditulis
+     * @throws IOException jika penulisan ke output stream gagal (misalnya client memutus koneksi)
+     */
+    long exportOrders(LocalDate startDate, LocalDate endDate, ExportFormat format, OutputStream out) throws IOException;
+}
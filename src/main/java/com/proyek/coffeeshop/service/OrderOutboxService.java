@@ -0,0 +1,46 @@
+package com.proyek.coffeeshop.service;
+
+import com.proyek.coffeeshop.model.entity.Order;
+import com.proyek.coffeeshop.model.enums.OrderEventType;
+import com.proyek.coffeeshop.model.enums.OrderStatus;
+
+import java.time.LocalDateTime;
+
+/**
+ * Service interface untuk outbox event order.
+ * {@link #record} harus dipanggil di dalam transaksi yang sama dengan perubahan order,
+ * sehingga event ada jika dan hanya jika perubahan order di-commit.
+ * 
+ * @author Coffee Shop Team
+ * @version 1.0
+ */
+public interface OrderOutboxService {
+
+    /**
+     * Menulis event order ke outbox.
+     *
+     * @param order order yang baru disimpan
+     * @param type jenis event
+     * @param previousStatus status sebelum perubahan, null untuk order baru
+     */
+    void record(Order order, OrderEventType type, OrderStatus previousStatus);
+
+    /**
+     * Mengirim satu batch event yang belum terkirim ke semua listener.
+     * Order yang gagal dikirim sebanyak batas percobaan diparkir beserta event berikutnya.
+     *
+     * @param batchSize jumlah event maksimum
+     * @return jumlah event yang selesai diproses (terkirim atau diparkir); kurang dari
+     *         {@code batchSize} jika outbox habis atau ada order yang akan dicoba lagi
+     */
+    int dispatchPending(int batchSize);
+
+    /**
+     * Menghapus satu batch event yang sudah terkirim sebelum batas waktu.
+     *
+     * @param cutoff batas waktu pengiriman
+     * @param batchSize jumlah baris maksimum
+     * @return jumlah baris yang dihapus
+     */
+    int purgeDispatched(LocalDateTime cutoff, int batchSize);
+}
@@ -3,6 +3,7 @@ package com.proyek.coffeeshop.service;
 import com.proyek.coffeeshop.dto.request.CashierOrderRequestDTO;
 import com.proyek.coffeeshop.dto.request.OrderRequestDto;
 import com.proyek.coffeeshop.dto.response.CashierOrderResponseDTO;
+import com.proyek.coffeeshop.dto.response.CursorPageDto;
 import com.proyek.coffeeshop.dto.response.OrderResponseDto;
 import com.proyek.coffeeshop.model.enums.OrderStatus;
 import org.springframework.data.domain.Page;
@@ -63,6 +64,25 @@ public interface OrderService {
      */
     Page<OrderResponseDto> getOrdersByStatus(OrderStatus status, Pageable pageable);
 
+    /**
+     * Mendapatkan semua order dengan keyset pagination (untuk admin), terbaru lebih dulu.
+     *
+     * @param cursor token dari halaman sebelumnya, null untuk halaman pertama
+     * @param size jumlah order per halaman
+     * @return halaman order beserta cursor halaman berikutnya
+     */
+    CursorPageDto<OrderResponseDto> getAllOrders(String cursor, int size);
+
+    /**
+     * Mendapatkan order berdasarkan status dengan keyset pagination, terbaru lebih dulu.
+     *
+     * @param status status order
+     * @param cursor token dari halaman sebelumnya, null untuk halaman pertama
+     * @param size jumlah order per halaman
+     * @return halaman order beserta cursor halaman berikutnya
+     */
+    CursorPageDto<OrderResponseDto> getOrdersByStatus(OrderStatus status, String cursor, int size);
+
     /**
      * Update status order.
      *
@@ -0,0 +1,31 @@
+package com.proyek.coffeeshop.service;
+
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+/**
+ * Service interface untuk push perubahan status order ke aplikasi customer.
+ * Menggantikan polling detail order dengan Server-Sent Events per customer.
+ * 
+ * @author Coffee Shop Team
+ * @version 1.0
+ */
+public interface OrderTrackingService {
+
+    /**
+     * Membuka stream perubahan status semua order milik customer.
+     *
+     * @param username username customer
+     * @return emitter SSE
+     */
+    SseEmitter subscribe(String username);
+
+    /**
+     * Membuka stream perubahan status satu order milik customer.
+     * Event pertama bernama {@code snapshot} berisi status order saat ini.
+     *
+     * @param username username customer
+     * @param orderId ID order
+     * @return emitter SSE
+     */
+    SseEmitter subscribe(String username, Long orderId);
+}
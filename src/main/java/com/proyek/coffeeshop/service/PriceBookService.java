@@ -0,0 +1,22 @@
+package com.proyek.coffeeshop.service;
+
+import com.proyek.coffeeshop.model.value.PriceBook;
+
+/**
+ * Service interface untuk price book yang dipakai menghitung harga order.
+ * Price book dibangun ulang dan ditukar secara atomik setiap kali harga atau
+ * ketersediaan produk maupun harga kustomisasi berubah.
+ * 
+ * @author Coffee Shop Team
+ * @version 1.0
+ */
+public interface PriceBookService {
+
+    /**
+     * Mendapatkan price book terbaru.
+     * Tidak menyentuh database kecuali price book belum pernah dibangun.
+     *
+     * @return price book immutable beserta nomor versinya
+     */
+    PriceBook getPriceBook();
+}
@@ -0,0 +1,36 @@
+package com.proyek.coffeeshop.service;
+
+import com.proyek.coffeeshop.model.entity.Order;
+import com.proyek.coffeeshop.model.enums.OrderStatus;
+
+/**
+ * Service interface untuk memelihara tabel rollup penjualan harian
+ * (DailyProductSales dan DailyPaymentSales).
+ * Semua method harus dipanggil di dalam transaksi yang sama dengan perubahan order.
+ * 
+ * @author Coffee Shop Team
+ * @version 1.0
+ */
+public interface SalesRollupService {
+
+    /**
+     * Menambahkan order baru ke rollup.
+     *
+     * @param order order yang baru disimpan
+     */
+    void recordOrder(Order order);
+
+    /**
+     * Menyesuaikan rollup setelah status order berubah.
+     * Order yang dibatalkan dikeluarkan dari rollup.
+     *
+     * @param order order dengan status baru
+     * @param previousStatus status order sebelum perubahan
+     */
+    void applyStatusChange(Order order, OrderStatus previousStatus);
+
+    /**
+     * Menghapus dan mengisi ulang seluruh rollup dari tabel Orders.
+     */
+    void rebuildAll();
+}
@@ -0,0 +1,54 @@
+package com.proyek.coffeeshop.service;
+
+import com.proyek.coffeeshop.model.entity.Order;
+
+import java.util.Map;
+
+/**
+ * Service interface untuk reservasi stok order customer yang menunggu pembayaran.
+ * Stok dikurangi saat order dibuat lalu ditahan sebagai reservasi; reservasi
+ * di-commit saat pembayaran dikonfirmasi, atau dilepas (stok dikembalikan) saat
+ * order dibatalkan maupun saat batas waktunya habis.
+ * 
+ * @author Coffee Shop Team
+ * @version 1.0
+ */
+public interface StockReservationService {
+
+    /**
+     * Mencatat reservasi untuk order yang baru disimpan. Stok harus sudah dikurangi
+     * di transaksi yang sama.
+     *
+     * @param order order WAITING_PAYMENT yang baru disimpan
+     * @param quantitiesByProductId jumlah yang ditahan per ID produk
+     */
+    void hold(Order order, Map<Long, Integer> quantitiesByProductId);
+
+    /**
+     * Menandai reservasi order sebagai terpakai (pembayaran dikonfirmasi).
+     * Pemanggil harus sudah mengunci baris order di transaksi yang sama.
+     *
+     * @param order order yang dibayar
+     * @throws com.proyek.coffeeshop.exception.BadRequestException jika reservasinya sudah kedaluwarsa
+     */
+    void commit(Order order);
+
+    /**
+     * Melepas reservasi order yang dibatalkan dan mengembalikan stoknya.
+     * Pemanggil harus sudah mengunci baris order di transaksi yang sama.
+     *
+     * @param order order yang dibatalkan
+     * @throws com.proyek.coffeeshop.exception.BadRequestException jika reservasinya sudah kedaluwarsa
+     */
+    void release(Order order);
+
+    /**
+     * Melepas satu batch order yang reservasinya kedaluwarsa: seluruh reservasi
+     * order dilepas sekaligus, stoknya dikembalikan, dan order yang masih menunggu
+     * pembayaran dibatalkan.
+     *
+     * @param batchSize jumlah maksimal order yang diproses
+     * @return jumlah order yang diambil dalam batch ini
+     */
+    int releaseExpired(int batchSize);
+}
@@ -4,6 +4,7 @@ import com.proyek.coffeeshop.dto.request.StockUpdateRequestDTO;
 import com.proyek.coffeeshop.dto.response.StockInfoResponseDTO;
 
 import java.util.List;
+import java.util.Map;
 
 /**
  * Service interface untuk stock management
@@ -39,4 +40,21 @@ public interface StockService {
      * Reduce stock untuk produk tertentu (untuk order processing)
      */
     void reduceStock(Long productId, Integer quantity);
+
+    /**
+     * Reduce stock untuk semua item order secara atomik.
+     * Jika salah satu produk stoknya kurang, seluruh pengurangan dibatalkan
+     * (rollback transaksi) dan BadRequestException dilempar.
+     *
+     * @param quantitiesByProductId jumlah yang dipesan per ID produk
+     */
+    void reduceStock(Map<Long, Integer> quantitiesByProductId);
+
+    /**
+     * Mengembalikan stok semua item order yang dibatalkan setelah pembayaran.
+     * Kebalikan dari {@link #reduceStock(Map)}, memakai increment atomik per produk.
+     *
+     * @param quantitiesByProductId jumlah yang dikembalikan per ID produk
+     */
+    void restoreStock(Map<Long, Integer> quantitiesByProductId);
 }
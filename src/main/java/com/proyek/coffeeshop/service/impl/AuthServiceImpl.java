@@ -3,7 +3,9 @@ package com.proyek.coffeeshop.service.impl;
 import com.proyek.coffeeshop.dto.request.LoginRequestDto;
 import com.proyek.coffeeshop.dto.request.RegisterRequestDto;
 import com.proyek.coffeeshop.dto.response.CustomerDto;
+import com.proyek.coffeeshop.dto.response.LoginResponseDto;
 import com.proyek.coffeeshop.dto.response.UserResponseDto;
+import com.proyek.coffeeshop.event.UserChangedEvent;
 import com.proyek.coffeeshop.exception.BadRequestException;
 import com.proyek.coffeeshop.exception.ResourceNotFoundException;
 import com.proyek.coffeeshop.model.entity.Customer;
@@ -11,9 +13,14 @@ import com.proyek.coffeeshop.model.entity.User;
 import com.proyek.coffeeshop.model.enums.UserRole;
 import com.proyek.coffeeshop.repository.CustomerRepository;
 import com.proyek.coffeeshop.repository.UserRepository;
+import com.proyek.coffeeshop.security.AccessTokenStore;
+import com.proyek.coffeeshop.security.AppUserDetailsService;
+import com.proyek.coffeeshop.security.AppUserPrincipal;
+import com.proyek.coffeeshop.security.LoginRateLimiter;
 import com.proyek.coffeeshop.service.AuthService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -33,6 +40,10 @@ public class AuthServiceImpl implements AuthService {
     private final UserRepository userRepository;
     private final CustomerRepository customerRepository;
     private final PasswordEncoder passwordEncoder;
+    private final AppUserDetailsService userDetailsService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final AccessTokenStore accessTokenStore;
+    private final LoginRateLimiter loginRateLimiter;
 
     @Override
     @Transactional
@@ -65,6 +76,7 @@ public class AuthServiceImpl implements AuthService {
         customer.setAddress(request.getAddress());
 
         Customer savedCustomer = customerRepository.save(customer);
+        eventPublisher.publishEvent(new UserChangedEvent(savedUser.getUsername()));
 
         log.info("Successfully registered customer with ID: {}", savedCustomer.getCustomerId());
 
@@ -72,13 +84,20 @@ public class AuthServiceImpl implements AuthService {
     }
 
     @Override
-    public UserResponseDto login(LoginRequestDto request) {
+    public LoginResponseDto login(LoginRequestDto request) {
         log.info("User login attempt with username: {}", request.getUsername());
 
-        User user = userRepository.findByUsername(request.getUsername())
-                .orElseThrow(() -> new ResourceNotFoundException("Username tidak ditemukan: " + request.getUsername()));
+        // Tolak username yang sudah terlalu sering gagal sebelum BCrypt (per IP ditangani LoginAdmissionFilter)
+        loginRateLimiter.checkUsername(request.getUsername());
+
+        User user = userRepository.findByUsername(request.getUsername()).orElse(null);
+        if (user == null) {
+            loginRateLimiter.chargeUsername(request.getUsername());
+            throw new ResourceNotFoundException("Username tidak ditemukan: " + request.getUsername());
+        }
 
         if (!passwordEncoder.matches(request.getPassword(), user.getPassword())) {
+            loginRateLimiter.chargeUsername(request.getUsername());
             throw new BadRequestException("Password salah");
         }
 
@@ -87,24 +106,47 @@ public class AuthServiceImpl implements AuthService {
             customer = customerRepository.findByUser(user).orElse(null);
         }
 
+        AccessTokenStore.IssuedToken token = accessTokenStore.issue(user.getUsername());
         log.info("User {} successfully logged in", user.getUsername());
 
-        return convertToUserResponseDto(user, customer);
+        return new LoginResponseDto(
+                token.getToken(),
+                "Bearer",
+                token.getTtl().toSeconds(),
+                token.getExpiresAt(),
+                convertToUserResponseDto(user, customer)
+        );
     }
 
     @Override
+    public void logout(String accessToken) {
+        accessTokenStore.revoke(accessToken);
+        log.info("Access token revoked");
+    }
+
+    @Override
+    @Transactional(readOnly = true)
     public UserResponseDto getUserByUsername(String username) {
         log.info("Getting user by username: {}", username);
 
-        User user = userRepository.findByUsername(username)
+        // Identitas diambil dari principal yang sudah di-cache saat autentikasi
+        AppUserPrincipal principal = userDetailsService.findPrincipal(username)
                 .orElseThrow(() -> new ResourceNotFoundException("User tidak ditemukan: " + username));
 
-        Customer customer = null;
-        if (user.getRole() == UserRole.ROLE_CUSTOMER) {
-            customer = customerRepository.findByUser(user).orElse(null);
+        CustomerDto customerDto = null;
+        if (principal.getCustomerId() != null) {
+            customerDto = customerRepository.findById(principal.getCustomerId())
+                    .map(this::convertToCustomerDto)
+                    .orElse(null);
         }
 
-        return convertToUserResponseDto(user, customer);
+        return new UserResponseDto(
+                principal.getUserId(),
+                principal.getUsername(),
+                principal.getEmail(),
+                principal.getRole(),
+                customerDto
+        );
     }
 
     /**
@@ -115,15 +157,7 @@ public class AuthServiceImpl implements AuthService {
      * @return UserResponseDto
      */
     private UserResponseDto convertToUserResponseDto(User user, Customer customer) {
-        CustomerDto customerDto = null;
-        if (customer != null) {
-            customerDto = new CustomerDto(
-                    customer.getCustomerId(),
-                    customer.getFullName(),
-                    customer.getPhoneNumber(),
-                    customer.getAddress()
-            );
-        }
+        CustomerDto customerDto = customer != null ? convertToCustomerDto(customer) : null;
 
         return new UserResponseDto(
                 user.getUserId(),
@@ -133,4 +167,13 @@ public class AuthServiceImpl implements AuthService {
                 customerDto
         );
     }
+
+    private CustomerDto convertToCustomerDto(Customer customer) {
+        return new CustomerDto(
+                customer.getCustomerId(),
+                customer.getFullName(),
+                customer.getPhoneNumber(),
+                customer.getAddress()
+        );
+    }
 }
@@ -1,6 +1,8 @@
 package com.proyek.coffeeshop.service.impl;
 
+import com.proyek.coffeeshop.config.CacheConfig;
 import com.proyek.coffeeshop.dto.response.CategoryDto;
+import com.proyek.coffeeshop.event.CatalogChangedEvent;
 import com.proyek.coffeeshop.exception.BadRequestException;
 import com.proyek.coffeeshop.exception.ResourceNotFoundException;
 import com.proyek.coffeeshop.model.entity.Category;
@@ -8,6 +10,9 @@ import com.proyek.coffeeshop.repository.CategoryRepository;
 import com.proyek.coffeeshop.service.CategoryService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -26,8 +31,10 @@ import java.util.stream.Collectors;
 @Slf4j
 public class CategoryServiceImpl implements CategoryService {
 
-    private final CategoryRepository categoryRepository;    @Override
+    private final CategoryRepository categoryRepository;
+    private final ApplicationEventPublisher eventPublisher;    @Override
     @Transactional(readOnly = true)
+    @Cacheable(cacheNames = CacheConfig.CATEGORIES, key = "'all'")
     public List<CategoryDto> getAllCategories() {
         log.info("Getting all categories");
         return categoryRepository.findAll().stream()
@@ -35,6 +42,7 @@ public class CategoryServiceImpl implements CategoryService {
                 .collect(Collectors.toList());
     }    @Override
     @Transactional(readOnly = true)
+    @Cacheable(cacheNames = CacheConfig.CATEGORIES, key = "'id:' + #id")
     public CategoryDto getCategoryById(Long id) {
         log.info("Getting category by ID: {}", id);
         Category category = getCategoryEntityById(id);
@@ -43,6 +51,7 @@ public class CategoryServiceImpl implements CategoryService {
 
     @Override
     @Transactional
+    @CacheEvict(cacheNames = CacheConfig.CATEGORIES, allEntries = true)
     public CategoryDto createCategory(CategoryDto categoryDto) {
         log.info("Creating new category: {}", categoryDto.getName());
 
@@ -54,6 +63,7 @@ public class CategoryServiceImpl implements CategoryService {
         category.setName(categoryDto.getName());
 
         Category savedCategory = categoryRepository.save(category);
+        eventPublisher.publishEvent(new CatalogChangedEvent(CacheConfig.CATEGORIES));
         log.info("Successfully created category with ID: {}", savedCategory.getCategoryId());
 
         return convertToDto(savedCategory);
@@ -61,6 +71,7 @@ public class CategoryServiceImpl implements CategoryService {
 
     @Override
     @Transactional
+    @CacheEvict(cacheNames = {CacheConfig.CATEGORIES, CacheConfig.PRODUCTS}, allEntries = true)
     public CategoryDto updateCategory(Long id, CategoryDto categoryDto) {
         log.info("Updating category with ID: {}", id);
 
@@ -75,6 +86,7 @@ public class CategoryServiceImpl implements CategoryService {
         category.setName(categoryDto.getName());
 
         Category updatedCategory = categoryRepository.save(category);
+        eventPublisher.publishEvent(new CatalogChangedEvent(CacheConfig.CATEGORIES));
         log.info("Successfully updated category with ID: {}", updatedCategory.getCategoryId());
 
         return convertToDto(updatedCategory);
@@ -82,6 +94,7 @@ public class CategoryServiceImpl implements CategoryService {
 
     @Override
     @Transactional
+    @CacheEvict(cacheNames = {CacheConfig.CATEGORIES, CacheConfig.PRODUCTS}, allEntries = true)
     public void deleteCategory(Long id) {
         log.info("Deleting category with ID: {}", id);
 
@@ -91,6 +104,7 @@ public class CategoryServiceImpl implements CategoryService {
         // You might want to prevent deletion if category has products
         
         categoryRepository.delete(category);
+        eventPublisher.publishEvent(new CatalogChangedEvent(CacheConfig.CATEGORIES));
         log.info("Successfully deleted category with ID: {}", id);
     }    @Override
     @Transactional(readOnly = true)
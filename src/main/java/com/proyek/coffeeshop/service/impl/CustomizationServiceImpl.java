@@ -1,6 +1,8 @@
 package com.proyek.coffeeshop.service.impl;
 
+import com.proyek.coffeeshop.config.CacheConfig;
 import com.proyek.coffeeshop.dto.response.CustomizationDto;
+import com.proyek.coffeeshop.event.CatalogChangedEvent;
 import com.proyek.coffeeshop.exception.BadRequestException;
 import com.proyek.coffeeshop.exception.ResourceNotFoundException;
 import com.proyek.coffeeshop.model.entity.Customization;
@@ -8,6 +10,9 @@ import com.proyek.coffeeshop.repository.CustomizationRepository;
 import com.proyek.coffeeshop.service.CustomizationService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -27,8 +32,10 @@ import java.util.stream.Collectors;
 public class CustomizationServiceImpl implements CustomizationService {
 
     private final CustomizationRepository customizationRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Override
+    @Cacheable(cacheNames = CacheConfig.CUSTOMIZATIONS, key = "'all'")
     public List<CustomizationDto> getAllCustomizations() {
         log.info("Getting all customizations");
         return customizationRepository.findAll().stream()
@@ -37,6 +44,7 @@ public class CustomizationServiceImpl implements CustomizationService {
     }
 
     @Override
+    @Cacheable(cacheNames = CacheConfig.CUSTOMIZATIONS, key = "'id:' + #id")
     public CustomizationDto getCustomizationById(Long id) {
         log.info("Getting customization by ID: {}", id);
         Customization customization = getCustomizationEntityById(id);
@@ -44,6 +52,7 @@ public class CustomizationServiceImpl implements CustomizationService {
     }
 
     @Override
+    @Cacheable(cacheNames = CacheConfig.CUSTOMIZATIONS, key = "'type:' + #type")
     public List<CustomizationDto> getCustomizationsByType(String type) {
         log.info("Getting customizations by type: {}", type);
         return customizationRepository.findByType(type).stream()
@@ -60,6 +69,7 @@ public class CustomizationServiceImpl implements CustomizationService {
     }
 
     @Override
+    @Cacheable(cacheNames = CacheConfig.CUSTOMIZATIONS, key = "'free'")
     public List<CustomizationDto> getFreeCustomizations() {
         log.info("Getting free customizations");
         return customizationRepository.findFreeCustomizations().stream()
@@ -68,6 +78,7 @@ public class CustomizationServiceImpl implements CustomizationService {
     }
 
     @Override
+    @Cacheable(cacheNames = CacheConfig.CUSTOMIZATIONS, key = "'paid'")
     public List<CustomizationDto> getPaidCustomizations() {
         log.info("Getting paid customizations");
         return customizationRepository.findPaidCustomizations().stream()
@@ -77,6 +88,7 @@ public class CustomizationServiceImpl implements CustomizationService {
 
     @Override
     @Transactional
+    @CacheEvict(cacheNames = CacheConfig.CUSTOMIZATIONS, allEntries = true)
     public CustomizationDto createCustomization(CustomizationDto customizationDto) {
         log.info("Creating new customization: {}", customizationDto.getName());
 
@@ -91,6 +103,7 @@ public class CustomizationServiceImpl implements CustomizationService {
         customization.setDescription(customizationDto.getDescription());
 
         Customization savedCustomization = customizationRepository.save(customization);
+        eventPublisher.publishEvent(new CatalogChangedEvent(CacheConfig.CUSTOMIZATIONS));
         log.info("Successfully created customization with ID: {}", savedCustomization.getCustomizationId());
 
         return convertToDto(savedCustomization);
@@ -98,6 +111,7 @@ public class CustomizationServiceImpl implements CustomizationService {
 
     @Override
     @Transactional
+    @CacheEvict(cacheNames = CacheConfig.CUSTOMIZATIONS, allEntries = true)
     public CustomizationDto updateCustomization(Long id, CustomizationDto customizationDto) {
         log.info("Updating customization with ID: {}", id);
 
@@ -115,6 +129,7 @@ public class CustomizationServiceImpl implements CustomizationService {
         customization.setDescription(customizationDto.getDescription());
 
         Customization updatedCustomization = customizationRepository.save(customization);
+        eventPublisher.publishEvent(new CatalogChangedEvent(CacheConfig.CUSTOMIZATIONS));
         log.info("Successfully updated customization with ID: {}", updatedCustomization.getCustomizationId());
 
         return convertToDto(updatedCustomization);
@@ -122,11 +137,13 @@ public class CustomizationServiceImpl implements CustomizationService {
 
     @Override
     @Transactional
+    @CacheEvict(cacheNames = CacheConfig.CUSTOMIZATIONS, allEntries = true)
     public void deleteCustomization(Long id) {
         log.info("Deleting customization with ID: {}", id);
 
         Customization customization = getCustomizationEntityById(id);
         customizationRepository.delete(customization);
+        eventPublisher.publishEvent(new CatalogChangedEvent(CacheConfig.CUSTOMIZATIONS));
         log.info("Successfully deleted customization with ID: {}", id);
     }
 
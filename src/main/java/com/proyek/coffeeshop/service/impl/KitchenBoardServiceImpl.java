@@ -0,0 +1,211 @@
+package com.proyek.coffeeshop.service.impl;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.proyek.coffeeshop.dto.response.KitchenOrderDto;
+import com.proyek.coffeeshop.event.OrderEvent;
+import com.proyek.coffeeshop.event.OrderEventListener;
+import com.proyek.coffeeshop.model.enums.OrderStatus;
+import com.proyek.coffeeshop.service.KitchenBoardService;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Implementasi papan order dapur/barista.
+ * Papan adalah map order aktif di memori yang diperbarui dari outbox order. Database hanya dibaca
+ * saat layar pertama terhubung dan saat order baru masuk papan; perubahan status order yang sudah
+ * ada di papan tidak membutuhkan query. Setiap delta di-serialize sekali lalu dikirim ke semua layar,
+ * sehingga biaya per perubahan tidak bergantung pada jumlah layar yang terhubung.
+ * Snapshot dan delta dibuat di bawah lock yang sama, sehingga layar baru tidak melewatkan
+ * atau menerima dua kali perubahan yang terjadi saat ia connect.
+ * 
+ * @author Coffee Shop Team
+ * @version 1.0
+ */
+@Service
+@Slf4j
+public class KitchenBoardServiceImpl implements KitchenBoardService, OrderEventListener {
+
+    /**
+     * Status order yang perlu disiapkan atau diambil; status lain mengeluarkan order dari papan.
+     */
+    static final Set<OrderStatus> BOARD_STATUSES = EnumSet.of(
+            OrderStatus.PAID, OrderStatus.PROCESSING, OrderStatus.PREPARING,
+            OrderStatus.READY_FOR_PICKUP, OrderStatus.READY_TO_SERVE);
+
+    private final KitchenOrderLoader kitchenOrderLoader;
+    private final ObjectMapper objectMapper;
+
+    private final Object lock = new Object();
+    private final Map<Long, KitchenOrderDto> board = new LinkedHashMap<>();
+    private final List<SseSubscriber> subscribers = new CopyOnWriteArrayList<>();
+    private final AtomicLong connectionSequence = new AtomicLong();
+    private volatile boolean loaded;
+
+    @Value("${coffeeshop.kitchen.window:12h}")
+    private Duration window;
+
+    @Value("${coffeeshop.sse.timeout:30m}")
+    private Duration sseTimeout;
+
+    @Value("${coffeeshop.sse.heartbeat:15s}")
+    private Duration sseHeartbeat;
+
+    @Value("${coffeeshop.sse.queue-capacity:256}")
+    private int sseQueueCapacity;
+
+    public KitchenBoardServiceImpl(KitchenOrderLoader kitchenOrderLoader,
+                                   ObjectMapper objectMapper,
+                                   ObjectProvider<MeterRegistry> meterRegistries) {
+        this.kitchenOrderLoader = kitchenOrderLoader;
+        this.objectMapper = objectMapper;
+
+        MeterRegistry meterRegistry = meterRegistries.getIfAvailable(() -> Metrics.globalRegistry);
+        Gauge.builder("coffeeshop.kitchen.subscribers", subscribers, List::size)
+                .description("Jumlah layar papan dapur yang terhubung")
+                .register(meterRegistry);
+        Gauge.builder("coffeeshop.kitchen.orders", this, service -> service.board.size())
+                .description("Jumlah order aktif di papan dapur")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public SseEmitter subscribe() {
+        ensureLoaded();
+
+        SseSubscriber subscriber = new SseSubscriber(sseTimeout, sseHeartbeat, sseQueueCapacity, subscribers::remove);
+        synchronized (lock) {
+            subscriber.offer(SseEmitter.event()
+                    .name("snapshot")
+                    .data(toJson(new ArrayList<>(board.values())), MediaType.APPLICATION_JSON));
+            subscribers.add(subscriber);
+        }
+        subscriber.start("kitchen-sse-" + connectionSequence.incrementAndGet());
+
+        log.debug("Kitchen board subscriber connected, {} connected", subscribers.size());
+        return subscriber.getEmitter();
+    }
+
+    @Override
+    public void onOrderEvents(List<OrderEvent> events) {
+        List<Long> newOrderIds = new ArrayList<>();
+        synchronized (lock) {
+            // Belum ada layar yang pernah terhubung: papan akan dimuat dari database saat connect.
+            // Dibaca di bawah lock, sehingga event yang datang selama pemuatan pertama menunggu
+            // pemuatan selesai lalu diterapkan, bukan dibuang
+            if (!loaded) {
+                return;
+            }
+            for (OrderEvent event : events) {
+                if (BOARD_STATUSES.contains(event.getStatus()) && !board.containsKey(event.getOrderId())) {
+                    newOrderIds.add(event.getOrderId());
+                }
+            }
+        }
+        // Hanya order yang baru masuk papan dibaca dari database, di luar lock
+        Map<Long, KitchenOrderDto> newOrders = newOrderIds.isEmpty() ? Map.of() : kitchenOrderLoader.load(newOrderIds);
+
+        synchronized (lock) {
+            for (OrderEvent event : events) {
+                apply(event, newOrders);
+            }
+            pruneOlderThan(LocalDateTime.now().minus(window));
+        }
+    }
+
+    private void apply(OrderEvent event, Map<Long, KitchenOrderDto> newOrders) {
+        Long orderId = event.getOrderId();
+        if (!BOARD_STATUSES.contains(event.getStatus())) {
+            KitchenOrderDto removed = board.remove(orderId);
+            if (removed != null) {
+                broadcast("order-removed", event.getEventId(),
+                        KitchenOrderDto.builder().orderId(orderId).status(event.getStatus()).build());
+            }
+            return;
+        }
+
+        KitchenOrderDto current = board.get(orderId);
+        if (current == null) {
+            current = newOrders.get(orderId);
+        }
+        if (current == null) {
+            return;
+        }
+        KitchenOrderDto updated = current.toBuilder().status(event.getStatus()).build();
+        board.put(orderId, updated);
+        broadcast("order-updated", event.getEventId(), updated);
+    }
+
+    private void pruneOlderThan(LocalDateTime cutoff) {
+        Iterator<KitchenOrderDto> iterator = board.values().iterator();
+        while (iterator.hasNext()) {
+            KitchenOrderDto order = iterator.next();
+            if (order.getOrderDate().isBefore(cutoff)) {
+                iterator.remove();
+                broadcast("order-removed", null,
+                        KitchenOrderDto.builder().orderId(order.getOrderId()).status(order.getStatus()).build());
+            }
+        }
+    }
+
+    /**
+     * Mengirim satu delta ke semua layar. JSON dibuat sekali untuk semua layar.
+     */
+    private void broadcast(String name, Long eventId, KitchenOrderDto order) {
+        if (subscribers.isEmpty()) {
+            return;
+        }
+        String json = toJson(order);
+        for (SseSubscriber subscriber : subscribers) {
+            SseEmitter.SseEventBuilder event = SseEmitter.event().name(name).data(json, MediaType.APPLICATION_JSON);
+            if (eventId != null) {
+                event.id(String.valueOf(eventId));
+            }
+            subscriber.offer(event);
+        }
+    }
+
+    private void ensureLoaded() {
+        if (loaded) {
+            return;
+        }
+        synchronized (lock) {
+            // Cek ulang: thread lain mungkin sudah memuat papan saat kita menunggu lock
+            if (!loaded) {
+                List<KitchenOrderDto> orders = kitchenOrderLoader.loadActive(BOARD_STATUSES,
+                        LocalDateTime.now().minus(window));
+                orders.forEach(order -> board.put(order.getOrderId(), order));
+                loaded = true;
+                log.info("Loaded kitchen board with {} active orders", board.size());
+            }
+        }
+    }
+
+    private String toJson(Object value) {
+        try {
+            return objectMapper.writeValueAsString(value);
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,104 @@
+package com.proyek.coffeeshop.service.impl;
+
+import com.proyek.coffeeshop.dto.response.KitchenOrderDto;
+import com.proyek.coffeeshop.model.entity.Order;
+import com.proyek.coffeeshop.model.entity.OrderDetail;
+import com.proyek.coffeeshop.model.enums.OrderStatus;
+import com.proyek.coffeeshop.repository.OrderDetailRepository;
+import com.proyek.coffeeshop.repository.OrderRepository;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Memuat order dari database sebagai {@link KitchenOrderDto} untuk papan dan antrian dapur.
+ * Dipakai di luar transaksi order (dari dispatcher outbox atau saat startup), sehingga setiap
+ * pemuatan membuka transaksi read-only sendiri: satu query graph order ditambah satu query
+ * kustomisasi per chunk.
+ * 
+ * @author Coffee Shop Team
+ * @version 1.0
+ */
+@Component
+public class KitchenOrderLoader {
+
+    private static final int FETCH_CHUNK_SIZE = 500;
+
+    private final OrderRepository orderRepository;
+    private final OrderDetailRepository orderDetailRepository;
+    private final TransactionTemplate readOnlyTransaction;
+
+    public KitchenOrderLoader(OrderRepository orderRepository,
+                              OrderDetailRepository orderDetailRepository,
+                              PlatformTransactionManager transactionManager) {
+        this.orderRepository = orderRepository;
+        this.orderDetailRepository = orderDetailRepository;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+    }
+
+    /**
+     * Memuat order dengan status tertentu sejak waktu tertentu, terurut dari yang paling lama.
+     *
+     * @param statuses status order
+     * @param since batas awal tanggal order
+     * @return List order ringkas
+     */
+    public List<KitchenOrderDto> loadActive(Collection<OrderStatus> statuses, LocalDateTime since) {
+        return readOnlyTransaction.execute(status ->
+                toKitchenOrders(orderRepository.findWithDetailsByStatusInSince(statuses, since)));
+    }
+
+    /**
+     * Memuat order berdasarkan kumpulan ID.
+     *
+     * @param orderIds kumpulan ID order
+     * @return map order ringkas per ID; order yang tidak ditemukan tidak ada di map
+     */
+    public Map<Long, KitchenOrderDto> load(Collection<Long> orderIds) {
+        List<KitchenOrderDto> orders = readOnlyTransaction.execute(status ->
+                toKitchenOrders(orderRepository.findWithDetailsByOrderIdIn(orderIds)));
+        Map<Long, KitchenOrderDto> ordersById = new HashMap<>();
+        orders.forEach(order -> ordersById.put(order.getOrderId(), order));
+        return ordersById;
+    }
+
+    /**
+     * Dipanggil di dalam transaksi: memuat kustomisasi per chunk lalu memetakan ke DTO ringkas.
+     */
+    private List<KitchenOrderDto> toKitchenOrders(List<Order> orders) {
+        List<Long> orderIds = orders.stream().map(Order::getOrderId).toList();
+        for (int from = 0; from < orderIds.size(); from += FETCH_CHUNK_SIZE) {
+            int to = Math.min(from + FETCH_CHUNK_SIZE, orderIds.size());
+            orderDetailRepository.fetchCustomizationsByOrderIds(orderIds.subList(from, to));
+        }
+        return orders.stream().map(KitchenOrderLoader::toKitchenOrder).toList();
+    }
+
+    private static KitchenOrderDto toKitchenOrder(Order order) {
+        List<KitchenOrderDto.Item> items = new ArrayList<>();
+        for (OrderDetail detail : order.getOrderDetails()) {
+            List<String> customizations = detail.getCustomizations() == null
+                    ? List.of()
+                    : detail.getCustomizations().stream()
+                            .map(customization -> customization.getCustomization().getName())
+                            .toList();
+            items.add(new KitchenOrderDto.Item(detail.getProduct().getName(), detail.getQuantity(), customizations));
+        }
+        return KitchenOrderDto.builder()
+                .orderId(order.getOrderId())
+                .status(order.getStatus())
+                .orderDate(order.getOrderDate())
+                .customerName(order.getCustomer() != null ? order.getCustomer().getFullName() : null)
+                .customerNotes(order.getCustomerNotes())
+                .items(items)
+                .build();
+    }
+}
@@ -0,0 +1,321 @@
+package com.proyek.coffeeshop.service.impl;
+
+import com.proyek.coffeeshop.dto.response.KitchenOrderDto;
+import com.proyek.coffeeshop.dto.response.KitchenTaskDto;
+import com.proyek.coffeeshop.event.OrderEvent;
+import com.proyek.coffeeshop.event.OrderEventListener;
+import com.proyek.coffeeshop.exception.BadRequestException;
+import com.proyek.coffeeshop.exception.ResourceNotFoundException;
+import com.proyek.coffeeshop.model.enums.OrderStatus;
+import com.proyek.coffeeshop.service.KitchenQueueService;
+import com.proyek.coffeeshop.service.OrderService;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Implementasi antrian kerja dapur di memori.
+ * Tugas yang belum diambil disimpan di {@link TreeSet} terurut (janji waktu siap, biaya persiapan,
+ * ID order), sehingga mengambil tugas teratas dan mengeluarkan tugas karena perubahan status
+ * bernilai O(log n); tugas yang sudah diambil hanya dicatat di map per ID order.
+ * Janji waktu siap = tanggal order + SLA + biaya persiapan x waktu per unit, dengan biaya persiapan
+ * = jumlah item x (1 + jumlah kustomisasi). Antrian dibangun dari database saat startup dan
+ * diperbarui dari outbox order; pengambilan station tidak pernah menulis ke database.
+ * Isi antrian hilang saat restart: tugas yang sedang diambil kembali ke antrian tanpa station.
+ * 
+ * @author Coffee Shop Team
+ * @version 1.0
+ */
+@Service
+@Slf4j
+public class KitchenQueueServiceImpl implements KitchenQueueService, OrderEventListener {
+
+    /**
+     * Status order yang masih harus disiapkan dapur.
+     */
+    static final Set<OrderStatus> QUEUE_STATUSES = EnumSet.of(
+            OrderStatus.PAID, OrderStatus.PROCESSING, OrderStatus.PREPARING);
+
+    private static final Comparator<KitchenTask> PRIORITY = Comparator
+            .comparing(KitchenTask::getPromisedReadyAt)
+            .thenComparingInt(KitchenTask::getPrepUnits)
+            .thenComparing(KitchenTask::getOrderId);
+
+    private final KitchenOrderLoader kitchenOrderLoader;
+    private final OrderService orderService;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final TreeSet<KitchenTask> pending = new TreeSet<>(PRIORITY);
+    private final Map<Long, KitchenTask> tasksByOrderId = new HashMap<>();
+    private boolean loaded;
+
+    @Value("${coffeeshop.kitchen.window:12h}")
+    private Duration window;
+
+    @Value("${coffeeshop.kitchen.queue.sla:10m}")
+    private Duration sla;
+
+    @Value("${coffeeshop.kitchen.queue.prep-unit:1m}")
+    private Duration prepUnit;
+
+    @Value("${coffeeshop.kitchen.queue.max-next:50}")
+    private int maxNext;
+
+    public KitchenQueueServiceImpl(KitchenOrderLoader kitchenOrderLoader,
+                                   OrderService orderService,
+                                   ObjectProvider<MeterRegistry> meterRegistries) {
+        this.kitchenOrderLoader = kitchenOrderLoader;
+        this.orderService = orderService;
+
+        MeterRegistry meterRegistry = meterRegistries.getIfAvailable(() -> Metrics.globalRegistry);
+        Gauge.builder("coffeeshop.kitchen.queue.pending", pending, TreeSet::size)
+                .description("Jumlah tugas dapur yang belum diambil station")
+                .register(meterRegistry);
+        Gauge.builder("coffeeshop.kitchen.queue.claimed", this,
+                        service -> service.tasksByOrderId.size() - service.pending.size())
+                .description("Jumlah tugas dapur yang sedang dikerjakan station")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Membangun antrian dari database saat aplikasi siap.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        lock.lock();
+        try {
+            ensureLoaded();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public List<KitchenTaskDto> getNextTasks(int limit) {
+        int size = Math.min(Math.max(limit, 1), maxNext);
+        lock.lock();
+        try {
+            ensureLoaded();
+            List<KitchenTaskDto> tasks = new ArrayList<>(Math.min(size, pending.size()));
+            Iterator<KitchenTask> iterator = pending.iterator();
+            while (tasks.size() < size && iterator.hasNext()) {
+                tasks.add(iterator.next().toDto());
+            }
+            return tasks;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public Optional<KitchenTaskDto> claimNext(String station) {
+        lock.lock();
+        try {
+            ensureLoaded();
+            KitchenTask task = pending.pollFirst();
+            if (task == null) {
+                return Optional.empty();
+            }
+            task.station = station;
+            task.claimedAt = LocalDateTime.now();
+            log.debug("Station {} claimed order ID: {}", station, task.getOrderId());
+            return Optional.of(task.toDto());
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public KitchenTaskDto complete(Long orderId, String station) {
+        OrderStatus currentStatus;
+        lock.lock();
+        try {
+            currentStatus = findClaimedTask(orderId, station).status;
+        } finally {
+            lock.unlock();
+        }
+
+        // Satu-satunya tulisan ke database: status order, dilakukan di luar lock antrian
+        OrderStatus readyStatus = currentStatus == OrderStatus.PROCESSING
+                ? OrderStatus.READY_FOR_PICKUP
+                : OrderStatus.READY_TO_SERVE;
+        orderService.updateOrderStatus(orderId, readyStatus);
+
+        lock.lock();
+        try {
+            KitchenTask task = tasksByOrderId.remove(orderId);
+            if (task == null) {
+                // Sudah dikeluarkan oleh event outbox dari perubahan status di atas
+                return KitchenTaskDto.builder().orderId(orderId).status(readyStatus).station(station).build();
+            }
+            pending.remove(task);
+            task.status = readyStatus;
+            log.info("Station {} completed order ID: {}", station, orderId);
+            return task.toDto();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public KitchenTaskDto release(Long orderId, String station) {
+        lock.lock();
+        try {
+            KitchenTask task = findClaimedTask(orderId, station);
+            task.station = null;
+            task.claimedAt = null;
+            pending.add(task);
+            log.debug("Station {} released order ID: {}", station, orderId);
+            return task.toDto();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void onOrderEvents(List<OrderEvent> events) {
+        List<Long> newOrderIds = new ArrayList<>();
+        lock.lock();
+        try {
+            // Sebelum antrian dibangun, event diabaikan: perubahannya sudah terbaca saat pembangunan
+            if (!loaded) {
+                return;
+            }
+            for (OrderEvent event : events) {
+                if (QUEUE_STATUSES.contains(event.getStatus()) && !tasksByOrderId.containsKey(event.getOrderId())) {
+                    newOrderIds.add(event.getOrderId());
+                }
+            }
+        } finally {
+            lock.unlock();
+        }
+        // Hanya order yang baru masuk antrian dibaca dari database, di luar lock
+        Map<Long, KitchenOrderDto> newOrders = newOrderIds.isEmpty() ? Map.of() : kitchenOrderLoader.load(newOrderIds);
+
+        lock.lock();
+        try {
+            for (OrderEvent event : events) {
+                apply(event, newOrders);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void apply(OrderEvent event, Map<Long, KitchenOrderDto> newOrders) {
+        KitchenTask task = tasksByOrderId.get(event.getOrderId());
+        if (!QUEUE_STATUSES.contains(event.getStatus())) {
+            if (task != null) {
+                tasksByOrderId.remove(event.getOrderId());
+                pending.remove(task);
+            }
+            return;
+        }
+        if (task != null) {
+            // Status tidak ikut menentukan urutan, jadi cukup diganti di tempat
+            task.status = event.getStatus();
+            return;
+        }
+        KitchenOrderDto order = newOrders.get(event.getOrderId());
+        if (order != null) {
+            order.setStatus(event.getStatus());
+            add(order);
+        }
+    }
+
+    /**
+     * Harus dipanggil dengan lock dipegang.
+     */
+    private void ensureLoaded() {
+        if (loaded) {
+            return;
+        }
+        List<KitchenOrderDto> orders = kitchenOrderLoader.loadActive(QUEUE_STATUSES, LocalDateTime.now().minus(window));
+        orders.forEach(this::add);
+        loaded = true;
+        log.info("Rebuilt kitchen queue with {} orders", orders.size());
+    }
+
+    private void add(KitchenOrderDto order) {
+        int prepUnits = 0;
+        for (KitchenOrderDto.Item item : order.getItems()) {
+            prepUnits += item.getQuantity() * (1 + item.getCustomizations().size());
+        }
+        LocalDateTime promisedReadyAt = order.getOrderDate().plus(sla).plus(prepUnit.multipliedBy(prepUnits));
+
+        KitchenTask task = new KitchenTask(order, promisedReadyAt, prepUnits);
+        tasksByOrderId.put(task.getOrderId(), task);
+        pending.add(task);
+    }
+
+    private KitchenTask findClaimedTask(Long orderId, String station) {
+        KitchenTask task = tasksByOrderId.get(orderId);
+        if (task == null) {
+            throw new ResourceNotFoundException("Order tidak ada di antrian dapur: " + orderId);
+        }
+        if (!station.equals(task.station)) {
+            throw new BadRequestException("Order " + orderId + " tidak sedang dikerjakan station " + station);
+        }
+        return task;
+    }
+
+    /**
+     * Satu tugas di antrian. Field urutan bersifat final; status dan station berubah
+     * di bawah lock antrian.
+     */
+    @Getter
+    private static final class KitchenTask {
+
+        private final Long orderId;
+        private final LocalDateTime promisedReadyAt;
+        private final int prepUnits;
+        private final KitchenOrderDto order;
+        private OrderStatus status;
+        private String station;
+        private LocalDateTime claimedAt;
+
+        private KitchenTask(KitchenOrderDto order, LocalDateTime promisedReadyAt, int prepUnits) {
+            this.orderId = order.getOrderId();
+            this.promisedReadyAt = promisedReadyAt;
+            this.prepUnits = prepUnits;
+            this.order = order;
+            this.status = order.getStatus();
+        }
+
+        private KitchenTaskDto toDto() {
+            return KitchenTaskDto.builder()
+                    .orderId(orderId)
+                    .status(status)
+                    .orderDate(order.getOrderDate())
+                    .promisedReadyAt(promisedReadyAt)
+                    .prepUnits(prepUnits)
+                    .station(station)
+                    .claimedAt(claimedAt)
+                    .customerName(order.getCustomerName())
+                    .customerNotes(order.getCustomerNotes())
+                    .items(order.getItems())
+                    .build();
+        }
+    }
+}
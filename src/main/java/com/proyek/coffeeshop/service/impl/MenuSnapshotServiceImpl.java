@@ -0,0 +1,156 @@
+package com.proyek.coffeeshop.service.impl;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.proyek.coffeeshop.dto.response.*;
+import com.proyek.coffeeshop.event.CatalogChangedEvent;
+import com.proyek.coffeeshop.model.entity.Product;
+import com.proyek.coffeeshop.repository.CategoryRepository;
+import com.proyek.coffeeshop.repository.CustomizationRepository;
+import com.proyek.coffeeshop.repository.PaymentMethodRepository;
+import com.proyek.coffeeshop.repository.ProductRepository;
+import com.proyek.coffeeshop.service.MenuSnapshotService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Collectors;
+
+/**
+ * Implementasi service snapshot menu.
+ * Snapshot disimpan sebagai objek immutable dalam field volatile sehingga request
+ * baca tidak perlu lock; hanya satu thread yang membangun ulang snapshot setelah
+ * {@link CatalogChangedEvent}, thread lain menunggu hasil yang sama.
+ * 
+ * @author Coffee Shop Team
+ * @version 1.0
+ */
+@Service
+@Slf4j
+public class MenuSnapshotServiceImpl implements MenuSnapshotService {
+
+    private final ProductRepository productRepository;
+    private final CategoryRepository categoryRepository;
+    private final CustomizationRepository customizationRepository;
+    private final PaymentMethodRepository paymentMethodRepository;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate readOnlyTransaction;
+
+    private final AtomicLong catalogVersion = new AtomicLong(1);
+    private final ReentrantLock rebuildLock = new ReentrantLock();
+    private volatile MenuSnapshot snapshot;
+
+    public MenuSnapshotServiceImpl(ProductRepository productRepository,
+                                   CategoryRepository categoryRepository,
+                                   CustomizationRepository customizationRepository,
+                                   PaymentMethodRepository paymentMethodRepository,
+                                   ObjectMapper objectMapper,
+                                   PlatformTransactionManager transactionManager) {
+        this.productRepository = productRepository;
+        this.categoryRepository = categoryRepository;
+        this.customizationRepository = customizationRepository;
+        this.paymentMethodRepository = paymentMethodRepository;
+        this.objectMapper = objectMapper;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+    }
+
+    @Override
+    public MenuSnapshot getSnapshot() {
+        MenuSnapshot current = snapshot;
+        if (current != null && current.getVersion() == catalogVersion.get()) {
+            return current;
+        }
+
+        rebuildLock.lock();
+        try {
+            // Cek ulang: thread lain mungkin sudah membangun snapshot saat kita menunggu lock
+            long version = catalogVersion.get();
+            current = snapshot;
+            if (current != null && current.getVersion() == version) {
+                return current;
+            }
+
+            current = build(version);
+            snapshot = current;
+            return current;
+        } finally {
+            rebuildLock.unlock();
+        }
+    }
+
+    @Override
+    public long getCatalogVersion() {
+        return catalogVersion.get();
+    }
+
+    /**
+     * Menaikkan versi katalog setelah perubahan di-commit.
+     * Snapshot yang sedang dibangun dengan versi lama otomatis dianggap usang
+     * dan akan dibangun ulang pada request berikutnya.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCatalogChanged(CatalogChangedEvent event) {
+        long version = catalogVersion.incrementAndGet();
+        log.debug("Catalog changed ({}), menu snapshot version is now {}", event.getCatalog(), version);
+    }
+
+    /**
+     * Membaca katalog langsung dari database (bukan dari cache katalog) dalam satu
+     * transaksi read-only, sehingga keempat daftar berasal dari state yang konsisten.
+     */
+    private MenuSnapshot build(long version) {
+        long start = System.nanoTime();
+
+        MenuDto menu = readOnlyTransaction.execute(status -> new MenuDto(
+                version,
+                productRepository.findAllWithCategory().stream()
+                        .map(this::toProductDto)
+                        .collect(Collectors.toList()),
+                categoryRepository.findAll(Sort.by("categoryId")).stream()
+                        .map(category -> new CategoryDto(category.getCategoryId(), category.getName()))
+                        .collect(Collectors.toList()),
+                customizationRepository.findAll(Sort.by("customizationId")).stream()
+                        .map(customization -> new CustomizationDto(
+                                customization.getCustomizationId(),
+                                customization.getName(),
+                                customization.getType(),
+                                customization.getPriceAdjustment(),
+                                customization.getDescription()))
+                        .collect(Collectors.toList()),
+                paymentMethodRepository.findAll(Sort.by("paymentId")).stream()
+                        .map(paymentMethod -> new PaymentMethodDto(
+                                paymentMethod.getPaymentId(),
+                                paymentMethod.getName(),
+                                paymentMethod.getDescription()))
+                        .collect(Collectors.toList())));
+
+        MenuSnapshot built = new MenuSnapshot(version, encode(menu.getProducts()), encode(menu));
+        log.info("Built menu snapshot version {} in {} ms", version, (System.nanoTime() - start) / 1_000_000);
+        return built;
+    }
+
+    private ProductDto toProductDto(Product product) {
+        return new ProductDto(
+                product.getProductId(),
+                product.getName(),
+                product.getDescription(),
+                product.getPrice(),
+                product.getImageUrl(),
+                new CategoryDto(product.getCategory().getCategoryId(), product.getCategory().getName())
+        );
+    }
+
+    private PreEncodedJson encode(Object body) {
+        try {
+            return PreEncodedJson.of(objectMapper.writeValueAsBytes(body));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Gagal membuat snapshot menu", e);
+        }
+    }
+}
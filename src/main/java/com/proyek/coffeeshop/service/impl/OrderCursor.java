@@ -0,0 +1,68 @@
+package com.proyek.coffeeshop.service.impl;
+
+import com.proyek.coffeeshop.exception.BadRequestException;
+import com.proyek.coffeeshop.model.entity.Order;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * Posisi keyset (order_date, order_id) dari order terakhir pada satu halaman.
+ * Dikirim ke client sebagai token base64url yang opaque.
+ * <p>
+ * Halaman berikutnya tidak mengulang maupun melewatkan order yang sudah ter-commit
+ * saat cursor dibuat, tetapi cursor tidak kebal terhadap insert bersamaan: order_date
+ * diambil dari jam aplikasi sebelum commit dan order_id dialokasikan per blok, sehingga
+ * order yang commit belakangan bisa jatuh di belakang cursor dan tidak pernah muncul.
+ * Feed per status juga bergeser jika status order berubah di antara dua halaman.
+ * 
+ * @author Coffee Shop Team
+ * @version 1.0
+ */
+final class OrderCursor {
+
+    private static final char SEPARATOR = '|';
+
+    private final LocalDateTime orderDate;
+    private final Long orderId;
+
+    private OrderCursor(LocalDateTime orderDate, Long orderId) {
+        this.orderDate = orderDate;
+        this.orderId = orderId;
+    }
+
+    static OrderCursor after(Order order) {
+        return new OrderCursor(order.getOrderDate(), order.getOrderId());
+    }
+
+    /**
+     * Membaca token dari client.
+     *
+     * @throws BadRequestException jika token tidak bisa dibaca
+     */
+    static OrderCursor decode(String token) {
+        try {
+            String value = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int separator = value.indexOf(SEPARATOR);
+            return new OrderCursor(LocalDateTime.parse(value.substring(0, separator)),
+                    Long.valueOf(value.substring(separator + 1)));
+        } catch (IllegalArgumentException | IndexOutOfBoundsException | DateTimeParseException e) {
+            throw new BadRequestException("Cursor tidak valid");
+        }
+    }
+
+    String encode() {
+        String value = orderDate.toString() + SEPARATOR + orderId;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(value.getBytes(StandardCharsets.UTF_8));
+    }
+
+    LocalDateTime getOrderDate() {
+        return orderDate;
+    }
+
+    Long getOrderId() {
+        return orderId;
+    }
+}
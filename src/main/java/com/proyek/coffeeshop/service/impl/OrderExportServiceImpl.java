@@ -0,0 +1,169 @@
+package com.proyek.coffeeshop.service.impl;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.proyek.coffeeshop.model.enums.ExportFormat;
+import com.proyek.coffeeshop.model.value.Money;
+import com.proyek.coffeeshop.repository.OrderDetailRepository;
+import com.proyek.coffeeshop.repository.projection.OrderExportRow;
+import com.proyek.coffeeshop.service.OrderExportService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+/**
+ * Implementasi service ekspor order.
+ * Setiap baris dari cursor langsung ditulis ke writer dengan buffer berukuran tetap;
+ * tidak ada daftar order yang dikumpulkan di memori.
+ * 
+ * @author Coffee Shop Team
+ * @version 1.0
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class OrderExportServiceImpl implements OrderExportService {
+
+    private static final int WRITE_BUFFER_SIZE = 64 * 1024;
+    private static final int FLUSH_EVERY_ROWS = 1000;
+
+    private static final String[] CSV_HEADER = {
+            "order_id", "order_date", "status", "customer_name", "kasir_username", "payment_method",
+            "order_total", "detail_id", "product_id", "product_name", "quantity", "unit_price", "subtotal_price"
+    };
+
+    private final OrderDetailRepository orderDetailRepository;
+    private final ObjectMapper objectMapper;
+
+    @Override
+    @Transactional(readOnly = true)
+    public long exportOrders(LocalDate startDate, LocalDate endDate, ExportFormat format, OutputStream out) throws IOException {
+        log.info("Exporting orders from {} to {} as {}", startDate, endDate, format);
+
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8), WRITE_BUFFER_SIZE);
+        long rows;
+        try (Stream<OrderExportRow> stream = orderDetailRepository.streamExportRows(
+                startDate.atStartOfDay(), endDate.plusDays(1).atStartOfDay())) {
+            rows = format == ExportFormat.NDJSON
+                    ? writeNdjson(stream.iterator(), writer)
+                    : writeCsv(stream.iterator(), writer);
+        }
+        writer.flush();
+
+        log.info("Exported {} order lines from {} to {}", rows, startDate, endDate);
+        return rows;
+    }
+
+    private long writeCsv(Iterator<OrderExportRow> rows, Writer writer) throws IOException {
+        writer.write(String.join(",", CSV_HEADER));
+        writer.write('\n');
+
+        long count = 0;
+        while (rows.hasNext()) {
+            OrderExportRow row = rows.next();
+            writer.write(String.valueOf(row.getOrderId()));
+            writer.write(',');
+            writer.write(csv(row.getOrderDate()));
+            writer.write(',');
+            writer.write(csv(row.getStatus()));
+            writer.write(',');
+            writer.write(csv(row.getCustomerName()));
+            writer.write(',');
+            writer.write(csv(row.getKasirUsername()));
+            writer.write(',');
+            writer.write(csv(row.getPaymentMethod()));
+            writer.write(',');
+            writer.write(plain(row.getOrderTotal()));
+            writer.write(',');
+            writer.write(String.valueOf(row.getDetailId()));
+            writer.write(',');
+            writer.write(String.valueOf(row.getProductId()));
+            writer.write(',');
+            writer.write(csv(row.getProductName()));
+            writer.write(',');
+            writer.write(String.valueOf(row.getQuantity()));
+            writer.write(',');
+            writer.write(plain(row.getUnitPrice()));
+            writer.write(',');
+            writer.write(plain(row.getSubtotalPrice()));
+            writer.write('\n');
+
+            if (++count % FLUSH_EVERY_ROWS == 0) {
+                writer.flush();
+            }
+        }
+        return count;
+    }
+
+    private long writeNdjson(Iterator<OrderExportRow> rows, Writer writer) throws IOException {
+        // Generator tidak boleh menutup writer; penutupan output stream urusan pemanggil
+        JsonGenerator generator = objectMapper.getFactory().createGenerator(writer)
+                .disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+
+        long count = 0;
+        while (rows.hasNext()) {
+            OrderExportRow row = rows.next();
+            generator.writeStartObject();
+            generator.writeNumberField("orderId", row.getOrderId());
+            generator.writeStringField("orderDate", String.valueOf(row.getOrderDate()));
+            generator.writeStringField("status", String.valueOf(row.getStatus()));
+            generator.writeStringField("customerName", row.getCustomerName());
+            generator.writeStringField("kasirUsername", row.getKasirUsername());
+            generator.writeStringField("paymentMethod", row.getPaymentMethod());
+            writeMoneyField(generator, "orderTotal", row.getOrderTotal());
+            generator.writeNumberField("detailId", row.getDetailId());
+            generator.writeNumberField("productId", row.getProductId());
+            generator.writeStringField("productName", row.getProductName());
+            generator.writeNumberField("quantity", row.getQuantity());
+            writeMoneyField(generator, "unitPrice", row.getUnitPrice());
+            writeMoneyField(generator, "subtotalPrice", row.getSubtotalPrice());
+            generator.writeEndObject();
+            generator.writeRaw('\n');
+
+            if (++count % FLUSH_EVERY_ROWS == 0) {
+                generator.flush();
+            }
+        }
+        generator.close();
+        return count;
+    }
+
+    /**
+     * Meng-escape nilai CSV sesuai RFC 4180: diberi tanda kutip jika mengandung
+     * koma, kutip, atau baris baru.
+     */
+    private String csv(Object value) {
+        if (value == null) {
+            return "";
+        }
+        String text = value.toString();
+        if (text.indexOf(',') < 0 && text.indexOf('"') < 0 && text.indexOf('\n') < 0 && text.indexOf('\r') < 0) {
+            return text;
+        }
+        return '"' + text.replace("\"", "\"\"") + '"';
+    }
+
+    private String plain(Money value) {
+        return value == null ? "" : value.toString();
+    }
+
+    private void writeMoneyField(JsonGenerator generator, String name, Money value) throws IOException {
+        generator.writeFieldName(name);
+        if (value == null) {
+            generator.writeNull();
+        } else {
+            generator.writeNumber(value.toString());
+        }
+    }
+}
@@ -0,0 +1,236 @@
+package com.proyek.coffeeshop.service.impl;
+
+import com.proyek.coffeeshop.dto.response.*;
+import com.proyek.coffeeshop.model.entity.Order;
+import com.proyek.coffeeshop.model.entity.OrderDetail;
+import com.proyek.coffeeshop.model.entity.OrderDetailCustomization;
+import com.proyek.coffeeshop.model.entity.Product;
+import com.proyek.coffeeshop.model.value.PriceBook;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Mapper dari graph entitas Order ke DTO response.
+ * Dipisahkan dari OrderServiceImpl agar tidak bergantung pada repository
+ * dan bisa diukur sendiri di benchmark JMH.
+ * Order yang baru dibuat memakai overload dengan {@link PriceBook}: produk dan kustomisasinya
+ * hanya berupa referensi (proxy), sehingga data tampilan diambil dari price book
+ * agar proxy tidak ter-inisialisasi (tanpa query tambahan).
+ * 
+ * @author Coffee Shop Team
+ * @version 1.0
+ */
+@Component
+public class OrderMapper {
+
+    /**
+     * Convert Order entity to OrderResponseDto.
+     */
+    public OrderResponseDto toOrderResponseDto(Order order) {
+        return toOrderResponseDto(order, null);
+    }
+
+    /**
+     * Convert Order entity to OrderResponseDto, data produk dan kustomisasi diambil dari price book.
+     *
+     * @param priceBook price book yang dipakai saat order dibuat, atau null untuk membaca dari entitas
+     */
+    public OrderResponseDto toOrderResponseDto(Order order, PriceBook priceBook) {
+        CustomerDto customerDto = null; // Initialize as null
+        if (order.getCustomer() != null) { // Check if customer exists
+            customerDto = new CustomerDto(
+                    order.getCustomer().getCustomerId(),
+                    order.getCustomer().getFullName(),
+                    order.getCustomer().getPhoneNumber(),
+                    order.getCustomer().getAddress()
+            );
+        }        PaymentMethodDto paymentMethodDto = new PaymentMethodDto(
+                order.getPaymentMethod().getPaymentId(),
+                order.getPaymentMethod().getName(),
+                order.getPaymentMethod().getDescription() // Changed from getType() to getDescription()
+        );
+
+        List<OrderDetailResponseDto> orderDetailsDto = new ArrayList<>();
+        if (order.getOrderDetails() != null) {
+            orderDetailsDto = order.getOrderDetails().stream()
+                    .map(orderDetail -> toOrderDetailResponseDto(orderDetail, priceBook))
+                    .collect(Collectors.toList());
+        }
+
+        return new OrderResponseDto(
+                order.getOrderId(),
+                customerDto,
+                order.getOrderDate(),
+                order.getTotalAmount(),
+                order.getStatus(),
+                paymentMethodDto,
+                order.getCustomerNotes(),
+                orderDetailsDto
+        );
+    }
+
+    /**
+     * Convert OrderDetail entity to OrderDetailResponseDto.
+     */
+    private OrderDetailResponseDto toOrderDetailResponseDto(OrderDetail orderDetail, PriceBook priceBook) {
+        ProductDto productDto = priceBook != null
+                ? toProductDto(priceBook.product(orderDetail.getProduct().getProductId()))
+                : toProductDto(orderDetail.getProduct());
+
+        List<OrderDetailCustomizationResponseDto> customizationsDto = new ArrayList<>();
+        if (orderDetail.getCustomizations() != null) {
+            customizationsDto = orderDetail.getCustomizations().stream()
+                    .map(customization -> toOrderDetailCustomizationResponseDto(customization, priceBook))
+                    .collect(Collectors.toList());
+        }
+
+        return new OrderDetailResponseDto(
+                orderDetail.getDetailId(),
+                productDto,
+                orderDetail.getQuantity(),
+                orderDetail.getUnitPrice(),
+                orderDetail.getSubtotalPrice(),
+                customizationsDto
+        );
+    }
+
+    /**
+     * Convert OrderDetailCustomization entity to OrderDetailCustomizationResponseDto.
+     */
+    private OrderDetailCustomizationResponseDto toOrderDetailCustomizationResponseDto(
+            OrderDetailCustomization customization, PriceBook priceBook) {
+        CustomizationDto customizationDto;
+        if (priceBook != null) {
+            PriceBook.CustomizationEntry entry = priceBook.customization(
+                    customization.getCustomization().getCustomizationId());
+            customizationDto = new CustomizationDto(
+                    entry.getCustomizationId(),
+                    entry.getName(),
+                    entry.getType(),
+                    entry.getPriceAdjustment().toBigDecimal(),
+                    entry.getDescription()
+            );
+        } else {
+            customizationDto = new CustomizationDto(
+                    customization.getCustomization().getCustomizationId(),
+                    customization.getCustomization().getName(),
+                    customization.getCustomization().getType(),
+                    customization.getCustomization().getPriceAdjustment(),
+                    customization.getCustomization().getDescription()
+            );
+        }
+
+        return new OrderDetailCustomizationResponseDto(
+                customization.getDetailCustomizationId(),
+                customizationDto,
+                customization.getCustomizationNameSnapshot(),
+                customization.getPriceAdjustmentSnapshot()
+        );
+    }
+
+    /**
+     * Convert Order entity to CashierOrderResponseDTO.
+     */
+    public CashierOrderResponseDTO toCashierOrderResponseDto(Order order) {
+        String kasirUsername = order.getProcessedByKasir() != null
+                ? order.getProcessedByKasir().getUsername()
+                : null;
+        return toCashierOrderResponseDto(order, null, kasirUsername);
+    }
+
+    /**
+     * Convert Order entity to CashierOrderResponseDTO, data produk dan kustomisasi diambil dari price book.
+     * Username kasir diberikan langsung karena kasir pada order baru hanya berupa referensi.
+     *
+     * @param priceBook price book yang dipakai saat order dibuat, atau null untuk membaca dari entitas
+     * @param kasirUsername username kasir yang memproses order
+     */
+    public CashierOrderResponseDTO toCashierOrderResponseDto(Order order, PriceBook priceBook, String kasirUsername) {
+        List<OrderItemResponseDTO> orderItemResponseDTOS = new ArrayList<>();
+        if (order.getOrderDetails() != null) {
+            orderItemResponseDTOS = order.getOrderDetails().stream()
+                    .map(orderDetail -> toOrderItemResponseDto(orderDetail, priceBook))
+                    .collect(Collectors.toList());
+        }
+
+        return new CashierOrderResponseDTO(
+                order.getOrderId(),
+                order.getOrderDate(),
+                kasirUsername,
+                orderItemResponseDTOS,
+                order.getTotalAmount(),
+                order.getPaymentMethod().getName(),
+                order.getStatus(),
+                order.getAmountTendered(),
+                order.getChangeGiven(),
+                order.getCustomerNotes()
+        );
+    }
+
+    /**
+     * Convert OrderDetail entity to OrderItemResponseDTO.
+     */
+    private OrderItemResponseDTO toOrderItemResponseDto(OrderDetail orderDetail, PriceBook priceBook) {
+        ProductDto productDto = null;
+        if (orderDetail.getProduct() != null) {
+            productDto = priceBook != null
+                    ? toProductDto(priceBook.product(orderDetail.getProduct().getProductId()))
+                    : toProductDto(orderDetail.getProduct());
+        }
+
+        List<OrderDetailCustomizationResponseDto> customizationsDto = new ArrayList<>();
+        if (orderDetail.getCustomizations() != null) {
+            customizationsDto = orderDetail.getCustomizations().stream()
+                    .map(customization -> toOrderDetailCustomizationResponseDto(customization, priceBook))
+                    .collect(Collectors.toList());
+        }
+
+        // Use productDto and other fields to construct the response DTO
+        return OrderItemResponseDTO.builder()
+                .detailId(orderDetail.getDetailId())
+                .product(productDto)
+                .quantity(orderDetail.getQuantity())
+                .unitPrice(orderDetail.getUnitPrice())
+                .subtotalPrice(orderDetail.getSubtotalPrice())
+                .customizations(customizationsDto)
+                .build();
+    }
+
+    private ProductDto toProductDto(Product product) {
+        CategoryDto categoryDto = null;
+        if (product.getCategory() != null) {
+            categoryDto = new CategoryDto(
+                    product.getCategory().getCategoryId(),
+                    product.getCategory().getName()
+            );
+        }
+
+        return new ProductDto(
+                product.getProductId(),
+                product.getName(),
+                product.getDescription(),
+                product.getPrice(),
+                product.getImageUrl(),
+                categoryDto
+        );
+    }
+
+    private ProductDto toProductDto(PriceBook.ProductEntry product) {
+        CategoryDto categoryDto = null;
+        if (product.getCategoryId() != null) {
+            categoryDto = new CategoryDto(product.getCategoryId(), product.getCategoryName());
+        }
+
+        return new ProductDto(
+                product.getProductId(),
+                product.getName(),
+                product.getDescription(),
+                product.getPrice().toBigDecimal(),
+                product.getImageUrl(),
+                categoryDto
+        );
+    }
+}
@@ -0,0 +1,235 @@
+package com.proyek.coffeeshop.service.impl;
+
+import com.proyek.coffeeshop.event.OrderEvent;
+import com.proyek.coffeeshop.event.OrderEventListener;
+import com.proyek.coffeeshop.model.entity.Order;
+import com.proyek.coffeeshop.model.entity.OrderOutboxEvent;
+import com.proyek.coffeeshop.model.enums.OrderEventType;
+import com.proyek.coffeeshop.model.enums.OrderStatus;
+import com.proyek.coffeeshop.repository.OrderOutboxRepository;
+import com.proyek.coffeeshop.service.OrderOutboxService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Collectors;
+
+/**
+ * Implementasi service untuk outbox event order.
+ * Dispatcher mengirim event berurutan event_id. Setiap perubahan order yang sudah ada mengunci
+ * baris order ({@code OrderRepository.lockById}) sebelum menulis event, sehingga perubahan
+ * berikutnya baru menulis event setelah yang sebelumnya di-commit dan urutan per order terjaga.
+ * Event baru ditandai terkirim setelah semua listener berhasil. Jika batch gagal, event dikirim
+ * ulang per order: order yang berhasil ditandai terkirim, sedangkan order yang gagal dicoba lagi
+ * pada polling berikutnya (at-least-once) sampai {@code coffeeshop.outbox.max-attempts}, lalu
+ * diparkir bersama semua event berikutnya dari order tersebut.
+ * Dispatcher berjalan in-process, sehingga diasumsikan hanya satu instance aplikasi yang aktif.
+ * 
+ * @author Coffee Shop Team
+ * @version 1.0
+ */
+@Service
+@Slf4j
+public class OrderOutboxServiceImpl implements OrderOutboxService {
+
+    private final OrderOutboxRepository orderOutboxRepository;
+    private final ObjectProvider<OrderEventListener> listeners;
+    private final MeterRegistry meterRegistry;
+    private final Timer endToEndLatency;
+    private final Counter parked;
+    private final AtomicLong pendingEvents = new AtomicLong();
+    private final AtomicReference<LocalDateTime> oldestPendingAt = new AtomicReference<>();
+
+    @Value("${coffeeshop.outbox.max-attempts:10}")
+    private int maxAttempts;
+
+    public OrderOutboxServiceImpl(OrderOutboxRepository orderOutboxRepository,
+                                  ObjectProvider<OrderEventListener> listeners,
+                                  ObjectProvider<MeterRegistry> meterRegistries) {
+        this.orderOutboxRepository = orderOutboxRepository;
+        this.listeners = listeners;
+        this.meterRegistry = meterRegistries.getIfAvailable(() -> Metrics.globalRegistry);
+
+        this.endToEndLatency = Timer.builder("coffeeshop.outbox.latency")
+                .description("Waktu dari perubahan order sampai event dikirim ke semua listener")
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .register(meterRegistry);
+        this.parked = Counter.builder("coffeeshop.outbox.parked")
+                .description("Event order yang diparkir dan tidak akan dikirim ulang secara otomatis")
+                .register(meterRegistry);
+        Gauge.builder("coffeeshop.outbox.lag.events", pendingEvents, AtomicLong::get)
+                .description("Jumlah event order yang belum terkirim")
+                .register(meterRegistry);
+        Gauge.builder("coffeeshop.outbox.lag.seconds", oldestPendingAt, OrderOutboxServiceImpl::secondsSince)
+                .description("Umur event order tertua yang belum terkirim")
+                .register(meterRegistry);
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void record(Order order, OrderEventType type, OrderStatus previousStatus) {
+        OrderOutboxEvent event = new OrderOutboxEvent();
+        event.setOrderId(order.getOrderId());
+        event.setCustomerId(order.getCustomer() != null ? order.getCustomer().getCustomerId() : null);
+        event.setEventType(type);
+        event.setPreviousStatus(previousStatus);
+        event.setStatus(order.getStatus());
+        event.setOccurredAt(LocalDateTime.now());
+        orderOutboxRepository.save(event);
+    }
+
+    @Override
+    public int dispatchPending(int batchSize) {
+        List<OrderOutboxEvent> batch = orderOutboxRepository.findPending(PageRequest.of(0, batchSize));
+        if (batch.isEmpty()) {
+            pendingEvents.set(0);
+            oldestPendingAt.set(null);
+            return 0;
+        }
+        oldestPendingAt.set(batch.get(0).getOccurredAt());
+        pendingEvents.set(orderOutboxRepository.countByDispatchedAtIsNullAndParkedAtIsNull());
+
+        // Event order yang sudah punya event terparkir tidak boleh mendahuluinya
+        Set<Long> blockedOrderIds = new HashSet<>(orderOutboxRepository.findParkedOrderIds(
+                batch.stream().map(OrderOutboxEvent::getOrderId).collect(Collectors.toSet())));
+        Map<Boolean, List<OrderOutboxEvent>> partitioned = batch.stream()
+                .collect(Collectors.partitioningBy(event -> blockedOrderIds.contains(event.getOrderId())));
+        List<OrderOutboxEvent> blocked = partitioned.get(true);
+        List<OrderOutboxEvent> deliverable = partitioned.get(false);
+        if (!blocked.isEmpty()) {
+            park(blocked);
+            log.warn("Parked {} order events behind earlier parked events of orders {}", blocked.size(), blockedOrderIds);
+        }
+
+        int settled = blocked.size();
+        if (deliver(deliverable)) {
+            markDispatched(deliverable);
+            settled += deliverable.size();
+        } else {
+            // Kirim ulang per order, sehingga satu order yang bermasalah tidak menahan order lain
+            Map<Long, List<OrderOutboxEvent>> byOrder = deliverable.stream()
+                    .collect(Collectors.groupingBy(OrderOutboxEvent::getOrderId, LinkedHashMap::new, Collectors.toList()));
+            for (List<OrderOutboxEvent> orderEvents : byOrder.values()) {
+                if (deliver(orderEvents)) {
+                    markDispatched(orderEvents);
+                    settled += orderEvents.size();
+                } else if (recordFailedAttempt(orderEvents)) {
+                    settled += orderEvents.size();
+                }
+            }
+        }
+        pendingEvents.addAndGet(-settled);
+
+        log.debug("Settled {} of {} order events up to event ID: {}", settled, batch.size(),
+                batch.get(batch.size() - 1).getEventId());
+        return settled;
+    }
+
+    @Override
+    public int purgeDispatched(LocalDateTime cutoff, int batchSize) {
+        return orderOutboxRepository.deleteDispatchedBefore(cutoff, batchSize);
+    }
+
+    /**
+     * Mengirim event ke semua listener.
+     *
+     * @return true jika semua listener berhasil
+     */
+    private boolean deliver(List<OrderOutboxEvent> batch) {
+        if (batch.isEmpty()) {
+            return true;
+        }
+        List<OrderEvent> events = batch.stream().map(OrderOutboxServiceImpl::toOrderEvent).toList();
+        for (OrderEventListener listener : listeners.orderedStream().toList()) {
+            Timer.Sample sample = Timer.start(meterRegistry);
+            try {
+                listener.onOrderEvents(events);
+            } catch (RuntimeException e) {
+                Counter.builder("coffeeshop.outbox.failures")
+                        .tag("listener", listener.getName())
+                        .register(meterRegistry)
+                        .increment();
+                log.warn("Order event listener {} failed on events {}..{}: {}", listener.getName(),
+                        events.get(0).getEventId(), events.get(events.size() - 1).getEventId(), e.toString());
+                return false;
+            } finally {
+                sample.stop(Timer.builder("coffeeshop.outbox.delivery")
+                        .tag("listener", listener.getName())
+                        .register(meterRegistry));
+            }
+        }
+        return true;
+    }
+
+    private void markDispatched(List<OrderOutboxEvent> batch) {
+        if (batch.isEmpty()) {
+            return;
+        }
+        LocalDateTime now = LocalDateTime.now();
+        orderOutboxRepository.markDispatched(eventIds(batch), now);
+        for (OrderOutboxEvent event : batch) {
+            endToEndLatency.record(Duration.between(event.getOccurredAt(), now));
+        }
+    }
+
+    /**
+     * Mencatat percobaan gagal untuk event satu order dan memarkirnya jika batas percobaan tercapai.
+     * Event pertama order selalu yang paling sering dicoba, sehingga jumlah percobaannya yang menentukan.
+     *
+     * @return true jika event diparkir
+     */
+    private boolean recordFailedAttempt(List<OrderOutboxEvent> orderEvents) {
+        orderOutboxRepository.incrementAttempts(eventIds(orderEvents));
+        OrderOutboxEvent first = orderEvents.get(0);
+        if (first.getAttempts() + 1 < maxAttempts) {
+            return false;
+        }
+        park(orderEvents);
+        log.error("Parked {} events of order ID: {} after {} failed attempts, starting at event ID: {}",
+                orderEvents.size(), first.getOrderId(), first.getAttempts() + 1, first.getEventId());
+        return true;
+    }
+
+    private void park(List<OrderOutboxEvent> batch) {
+        orderOutboxRepository.park(eventIds(batch), LocalDateTime.now());
+        parked.increment(batch.size());
+    }
+
+    private static List<Long> eventIds(List<OrderOutboxEvent> batch) {
+        return batch.stream().map(OrderOutboxEvent::getEventId).toList();
+    }
+
+    private static OrderEvent toOrderEvent(OrderOutboxEvent event) {
+        return new OrderEvent(
+                event.getEventId(),
+                event.getOrderId(),
+                event.getCustomerId(),
+                event.getEventType(),
+                event.getPreviousStatus(),
+                event.getStatus(),
+                event.getOccurredAt());
+    }
+
+    private static double secondsSince(AtomicReference<LocalDateTime> timestamp) {
+        LocalDateTime value = timestamp.get();
+        return value == null ? 0 : Duration.between(value, LocalDateTime.now()).toMillis() / 1000.0;
+    }
+}
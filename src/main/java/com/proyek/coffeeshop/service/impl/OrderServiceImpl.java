@@ -9,21 +9,33 @@ import com.proyek.coffeeshop.dto.response.*;
 import com.proyek.coffeeshop.exception.BadRequestException;
 import com.proyek.coffeeshop.exception.ResourceNotFoundException;
 import com.proyek.coffeeshop.model.entity.*;
+import com.proyek.coffeeshop.model.enums.OrderEventType;
 import com.proyek.coffeeshop.model.enums.OrderStatus;
 import com.proyek.coffeeshop.model.enums.UserRole;
+import com.proyek.coffeeshop.model.value.Money;
+import com.proyek.coffeeshop.model.value.PriceBook;
 import com.proyek.coffeeshop.repository.*;
+import com.proyek.coffeeshop.security.AppUserDetailsService;
+import com.proyek.coffeeshop.security.AppUserPrincipal;
+import com.proyek.coffeeshop.service.OrderOutboxService;
 import com.proyek.coffeeshop.service.OrderService;
+import com.proyek.coffeeshop.service.PriceBookService;
+import com.proyek.coffeeshop.service.SalesRollupService;
+import com.proyek.coffeeshop.service.StockReservationService;
+import com.proyek.coffeeshop.service.StockService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 /**
@@ -38,35 +50,56 @@ import java.util.stream.Collectors;
 @Slf4j
 public class OrderServiceImpl implements OrderService {
 
+    /**
+     * Batas jumlah ID dalam satu klausa IN saat memuat kustomisasi order.
+     */
+    private static final int FETCH_CHUNK_SIZE = 500;
+
+    /**
+     * Ukuran halaman maksimal untuk keyset pagination.
+     */
+    private static final int MAX_CURSOR_PAGE_SIZE = 100;
+
     private final OrderRepository orderRepository;
     private final OrderDetailRepository orderDetailRepository;
-    private final OrderDetailCustomizationRepository orderDetailCustomizationRepository;
     private final UserRepository userRepository;
     private final CustomerRepository customerRepository;
     private final ProductRepository productRepository;
     private final CustomizationRepository customizationRepository;
     private final PaymentMethodRepository paymentMethodRepository;
+    private final SalesRollupService salesRollupService;
+    private final OrderOutboxService orderOutboxService;
+    private final StockService stockService;
+    private final StockReservationService stockReservationService;
+    private final PriceBookService priceBookService;
+    private final AppUserDetailsService userDetailsService;
+    private final OrderMapper orderMapper;
 
     @Override
     @Transactional
     public OrderResponseDto createOrder(OrderRequestDto request, String username) {
         log.info("Creating new order for user: {}", username);
 
-        // Get customer
-        User user = userRepository.findByUsername(username)
+        // Get customer dari principal yang sudah di-cache saat autentikasi, tanpa query user/customer
+        AppUserPrincipal principal = userDetailsService.findPrincipal(username)
                 .orElseThrow(() -> new ResourceNotFoundException("User tidak ditemukan: " + username));
         
-        if (user.getRole() != UserRole.ROLE_CUSTOMER) {
+        if (principal.getRole() != UserRole.ROLE_CUSTOMER) {
             throw new BadRequestException("Hanya customer yang dapat membuat order");
         }
 
-        Customer customer = customerRepository.findByUser(user)
-                .orElseThrow(() -> new ResourceNotFoundException("Customer tidak ditemukan"));
+        if (principal.getCustomerId() == null) {
+            throw new ResourceNotFoundException("Customer tidak ditemukan");
+        }
+        Customer customer = customerRepository.getReferenceById(principal.getCustomerId());
 
         // Get payment method
         PaymentMethod paymentMethod = paymentMethodRepository.findById(request.getPaymentMethodId())
                 .orElseThrow(() -> new ResourceNotFoundException("Metode pembayaran tidak ditemukan"));
 
+        // Validasi dan harga diambil dari price book, tanpa query produk dan kustomisasi
+        PriceBook priceBook = priceBookService.getPriceBook();
+
         // Create order
         Order order = new Order();
         order.setCustomer(customer);
@@ -74,62 +107,99 @@ public class OrderServiceImpl implements OrderService {
         order.setPaymentMethod(paymentMethod);
         order.setStatus(OrderStatus.WAITING_PAYMENT);
         order.setCustomerNotes(request.getCustomerNotes());
-
-        Order savedOrder = orderRepository.save(order);
+        order.setPriceBookVersion(priceBook.getVersion());
 
         // Create order details
         List<OrderDetail> orderDetails = new ArrayList<>();
-        BigDecimal totalAmount = BigDecimal.ZERO;
+        long totalCents = 0;
 
         for (OrderDetailRequestDto itemRequest : request.getItems()) {
-            OrderDetail orderDetail = createOrderDetail(savedOrder, itemRequest);
+            OrderDetail orderDetail = buildOrderDetail(order, priceBook, itemRequest.getProductId(),
+                    itemRequest.getQuantity(), customizationIdsOf(itemRequest));
             orderDetails.add(orderDetail);
-            totalAmount = totalAmount.add(orderDetail.getSubtotalPrice());
+            totalCents = Math.addExact(totalCents, orderDetail.getSubtotalPrice().getCents());
         }
 
-        // Update total amount
-        savedOrder.setTotalAmount(totalAmount);
-        savedOrder.setOrderDetails(orderDetails);
-        savedOrder = orderRepository.save(savedOrder);
+        order.setTotalAmount(Money.ofCents(totalCents));
+        order.setOrderDetails(orderDetails);
+
+        // Kurangi stok semua item secara atomik, order ditolak jika ada item yang stoknya kurang
+        Map<Long, Integer> quantities = quantitiesByProduct(orderDetails);
+        stockService.reduceStock(quantities);
+
+        // Satu kali save, OrderDetail dan OrderDetailCustomization ikut tersimpan lewat cascade
+        Order savedOrder = orderRepository.save(order);
+        salesRollupService.recordOrder(savedOrder);
+        orderOutboxService.record(savedOrder, OrderEventType.CREATED, null);
+
+        // Stok ditahan sampai pembayaran dikonfirmasi atau batas waktunya habis
+        stockReservationService.hold(savedOrder, quantities);
 
         log.info("Successfully created order with ID: {}", savedOrder.getOrderId());
-        return convertToOrderResponseDto(savedOrder);
+        return orderMapper.toOrderResponseDto(savedOrder, priceBook);
     }
 
     @Override
+    @Transactional(readOnly = true)
     public List<OrderResponseDto> getOrdersByCustomer(String username) {
         log.info("Getting orders for customer: {}", username);
         
-        List<Order> orders = orderRepository.findByCustomerUsername(username);
+        List<Order> orders = fetchCustomizations(orderRepository.findWithDetailsByCustomerUsername(username));
         return orders.stream()
-                .map(this::convertToOrderResponseDto)
+                .map(orderMapper::toOrderResponseDto)
                 .collect(Collectors.toList());
     }
 
     @Override
+    @Transactional(readOnly = true)
     public OrderResponseDto getOrderDetailsById(Long orderId) {
         log.info("Getting order details by ID: {}", orderId);
         
-        Order order = orderRepository.findById(orderId)
-                .orElseThrow(() -> new ResourceNotFoundException("Order tidak ditemukan dengan ID: " + orderId));
-        
-        return convertToOrderResponseDto(order);
+        return orderMapper.toOrderResponseDto(findOrderWithDetails(orderId));
     }
 
     @Override
+    @Transactional(readOnly = true)
     public Page<OrderResponseDto> getAllOrders(Pageable pageable) {
         log.info("Getting all orders with pagination");
         
-        return orderRepository.findAllOrderByDateDesc(pageable)
-                .map(this::convertToOrderResponseDto);
+        return toOrderResponsePage(orderRepository.findOrderIdsByDateDesc(pageable));
     }
 
     @Override
+    @Transactional(readOnly = true)
     public Page<OrderResponseDto> getOrdersByStatus(OrderStatus status, Pageable pageable) {
         log.info("Getting orders by status: {}", status);
         
-        return orderRepository.findByStatus(status, pageable)
-                .map(this::convertToOrderResponseDto);
+        return toOrderResponsePage(orderRepository.findOrderIdsByStatus(status, pageable));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPageDto<OrderResponseDto> getAllOrders(String cursor, int size) {
+        log.info("Getting all orders with cursor pagination");
+        
+        Pageable limit = cursorLimit(size);
+        if (cursor == null || cursor.isBlank()) {
+            return toCursorPage(orderRepository.findFirstOrderIds(limit), limit);
+        }
+        OrderCursor position = OrderCursor.decode(cursor);
+        return toCursorPage(orderRepository.findOrderIdsBefore(
+                position.getOrderDate(), position.getOrderId(), limit), limit);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPageDto<OrderResponseDto> getOrdersByStatus(OrderStatus status, String cursor, int size) {
+        log.info("Getting orders by status with cursor pagination: {}", status);
+        
+        Pageable limit = cursorLimit(size);
+        if (cursor == null || cursor.isBlank()) {
+            return toCursorPage(orderRepository.findFirstOrderIdsByStatus(status, limit), limit);
+        }
+        OrderCursor position = OrderCursor.decode(cursor);
+        return toCursorPage(orderRepository.findOrderIdsByStatusBefore(
+                status, position.getOrderDate(), position.getOrderId(), limit), limit);
     }
 
     @Override
@@ -137,17 +207,22 @@ public class OrderServiceImpl implements OrderService {
     public OrderResponseDto updateOrderStatus(Long orderId, OrderStatus newStatus) {
         log.info("Updating order status for order ID: {} to {}", orderId, newStatus);
         
-        Order order = orderRepository.findById(orderId)
-                .orElseThrow(() -> new ResourceNotFoundException("Order tidak ditemukan dengan ID: " + orderId));
+        Order order = findOrderForUpdate(orderId);
         
         // Business logic for status transitions
         validateStatusTransition(order.getStatus(), newStatus);
         
+        OrderStatus previousStatus = order.getStatus();
+        resolveReservation(order, newStatus);
         order.setStatus(newStatus);
         Order updatedOrder = orderRepository.save(order);
+        salesRollupService.applyStatusChange(updatedOrder, previousStatus);
+        orderOutboxService.record(updatedOrder,
+                newStatus == OrderStatus.CANCELLED ? OrderEventType.CANCELLED : OrderEventType.STATUS_CHANGED,
+                previousStatus);
         
         log.info("Successfully updated order status for order ID: {}", orderId);
-        return convertToOrderResponseDto(updatedOrder);
+        return orderMapper.toOrderResponseDto(updatedOrder);
     }
 
     @Override
@@ -155,27 +230,30 @@ public class OrderServiceImpl implements OrderService {
     public OrderResponseDto confirmOrderPayment(Long orderId) {
         log.info("Confirming payment for order ID: {}", orderId);
         
-        Order order = orderRepository.findById(orderId)
-                .orElseThrow(() -> new ResourceNotFoundException("Order tidak ditemukan dengan ID: " + orderId));
+        Order order = findOrderForUpdate(orderId);
         
         if (order.getStatus() != OrderStatus.WAITING_PAYMENT) {
             throw new BadRequestException("Order tidak dalam status menunggu pembayaran");
         }
         
+        resolveReservation(order, OrderStatus.PROCESSING);
         order.setStatus(OrderStatus.PROCESSING);
         Order updatedOrder = orderRepository.save(order);
+        salesRollupService.applyStatusChange(updatedOrder, OrderStatus.WAITING_PAYMENT);
+        orderOutboxService.record(updatedOrder, OrderEventType.PAYMENT_CONFIRMED, OrderStatus.WAITING_PAYMENT);
         
         log.info("Successfully confirmed payment for order ID: {}", orderId);
-        return convertToOrderResponseDto(updatedOrder);
+        return orderMapper.toOrderResponseDto(updatedOrder);
     }
 
     @Override
+    @Transactional(readOnly = true)
     public List<OrderResponseDto> getOrdersByDateRange(LocalDateTime startDate, LocalDateTime endDate) {
         log.info("Getting orders by date range: {} to {}", startDate, endDate);
         
-        List<Order> orders = orderRepository.findByOrderDateBetween(startDate, endDate);
+        List<Order> orders = fetchCustomizations(orderRepository.findWithDetailsByOrderDateBetween(startDate, endDate));
         return orders.stream()
-                .map(this::convertToOrderResponseDto)
+                .map(orderMapper::toOrderResponseDto)
                 .collect(Collectors.toList());
     }
 
@@ -184,8 +262,7 @@ public class OrderServiceImpl implements OrderService {
     public OrderResponseDto cancelOrder(Long orderId, String username) {
         log.info("Cancelling order ID: {} by user: {}", orderId, username);
         
-        Order order = orderRepository.findById(orderId)
-                .orElseThrow(() -> new ResourceNotFoundException("Order tidak ditemukan dengan ID: " + orderId));
+        Order order = findOrderForUpdate(orderId);
         
         // Check if user owns the order
         if (!order.getCustomer().getUser().getUsername().equals(username)) {
@@ -197,11 +274,15 @@ public class OrderServiceImpl implements OrderService {
             throw new BadRequestException("Order tidak dapat dibatalkan pada status: " + order.getStatus());
         }
         
+        OrderStatus previousStatus = order.getStatus();
+        resolveReservation(order, OrderStatus.CANCELLED);
         order.setStatus(OrderStatus.CANCELLED);
         Order updatedOrder = orderRepository.save(order);
+        salesRollupService.applyStatusChange(updatedOrder, previousStatus);
+        orderOutboxService.record(updatedOrder, OrderEventType.CANCELLED, previousStatus);
         
         log.info("Successfully cancelled order ID: {}", orderId);
-        return convertToOrderResponseDto(updatedOrder);
+        return orderMapper.toOrderResponseDto(updatedOrder);
     }
 
     @Override
@@ -209,11 +290,11 @@ public class OrderServiceImpl implements OrderService {
     public CashierOrderResponseDTO createCashierOrder(CashierOrderRequestDTO request, String cashierUsername) {
         log.info("Creating new cashier order by cashier: {}", cashierUsername);
 
-        // 1. Get Kasir (User)
-        User kasir = userRepository.findByUsername(cashierUsername)
+        // 1. Get Kasir dari principal yang sudah di-cache saat autentikasi, tanpa query user
+        AppUserPrincipal kasir = userDetailsService.findPrincipal(cashierUsername)
                 .orElseThrow(() -> new ResourceNotFoundException("Kasir tidak ditemukan: " + cashierUsername));
 
-        if (kasir.getRole() != UserRole.ROLE_KASIR) {
+        if (!kasir.isKasir()) {
             throw new BadRequestException("User yang memproses bukan kasir.");
         }
 
@@ -221,80 +302,43 @@ public class OrderServiceImpl implements OrderService {
         PaymentMethod paymentMethod = paymentMethodRepository.findByName(request.getPaymentMethodName())
                  .orElseThrow(() -> new ResourceNotFoundException("Metode pembayaran tidak ditemukan: " + request.getPaymentMethodName()));
 
-        // 3. Create Order
+        // 3. Validasi dan harga diambil dari price book, tanpa query produk dan kustomisasi
+        PriceBook priceBook = priceBookService.getPriceBook();
+
+        // 4. Create Order
         Order order = new Order();
-        order.setProcessedByKasir(kasir); // Set kasir yang memproses
+        order.setProcessedByKasir(userRepository.getReferenceById(kasir.getKasirId())); // Set kasir yang memproses
         order.setOrderDate(LocalDateTime.now());
         order.setPaymentMethod(paymentMethod);
         order.setStatus(OrderStatus.PAID); // Langsung PAID untuk walk-in, bisa disesuaikan jika perlu
         order.setCustomerNotes(request.getCustomerNotes());
-        order.setAmountTendered(request.getAmountTendered());
-
-        Order savedOrder = orderRepository.save(order);
+        order.setPriceBookVersion(priceBook.getVersion());
+        Money amountTendered = request.getAmountTendered() != null ? Money.of(request.getAmountTendered()) : null;
+        order.setAmountTendered(amountTendered);
 
-        // 4. Create Order Details
+        // 5. Create Order Details
         List<OrderDetail> orderDetails = new ArrayList<>();
-        BigDecimal totalAmount = BigDecimal.ZERO;
+        long totalCents = 0;
 
         for (CashierOrderItemRequestDTO itemRequest : request.getOrderItems()) {
-            Product product = productRepository.findById(itemRequest.getProductId())
-                .orElseThrow(() -> new ResourceNotFoundException("Produk tidak ditemukan dengan ID: " + itemRequest.getProductId()));
-
-            if (!product.isAvailable()) { // FIX: Changed from getAvailable() to isAvailable()
-                throw new BadRequestException("Produk " + product.getName() + " sedang tidak tersedia.");
-            }            OrderDetail orderDetail = new OrderDetail();
-            orderDetail.setOrder(savedOrder);
-            orderDetail.setProduct(product);
-            orderDetail.setQuantity(itemRequest.getQuantity());
-            orderDetail.setUnitPrice(product.getPrice());
-
-            List<OrderDetailCustomization> customizations = new ArrayList<>();
-            BigDecimal customizationTotalForThisItem = BigDecimal.ZERO;
-
-            if (itemRequest.getCustomizationIds() != null && !itemRequest.getCustomizationIds().isEmpty()) {
-                for (Long customizationId : itemRequest.getCustomizationIds()) {
-                    Customization customization = customizationRepository.findById(customizationId)
-                            .orElseThrow(() -> new ResourceNotFoundException("Kustomisasi tidak ditemukan dengan ID: " + customizationId));
-
-                    OrderDetailCustomization orderDetailCustomization = new OrderDetailCustomization();
-                    orderDetailCustomization.setOrderDetail(orderDetail);
-                    orderDetailCustomization.setCustomization(customization);
-                    orderDetailCustomization.setCustomizationNameSnapshot(customization.getName());
-                    orderDetailCustomization.setPriceAdjustmentSnapshot(customization.getPriceAdjustment());
-
-                    customizations.add(orderDetailCustomization);
-                    customizationTotalForThisItem = customizationTotalForThisItem.add(customization.getPriceAdjustment());
-                }
-            }
-            
-            orderDetail.setCustomizations(customizations);
-
-            BigDecimal basePrice = product.getPrice().multiply(BigDecimal.valueOf(itemRequest.getQuantity()));
-            BigDecimal totalCustomizationPriceForThisItem = customizationTotalForThisItem.multiply(BigDecimal.valueOf(itemRequest.getQuantity()));
-            BigDecimal subtotal = basePrice.add(totalCustomizationPriceForThisItem);
-            orderDetail.setSubtotalPrice(subtotal);
-
-            // Save the order detail only once with all data set
-            OrderDetail savedOrderDetail = orderDetailRepository.save(orderDetail);
-            
-            // Save customizations after OrderDetail is saved (needed for foreign key)
-            for (OrderDetailCustomization customization : customizations) {
-                customization.setOrderDetail(savedOrderDetail);
-                orderDetailCustomizationRepository.save(customization);
-            }
-
-            orderDetails.add(savedOrderDetail);
-            totalAmount = totalAmount.add(subtotal);
+            List<Long> customizationIds = itemRequest.getCustomizationIds() != null
+                    ? itemRequest.getCustomizationIds()
+                    : List.of();
+            OrderDetail orderDetail = buildOrderDetail(order, priceBook, itemRequest.getProductId(),
+                    itemRequest.getQuantity(), customizationIds);
+            orderDetails.add(orderDetail);
+            totalCents = Math.addExact(totalCents, orderDetail.getSubtotalPrice().getCents());
         }
 
-        // 5. Update Total Amount dan Change Given
-        savedOrder.setTotalAmount(totalAmount);
-        if (request.getAmountTendered() != null) {
-            BigDecimal changeGiven = request.getAmountTendered().subtract(totalAmount);
-            if (changeGiven.compareTo(BigDecimal.ZERO) < 0) {
+        // 6. Update Total Amount dan Change Given
+        Money totalAmount = Money.ofCents(totalCents);
+        order.setTotalAmount(totalAmount);
+        if (amountTendered != null) {
+            Money changeGiven = amountTendered.minus(totalAmount);
+            if (changeGiven.isNegative()) {
                 throw new BadRequestException("Jumlah uang yang dibayarkan (amountTendered) kurang dari total belanja.");
             }
-            savedOrder.setChangeGiven(changeGiven);
+            order.setChangeGiven(changeGiven);
         } else if (paymentMethod.getName().equalsIgnoreCase("Tunai") || paymentMethod.getName().equalsIgnoreCase("Cash")) {
             // Jika metode pembayaran tunai tapi amountTendered null atau tidak cukup.
             // Anda bisa memutuskan apakah ini error atau kasir harus input manual.
@@ -303,139 +347,192 @@ public class OrderServiceImpl implements OrderService {
         }
         // Jika bukan tunai dan amountTendered null, changeGiven akan null (default), yang mungkin oke.
 
-        savedOrder.setOrderDetails(orderDetails);
-        Order finalOrder = orderRepository.save(savedOrder);
+        order.setOrderDetails(orderDetails);
+
+        // 7. Kurangi stok semua item secara atomik, order ditolak jika ada item yang stoknya kurang
+        stockService.reduceStock(quantitiesByProduct(orderDetails));
+
+        // 8. Satu kali save, seluruh graph order tersimpan lewat cascade
+        Order finalOrder = orderRepository.save(order);
+        salesRollupService.recordOrder(finalOrder);
+        orderOutboxService.record(finalOrder, OrderEventType.CREATED, null);
 
         log.info("Successfully created cashier order with ID: {}", finalOrder.getOrderId());
-        return convertToCashierOrderResponseDto(finalOrder);
+        return orderMapper.toCashierOrderResponseDto(finalOrder, priceBook, kasir.getUsername());
     }
 
     /**
-     * Convert Order entity to CashierOrderResponseDto.
+     * Membangun OrderDetail beserta kustomisasinya tanpa menyimpan ke database.
+     * Harga dan ketersediaan dibaca dari price book; produk dan kustomisasi hanya dipasang
+     * sebagai referensi (proxy) untuk foreign key sehingga tidak ada SELECT.
+     * Penyimpanan dilakukan sekaligus melalui cascade dari Order.
      */
-    private CashierOrderResponseDTO convertToCashierOrderResponseDto(Order order) {
-        List<OrderItemResponseDTO> orderItemResponseDTOS = new ArrayList<>();
-        if (order.getOrderDetails() != null) {
-            orderItemResponseDTOS = order.getOrderDetails().stream()
-                    .map(this::convertToOrderItemResponseDto)
-                    .collect(Collectors.toList());
+    private OrderDetail buildOrderDetail(Order order, PriceBook priceBook, Long productId, Integer quantity,
+                                         List<Long> customizationIds) {
+        PriceBook.ProductEntry product = priceBook.product(productId);
+        if (product == null) {
+            throw new ResourceNotFoundException("Produk tidak ditemukan dengan ID: " + productId);
+        }
+        if (!product.isAvailable()) {
+            throw new BadRequestException("Produk " + product.getName() + " sedang tidak tersedia.");
         }
 
-        String kasirUsername = null;
-        User processedByKasir = order.getProcessedByKasir();
-        if (processedByKasir != null) {
-            kasirUsername = processedByKasir.getUsername(); 
-            
-            if (kasirUsername == null) { 
-                 User kasirUserFromRepo = userRepository.findById(processedByKasir.getUserId()).orElse(null); // FIX: Changed from getId() to getUserId()
-                 if (kasirUserFromRepo != null) {
-                     kasirUsername = kasirUserFromRepo.getUsername();
-                 }
+        OrderDetail orderDetail = new OrderDetail();
+        orderDetail.setOrder(order);
+        orderDetail.setProduct(productRepository.getReferenceById(productId));
+        orderDetail.setQuantity(quantity);
+        orderDetail.setUnitPrice(product.getPrice());
+
+        List<OrderDetailCustomization> customizations = new ArrayList<>();
+
+        for (Long customizationId : customizationIds) {
+            PriceBook.CustomizationEntry customization = priceBook.customization(customizationId);
+            if (customization == null) {
+                throw new ResourceNotFoundException("Kustomisasi tidak ditemukan dengan ID: " + customizationId);
             }
+
+            OrderDetailCustomization orderDetailCustomization = new OrderDetailCustomization();
+            orderDetailCustomization.setOrderDetail(orderDetail);
+            orderDetailCustomization.setCustomization(customizationRepository.getReferenceById(customizationId));
+            orderDetailCustomization.setCustomizationNameSnapshot(customization.getName());
+            orderDetailCustomization.setPriceAdjustmentSnapshot(customization.getPriceAdjustment());
+
+            customizations.add(orderDetailCustomization);
         }
 
+        orderDetail.setCustomizations(customizations);
+        orderDetail.calculateSubtotalPrice();
+        return orderDetail;
+    }
 
-        return new CashierOrderResponseDTO(
-                order.getOrderId(),
-                order.getOrderDate(),
-                kasirUsername, // Menggunakan kasirUsername yang sudah dicek
-                orderItemResponseDTOS,
-                order.getTotalAmount(),
-                order.getPaymentMethod().getName(),
-                order.getStatus(),
-                order.getAmountTendered(),
-                order.getChangeGiven(),
-                order.getCustomerNotes()
-        );
+    /**
+     * Memuat satu order lengkap (detail, produk, kategori, kustomisasi) dengan jumlah query tetap.
+     */
+    private Order findOrderWithDetails(Long orderId) {
+        Order order = orderRepository.findWithDetailsById(orderId)
+                .orElseThrow(() -> new ResourceNotFoundException("Order tidak ditemukan dengan ID: " + orderId));
+        fetchCustomizations(List.of(order));
+        return order;
     }
 
     /**
-     * Convert OrderDetail entity to OrderItemResponseDTO.
+     * Mengunci baris order lalu memuat detailnya, untuk perubahan status.
+     * Kunci yang sama diambil sweeper reservasi, sehingga konfirmasi, pembatalan,
+     * dan pelepasan reservasi kedaluwarsa atas satu order berjalan bergantian.
      */
-    private OrderItemResponseDTO convertToOrderItemResponseDto(OrderDetail orderDetail) {
-        CategoryDto categoryDto = null;
-        if (orderDetail.getProduct() != null && orderDetail.getProduct().getCategory() != null) {
-            categoryDto = new CategoryDto(
-                    orderDetail.getProduct().getCategory().getCategoryId(),
-                    orderDetail.getProduct().getCategory().getName()
-            );
-        }
+    private Order findOrderForUpdate(Long orderId) {
+        orderRepository.lockById(orderId)
+                .orElseThrow(() -> new ResourceNotFoundException("Order tidak ditemukan dengan ID: " + orderId));
+        return findOrderWithDetails(orderId);
+    }
 
-        ProductDto productDto = null;
-        if (orderDetail.getProduct() != null) {
-            productDto = new ProductDto(
-                    orderDetail.getProduct().getProductId(),
-                    orderDetail.getProduct().getName(),
-                    orderDetail.getProduct().getDescription(),
-                    orderDetail.getProduct().getPrice(),
-                    orderDetail.getProduct().getImageUrl(),
-                    categoryDto
-            );
+    /**
+     * Memuat graph order untuk satu halaman ID, lalu mengembalikannya sesuai urutan halaman.
+     */
+    private Page<OrderResponseDto> toOrderResponsePage(Page<Long> orderIds) {
+        if (orderIds.isEmpty()) {
+            return orderIds.map(id -> null);
         }
 
-        List<OrderDetailCustomizationResponseDto> customizationsDto = new ArrayList<>();
-        if (orderDetail.getCustomizations() != null) {
-            customizationsDto = orderDetail.getCustomizations().stream()
-                    .map(this::convertToOrderDetailCustomizationResponseDto)
-                    .collect(Collectors.toList());
-        }
+        Map<Long, Order> orders = fetchCustomizations(orderRepository.findWithDetailsByOrderIdIn(orderIds.getContent()))
+                .stream()
+                .collect(Collectors.toMap(Order::getOrderId, Function.identity()));
 
-        // Use productDto and other fields to construct the response DTO
-        return OrderItemResponseDTO.builder()
-                .detailId(orderDetail.getDetailId())
-                .product(productDto)
-                .quantity(orderDetail.getQuantity())
-                .unitPrice(orderDetail.getUnitPrice())
-                .subtotalPrice(orderDetail.getSubtotalPrice())
-                .customizations(customizationsDto)
-                .build();
+        return orderIds.map(id -> orderMapper.toOrderResponseDto(orders.get(id)));
     }
 
     /**
-     * Create order detail dengan customizations.
+     * Mengambil satu baris lebih dari ukuran halaman untuk mengetahui ada tidaknya
+     * halaman berikutnya tanpa count query.
      */
-    private OrderDetail createOrderDetail(Order order, OrderDetailRequestDto itemRequest) {
-        Product product = productRepository.findById(itemRequest.getProductId())
-                .orElseThrow(() -> new ResourceNotFoundException("Produk tidak ditemukan dengan ID: " + itemRequest.getProductId()));
+    private Pageable cursorLimit(int size) {
+        if (size < 1 || size > MAX_CURSOR_PAGE_SIZE) {
+            throw new BadRequestException("Ukuran halaman harus antara 1 dan " + MAX_CURSOR_PAGE_SIZE);
+        }
+        return PageRequest.of(0, size + 1);
+    }
 
-        OrderDetail orderDetail = new OrderDetail();
-        orderDetail.setOrder(order);
-        orderDetail.setProduct(product);
-        orderDetail.setQuantity(itemRequest.getQuantity());
-        orderDetail.setUnitPrice(product.getPrice());
+    /**
+     * Memuat graph order untuk ID hasil keyset query dan membentuk cursor halaman berikutnya
+     * dari order terakhir yang dikembalikan.
+     */
+    private CursorPageDto<OrderResponseDto> toCursorPage(List<Long> orderIds, Pageable limit) {
+        int size = limit.getPageSize() - 1;
+        boolean hasNext = orderIds.size() > size;
+        List<Long> pageIds = hasNext ? orderIds.subList(0, size) : orderIds;
+        if (pageIds.isEmpty()) {
+            return new CursorPageDto<>(List.of(), size, false, null);
+        }
 
-        OrderDetail savedOrderDetail = orderDetailRepository.save(orderDetail);
+        Map<Long, Order> orders = fetchCustomizations(orderRepository.findWithDetailsByOrderIdIn(pageIds))
+                .stream()
+                .collect(Collectors.toMap(Order::getOrderId, Function.identity()));
 
-        // Create customizations
-        List<OrderDetailCustomization> customizations = new ArrayList<>();
-        BigDecimal customizationTotal = BigDecimal.ZERO;
-
-        if (itemRequest.getCustomizations() != null) {
-            for (OrderDetailCustomizationRequestDto customizationRequest : itemRequest.getCustomizations()) {
-                Customization customization = customizationRepository.findById(customizationRequest.getCustomizationId())
-                        .orElseThrow(() -> new ResourceNotFoundException("Kustomisasi tidak ditemukan dengan ID: " + customizationRequest.getCustomizationId()));
-
-                OrderDetailCustomization orderDetailCustomization = new OrderDetailCustomization();
-                orderDetailCustomization.setOrderDetail(savedOrderDetail);
-                orderDetailCustomization.setCustomization(customization);
-                orderDetailCustomization.setCustomizationNameSnapshot(customization.getName());
-                orderDetailCustomization.setPriceAdjustmentSnapshot(customization.getPriceAdjustment());
-
-                OrderDetailCustomization savedCustomization = orderDetailCustomizationRepository.save(orderDetailCustomization);
-                customizations.add(savedCustomization);
-                customizationTotal = customizationTotal.add(customization.getPriceAdjustment());
-            }
+        List<OrderResponseDto> content = pageIds.stream()
+                .map(id -> orderMapper.toOrderResponseDto(orders.get(id)))
+                .collect(Collectors.toList());
+        String nextCursor = hasNext
+                ? OrderCursor.after(orders.get(pageIds.get(pageIds.size() - 1))).encode()
+                : null;
+        return new CursorPageDto<>(content, size, hasNext, nextCursor);
+    }
+
+    /**
+     * Mengisi koleksi kustomisasi setiap detail order dengan satu query per potongan ID.
+     * Kustomisasi tidak ikut entity graph karena fetch join dua koleksi List sekaligus
+     * akan menghasilkan MultipleBagFetchException.
+     */
+    private List<Order> fetchCustomizations(List<Order> orders) {
+        List<Long> orderIds = orders.stream()
+                .map(Order::getOrderId)
+                .collect(Collectors.toList());
+
+        for (int from = 0; from < orderIds.size(); from += FETCH_CHUNK_SIZE) {
+            int to = Math.min(from + FETCH_CHUNK_SIZE, orderIds.size());
+            orderDetailRepository.fetchCustomizationsByOrderIds(orderIds.subList(from, to));
         }
+        return orders;
+    }
 
-        // Calculate subtotal
-        BigDecimal basePrice = product.getPrice().multiply(BigDecimal.valueOf(itemRequest.getQuantity()));
-        BigDecimal totalCustomizationPrice = customizationTotal.multiply(BigDecimal.valueOf(itemRequest.getQuantity()));
-        BigDecimal subtotal = basePrice.add(totalCustomizationPrice);
+    /**
+     * Menyelesaikan stok order yang berpindah status:
+     * reservasi di-commit jika lanjut diproses, dilepas (stok kembali) jika dibatalkan
+     * sebelum dibayar; order yang dibatalkan setelah dibayar mengembalikan stok seluruh item.
+     * Harus dipanggil dengan baris order terkunci (lihat {@link #findOrderForUpdate(Long)})
+     * agar sweeper tidak melepas sebagian reservasi di tengah commit dan stok tidak
+     * dikembalikan dua kali oleh pembatalan yang bersamaan.
+     */
+    private void resolveReservation(Order order, OrderStatus newStatus) {
+        if (order.getStatus() == OrderStatus.PROCESSING && newStatus == OrderStatus.CANCELLED) {
+            stockService.restoreStock(quantitiesByProduct(order.getOrderDetails()));
+            return;
+        }
+        if (order.getStatus() != OrderStatus.WAITING_PAYMENT) {
+            return;
+        }
+        if (newStatus == OrderStatus.PROCESSING) {
+            stockReservationService.commit(order);
+        } else if (newStatus == OrderStatus.CANCELLED) {
+            stockReservationService.release(order);
+        }
+    }
 
-        savedOrderDetail.setSubtotalPrice(subtotal);
-        savedOrderDetail.setCustomizations(customizations);
+    /**
+     * Menjumlahkan quantity per produk (satu produk bisa muncul di beberapa item).
+     */
+    private Map<Long, Integer> quantitiesByProduct(List<OrderDetail> orderDetails) {
+        return orderDetails.stream()
+                .collect(Collectors.toMap(detail -> detail.getProduct().getProductId(),
+                        OrderDetail::getQuantity, Integer::sum));
+    }
 
-        return orderDetailRepository.save(savedOrderDetail);
+    private List<Long> customizationIdsOf(OrderDetailRequestDto itemRequest) {
+        if (itemRequest.getCustomizations() == null) {
+            return List.of();
+        }
+        return itemRequest.getCustomizations().stream()
+                .map(OrderDetailCustomizationRequestDto::getCustomizationId)
+                .collect(Collectors.toList());
     }
 
     /**
@@ -458,6 +555,22 @@ public class OrderServiceImpl implements OrderService {
                     throw new BadRequestException("Status tidak dapat diubah dari " + currentStatus + " ke " + newStatus);
                 }
                 break;
+            // Alur kasir: order walk-in langsung PAID lalu disiapkan dapur
+            case PAID:
+                if (newStatus != OrderStatus.PREPARING && newStatus != OrderStatus.READY_TO_SERVE) {
+                    throw new BadRequestException("Status tidak dapat diubah dari " + currentStatus + " ke " + newStatus);
+                }
+                break;
+            case PREPARING:
+                if (newStatus != OrderStatus.READY_TO_SERVE) {
+                    throw new BadRequestException("Status tidak dapat diubah dari " + currentStatus + " ke " + newStatus);
+                }
+                break;
+            case READY_TO_SERVE:
+                if (newStatus != OrderStatus.COMPLETED) {
+                    throw new BadRequestException("Status tidak dapat diubah dari " + currentStatus + " ke " + newStatus);
+                }
+                break;
             case COMPLETED:
             case CANCELLED:
                 throw new BadRequestException("Status " + currentStatus + " tidak dapat diubah lagi");
@@ -465,96 +578,4 @@ public class OrderServiceImpl implements OrderService {
                 throw new BadRequestException("Status tidak valid: " + currentStatus);
         }
     }
-
-    /**
-     * Convert Order entity to OrderResponseDto.
-     */
-    private OrderResponseDto convertToOrderResponseDto(Order order) {
-        CustomerDto customerDto = null; // Initialize as null
-        if (order.getCustomer() != null) { // Check if customer exists
-            customerDto = new CustomerDto(
-                    order.getCustomer().getCustomerId(),
-                    order.getCustomer().getFullName(),
-                    order.getCustomer().getPhoneNumber(),
-                    order.getCustomer().getAddress()
-            );
-        }        PaymentMethodDto paymentMethodDto = new PaymentMethodDto(
-                order.getPaymentMethod().getPaymentId(),
-                order.getPaymentMethod().getName(),
-                order.getPaymentMethod().getDescription() // Changed from getType() to getDescription()
-        );
-
-        List<OrderDetailResponseDto> orderDetailsDto = new ArrayList<>();
-        if (order.getOrderDetails() != null) {
-            orderDetailsDto = order.getOrderDetails().stream()
-                    .map(this::convertToOrderDetailResponseDto)
-                    .collect(Collectors.toList());
-        }
-
-        return new OrderResponseDto(
-                order.getOrderId(),
-                customerDto,
-                order.getOrderDate(),
-                order.getTotalAmount(),
-                order.getStatus(),
-                paymentMethodDto,
-                order.getCustomerNotes(),
-                orderDetailsDto
-        );
-    }
-
-    /**
-     * Convert OrderDetail entity to OrderDetailResponseDto.
-     */
-    private OrderDetailResponseDto convertToOrderDetailResponseDto(OrderDetail orderDetail) {
-        CategoryDto categoryDto = new CategoryDto(
-                orderDetail.getProduct().getCategory().getCategoryId(),
-                orderDetail.getProduct().getCategory().getName()
-        );
-
-        ProductDto productDto = new ProductDto(
-                orderDetail.getProduct().getProductId(),
-                orderDetail.getProduct().getName(),
-                orderDetail.getProduct().getDescription(),
-                orderDetail.getProduct().getPrice(),
-                orderDetail.getProduct().getImageUrl(),
-                categoryDto
-        );
-
-        List<OrderDetailCustomizationResponseDto> customizationsDto = new ArrayList<>();
-        if (orderDetail.getCustomizations() != null) {
-            customizationsDto = orderDetail.getCustomizations().stream()
-                    .map(this::convertToOrderDetailCustomizationResponseDto)
-                    .collect(Collectors.toList());
-        }
-
-        return new OrderDetailResponseDto(
-                orderDetail.getDetailId(),
-                productDto,
-                orderDetail.getQuantity(),
-                orderDetail.getUnitPrice(),
-                orderDetail.getSubtotalPrice(),
-                customizationsDto
-        );
-    }
-
-    /**
-     * Convert OrderDetailCustomization entity to OrderDetailCustomizationResponseDto.
-     */
-    private OrderDetailCustomizationResponseDto convertToOrderDetailCustomizationResponseDto(OrderDetailCustomization customization) {
-        CustomizationDto customizationDto = new CustomizationDto(
-                customization.getCustomization().getCustomizationId(),
-                customization.getCustomization().getName(),
-                customization.getCustomization().getType(),
-                customization.getCustomization().getPriceAdjustment(),
-                customization.getCustomization().getDescription()
-        );
-
-        return new OrderDetailCustomizationResponseDto(
-                customization.getDetailCustomizationId(),
-                customizationDto,
-                customization.getCustomizationNameSnapshot(),
-                customization.getPriceAdjustmentSnapshot()
-        );
-    }
 }
@@ -0,0 +1,232 @@
+package com.proyek.coffeeshop.service.impl;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.proyek.coffeeshop.dto.response.OrderStatusChangeDto;
+import com.proyek.coffeeshop.event.OrderEvent;
+import com.proyek.coffeeshop.event.OrderEventListener;
+import com.proyek.coffeeshop.exception.BadRequestException;
+import com.proyek.coffeeshop.exception.ResourceNotFoundException;
+import com.proyek.coffeeshop.model.entity.Order;
+import com.proyek.coffeeshop.model.enums.OrderEventType;
+import com.proyek.coffeeshop.model.enums.OrderStatus;
+import com.proyek.coffeeshop.model.enums.UserRole;
+import com.proyek.coffeeshop.repository.OrderRepository;
+import com.proyek.coffeeshop.security.AppUserDetailsService;
+import com.proyek.coffeeshop.security.AppUserPrincipal;
+import com.proyek.coffeeshop.service.OrderTrackingService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Implementasi push status order ke customer lewat Server-Sent Events.
+ * Koneksi dikelompokkan per customer; event outbox sudah membawa ID customer, sehingga
+ * fan-out tidak membutuhkan query. Koneksi yang menganggur hanya berupa virtual thread yang
+ * menunggu di antrian (lihat {@link SseSubscriber}). Jumlah koneksi per customer dibatasi;
+ * koneksi baru yang melebihi batas menutup koneksi tertua milik customer yang sama,
+ * karena biasanya berasal dari tab atau aplikasi yang sudah ditinggalkan.
+ * 
+ * @author Coffee Shop Team
+ * @version 1.0
+ */
+@Service
+@Slf4j
+public class OrderTrackingServiceImpl implements OrderTrackingService, OrderEventListener {
+
+    private final OrderRepository orderRepository;
+    private final AppUserDetailsService userDetailsService;
+    private final ObjectMapper objectMapper;
+    private final Counter evictedConnections;
+
+    private final Map<Long, List<Subscription>> subscriptionsByCustomer = new ConcurrentHashMap<>();
+    private final AtomicInteger connections = new AtomicInteger();
+    private final AtomicLong connectionSequence = new AtomicLong();
+
+    @Value("${coffeeshop.tracking.max-connections-per-customer:3}")
+    private int maxConnectionsPerCustomer;
+
+    @Value("${coffeeshop.sse.timeout:30m}")
+    private Duration sseTimeout;
+
+    @Value("${coffeeshop.sse.heartbeat:15s}")
+    private Duration sseHeartbeat;
+
+    @Value("${coffeeshop.sse.queue-capacity:256}")
+    private int sseQueueCapacity;
+
+    public OrderTrackingServiceImpl(OrderRepository orderRepository,
+                                    AppUserDetailsService userDetailsService,
+                                    ObjectMapper objectMapper,
+                                    ObjectProvider<MeterRegistry> meterRegistries) {
+        this.orderRepository = orderRepository;
+        this.userDetailsService = userDetailsService;
+        this.objectMapper = objectMapper;
+
+        MeterRegistry meterRegistry = meterRegistries.getIfAvailable(() -> Metrics.globalRegistry);
+        Gauge.builder("coffeeshop.tracking.subscribers", connections, AtomicInteger::get)
+                .description("Jumlah koneksi tracking order customer yang terbuka")
+                .register(meterRegistry);
+        this.evictedConnections = Counter.builder("coffeeshop.tracking.evicted")
+                .description("Koneksi yang ditutup karena customer melebihi batas koneksi")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public SseEmitter subscribe(String username) {
+        Subscription subscription = register(findCustomerId(username), null);
+        subscription.subscriber.start(threadName(subscription));
+        return subscription.subscriber.getEmitter();
+    }
+
+    @Override
+    public SseEmitter subscribe(String username, Long orderId) {
+        Long customerId = findCustomerId(username);
+
+        // Kepemilikan dicek sebelum didaftarkan, sehingga permintaan untuk order orang lain
+        // tidak menutup koneksi customer yang masih aktif
+        Order order = orderRepository.findById(orderId)
+                .orElseThrow(() -> new ResourceNotFoundException("Order tidak ditemukan dengan ID: " + orderId));
+        if (order.getCustomer() == null || !customerId.equals(order.getCustomer().getCustomerId())) {
+            throw new BadRequestException("Anda tidak memiliki akses untuk order ini");
+        }
+
+        // Status dibaca ulang setelah didaftarkan agar perubahan di antaranya tidak terlewat
+        Subscription subscription = register(customerId, orderId);
+        OrderStatus status = orderRepository.findStatusById(orderId).orElse(order.getStatus());
+        subscription.subscriber.offer(SseEmitter.event()
+                .name("snapshot")
+                .data(toJson(new OrderStatusChangeDto(orderId, null, status, LocalDateTime.now())),
+                        MediaType.APPLICATION_JSON));
+        subscription.subscriber.start(threadName(subscription));
+        return subscription.subscriber.getEmitter();
+    }
+
+    @Override
+    public void onOrderEvents(List<OrderEvent> events) {
+        if (connections.get() == 0) {
+            return;
+        }
+        for (OrderEvent event : events) {
+            // Order baru tidak perlu di-push, customer sudah menerima response pembuatannya
+            if (event.getType() == OrderEventType.CREATED || event.getCustomerId() == null) {
+                continue;
+            }
+            List<Subscription> subscriptions = subscriptionsByCustomer.get(event.getCustomerId());
+            if (subscriptions == null) {
+                continue;
+            }
+
+            String json = toJson(new OrderStatusChangeDto(event.getOrderId(), event.getPreviousStatus(),
+                    event.getStatus(), event.getOccurredAt()));
+            for (Subscription subscription : List.copyOf(subscriptions)) {
+                if (subscription.orderId == null || subscription.orderId.equals(event.getOrderId())) {
+                    subscription.subscriber.offer(SseEmitter.event()
+                            .name("status")
+                            .id(String.valueOf(event.getEventId()))
+                            .data(json, MediaType.APPLICATION_JSON));
+                }
+            }
+        }
+    }
+
+    /**
+     * Menambahkan koneksi customer; koneksi tertua ditutup jika batas per customer terlampaui.
+     */
+    private Subscription register(Long customerId, Long orderId) {
+        Subscription subscription = new Subscription(customerId, orderId, connectionSequence.incrementAndGet());
+        subscription.subscriber = new SseSubscriber(sseTimeout, sseHeartbeat, sseQueueCapacity,
+                closed -> unregister(subscription));
+
+        List<Subscription> evicted = new ArrayList<>();
+        subscriptionsByCustomer.compute(customerId, (id, current) -> {
+            List<Subscription> updated = current == null ? new ArrayList<>() : new ArrayList<>(current);
+            updated.add(subscription);
+            while (updated.size() > maxConnectionsPerCustomer) {
+                evicted.add(updated.remove(0));
+            }
+            return List.copyOf(updated);
+        });
+        connections.incrementAndGet();
+
+        for (Subscription oldest : evicted) {
+            log.debug("Customer {} exceeded {} tracking connections, closing connection {}",
+                    customerId, maxConnectionsPerCustomer, oldest.sequence);
+            evictedConnections.increment();
+            oldest.subscriber.getEmitter().complete();
+            oldest.subscriber.close();
+        }
+        return subscription;
+    }
+
+    private void unregister(Subscription subscription) {
+        subscriptionsByCustomer.computeIfPresent(subscription.customerId, (id, current) -> {
+            if (!current.contains(subscription)) {
+                return current;
+            }
+            List<Subscription> updated = new ArrayList<>(current);
+            updated.remove(subscription);
+            return updated.isEmpty() ? null : List.copyOf(updated);
+        });
+        connections.decrementAndGet();
+    }
+
+    private Long findCustomerId(String username) {
+        AppUserPrincipal principal = userDetailsService.findPrincipal(username)
+                .orElseThrow(() -> new ResourceNotFoundException("User tidak ditemukan: " + username));
+
+        if (principal.getRole() != UserRole.ROLE_CUSTOMER) {
+            throw new BadRequestException("Hanya customer yang dapat mengikuti status order");
+        }
+        if (principal.getCustomerId() == null) {
+            throw new ResourceNotFoundException("Customer tidak ditemukan");
+        }
+        return principal.getCustomerId();
+    }
+
+    private static String threadName(Subscription subscription) {
+        return "tracking-sse-" + subscription.customerId + "-" + subscription.sequence;
+    }
+
+    private String toJson(Object value) {
+        try {
+            return objectMapper.writeValueAsString(value);
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Satu koneksi customer, untuk semua order (orderId null) atau satu order.
+     */
+    private static final class Subscription {
+
+        private final Long customerId;
+        private final Long orderId;
+        private final long sequence;
+        private SseSubscriber subscriber;
+
+        private Subscription(Long customerId, Long orderId, long sequence) {
+            this.customerId = customerId;
+            this.orderId = orderId;
+            this.sequence = sequence;
+        }
+    }
+}
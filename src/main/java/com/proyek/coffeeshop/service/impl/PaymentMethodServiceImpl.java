@@ -1,6 +1,8 @@
 package com.proyek.coffeeshop.service.impl;
 
+import com.proyek.coffeeshop.config.CacheConfig;
 import com.proyek.coffeeshop.dto.response.PaymentMethodDto;
+import com.proyek.coffeeshop.event.CatalogChangedEvent;
 import com.proyek.coffeeshop.exception.BadRequestException;
 import com.proyek.coffeeshop.exception.ResourceNotFoundException;
 import com.proyek.coffeeshop.model.entity.PaymentMethod;
@@ -8,6 +10,9 @@ import com.proyek.coffeeshop.repository.PaymentMethodRepository;
 import com.proyek.coffeeshop.service.PaymentMethodService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -27,8 +32,10 @@ import java.util.stream.Collectors;
 public class PaymentMethodServiceImpl implements PaymentMethodService {
 
     private final PaymentMethodRepository paymentMethodRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Override
+    @Cacheable(cacheNames = CacheConfig.PAYMENT_METHODS, key = "'all'")
     public List<PaymentMethodDto> getAllPaymentMethods() {
         log.info("Getting all payment methods");
         return paymentMethodRepository.findAll().stream()
@@ -37,6 +44,7 @@ public class PaymentMethodServiceImpl implements PaymentMethodService {
     }
 
     @Override
+    @Cacheable(cacheNames = CacheConfig.PAYMENT_METHODS, key = "'id:' + #id")
     public PaymentMethodDto getPaymentMethodById(Long id) {
         log.info("Getting payment method by ID: {}", id);
         PaymentMethod paymentMethod = getPaymentMethodEntityById(id);
@@ -45,6 +53,7 @@ public class PaymentMethodServiceImpl implements PaymentMethodService {
 
     @Override
     @Transactional
+    @CacheEvict(cacheNames = CacheConfig.PAYMENT_METHODS, allEntries = true)
     public PaymentMethodDto createPaymentMethod(PaymentMethodDto paymentMethodDto) {
         log.info("Creating new payment method: name='{}', description='{}'", paymentMethodDto.getName(), paymentMethodDto.getDescription());
 
@@ -57,6 +66,7 @@ public class PaymentMethodServiceImpl implements PaymentMethodService {
         paymentMethod.setDescription(paymentMethodDto.getDescription());
 
         PaymentMethod savedPaymentMethod = paymentMethodRepository.save(paymentMethod);
+        eventPublisher.publishEvent(new CatalogChangedEvent(CacheConfig.PAYMENT_METHODS));
         log.info("Successfully created payment method with ID: {}", savedPaymentMethod.getPaymentId());
 
         return convertToDto(savedPaymentMethod);
@@ -64,6 +74,7 @@ public class PaymentMethodServiceImpl implements PaymentMethodService {
 
     @Override
     @Transactional
+    @CacheEvict(cacheNames = CacheConfig.PAYMENT_METHODS, allEntries = true)
     public PaymentMethodDto updatePaymentMethod(Long id, PaymentMethodDto paymentMethodDto) {
         log.info("Updating payment method with ID: {}", id);
 
@@ -79,6 +90,7 @@ public class PaymentMethodServiceImpl implements PaymentMethodService {
         paymentMethod.setDescription(paymentMethodDto.getDescription());
 
         PaymentMethod updatedPaymentMethod = paymentMethodRepository.save(paymentMethod);
+        eventPublisher.publishEvent(new CatalogChangedEvent(CacheConfig.PAYMENT_METHODS));
         log.info("Successfully updated payment method with ID: {}", updatedPaymentMethod.getPaymentId());
 
         return convertToDto(updatedPaymentMethod);
@@ -86,11 +98,13 @@ public class PaymentMethodServiceImpl implements PaymentMethodService {
 
     @Override
     @Transactional
+    @CacheEvict(cacheNames = CacheConfig.PAYMENT_METHODS, allEntries = true)
     public void deletePaymentMethod(Long id) {
         log.info("Deleting payment method with ID: {}", id);
 
         PaymentMethod paymentMethod = getPaymentMethodEntityById(id);
         paymentMethodRepository.delete(paymentMethod);
+        eventPublisher.publishEvent(new CatalogChangedEvent(CacheConfig.PAYMENT_METHODS));
         log.info("Successfully deleted payment method with ID: {}", id);
     }
 
@@ -0,0 +1,171 @@
+package com.proyek.coffeeshop.service.impl;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.proyek.coffeeshop.config.CacheConfig;
+import com.proyek.coffeeshop.event.CatalogChangedEvent;
+import com.proyek.coffeeshop.model.entity.PriceBookVersion;
+import com.proyek.coffeeshop.model.value.PriceBook;
+import com.proyek.coffeeshop.model.value.PriceBook.CustomizationEntry;
+import com.proyek.coffeeshop.model.value.PriceBook.ProductEntry;
+import com.proyek.coffeeshop.repository.CustomizationRepository;
+import com.proyek.coffeeshop.repository.PriceBookVersionRepository;
+import com.proyek.coffeeshop.repository.ProductRepository;
+import com.proyek.coffeeshop.service.PriceBookService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Collectors;
+
+/**
+ * Implementasi service price book.
+ * Price book disimpan sebagai objek immutable dalam field volatile sehingga pembuatan order
+ * membacanya tanpa lock dan tanpa query. Setelah perubahan katalog di-commit, price book
+ * dibangun ulang dari database lalu ditukar dalam satu penulisan field. Isi harga setiap
+ * versi disimpan di PriceBookVersions; versi baru hanya dibuat jika harga atau
+ * ketersediaan benar-benar berubah.
+ * 
+ * @author Coffee Shop Team
+ * @version 1.0
+ */
+@Service
+@Slf4j
+public class PriceBookServiceImpl implements PriceBookService {
+
+    private final ProductRepository productRepository;
+    private final CustomizationRepository customizationRepository;
+    private final PriceBookVersionRepository priceBookVersionRepository;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate newTransaction;
+
+    private final ReentrantLock rebuildLock = new ReentrantLock();
+    private volatile PriceBook priceBook;
+
+    public PriceBookServiceImpl(ProductRepository productRepository,
+                                CustomizationRepository customizationRepository,
+                                PriceBookVersionRepository priceBookVersionRepository,
+                                ObjectMapper objectMapper,
+                                PlatformTransactionManager transactionManager) {
+        this.productRepository = productRepository;
+        this.customizationRepository = customizationRepository;
+        this.priceBookVersionRepository = priceBookVersionRepository;
+        this.objectMapper = objectMapper;
+        // Transaksi terpisah: versi price book tetap tersimpan walaupun order yang memicu
+        // pembangunan pertama kali gagal dan di-rollback
+        this.newTransaction = new TransactionTemplate(transactionManager);
+        this.newTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    @Override
+    public PriceBook getPriceBook() {
+        PriceBook current = priceBook;
+        if (current != null) {
+            return current;
+        }
+
+        rebuildLock.lock();
+        try {
+            // Cek ulang: thread lain mungkin sudah membangun price book saat kita menunggu lock
+            current = priceBook;
+            if (current == null) {
+                current = build();
+                priceBook = current;
+            }
+            return current;
+        } finally {
+            rebuildLock.unlock();
+        }
+    }
+
+    /**
+     * Membangun ulang price book setelah perubahan produk, stok, atau kustomisasi di-commit.
+     * Perubahan metode pembayaran tidak memengaruhi harga sehingga diabaikan.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCatalogChanged(CatalogChangedEvent event) {
+        if (CacheConfig.PAYMENT_METHODS.equals(event.getCatalog())) {
+            return;
+        }
+
+        rebuildLock.lock();
+        try {
+            priceBook = build();
+        } catch (RuntimeException e) {
+            // Price book lama sudah tidak sesuai database; paksa pembangunan ulang pada order berikutnya
+            priceBook = null;
+            log.error("Failed to rebuild price book after {} change", event.getCatalog(), e);
+        } finally {
+            rebuildLock.unlock();
+        }
+    }
+
+    /**
+     * Membaca produk dan kustomisasi dalam satu transaksi, lalu memakai ulang versi terakhir
+     * jika isinya sama atau menyimpan versi baru jika ada harga/ketersediaan yang berubah.
+     */
+    private PriceBook build() {
+        long start = System.nanoTime();
+
+        PriceBook built = newTransaction.execute(status -> {
+            List<ProductEntry> products = productRepository.findAllWithCategory().stream()
+                    .map(ProductEntry::of)
+                    .collect(Collectors.toList());
+            List<CustomizationEntry> customizations = customizationRepository.findAll().stream()
+                    .map(CustomizationEntry::of)
+                    .collect(Collectors.toList());
+
+            String entries = encode(products, customizations);
+            PriceBookVersion version = priceBookVersionRepository.findTopByOrderByVersionIdDesc()
+                    .filter(latest -> latest.getEntries().equals(entries))
+                    .orElseGet(() -> priceBookVersionRepository.save(
+                            new PriceBookVersion(null, LocalDateTime.now(), entries)));
+
+            return new PriceBook(version.getVersionId(), LocalDateTime.now(), products, customizations);
+        });
+
+        log.info("Built price book version {} ({} products, {} customizations) in {} ms",
+                built.getVersion(), built.getProducts().size(), built.getCustomizations().size(),
+                (System.nanoTime() - start) / 1_000_000);
+        return built;
+    }
+
+    /**
+     * Serialisasi isi harga dengan urutan ID yang stabil agar dua price book dengan harga
+     * yang sama menghasilkan teks yang sama.
+     */
+    private String encode(List<ProductEntry> products, List<CustomizationEntry> customizations) {
+        Map<Long, Map<String, Object>> productPrices = new TreeMap<>();
+        for (ProductEntry product : products) {
+            Map<String, Object> entry = new LinkedHashMap<>();
+            entry.put("price", product.getPrice().toString());
+            entry.put("available", product.isAvailable());
+            productPrices.put(product.getProductId(), entry);
+        }
+
+        Map<Long, Map<String, Object>> customizationPrices = new TreeMap<>();
+        for (CustomizationEntry customization : customizations) {
+            Map<String, Object> entry = new LinkedHashMap<>();
+            entry.put("priceAdjustment", customization.getPriceAdjustment().toString());
+            customizationPrices.put(customization.getCustomizationId(), entry);
+        }
+
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("products", productPrices);
+        body.put("customizations", customizationPrices);
+        try {
+            return objectMapper.writeValueAsString(body);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Gagal menyimpan versi price book", e);
+        }
+    }
+}
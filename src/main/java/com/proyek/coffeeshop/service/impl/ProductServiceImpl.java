@@ -1,7 +1,9 @@
 package com.proyek.coffeeshop.service.impl;
 
+import com.proyek.coffeeshop.config.CacheConfig;
 import com.proyek.coffeeshop.dto.response.CategoryDto;
 import com.proyek.coffeeshop.dto.response.ProductDto;
+import com.proyek.coffeeshop.event.CatalogChangedEvent;
 import com.proyek.coffeeshop.exception.BadRequestException;
 import com.proyek.coffeeshop.exception.ResourceNotFoundException;
 import com.proyek.coffeeshop.model.entity.Category;
@@ -11,8 +13,11 @@ import com.proyek.coffeeshop.service.CategoryService;
 import com.proyek.coffeeshop.service.ProductService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -33,14 +38,17 @@ import java.util.stream.Collectors;
 public class ProductServiceImpl implements ProductService {
 
     private final ProductRepository productRepository;
-    private final CategoryService categoryService;    @Override
+    private final CategoryService categoryService;
+    private final ApplicationEventPublisher eventPublisher;    @Override
     @Transactional(readOnly = true)
+    @Cacheable(cacheNames = CacheConfig.PRODUCTS, key = "'page:' + #pageable.pageNumber + ':' + #pageable.pageSize + ':' + #pageable.sort")
     public Page<ProductDto> getAllProducts(Pageable pageable) {
         log.info("Getting all products with pagination");
         return productRepository.findAll(pageable)
                 .map(this::convertToDto);
     }    @Override
     @Transactional(readOnly = true)
+    @Cacheable(cacheNames = CacheConfig.PRODUCTS, key = "'all'")
     public List<ProductDto> getAllProducts() {
         log.info("Getting all products");
         return productRepository.findAll().stream()
@@ -48,12 +56,14 @@ public class ProductServiceImpl implements ProductService {
                 .collect(Collectors.toList());
     }    @Override
     @Transactional(readOnly = true)
+    @Cacheable(cacheNames = CacheConfig.PRODUCTS, key = "'id:' + #id")
     public ProductDto getProductById(Long id) {
         log.info("Getting product by ID: {}", id);
         Product product = getProductEntityById(id);
         return convertToDto(product);
     }    @Override
     @Transactional(readOnly = true)
+    @Cacheable(cacheNames = CacheConfig.PRODUCTS, key = "'category:' + #categoryId")
     public List<ProductDto> getProductsByCategory(Long categoryId) {
         log.info("Getting products by category ID: {}", categoryId);
         
@@ -84,6 +94,7 @@ public class ProductServiceImpl implements ProductService {
 
     @Override
     @Transactional
+    @CacheEvict(cacheNames = CacheConfig.PRODUCTS, allEntries = true)
     public ProductDto createProduct(ProductDto productDto) {
         log.info("Creating new product: {}", productDto.getName());
 
@@ -101,6 +112,7 @@ public class ProductServiceImpl implements ProductService {
         product.setCategory(category);
 
         Product savedProduct = productRepository.save(product);
+        eventPublisher.publishEvent(new CatalogChangedEvent(CacheConfig.PRODUCTS));
         log.info("Successfully created product with ID: {}", savedProduct.getProductId());
 
         return convertToDto(savedProduct);
@@ -108,6 +120,7 @@ public class ProductServiceImpl implements ProductService {
 
     @Override
     @Transactional
+    @CacheEvict(cacheNames = CacheConfig.PRODUCTS, allEntries = true)
     public ProductDto updateProduct(Long id, ProductDto productDto) {
         log.info("Updating product with ID: {}", id);
 
@@ -128,6 +141,7 @@ public class ProductServiceImpl implements ProductService {
         product.setCategory(category);
 
         Product updatedProduct = productRepository.save(product);
+        eventPublisher.publishEvent(new CatalogChangedEvent(CacheConfig.PRODUCTS));
         log.info("Successfully updated product with ID: {}", updatedProduct.getProductId());
 
         return convertToDto(updatedProduct);
@@ -135,11 +149,13 @@ public class ProductServiceImpl implements ProductService {
 
     @Override
     @Transactional
+    @CacheEvict(cacheNames = CacheConfig.PRODUCTS, allEntries = true)
     public void deleteProduct(Long id) {
         log.info("Deleting product with ID: {}", id);
 
         Product product = getProductEntityById(id);
         productRepository.delete(product);
+        eventPublisher.publishEvent(new CatalogChangedEvent(CacheConfig.PRODUCTS));
         log.info("Successfully deleted product with ID: {}", id);
     }    @Override
     @Transactional(readOnly = true)
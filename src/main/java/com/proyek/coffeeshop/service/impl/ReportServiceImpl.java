@@ -3,31 +3,42 @@ package com.proyek.coffeeshop.service.impl;
 import com.proyek.coffeeshop.dto.response.DailyKasirReportDTO;
 import com.proyek.coffeeshop.dto.response.ProductSalesReportDTO;
 import com.proyek.coffeeshop.dto.response.TransactionReportDTO;
-import com.proyek.coffeeshop.model.entity.Order;
-import com.proyek.coffeeshop.model.entity.OrderDetail;
 import com.proyek.coffeeshop.model.entity.Product;
-import com.proyek.coffeeshop.repository.OrderRepository;
+import com.proyek.coffeeshop.repository.DailyPaymentSalesRepository;
+import com.proyek.coffeeshop.repository.DailyProductSalesRepository;
 import com.proyek.coffeeshop.repository.ProductRepository;
 import com.proyek.coffeeshop.repository.UserRepository;
+import com.proyek.coffeeshop.repository.projection.OrderTotalsRow;
+import com.proyek.coffeeshop.repository.projection.ProductSalesRow;
 import com.proyek.coffeeshop.service.ReportService;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
 import java.math.RoundingMode;
 import java.time.LocalDate;
-import java.time.LocalDateTime;
-import java.time.LocalTime;
-import java.util.HashMap;
 import java.util.List;
-import java.util.Map;
 import java.util.stream.Collectors;
 
+/**
+ * Laporan dijawab dari tabel rollup harian (DailyPaymentSales dan DailyProductSales)
+ * yang dipelihara oleh SalesRollupService, sehingga cukup menjumlahkan beberapa baris
+ * per hari alih-alih memindai Orders. Order yang dibatalkan tidak dihitung.
+ */
 @Service
+@Transactional(readOnly = true)
 public class ReportServiceImpl implements ReportService {
 
+    private static final Pageable MOST_POPULAR = PageRequest.of(0, 1);
+
+    @Autowired
+    private DailyPaymentSalesRepository dailyPaymentSalesRepository;
+
     @Autowired
-    private OrderRepository orderRepository;
+    private DailyProductSalesRepository dailyProductSalesRepository;
 
     @Autowired
     private ProductRepository productRepository;
@@ -35,13 +46,10 @@ public class ReportServiceImpl implements ReportService {
     @Autowired
     private UserRepository userRepository;
 
-    @Override    public DailyKasirReportDTO generateDailyKasirReport(Long kasirId, LocalDate date) {
-        LocalDateTime startOfDay = date.atStartOfDay();
-        LocalDateTime endOfDay = date.atTime(LocalTime.MAX);
-        
-        // Get orders processed by the kasir on the specified date
-        List<Order> kasirOrders = orderRepository.findByProcessedByKasirIdAndOrderDateBetween(
-            kasirId, startOfDay, endOfDay);
+    @Override
+    public DailyKasirReportDTO generateDailyKasirReport(Long kasirId, LocalDate date) {
+        // Aggregate orders processed by the kasir on the specified date
+        OrderTotalsRow totals = dailyPaymentSalesRepository.summarizeByKasir(kasirId, date, date);
 
         DailyKasirReportDTO report = new DailyKasirReportDTO();
         report.setReportDate(date);
@@ -50,7 +58,7 @@ public class ReportServiceImpl implements ReportService {
         // Get kasir name
         userRepository.findById(kasirId).ifPresent(kasir -> report.setKasirName(kasir.getUsername()));
 
-        if (kasirOrders.isEmpty()) {
+        if (totals.getOrderCount() == 0) {
             report.setTotalOrders(0);
             report.setTotalRevenue(BigDecimal.ZERO);
             report.setAverageOrderValue(BigDecimal.ZERO);
@@ -59,30 +67,19 @@ public class ReportServiceImpl implements ReportService {
         }
 
         // Calculate statistics
-        int totalOrders = kasirOrders.size();
-        BigDecimal totalRevenue = kasirOrders.stream()
-            .map(Order::getTotalAmount)
-            .reduce(BigDecimal.ZERO, BigDecimal::add);
+        int totalOrders = totals.getOrderCount().intValue();
+        BigDecimal totalRevenue = totals.getTotalRevenue();
 
         BigDecimal averageOrderValue = totalRevenue.divide(
-            BigDecimal.valueOf(totalOrders), 2, RoundingMode.HALF_UP);        int totalItemsSold = kasirOrders.stream()
-            .flatMap(order -> order.getOrderDetails().stream())
-            .mapToInt(OrderDetail::getQuantity)
-            .sum();
+            BigDecimal.valueOf(totalOrders), 2, RoundingMode.HALF_UP);
+
+        int totalItemsSold = toInt(dailyProductSalesRepository.sumQuantityByKasirAndSalesDateBetween(kasirId, date, date));
 
         // Find most popular product
-        Map<String, Integer> productSales = new HashMap<>();
-        kasirOrders.stream()
-            .flatMap(order -> order.getOrderDetails().stream())
-            .forEach(item -> {
-                String productName = item.getProduct().getName();
-                productSales.merge(productName, item.getQuantity(), Integer::sum);
-            });
-
-        String mostPopularProduct = productSales.entrySet().stream()
-            .max(Map.Entry.comparingByValue())
-            .map(Map.Entry::getKey)
-            .orElse("N/A");        // Set report values
+        String mostPopularProduct = mostPopularProductName(
+            dailyProductSalesRepository.summarizeProductSalesByKasir(kasirId, date, date, MOST_POPULAR));
+
+        // Set report values
         report.setTotalOrders(totalOrders);
         report.setTotalRevenue(totalRevenue);
         report.setAverageOrderValue(averageOrderValue);
@@ -94,15 +91,12 @@ public class ReportServiceImpl implements ReportService {
 
     @Override
     public TransactionReportDTO generateTransactionReport(LocalDate startDate, LocalDate endDate) {
-        LocalDateTime startDateTime = startDate.atStartOfDay();
-        LocalDateTime endDateTime = endDate.atTime(LocalTime.MAX);
-
-        List<Order> orders = orderRepository.findByOrderDateBetween(startDateTime, endDateTime);
+        OrderTotalsRow totals = dailyPaymentSalesRepository.summarize(startDate, endDate);
 
         TransactionReportDTO report = new TransactionReportDTO();
         report.setReportDate(startDate); // Using start date as report date
 
-        if (orders.isEmpty()) {
+        if (totals.getOrderCount() == 0) {
             report.setTotalTransactions(0);
             report.setTotalRevenue(BigDecimal.ZERO);
             report.setAverageOrderValue(BigDecimal.ZERO);
@@ -113,35 +107,22 @@ public class ReportServiceImpl implements ReportService {
         }
 
         // Calculate statistics
-        int totalTransactions = orders.size();
-        BigDecimal totalRevenue = orders.stream()
-            .map(Order::getTotalAmount)
-            .reduce(BigDecimal.ZERO, BigDecimal::add);
+        int totalTransactions = totals.getOrderCount().intValue();
+        BigDecimal totalRevenue = totals.getTotalRevenue();
 
         BigDecimal averageOrderValue = totalRevenue.divide(
-            BigDecimal.valueOf(totalTransactions), 2, RoundingMode.HALF_UP);        int totalItemsSold = orders.stream()
-            .flatMap(order -> order.getOrderDetails().stream())
-            .mapToInt(OrderDetail::getQuantity)
-            .sum();
+            BigDecimal.valueOf(totalTransactions), 2, RoundingMode.HALF_UP);
+
+        int totalItemsSold = toInt(dailyProductSalesRepository.sumQuantityBySalesDateBetween(startDate, endDate));
 
         // Find most popular product
-        Map<String, Integer> productSales = new HashMap<>();
-        orders.stream()
-            .flatMap(order -> order.getOrderDetails().stream())
-            .forEach(item -> {
-                String productName = item.getProduct().getName();
-                productSales.merge(productName, item.getQuantity(), Integer::sum);
-            });
-
-        String mostPopularProduct = productSales.entrySet().stream()
-            .max(Map.Entry.comparingByValue())
-            .map(Map.Entry::getKey)
-            .orElse("N/A");        // Payment method breakdown
-        Map<String, Long> paymentMethods = orders.stream()
-            .collect(Collectors.groupingBy(order -> order.getPaymentMethod().getName(), Collectors.counting()));
-
-        String paymentMethodBreakdown = paymentMethods.entrySet().stream()
-            .map(entry -> entry.getKey() + ": " + entry.getValue())
+        String mostPopularProduct = mostPopularProductName(
+            dailyProductSalesRepository.summarizeProductSales(startDate, endDate, MOST_POPULAR));
+
+        // Payment method breakdown
+        String paymentMethodBreakdown = dailyPaymentSalesRepository.summarizePaymentMethods(startDate, endDate)
+            .stream()
+            .map(row -> row.getPaymentMethodName() + ": " + row.getOrderCount())
             .collect(Collectors.joining(", "));
 
         // Set report values
@@ -162,34 +143,7 @@ public class ReportServiceImpl implements ReportService {
 
     @Override
     public List<ProductSalesReportDTO> generateProductSalesReport(LocalDate startDate, LocalDate endDate) {
-        LocalDateTime startDateTime = startDate.atStartOfDay();
-        LocalDateTime endDateTime = endDate.atTime(LocalTime.MAX);
-
-        List<Order> orders = orderRepository.findByOrderDateBetween(startDateTime, endDateTime);
-
-        // Calculate sales for each product
-        Map<Long, ProductSalesData> productSalesMap = new HashMap<>();        orders.stream()
-            .flatMap(order -> order.getOrderDetails().stream())
-            .forEach(item -> {
-                Long productId = item.getProduct().getProductId();
-                ProductSalesData salesData = productSalesMap.computeIfAbsent(productId, 
-                    id -> new ProductSalesData(item.getProduct()));
-                
-                salesData.addSale(item.getQuantity(), item.getUnitPrice());
-            });// Convert to DTO list
-        return productSalesMap.values().stream()
-            .map(salesData -> new ProductSalesReportDTO(
-                salesData.getProduct().getProductId(),
-                salesData.getProduct().getName(),
-                salesData.getProduct().getCategory().getName(),
-                salesData.getQuantitySold(),
-                salesData.getProduct().getPrice(),
-                salesData.getTotalRevenue(),
-                salesData.getProduct().getStockQuantity(),
-                salesData.getProduct().isLowStock(),
-                startDate
-            ))
-            .collect(Collectors.toList());
+        return productSalesReport(startDate, endDate, Pageable.unpaged());
     }
 
     @Override
@@ -199,12 +153,8 @@ public class ReportServiceImpl implements ReportService {
 
     @Override
     public List<ProductSalesReportDTO> generateTopSellingProductsReport(LocalDate startDate, LocalDate endDate, int limit) {
-        List<ProductSalesReportDTO> productSales = generateProductSalesReport(startDate, endDate);
-        
-        return productSales.stream()
-            .sorted((p1, p2) -> Integer.compare(p2.getQuantitySold(), p1.getQuantitySold()))
-            .limit(limit)
-            .collect(Collectors.toList());
+        // Query sudah diurutkan dari quantity terbanyak, cukup batasi jumlah baris di database
+        return productSalesReport(startDate, endDate, PageRequest.of(0, limit));
     }
 
     @Override
@@ -225,31 +175,29 @@ public class ReportServiceImpl implements ReportService {
             .collect(Collectors.toList());
     }
 
-    // Helper class to track product sales data
-    private static class ProductSalesData {
-        private final Product product;
-        private int quantitySold = 0;
-        private BigDecimal totalRevenue = BigDecimal.ZERO;
-
-        public ProductSalesData(Product product) {
-            this.product = product;
-        }
-
-        public void addSale(int quantity, BigDecimal price) {
-            this.quantitySold += quantity;
-            this.totalRevenue = this.totalRevenue.add(price.multiply(BigDecimal.valueOf(quantity)));
-        }
-
-        public Product getProduct() {
-            return product;
-        }
+    private List<ProductSalesReportDTO> productSalesReport(LocalDate startDate, LocalDate endDate, Pageable pageable) {
+        return dailyProductSalesRepository.summarizeProductSales(startDate, endDate, pageable)
+            .stream()
+            .map(row -> new ProductSalesReportDTO(
+                row.getProductId(),
+                row.getProductName(),
+                row.getCategoryName(),
+                toInt(row.getQuantitySold()),
+                row.getUnitPrice(),
+                row.getTotalRevenue(),
+                row.getStockQuantity(),
+                row.isLowStock(),
+                startDate
+            ))
+            .collect(Collectors.toList());
+    }
 
-        public int getQuantitySold() {
-            return quantitySold;
-        }
+    private String mostPopularProductName(List<ProductSalesRow> topProducts) {
+        return topProducts.isEmpty() ? "N/A" : topProducts.get(0).getProductName();
+    }
 
-        public BigDecimal getTotalRevenue() {
-            return totalRevenue;
-        }
+    // SUM menghasilkan NULL jika tidak ada baris
+    private int toInt(Long value) {
+        return value != null ? value.intValue() : 0;
     }
 }
@@ -0,0 +1,123 @@
+package com.proyek.coffeeshop.service.impl;
+
+import com.proyek.coffeeshop.model.entity.Order;
+import com.proyek.coffeeshop.model.entity.OrderDetail;
+import com.proyek.coffeeshop.model.enums.OrderStatus;
+import com.proyek.coffeeshop.model.value.Money;
+import com.proyek.coffeeshop.repository.DailyPaymentSalesRepository;
+import com.proyek.coffeeshop.repository.DailyProductSalesRepository;
+import com.proyek.coffeeshop.service.SalesRollupService;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Implementasi service untuk rollup penjualan harian.
+ * Rollup diperbarui dengan upsert delta di transaksi yang sama dengan order,
+ * sehingga laporan cukup menjumlahkan beberapa baris per hari.
+ * 
+ * @author Coffee Shop Team
+ * @version 1.0
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class SalesRollupServiceImpl implements SalesRollupService {
+
+    /**
+     * Nilai kasir_id untuk order dari aplikasi customer (tidak diproses kasir).
+     */
+    public static final long NO_KASIR = 0L;
+
+    private final DailyProductSalesRepository dailyProductSalesRepository;
+    private final DailyPaymentSalesRepository dailyPaymentSalesRepository;
+
+    @Override
+    @Transactional
+    public void recordOrder(Order order) {
+        if (countsTowardSales(order.getStatus())) {
+            apply(order, 1);
+        }
+    }
+
+    @Override
+    @Transactional
+    public void applyStatusChange(Order order, OrderStatus previousStatus) {
+        boolean counted = countsTowardSales(previousStatus);
+        boolean counts = countsTowardSales(order.getStatus());
+        if (counted != counts) {
+            apply(order, counts ? 1 : -1);
+        }
+    }
+
+    @Override
+    @Transactional
+    public void rebuildAll() {
+        log.info("Rebuilding daily sales rollups from Orders");
+
+        dailyProductSalesRepository.deleteAllRows();
+        dailyPaymentSalesRepository.deleteAllRows();
+        int productRows = dailyProductSalesRepository.rebuildFromOrders();
+        int paymentRows = dailyPaymentSalesRepository.rebuildFromOrders();
+
+        log.info("Rebuilt daily sales rollups: {} product rows, {} payment rows", productRows, paymentRows);
+    }
+
+    private boolean countsTowardSales(OrderStatus status) {
+        return status != OrderStatus.CANCELLED;
+    }
+
+    private void apply(Order order, int sign) {
+        LocalDate salesDate = order.getOrderDate().toLocalDate();
+        Long kasirId = order.getProcessedByKasir() != null ? order.getProcessedByKasir().getUserId() : NO_KASIR;
+
+        totalsByProduct(order.getOrderDetails()).forEach((productId, totals) -> dailyProductSalesRepository.upsert(
+                salesDate, kasirId, productId, sign * totals.getQuantity(), totals.getRevenue().times(sign).toBigDecimal()));
+
+        dailyPaymentSalesRepository.upsert(salesDate, kasirId, order.getPaymentMethod().getPaymentId(),
+                sign, order.getTotalAmount().times(sign).toBigDecimal());
+    }
+
+    /**
+     * Menggabungkan detail order per produk. TreeMap menjaga urutan ID agar
+     * urutan lock baris rollup konsisten antar transaksi.
+     *
+     * @param details detail order
+     * @return total quantity dan pendapatan per ID produk
+     */
+    public static Map<Long, ProductTotals> totalsByProduct(Collection<OrderDetail> details) {
+        Map<Long, ProductTotals> totals = new TreeMap<>();
+        for (OrderDetail detail : details) {
+            totals.computeIfAbsent(detail.getProduct().getProductId(), id -> new ProductTotals())
+                    .add(detail.getQuantity(), detail.getUnitPrice());
+        }
+        return totals;
+    }
+
+    /**
+     * Akumulator quantity dan pendapatan satu produk. Pendapatan dijumlahkan dalam sen
+     * sehingga penambahan per baris detail tidak membuat objek baru.
+     */
+    @Getter
+    public static final class ProductTotals {
+
+        private long quantity;
+        private long revenueCents;
+
+        public void add(int lineQuantity, Money unitPrice) {
+            quantity += lineQuantity;
+            revenueCents = Math.addExact(revenueCents, Math.multiplyExact(unitPrice.getCents(), (long) lineQuantity));
+        }
+
+        public Money getRevenue() {
+            return Money.ofCents(revenueCents);
+        }
+    }
+}
@@ -0,0 +1,100 @@
+package com.proyek.coffeeshop.service.impl;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+
+/**
+ * Satu koneksi Server-Sent Events dengan antrian kirim sendiri.
+ * Event di-enqueue tanpa blocking oleh thread yang mem-broadcast, lalu ditulis ke socket oleh
+ * satu virtual thread per koneksi, sehingga client yang lambat tidak menahan client lain maupun
+ * dispatcher outbox. Jika antrian penuh, koneksi ditutup dan client cukup reconnect untuk
+ * mendapat snapshot baru. Saat antrian kosong, komentar heartbeat dikirim agar proxy tidak
+ * memutus koneksi dan koneksi yang mati terdeteksi.
+ * 
+ * @author Coffee Shop Team
+ * @version 1.0
+ */
+@Slf4j
+final class SseSubscriber {
+
+    private final SseEmitter emitter;
+    private final BlockingQueue<SseEmitter.SseEventBuilder> queue;
+    private final Duration heartbeat;
+    private final Consumer<SseSubscriber> onClose;
+    private final AtomicBoolean closed = new AtomicBoolean();
+    private volatile Thread writer;
+
+    SseSubscriber(Duration timeout, Duration heartbeat, int queueCapacity, Consumer<SseSubscriber> onClose) {
+        this.emitter = new SseEmitter(timeout.toMillis());
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.heartbeat = heartbeat;
+        this.onClose = onClose;
+        emitter.onCompletion(this::close);
+        emitter.onTimeout(this::close);
+        emitter.onError(error -> close());
+    }
+
+    SseEmitter getEmitter() {
+        return emitter;
+    }
+
+    /**
+     * Memulai virtual thread penulis. Dipanggil setelah event awal (snapshot) di-enqueue.
+     */
+    void start(String name) {
+        writer = Thread.ofVirtual().name(name).start(this::drain);
+    }
+
+    /**
+     * Menambahkan event ke antrian tanpa blocking.
+     *
+     * @return false jika koneksi sudah ditutup atau antrian penuh (koneksi lalu ditutup)
+     */
+    boolean offer(SseEmitter.SseEventBuilder event) {
+        if (closed.get()) {
+            return false;
+        }
+        if (!queue.offer(event)) {
+            log.warn("SSE subscriber {} is too slow, closing the connection", writer != null ? writer.getName() : "?");
+            emitter.complete();
+            close();
+            return false;
+        }
+        return true;
+    }
+
+    void close() {
+        if (closed.compareAndSet(false, true)) {
+            queue.clear();
+            Thread thread = writer;
+            if (thread != null) {
+                thread.interrupt();
+            }
+            onClose.accept(this);
+        }
+    }
+
+    private void drain() {
+        try {
+            while (!closed.get()) {
+                SseEmitter.SseEventBuilder event = queue.poll(heartbeat.toMillis(), TimeUnit.MILLISECONDS);
+                emitter.send(event != null ? event : SseEmitter.event().comment("heartbeat"));
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (IOException | IllegalStateException e) {
+            // Client sudah memutus koneksi atau emitter sudah selesai
+            log.debug("SSE subscriber disconnected: {}", e.getMessage());
+        } finally {
+            close();
+        }
+    }
+}
@@ -0,0 +1,188 @@
+package com.proyek.coffeeshop.service.impl;
+
+import com.proyek.coffeeshop.config.CacheConfig;
+import com.proyek.coffeeshop.event.CatalogChangedEvent;
+import com.proyek.coffeeshop.exception.BadRequestException;
+import com.proyek.coffeeshop.model.entity.Order;
+import com.proyek.coffeeshop.model.entity.StockReservation;
+import com.proyek.coffeeshop.model.enums.OrderEventType;
+import com.proyek.coffeeshop.model.enums.OrderStatus;
+import com.proyek.coffeeshop.model.enums.ReservationStatus;
+import com.proyek.coffeeshop.repository.OrderRepository;
+import com.proyek.coffeeshop.repository.ProductRepository;
+import com.proyek.coffeeshop.repository.StockReservationRepository;
+import com.proyek.coffeeshop.service.OrderOutboxService;
+import com.proyek.coffeeshop.service.SalesRollupService;
+import com.proyek.coffeeshop.service.StockReservationService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Implementasi service untuk reservasi stok.
+ * Konfirmasi pembayaran, pembatalan, dan sweeper sama-sama mengunci baris order
+ * sebelum menyentuh reservasinya, sehingga seluruh reservasi sebuah order berpindah
+ * status bersama. Setiap perpindahan juga tetap memakai conditional update
+ * (WHERE status = HELD) agar stok tidak pernah dikembalikan dua kali.
+ * 
+ * @author Coffee Shop Team
+ * @version 1.0
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class StockReservationServiceImpl implements StockReservationService {
+
+    private final StockReservationRepository stockReservationRepository;
+    private final ProductRepository productRepository;
+    private final OrderRepository orderRepository;
+    private final SalesRollupService salesRollupService;
+    private final OrderOutboxService orderOutboxService;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Value("${coffeeshop.reservation.ttl:15m}")
+    private Duration reservationTtl;
+
+    @Override
+    @Transactional
+    public void hold(Order order, Map<Long, Integer> quantitiesByProductId) {
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime expiresAt = now.plus(reservationTtl);
+
+        List<StockReservation> reservations = new ArrayList<>();
+        for (Map.Entry<Long, Integer> entry : new TreeMap<>(quantitiesByProductId).entrySet()) {
+            StockReservation reservation = new StockReservation();
+            reservation.setOrder(order);
+            reservation.setProduct(productRepository.getReferenceById(entry.getKey()));
+            reservation.setQuantity(entry.getValue());
+            reservation.setStatus(ReservationStatus.HELD);
+            reservation.setCreatedAt(now);
+            reservation.setExpiresAt(expiresAt);
+            reservations.add(reservation);
+        }
+        stockReservationRepository.saveAll(reservations);
+
+        log.debug("Held {} stock reservations for order ID: {} until {}",
+                reservations.size(), order.getOrderId(), expiresAt);
+    }
+
+    @Override
+    @Transactional
+    public void commit(Order order) {
+        int committed = stockReservationRepository.transitionByOrderId(order.getOrderId(),
+                ReservationStatus.HELD, ReservationStatus.COMMITTED, LocalDateTime.now());
+
+        if (committed == 0) {
+            ensureNotExpired(order);
+        }
+        log.debug("Committed {} stock reservations for order ID: {}", committed, order.getOrderId());
+    }
+
+    @Override
+    @Transactional
+    public void release(Order order) {
+        List<StockReservation> held = stockReservationRepository.findByOrderIdAndStatus(
+                order.getOrderId(), ReservationStatus.HELD);
+
+        int released = releaseAll(held, LocalDateTime.now());
+        if (released == 0) {
+            ensureNotExpired(order);
+        }
+        log.debug("Released {} stock reservations for order ID: {}", released, order.getOrderId());
+    }
+
+    @Override
+    @Transactional
+    public int releaseExpired(int batchSize) {
+        LocalDateTime now = LocalDateTime.now();
+        List<Long> orderIds = stockReservationRepository.findExpiringOrderIds(
+                ReservationStatus.HELD, now, PageRequest.of(0, batchSize));
+
+        int releasedReservations = 0;
+        for (Long orderId : orderIds) {
+            releasedReservations += releaseExpiredOrder(orderId, now);
+        }
+
+        if (!orderIds.isEmpty()) {
+            log.info("Released {} expired stock reservations across {} orders", releasedReservations, orderIds.size());
+        }
+        return orderIds.size();
+    }
+
+    /**
+     * Mengunci baris order (kunci yang sama dengan konfirmasi dan pembatalan),
+     * lalu melepas semua reservasi HELD-nya dan membatalkan order jika masih
+     * menunggu pembayaran. Jika order sudah dibayar lebih dulu, reservasinya
+     * sudah COMMITTED dan tidak ada yang dilepas.
+     */
+    private int releaseExpiredOrder(Long orderId, LocalDateTime now) {
+        if (orderRepository.lockById(orderId).isEmpty()) {
+            return 0;
+        }
+        List<StockReservation> held = stockReservationRepository.findByOrderIdAndStatus(
+                orderId, ReservationStatus.HELD);
+        int released = releaseAll(held, now);
+        if (released > 0) {
+            cancelExpiredOrder(orderId);
+        }
+        return released;
+    }
+
+    /**
+     * Melepas reservasi satu per satu; stok hanya dikembalikan untuk reservasi
+     * yang berhasil dipindahkan dari HELD ke RELEASED oleh transaksi ini.
+     */
+    private int releaseAll(List<StockReservation> reservations, LocalDateTime now) {
+        int released = 0;
+        for (StockReservation reservation : reservations) {
+            int updated = stockReservationRepository.transition(reservation.getReservationId(),
+                    ReservationStatus.HELD, ReservationStatus.RELEASED, now);
+            if (updated == 1) {
+                productRepository.incrementStock(reservation.getProduct().getProductId(), reservation.getQuantity());
+                released++;
+            }
+        }
+        if (released > 0) {
+            // Stok yang kembali bisa membuat produk tersedia lagi (lihat incrementStock)
+            eventPublisher.publishEvent(new CatalogChangedEvent(CacheConfig.PRODUCTS));
+        }
+        return released;
+    }
+
+    /**
+     * Membatalkan order yang reservasinya kedaluwarsa jika masih menunggu pembayaran.
+     */
+    private void cancelExpiredOrder(Long orderId) {
+        orderRepository.findWithDetailsById(orderId)
+                .filter(order -> order.getStatus() == OrderStatus.WAITING_PAYMENT)
+                .ifPresent(order -> {
+                    order.setStatus(OrderStatus.CANCELLED);
+                    Order cancelledOrder = orderRepository.save(order);
+                    salesRollupService.applyStatusChange(cancelledOrder, OrderStatus.WAITING_PAYMENT);
+                    orderOutboxService.record(cancelledOrder, OrderEventType.CANCELLED, OrderStatus.WAITING_PAYMENT);
+                    log.info("Cancelled order ID: {} because its payment window expired", orderId);
+                });
+    }
+
+    /**
+     * Order tanpa reservasi (dibuat sebelum fitur ini) tetap boleh diproses,
+     * tetapi order yang reservasinya sudah dilepas sweeper tidak.
+     */
+    private void ensureNotExpired(Order order) {
+        if (stockReservationRepository.existsByOrderOrderId(order.getOrderId())) {
+            throw new BadRequestException("Batas waktu pembayaran order " + order.getOrderId()
+                    + " sudah habis, stok telah dikembalikan");
+        }
+    }
+}
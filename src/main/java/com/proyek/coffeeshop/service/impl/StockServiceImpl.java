@@ -1,17 +1,22 @@
 package com.proyek.coffeeshop.service.impl;
 
+import com.proyek.coffeeshop.config.CacheConfig;
 import com.proyek.coffeeshop.dto.request.StockUpdateRequestDTO;
 import com.proyek.coffeeshop.dto.response.StockInfoResponseDTO;
+import com.proyek.coffeeshop.event.CatalogChangedEvent;
 import com.proyek.coffeeshop.exception.BadRequestException;
 import com.proyek.coffeeshop.model.entity.Product;
 import com.proyek.coffeeshop.repository.ProductRepository;
 import com.proyek.coffeeshop.service.StockService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
 import java.util.stream.Collectors;
 
 /**
@@ -23,6 +28,7 @@ import java.util.stream.Collectors;
 public class StockServiceImpl implements StockService {
 
     private final ProductRepository productRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Override
     @Transactional
@@ -44,6 +50,9 @@ public class StockServiceImpl implements StockService {
         log.info("Stock updated successfully for product: {} - New quantity: {}", 
                 savedProduct.getName(), savedProduct.getStockQuantity());
 
+        // Ketersediaan produk bisa berubah; menu snapshot dan price book dibangun ulang setelah commit
+        eventPublisher.publishEvent(new CatalogChangedEvent(CacheConfig.PRODUCTS));
+
         return mapToStockInfoDTO(savedProduct);
     }
 
@@ -94,28 +103,64 @@ public class StockServiceImpl implements StockService {
         log.info("Stock added successfully for product: {} - New quantity: {}", 
                 savedProduct.getName(), savedProduct.getStockQuantity());
 
+        eventPublisher.publishEvent(new CatalogChangedEvent(CacheConfig.PRODUCTS));
+
         return mapToStockInfoDTO(savedProduct);
     }
 
     @Override
     @Transactional
     public void reduceStock(Long productId, Integer quantity) {
-        log.info("Reducing stock for product ID: {} - Quantity: {}", productId, quantity);
+        reduceStock(Map.of(productId, quantity));
+    }
+
+    @Override
+    @Transactional
+    public void reduceStock(Map<Long, Integer> quantitiesByProductId) {
+        log.info("Reducing stock for products: {}", quantitiesByProductId);
+
+        // Urutkan berdasarkan ID produk agar order yang berbagi produk selalu mengunci
+        // baris dengan urutan yang sama (mencegah deadlock); produk lain tidak ikut terkunci
+        for (Map.Entry<Long, Integer> entry : new TreeMap<>(quantitiesByProductId).entrySet()) {
+            Long productId = entry.getKey();
+            Integer quantity = entry.getValue();
+
+            if (quantity == null || quantity <= 0) {
+                throw new BadRequestException("Jumlah pengurangan stok harus lebih dari 0");
+            }
+
+            if (productRepository.decrementStock(productId, quantity) == 0) {
+                throw insufficientStock(productId, quantity);
+            }
+        }
+    }
+
+    @Override
+    @Transactional
+    public void restoreStock(Map<Long, Integer> quantitiesByProductId) {
+        log.info("Restoring stock for products: {}", quantitiesByProductId);
 
+        // Urutan ID produk yang sama dengan reduceStock agar tidak saling deadlock
+        for (Map.Entry<Long, Integer> entry : new TreeMap<>(quantitiesByProductId).entrySet()) {
+            productRepository.incrementStock(entry.getKey(), entry.getValue());
+        }
+
+        // Produk yang tadinya habis bisa tersedia lagi
+        eventPublisher.publishEvent(new CatalogChangedEvent(CacheConfig.PRODUCTS));
+    }
+
+    /**
+     * Membuat exception saat conditional update tidak mengenai baris:
+     * produk tidak ada atau stoknya kurang.
+     */
+    private BadRequestException insufficientStock(Long productId, Integer quantity) {
         Product product = productRepository.findById(productId)
                 .orElseThrow(() -> new BadRequestException("Product dengan ID " + productId + " tidak ditemukan"));
 
-        try {
-            product.reduceStock(quantity);
-            productRepository.save(product);
-            
-            log.info("Stock reduced successfully for product: {} - Remaining quantity: {}", 
-                    product.getName(), product.getStockQuantity());
-        } catch (IllegalArgumentException e) {
-            log.error("Failed to reduce stock for product: {} - Error: {}", 
-                    product.getName(), e.getMessage());
-            throw new BadRequestException(e.getMessage());
-        }
+        log.warn("Insufficient stock for product: {} - Available: {}, Required: {}",
+                product.getName(), product.getStockQuantity(), quantity);
+        return new BadRequestException("Stok produk " + product.getName() + " tidak mencukupi. Tersedia: "
+                + product.getStockQuantity() + ", Dibutuhkan: " + quantity);
     }
 
     /**
@@ -0,0 +1,18 @@
+-- Blok ID untuk Orders, OrderDetails dan OrderDetailsCustomization (@TableGenerator, allocationSize 50).
+-- Nilai awal diisi di atas ID terbesar yang sudah ada, sehingga blok pertama dari optimizer pooled
+-- (next_val - 49 .. next_val) tidak bertabrakan dengan baris yang dibuat lewat AUTO_INCREMENT.
+-- AUTO_INCREMENT pada kolom ID dibiarkan; Hibernate selalu mengisi ID secara eksplisit.
+CREATE TABLE IdSequences (
+    sequence_name  VARCHAR(255) NOT NULL,
+    next_val       BIGINT,
+    PRIMARY KEY (sequence_name)
+) ENGINE = InnoDB DEFAULT CHARSET = utf8mb4;
+
+INSERT INTO IdSequences (sequence_name, next_val)
+SELECT 'Orders', COALESCE(MAX(order_id), 0) + 51 FROM Orders;
+
+INSERT INTO IdSequences (sequence_name, next_val)
+SELECT 'OrderDetails', COALESCE(MAX(detail_id), 0) + 51 FROM OrderDetails;
+
+INSERT INTO IdSequences (sequence_name, next_val)
+SELECT 'OrderDetailsCustomization', COALESCE(MAX(detail_customization_id), 0) + 51 FROM OrderDetailsCustomization;
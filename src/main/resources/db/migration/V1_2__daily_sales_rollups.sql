@@ -0,0 +1,38 @@
+-- Rollup penjualan harian per kasir (kasir_id 0 untuk order customer) yang dipakai laporan.
+-- Diisi dari order yang sudah ada dengan query yang sama seperti --rebuild-rollups,
+-- sehingga laporan untuk tanggal sebelum migrasi tetap lengkap.
+CREATE TABLE DailyProductSales (
+    rollup_id      BIGINT         NOT NULL AUTO_INCREMENT,
+    sales_date     DATE           NOT NULL,
+    kasir_id       BIGINT         NOT NULL,
+    product_id     BIGINT         NOT NULL,
+    quantity_sold  BIGINT         NOT NULL,
+    revenue        DECIMAL(14, 2) NOT NULL,
+    PRIMARY KEY (rollup_id),
+    CONSTRAINT uk_daily_product_sales UNIQUE (sales_date, kasir_id, product_id)
+) ENGINE = InnoDB DEFAULT CHARSET = utf8mb4;
+
+CREATE TABLE DailyPaymentSales (
+    rollup_id     BIGINT         NOT NULL AUTO_INCREMENT,
+    sales_date    DATE           NOT NULL,
+    kasir_id      BIGINT         NOT NULL,
+    payment_id    BIGINT         NOT NULL,
+    order_count   BIGINT         NOT NULL,
+    total_amount  DECIMAL(14, 2) NOT NULL,
+    PRIMARY KEY (rollup_id),
+    CONSTRAINT uk_daily_payment_sales UNIQUE (sales_date, kasir_id, payment_id)
+) ENGINE = InnoDB DEFAULT CHARSET = utf8mb4;
+
+INSERT INTO DailyProductSales (sales_date, kasir_id, product_id, quantity_sold, revenue)
+SELECT DATE(o.order_date), COALESCE(o.processed_by_kasir_id, 0), od.product_id,
+       SUM(od.quantity), SUM(od.unit_price * od.quantity)
+FROM Orders o JOIN OrderDetails od ON od.order_id = o.order_id
+WHERE o.status <> 'CANCELLED'
+GROUP BY DATE(o.order_date), COALESCE(o.processed_by_kasir_id, 0), od.product_id;
+
+INSERT INTO DailyPaymentSales (sales_date, kasir_id, payment_id, order_count, total_amount)
+SELECT DATE(o.order_date), COALESCE(o.processed_by_kasir_id, 0), o.payment_id,
+       COUNT(*), SUM(o.total_amount)
+FROM Orders o
+WHERE o.status <> 'CANCELLED'
+GROUP BY DATE(o.order_date), COALESCE(o.processed_by_kasir_id, 0), o.payment_id;
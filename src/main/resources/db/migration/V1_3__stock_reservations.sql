@@ -0,0 +1,18 @@
+-- Reservasi stok untuk order customer yang menunggu pembayaran.
+-- Order WAITING_PAYMENT yang dibuat sebelum migrasi tidak punya reservasi, sehingga
+-- tidak kedaluwarsa otomatis dan pembayarannya dikonfirmasi tanpa commit reservasi.
+CREATE TABLE StockReservations (
+    reservation_id  BIGINT      NOT NULL AUTO_INCREMENT,
+    order_id        BIGINT      NOT NULL,
+    product_id      BIGINT      NOT NULL,
+    quantity        INT         NOT NULL,
+    status          ENUM('HELD','COMMITTED','RELEASED') NOT NULL,
+    created_at      DATETIME(6) NOT NULL,
+    expires_at      DATETIME(6) NOT NULL,
+    resolved_at     DATETIME(6),
+    PRIMARY KEY (reservation_id),
+    INDEX idx_reservation_status_expires (status, expires_at),
+    INDEX idx_reservation_order (order_id),
+    CONSTRAINT fk_reservations_order FOREIGN KEY (order_id) REFERENCES Orders (order_id),
+    CONSTRAINT fk_reservations_product FOREIGN KEY (product_id) REFERENCES Products (product_id)
+) ENGINE = InnoDB DEFAULT CHARSET = utf8mb4;
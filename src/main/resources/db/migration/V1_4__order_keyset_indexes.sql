@@ -0,0 +1,4 @@
+-- Indeks untuk keyset pagination daftar order admin (OrderCursor):
+-- (order_date, order_id) untuk semua order, (status, order_date, order_id) per status.
+CREATE INDEX idx_orders_date_id ON Orders (order_date, order_id);
+CREATE INDEX idx_orders_status_date_id ON Orders (status, order_date, order_id);
@@ -0,0 +1,109 @@
+-- Skema awal Coffee Shop, setara dengan hasil spring.jpa.hibernate.ddl-auto=update
+-- sebelum Flyway dipakai. Database lama yang sudah berisi tabel-tabel ini ditandai
+-- sebagai versi 1 oleh spring.flyway.baseline-on-migrate tanpa menjalankan file ini,
+-- sehingga semua tabel dan indeks yang ditambahkan sesudahnya harus ada di V1_1 ke atas.
+
+CREATE TABLE Users (
+    user_id     BIGINT       NOT NULL AUTO_INCREMENT,
+    username    VARCHAR(50)  NOT NULL,
+    password    VARCHAR(255) NOT NULL,
+    email       VARCHAR(100) NOT NULL,
+    role        ENUM('ROLE_ADMIN','ROLE_CUSTOMER','ROLE_KASIR') NOT NULL,
+    created_at  DATETIME(6)  NOT NULL,
+    updated_at  DATETIME(6)  NOT NULL,
+    PRIMARY KEY (user_id),
+    CONSTRAINT uk_users_username UNIQUE (username),
+    CONSTRAINT uk_users_email UNIQUE (email)
+) ENGINE = InnoDB DEFAULT CHARSET = utf8mb4;
+
+CREATE TABLE Customers (
+    customer_id   BIGINT       NOT NULL AUTO_INCREMENT,
+    user_id       BIGINT       NOT NULL,
+    full_name     VARCHAR(100) NOT NULL,
+    phone_number  VARCHAR(20),
+    address       VARCHAR(255),
+    PRIMARY KEY (customer_id),
+    CONSTRAINT uk_customers_user UNIQUE (user_id),
+    CONSTRAINT fk_customers_user FOREIGN KEY (user_id) REFERENCES Users (user_id)
+) ENGINE = InnoDB DEFAULT CHARSET = utf8mb4;
+
+CREATE TABLE Categories (
+    category_id  BIGINT       NOT NULL AUTO_INCREMENT,
+    name         VARCHAR(50)  NOT NULL,
+    description  VARCHAR(255),
+    PRIMARY KEY (category_id),
+    CONSTRAINT uk_categories_name UNIQUE (name)
+) ENGINE = InnoDB DEFAULT CHARSET = utf8mb4;
+
+CREATE TABLE Products (
+    product_id       BIGINT         NOT NULL AUTO_INCREMENT,
+    name             VARCHAR(100)   NOT NULL,
+    description      TEXT,
+    price            DECIMAL(10, 2) NOT NULL,
+    img_url          VARCHAR(255),
+    category_id      BIGINT         NOT NULL,
+    available        BIT            NOT NULL,
+    stock_quantity   INT            NOT NULL,
+    min_stock_level  INT            NOT NULL,
+    max_stock_level  INT            NOT NULL,
+    PRIMARY KEY (product_id),
+    CONSTRAINT fk_products_category FOREIGN KEY (category_id) REFERENCES Categories (category_id)
+) ENGINE = InnoDB DEFAULT CHARSET = utf8mb4;
+
+CREATE TABLE Customization (
+    customization_id  BIGINT        NOT NULL AUTO_INCREMENT,
+    name              VARCHAR(100)  NOT NULL,
+    type              VARCHAR(50),
+    price_adjustment  DECIMAL(8, 2) NOT NULL,
+    description       TEXT,
+    PRIMARY KEY (customization_id)
+) ENGINE = InnoDB DEFAULT CHARSET = utf8mb4;
+
+CREATE TABLE PaymentMethods (
+    payment_id   BIGINT       NOT NULL AUTO_INCREMENT,
+    name         VARCHAR(50)  NOT NULL,
+    description  VARCHAR(255),
+    PRIMARY KEY (payment_id),
+    CONSTRAINT uk_payment_methods_name UNIQUE (name)
+) ENGINE = InnoDB DEFAULT CHARSET = utf8mb4;
+
+CREATE TABLE Orders (
+    order_id               BIGINT         NOT NULL AUTO_INCREMENT,
+    customer_id            BIGINT,
+    processed_by_kasir_id  BIGINT,
+    order_date             DATETIME(6)    NOT NULL,
+    total_amount           DECIMAL(12, 2) NOT NULL,
+    status                 ENUM('WAITING_PAYMENT','PROCESSING','READY_FOR_PICKUP','COMPLETED','CANCELLED',
+                                'PAID','PREPARING','READY_TO_SERVE') NOT NULL,
+    payment_id             BIGINT         NOT NULL,
+    customer_notes         VARCHAR(500),
+    amount_tendered        DECIMAL(12, 2),
+    change_given           DECIMAL(12, 2),
+    PRIMARY KEY (order_id),
+    CONSTRAINT fk_orders_customer FOREIGN KEY (customer_id) REFERENCES Customers (customer_id),
+    CONSTRAINT fk_orders_kasir FOREIGN KEY (processed_by_kasir_id) REFERENCES Users (user_id),
+    CONSTRAINT fk_orders_payment_method FOREIGN KEY (payment_id) REFERENCES PaymentMethods (payment_id)
+) ENGINE = InnoDB DEFAULT CHARSET = utf8mb4;
+
+CREATE TABLE OrderDetails (
+    detail_id       BIGINT         NOT NULL AUTO_INCREMENT,
+    order_id        BIGINT         NOT NULL,
+    product_id      BIGINT         NOT NULL,
+    quantity        INT            NOT NULL,
+    unit_price      DECIMAL(10, 2) NOT NULL,
+    subtotal_price  DECIMAL(12, 2) NOT NULL,
+    PRIMARY KEY (detail_id),
+    CONSTRAINT fk_order_details_order FOREIGN KEY (order_id) REFERENCES Orders (order_id),
+    CONSTRAINT fk_order_details_product FOREIGN KEY (product_id) REFERENCES Products (product_id)
+) ENGINE = InnoDB DEFAULT CHARSET = utf8mb4;
+
+CREATE TABLE OrderDetailsCustomization (
+    detail_customization_id      BIGINT        NOT NULL AUTO_INCREMENT,
+    detail_id                    BIGINT        NOT NULL,
+    customization_id             BIGINT        NOT NULL,
+    customization_name_snapshot  VARCHAR(100),
+    price_adjustment_snapshot    DECIMAL(8, 2),
+    PRIMARY KEY (detail_customization_id),
+    CONSTRAINT fk_odc_order_detail FOREIGN KEY (detail_id) REFERENCES OrderDetails (detail_id),
+    CONSTRAINT fk_odc_customization FOREIGN KEY (customization_id) REFERENCES Customization (customization_id)
+) ENGINE = InnoDB DEFAULT CHARSET = utf8mb4;
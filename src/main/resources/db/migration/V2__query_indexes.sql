@@ -0,0 +1,30 @@
+-- Indeks komposit untuk query repository yang paling sering dipanggil.
+-- InnoDB sudah membuat indeks untuk setiap kolom foreign key, tetapi tanpa kolom
+-- pengurutan sehingga "riwayat pesanan" dan laporan masih melakukan filesort.
+
+-- OrderRepository.findByCustomer / findByCustomerId (riwayat pesanan customer)
+CREATE INDEX idx_orders_customer_date ON Orders (customer_id, order_date);
+
+-- OrderRepository.findByProcessedByKasirIdAndOrderDateBetween (laporan per kasir)
+CREATE INDEX idx_orders_kasir_date ON Orders (processed_by_kasir_id, order_date);
+
+-- OrderDetailRepository.findByProductId dan agregasi per produk;
+-- order_id ikut disimpan agar join balik ke Orders tidak perlu membaca baris detail
+CREATE INDEX idx_order_details_product_order ON OrderDetails (product_id, order_id);
+
+-- OrderDetailRepository.fetchCustomizationsByOrderIds dan
+-- OrderDetailCustomizationRepository.findByOrderDetailId
+CREATE INDEX idx_odc_detail_customization ON OrderDetailsCustomization (detail_id, customization_id);
+
+-- ProductRepository.findByCategoryId / findByAvailable (menu per kategori)
+CREATE INDEX idx_products_category_available ON Products (category_id, available);
+
+-- CustomizationRepository.findByType
+CREATE INDEX idx_customization_type ON Customization (type);
+
+-- UserRepository.findByRole
+CREATE INDEX idx_users_role ON Users (role);
+
+-- Laporan rollup per kasir (kasir_id = ? AND sales_date BETWEEN ? AND ?)
+CREATE INDEX idx_daily_product_sales_kasir_date ON DailyProductSales (kasir_id, sales_date);
+CREATE INDEX idx_daily_payment_sales_kasir_date ON DailyPaymentSales (kasir_id, sales_date);
@@ -0,0 +1,12 @@
+-- Versi price book yang dipakai untuk menghitung harga order.
+-- entries berisi JSON harga dan ketersediaan produk serta harga kustomisasi,
+-- sehingga harga sebuah order bisa direkonstruksi dari Orders.price_book_version.
+CREATE TABLE PriceBookVersions (
+    version_id  BIGINT      NOT NULL AUTO_INCREMENT,
+    created_at  DATETIME(6) NOT NULL,
+    entries     LONGTEXT    NOT NULL,
+    PRIMARY KEY (version_id)
+) ENGINE = InnoDB DEFAULT CHARSET = utf8mb4;
+
+-- NULL untuk order yang dibuat sebelum price book ada
+ALTER TABLE Orders ADD COLUMN price_book_version BIGINT NULL;
@@ -0,0 +1,18 @@
+-- Outbox event siklus hidup order, ditulis di transaksi yang sama dengan perubahan order.
+-- Dispatcher membaca baris dengan dispatched_at NULL berurutan event_id dan menandainya
+-- setelah semua listener berhasil; baris yang sudah terkirim dihapus setelah masa retensi.
+CREATE TABLE OrderOutbox (
+    event_id         BIGINT      NOT NULL AUTO_INCREMENT,
+    order_id         BIGINT      NOT NULL,
+    customer_id      BIGINT,
+    event_type       ENUM('CREATED','STATUS_CHANGED','PAYMENT_CONFIRMED','CANCELLED') NOT NULL,
+    previous_status  ENUM('WAITING_PAYMENT','PROCESSING','READY_FOR_PICKUP','COMPLETED','CANCELLED',
+                          'PAID','PREPARING','READY_TO_SERVE'),
+    status           ENUM('WAITING_PAYMENT','PROCESSING','READY_FOR_PICKUP','COMPLETED','CANCELLED',
+                          'PAID','PREPARING','READY_TO_SERVE') NOT NULL,
+    occurred_at      DATETIME(6) NOT NULL,
+    dispatched_at    DATETIME(6),
+    attempts         INT         NOT NULL DEFAULT 0,
+    PRIMARY KEY (event_id),
+    INDEX idx_outbox_dispatched_event (dispatched_at, event_id)
+) ENGINE = InnoDB DEFAULT CHARSET = utf8mb4;
@@ -0,0 +1,3 @@
+-- Kolom optimistic locking untuk Orders (@Version): perubahan status berbasis
+-- state yang sudah basi gagal alih-alih menimpa perubahan transaksi lain.
+ALTER TABLE Orders ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
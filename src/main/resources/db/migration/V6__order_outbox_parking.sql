@@ -0,0 +1,10 @@
+-- Event yang gagal dikirim sebanyak coffeeshop.outbox.max-attempts kali diparkir (parked_at terisi)
+-- dan tidak dibaca lagi oleh dispatcher. Event berikutnya dari order yang sama ikut diparkir agar
+-- urutan per order tetap terjaga; kirim ulang dengan mengosongkan parked_at dan attempts untuk
+-- semua event order tersebut setelah penyebabnya diperbaiki.
+ALTER TABLE OrderOutbox ADD COLUMN parked_at DATETIME(6);
+
+ALTER TABLE OrderOutbox
+    DROP INDEX idx_outbox_dispatched_event,
+    ADD INDEX idx_outbox_pending (dispatched_at, parked_at, event_id),
+    ADD INDEX idx_outbox_order (order_id);
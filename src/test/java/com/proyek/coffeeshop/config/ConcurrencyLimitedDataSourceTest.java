@@ -0,0 +1,112 @@
+package com.proyek.coffeeshop.config;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests untuk ConcurrencyLimitedDataSource - siklus hidup permit JDBC.
+ * Permit harus kembali saat koneksi ditutup maupun saat peminjaman koneksi gagal,
+ * dan pemanggil di atas batas menunggu sampai permit tersedia atau timeout.
+ */
+@ExtendWith(MockitoExtension.class)
+class ConcurrencyLimitedDataSourceTest {
+
+    @Mock
+    private DataSource target;
+
+    @Mock
+    private Connection connection;
+
+    @Test
+    void close_ReleasesPermitExactlyOnce() throws SQLException {
+        when(target.getConnection()).thenReturn(connection);
+        ConcurrencyLimitedDataSource dataSource = new ConcurrencyLimitedDataSource(target, 2, Duration.ofMillis(50));
+
+        Connection borrowed = dataSource.getConnection();
+        assertEquals(1, dataSource.getAvailablePermits());
+
+        borrowed.close();
+        borrowed.close();
+
+        assertEquals(2, dataSource.getAvailablePermits());
+        verify(connection, times(2)).close();
+    }
+
+    @Test
+    void close_ReleasesPermitEvenWhenTargetCloseFails() throws SQLException {
+        when(target.getConnection()).thenReturn(connection);
+        doThrow(new SQLException("socket closed")).when(connection).close();
+        ConcurrencyLimitedDataSource dataSource = new ConcurrencyLimitedDataSource(target, 1, Duration.ofMillis(50));
+
+        Connection borrowed = dataSource.getConnection();
+
+        assertThrows(SQLException.class, borrowed::close);
+        assertEquals(1, dataSource.getAvailablePermits());
+    }
+
+    @Test
+    void getConnection_ReleasesPermitWhenTargetFails() throws SQLException {
+        when(target.getConnection()).thenThrow(new SQLException("database down"));
+        ConcurrencyLimitedDataSource dataSource = new ConcurrencyLimitedDataSource(target, 1, Duration.ofMillis(50));
+
+        assertThrows(SQLException.class, dataSource::getConnection);
+        assertThrows(SQLException.class, dataSource::getConnection);
+
+        assertEquals(1, dataSource.getAvailablePermits());
+    }
+
+    @Test
+    void getConnection_OverLimitTimesOutAfterConfiguredWait() throws SQLException {
+        when(target.getConnection()).thenReturn(connection);
+        ConcurrencyLimitedDataSource dataSource = new ConcurrencyLimitedDataSource(target, 1, Duration.ofMillis(100));
+        Connection held = dataSource.getConnection();
+
+        long start = System.nanoTime();
+        assertThrows(SQLTransientConnectionException.class, dataSource::getConnection);
+        long waitedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+        assertTrue(waitedMillis >= 90, "waited only " + waitedMillis + "ms");
+        verify(target, times(1)).getConnection();
+        held.close();
+        assertEquals(1, dataSource.getAvailablePermits());
+    }
+
+    @Test
+    void getConnection_OverLimitWaitsUntilPermitIsReturned() throws Exception {
+        when(target.getConnection()).thenReturn(connection);
+        ConcurrencyLimitedDataSource dataSource = new ConcurrencyLimitedDataSource(target, 1, Duration.ofSeconds(5));
+        Connection held = dataSource.getConnection();
+
+        CompletableFuture<Connection> waiter = CompletableFuture.supplyAsync(() -> {
+            try {
+                return dataSource.getConnection();
+            } catch (SQLException e) {
+                throw new IllegalStateException(e);
+            }
+        });
+
+        Thread.sleep(100);
+        assertFalse(waiter.isDone(), "caller over the limit should still be waiting");
+
+        held.close();
+        Connection next = waiter.get(2, TimeUnit.SECONDS);
+        assertNotNull(next);
+        assertEquals(0, dataSource.getAvailablePermits());
+
+        next.close();
+        assertEquals(1, dataSource.getAvailablePermits());
+    }
+}
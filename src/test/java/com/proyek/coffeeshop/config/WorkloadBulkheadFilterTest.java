@@ -0,0 +1,170 @@
+package com.proyek.coffeeshop.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.env.MockEnvironment;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests untuk WorkloadBulkheadFilter - klasifikasi request dan penolakan saat anggaran habis.
+ * Anggaran dihitung dari pool 4 koneksi dengan 2 koneksi dicadangkan untuk kasir.
+ */
+class WorkloadBulkheadFilterTest {
+
+    private final ExecutorService executor = Executors.newCachedThreadPool();
+    private final CountDownLatch releaseHeld = new CountDownLatch(1);
+    private final List<Future<?>> held = new ArrayList<>();
+
+    @AfterEach
+    void tearDown() throws Exception {
+        releaseHeld.countDown();
+        for (Future<?> request : held) {
+            request.get(5, TimeUnit.SECONDS);
+        }
+        executor.shutdownNow();
+    }
+
+    @Test
+    void classify_MapsPathsToWorkloads() {
+        assertEquals(WorkloadClass.TILL_INTAKE, classify("POST", "/api/orders/kasir"));
+        assertEquals(WorkloadClass.CUSTOMER_APP, classify("POST", "/api/orders"));
+        assertEquals(WorkloadClass.CUSTOMER_APP, classify("POST", "/api/auth/login"));
+        assertEquals(WorkloadClass.REPORTING, classify("GET", "/api/reports/daily"));
+        assertEquals(WorkloadClass.REPORTING, classify("GET", "/api/orders/admin/feed"));
+        assertEquals(WorkloadClass.CATALOG_READ, classify("GET", "/api/menu"));
+        assertEquals(WorkloadClass.CATALOG_READ, classify("GET", "/api/products/3"));
+        assertNull(classify("POST", "/api/products"));
+        assertNull(classify("GET", "/actuator/health"));
+    }
+
+    @Test
+    void classify_ExcludesEventStreams() {
+        assertNull(classify("GET", "/api/kitchen/orders/stream"));
+        assertNull(classify("GET", "/api/orders/42/stream"));
+        assertNull(classify("GET", "/api/orders/admin/stream"));
+    }
+
+    @Test
+    void classify_IgnoresContextPath() {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/coffee/api/orders/kasir");
+        request.setContextPath("/coffee");
+
+        assertEquals(WorkloadClass.TILL_INTAKE, WorkloadBulkheadFilter.classify(request));
+    }
+
+    @Test
+    void doFilter_RejectsWhenWorkloadBudgetIsFull() throws Exception {
+        // reporting: pool-share 0.5 dari 2 koneksi bersama = 1 request bersamaan
+        WorkloadBulkheadFilter filter = newFilter();
+        hold(filter, "GET", "/api/reports/daily");
+
+        MockHttpServletResponse rejected = send(filter, "GET", "/api/reports/weekly");
+
+        assertEquals(503, rejected.getStatus());
+        assertEquals("5", rejected.getHeader(HttpHeaders.RETRY_AFTER));
+        assertEquals(200, send(filter, "GET", "/api/menu").getStatus());
+    }
+
+    @Test
+    void doFilter_KeepsReservedConnectionsForTill() throws Exception {
+        // customer-app memakai kedua koneksi bersama; cadangan kasir tetap tersedia
+        WorkloadBulkheadFilter filter = newFilter();
+        hold(filter, "POST", "/api/orders");
+        hold(filter, "POST", "/api/orders");
+
+        assertEquals(503, send(filter, "GET", "/api/menu").getStatus());
+        assertEquals(503, send(filter, "POST", "/api/orders").getStatus());
+        assertEquals(200, send(filter, "POST", "/api/orders/kasir").getStatus());
+        assertEquals(200, send(filter, "POST", "/api/orders/kasir").getStatus());
+    }
+
+    @Test
+    void doFilter_ReleasesPermitAfterRequestCompletes() throws Exception {
+        WorkloadBulkheadFilter filter = newFilter();
+
+        for (int i = 0; i < 5; i++) {
+            assertEquals(200, send(filter, "GET", "/api/reports/daily").getStatus());
+        }
+    }
+
+    @Test
+    void constructor_RejectsReservationCoveringWholePool() {
+        MockEnvironment environment = environment().withProperty("coffeeshop.bulkhead.till-intake.reserved-connections", "4");
+
+        assertThrows(IllegalStateException.class, () -> newFilter(environment));
+    }
+
+    private static WorkloadClass classify(String method, String path) {
+        return WorkloadBulkheadFilter.classify(new MockHttpServletRequest(method, path));
+    }
+
+    private WorkloadBulkheadFilter newFilter() {
+        return newFilter(environment());
+    }
+
+    private WorkloadBulkheadFilter newFilter(MockEnvironment environment) {
+        StaticListableBeanFactory beanFactory = new StaticListableBeanFactory();
+        beanFactory.addBean("meterRegistry", new SimpleMeterRegistry());
+        ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+        return new WorkloadBulkheadFilter(environment, beanFactory.getBeanProvider(MeterRegistry.class), objectMapper);
+    }
+
+    private static MockEnvironment environment() {
+        return new MockEnvironment()
+                .withProperty("spring.datasource.hikari.maximum-pool-size", "4")
+                .withProperty("coffeeshop.bulkhead.retry-after", "5s")
+                .withProperty("coffeeshop.bulkhead.till-intake.reserved-connections", "2")
+                .withProperty("coffeeshop.bulkhead.till-intake.max-wait", "50ms")
+                .withProperty("coffeeshop.bulkhead.customer-app.pool-share", "1.0")
+                .withProperty("coffeeshop.bulkhead.customer-app.max-wait", "50ms")
+                .withProperty("coffeeshop.bulkhead.catalog-read.pool-share", "0.5")
+                .withProperty("coffeeshop.bulkhead.catalog-read.max-wait", "50ms")
+                .withProperty("coffeeshop.bulkhead.reporting.pool-share", "0.5")
+                .withProperty("coffeeshop.bulkhead.reporting.max-wait", "50ms");
+    }
+
+    /**
+     * Menjalankan request yang tertahan di dalam chain sampai test selesai, sehingga permit-nya tetap dipegang.
+     */
+    private void hold(WorkloadBulkheadFilter filter, String method, String path) throws InterruptedException {
+        CountDownLatch entered = new CountDownLatch(1);
+        FilterChain blockingChain = (request, response) -> {
+            entered.countDown();
+            try {
+                releaseHeld.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        };
+        held.add(executor.submit(() -> {
+            filter.doFilter(new MockHttpServletRequest(method, path), new MockHttpServletResponse(), blockingChain);
+            return null;
+        }));
+        assertTrue(entered.await(5, TimeUnit.SECONDS), "held request did not reach the chain");
+    }
+
+    private static MockHttpServletResponse send(WorkloadBulkheadFilter filter, String method, String path)
+            throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(new MockHttpServletRequest(method, path), response, (request, res) -> { });
+        return response;
+    }
+}
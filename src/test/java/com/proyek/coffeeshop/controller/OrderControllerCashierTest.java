@@ -5,7 +5,9 @@ import com.proyek.coffeeshop.dto.request.CashierOrderItemRequestDTO;
 import com.proyek.coffeeshop.dto.request.CashierOrderRequestDTO;
 import com.proyek.coffeeshop.dto.response.CashierOrderResponseDTO;
 import com.proyek.coffeeshop.model.enums.OrderStatus;
+import com.proyek.coffeeshop.model.value.Money;
 import com.proyek.coffeeshop.service.OrderService;
+import com.proyek.coffeeshop.service.OrderTrackingService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -22,6 +24,8 @@ import java.util.Collections;
 
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
@@ -40,6 +44,9 @@ class OrderControllerCashierTest {
     @MockBean
     private OrderService orderService;
 
+    @MockBean
+    private OrderTrackingService orderTrackingService;
+
     @Autowired
     private ObjectMapper objectMapper;
 
@@ -66,11 +73,11 @@ class OrderControllerCashierTest {
         mockResponse.setOrderDate(LocalDateTime.now());
         mockResponse.setKasirUsername("kasir001");
         mockResponse.setOrderItems(Collections.emptyList());
-        mockResponse.setTotalPrice(new BigDecimal("40000"));
+        mockResponse.setTotalPrice(Money.of("40000"));
         mockResponse.setPaymentMethodName("Cash");
         mockResponse.setStatus(OrderStatus.PAID);
-        mockResponse.setAmountTendered(new BigDecimal("50000"));
-        mockResponse.setChangeGiven(new BigDecimal("10000"));
+        mockResponse.setAmountTendered(Money.of("50000"));
+        mockResponse.setChangeGiven(Money.of("10000"));
         mockResponse.setCustomerNotes("Walk-in customer order");
     }
 
@@ -219,4 +226,50 @@ class OrderControllerCashierTest {
                 .content(objectMapper.writeValueAsString(validRequest)))
                 .andExpect(status().isBadRequest());
     }
+
+    @Test
+    @WithMockUser(roles = "KASIR", username = "kasir001")
+    void createCashierOrder_BadRequest_AmountTenderedWithSubCentDigits() throws Exception {
+        // Arrange - Money hanya menyimpan sen, 50000.005 tidak bisa direpresentasikan
+        validRequest.setAmountTendered(new BigDecimal("50000.005"));
+
+        // Act & Assert
+        mockMvc.perform(post("/api/orders/kasir")
+                .with(csrf())
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(validRequest)))
+                .andExpect(status().isBadRequest());
+
+        verify(orderService, never()).createCashierOrder(any(), any());
+    }
+
+    @Test
+    @WithMockUser(roles = "KASIR", username = "kasir001")
+    void createCashierOrder_BadRequest_AmountTenderedTooLarge() throws Exception {
+        // Arrange - melebihi kolom DECIMAL(12,2) dan batas long sen Money
+        validRequest.setAmountTendered(new BigDecimal("1000000000000000000"));
+
+        // Act & Assert
+        mockMvc.perform(post("/api/orders/kasir")
+                .with(csrf())
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(validRequest)))
+                .andExpect(status().isBadRequest());
+
+        verify(orderService, never()).createCashierOrder(any(), any());
+    }
+
+    @Test
+    @WithMockUser(roles = "KASIR", username = "kasir001")
+    void createCashierOrder_BadRequest_NegativeAmountTendered() throws Exception {
+        // Arrange
+        validRequest.setAmountTendered(new BigDecimal("-1.00"));
+
+        // Act & Assert
+        mockMvc.perform(post("/api/orders/kasir")
+                .with(csrf())
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(validRequest)))
+                .andExpect(status().isBadRequest());
+    }
 }
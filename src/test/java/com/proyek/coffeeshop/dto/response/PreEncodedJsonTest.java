@@ -0,0 +1,50 @@
+package com.proyek.coffeeshop.dto.response;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit test untuk PreEncodedJson: negosiasi Accept-Encoding dengan q-value dan ETag per representasi.
+ */
+class PreEncodedJsonTest {
+
+    private final PreEncodedJson body = PreEncodedJson.of("{\"menu\":[]}".getBytes(StandardCharsets.UTF_8));
+
+    @Test
+    void acceptsGzip_HonoursQualityValues() {
+        assertTrue(PreEncodedJson.acceptsGzip("gzip"));
+        assertTrue(PreEncodedJson.acceptsGzip("br, gzip;q=0.5"));
+        assertTrue(PreEncodedJson.acceptsGzip("*"));
+        assertFalse(PreEncodedJson.acceptsGzip(null));
+        assertFalse(PreEncodedJson.acceptsGzip("identity"));
+        assertFalse(PreEncodedJson.acceptsGzip("gzip;q=0"));
+        assertFalse(PreEncodedJson.acceptsGzip("gzip; q=0.0, identity"));
+        assertFalse(PreEncodedJson.acceptsGzip("*, gzip;q=0"));
+        assertFalse(PreEncodedJson.acceptsGzip("*;q=0"));
+    }
+
+    @Test
+    void toResponse_ServesIdentityWhenGzipRefused() {
+        ResponseEntity<byte[]> response = body.toResponse(null, "gzip;q=0");
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertNull(response.getHeaders().getFirst(HttpHeaders.CONTENT_ENCODING));
+        assertEquals(body.getEtag(), response.getHeaders().getETag());
+        assertArrayEquals(body.getJson(), response.getBody());
+    }
+
+    @Test
+    void toResponse_ServesGzipWithItsOwnEtag() {
+        ResponseEntity<byte[]> response = body.toResponse(null, "gzip, deflate");
+
+        assertEquals("gzip", response.getHeaders().getFirst(HttpHeaders.CONTENT_ENCODING));
+        assertEquals(body.getGzipEtag(), response.getHeaders().getETag());
+        assertEquals(HttpStatus.NOT_MODIFIED, body.toResponse(body.getGzipEtag(), "gzip").getStatusCode());
+    }
+}
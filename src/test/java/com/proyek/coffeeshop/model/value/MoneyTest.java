@@ -0,0 +1,49 @@
+package com.proyek.coffeeshop.model.value;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit test untuk Money: konversi dari/ke BigDecimal, aritmatika, dan deteksi overflow.
+ */
+class MoneyTest {
+
+    @Test
+    void of_IgnoresTrailingScaleDifferences() {
+        assertEquals(Money.of("40000"), Money.of(new BigDecimal("40000.00")));
+        assertEquals(4_000_000L, Money.of("40000").getCents());
+    }
+
+    @Test
+    void of_RejectsMoreThanTwoDecimals() {
+        assertThrows(ArithmeticException.class, () -> Money.of("1.005"));
+    }
+
+    @Test
+    void arithmetic_MatchesBigDecimal() {
+        Money subtotal = Money.of("15000").plus(Money.of("5000")).times(2);
+
+        assertEquals(new BigDecimal("40000.00"), subtotal.toBigDecimal());
+        assertEquals(Money.of("10000"), Money.of("50000").minus(subtotal));
+        assertTrue(Money.of("30000").minus(subtotal).isNegative());
+    }
+
+    @Test
+    void arithmetic_ThrowsOnOverflow() {
+        Money max = Money.ofCents(Long.MAX_VALUE);
+
+        assertThrows(ArithmeticException.class, () -> max.plus(Money.ofCents(1)));
+        assertThrows(ArithmeticException.class, () -> max.times(2));
+    }
+
+    @Test
+    void toString_UsesTwoDecimalPlainFormat() {
+        assertEquals("40000.00", Money.of("40000").toString());
+        assertEquals("0.07", Money.ofCents(7).toString());
+        assertEquals("-0.50", Money.of("-0.5").toString());
+        assertEquals("-12.05", Money.of("-12.05").toString());
+    }
+}
@@ -0,0 +1,101 @@
+package com.proyek.coffeeshop.security;
+
+import com.proyek.coffeeshop.model.enums.UserRole;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.web.context.RequestAttributeSecurityContextRepository;
+
+import java.time.Duration;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests untuk BearerTokenAuthenticationFilter - autentikasi token dan penyimpanan security context.
+ */
+@ExtendWith(MockitoExtension.class)
+class BearerTokenAuthenticationFilterTest {
+
+    @Mock
+    private AppUserDetailsService userDetailsService;
+
+    private AccessTokenStore accessTokenStore;
+    private BearerTokenAuthenticationFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        StaticListableBeanFactory beanFactory = new StaticListableBeanFactory();
+        beanFactory.addBean("meterRegistry", new SimpleMeterRegistry());
+        accessTokenStore = new AccessTokenStore(Duration.ofMinutes(5), 100, beanFactory.getBeanProvider(MeterRegistry.class));
+        filter = new BearerTokenAuthenticationFilter(accessTokenStore, userDetailsService);
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void validToken_SavesContextForAsyncDispatch() throws Exception {
+        AppUserPrincipal principal = new AppUserPrincipal(1L, "budi", "{noop}secret", "budi@coffeeshop.com",
+                UserRole.ROLE_CUSTOMER, 3L);
+        when(userDetailsService.findPrincipal("budi")).thenReturn(Optional.of(principal));
+        MockHttpServletRequest request = bearer(accessTokenStore.issue("budi").getToken());
+
+        filter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+
+        // SecurityContextHolderFilter memuat context ini saat stream SSE di-dispatch ulang sebagai ASYNC
+        SecurityContext saved = new RequestAttributeSecurityContextRepository().loadDeferredContext(request).get();
+        Authentication authentication = saved.getAuthentication();
+        assertNotNull(authentication);
+        assertTrue(authentication.isAuthenticated());
+        assertSame(principal, authentication.getPrincipal());
+    }
+
+    @Test
+    void unknownToken_RejectedWithoutSavingContext() throws Exception {
+        MockHttpServletRequest request = bearer("not-a-real-token");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        MockFilterChain chain = new MockFilterChain();
+
+        filter.doFilter(request, response, chain);
+
+        assertEquals(401, response.getStatus());
+        assertNull(chain.getRequest());
+        assertNull(new RequestAttributeSecurityContextRepository().loadDeferredContext(request).get().getAuthentication());
+        verifyNoInteractions(userDetailsService);
+    }
+
+    @Test
+    void noBearerHeader_PassesThroughUntouched() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/orders");
+        request.addHeader(HttpHeaders.AUTHORIZATION, "Basic YnVkaTpzZWNyZXQ=");
+        MockFilterChain chain = new MockFilterChain();
+
+        filter.doFilter(request, new MockHttpServletResponse(), chain);
+
+        assertSame(request, chain.getRequest());
+        assertNull(SecurityContextHolder.getContext().getAuthentication());
+    }
+
+    private static MockHttpServletRequest bearer(String token) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/orders/42/stream");
+        request.addHeader(HttpHeaders.AUTHORIZATION, "Bearer " + token);
+        return request;
+    }
+}
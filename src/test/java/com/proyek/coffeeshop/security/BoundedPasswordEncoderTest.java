@@ -0,0 +1,87 @@
+package com.proyek.coffeeshop.security;
+
+import com.proyek.coffeeshop.exception.TooManyRequestsException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests untuk BoundedPasswordEncoder - batas waktu hanya berlaku untuk tugas yang belum mulai.
+ */
+class BoundedPasswordEncoderTest {
+
+    private static final Duration MAX_WAIT = Duration.ofMillis(100);
+
+    private final CountDownLatch started = new CountDownLatch(1);
+    private final CountDownLatch release = new CountDownLatch(1);
+    private final BoundedPasswordEncoder encoder = new BoundedPasswordEncoder(new SlowEncoder(), 1, 1, MAX_WAIT,
+            new SimpleMeterRegistry());
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        encoder.close();
+    }
+
+    @Test
+    void runningTask_LongerThanMaxWait_StillCompletes() throws Exception {
+        CompletableFuture<String> hash = CompletableFuture.supplyAsync(() -> encoder.encode("rahasia"));
+        assertTrue(started.await(1, TimeUnit.SECONDS));
+
+        Thread.sleep(MAX_WAIT.toMillis() * 3);
+        release.countDown();
+
+        assertEquals("hashed:rahasia", hash.get(1, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void queuedTask_NotStartedWithinMaxWait_IsRejected() throws Exception {
+        CompletableFuture<String> running = CompletableFuture.supplyAsync(() -> encoder.encode("pertama"));
+        assertTrue(started.await(1, TimeUnit.SECONDS));
+
+        assertThrows(TooManyRequestsException.class, () -> encoder.encode("kedua"));
+
+        release.countDown();
+        assertEquals("hashed:pertama", running.get(1, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void fullQueue_IsRejectedImmediately() throws Exception {
+        CompletableFuture.runAsync(() -> encoder.encode("pertama"));
+        assertTrue(started.await(1, TimeUnit.SECONDS));
+        CompletableFuture.runAsync(() -> encoder.encode("kedua"));
+        Thread.sleep(MAX_WAIT.toMillis() / 4);
+
+        assertThrows(TooManyRequestsException.class, () -> encoder.encode("ketiga"));
+    }
+
+    /**
+     * Encoder yang menahan hashing sampai latch {@code release} dibuka.
+     */
+    private class SlowEncoder implements PasswordEncoder {
+
+        @Override
+        public String encode(CharSequence rawPassword) {
+            started.countDown();
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return "hashed:" + rawPassword;
+        }
+
+        @Override
+        public boolean matches(CharSequence rawPassword, String encodedPassword) {
+            return encodedPassword.equals(encode(rawPassword));
+        }
+    }
+}
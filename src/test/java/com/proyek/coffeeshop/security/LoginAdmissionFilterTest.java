@@ -0,0 +1,143 @@
+package com.proyek.coffeeshop.security;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.env.MockEnvironment;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests untuk LoginAdmissionFilter - hanya percobaan autentikasi yang gagal yang dibatasi.
+ */
+class LoginAdmissionFilterTest {
+
+    private static final String CLIENT_IP = "203.0.113.7";
+
+    private LoginAdmissionFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        MockEnvironment environment = new MockEnvironment()
+                .withProperty("coffeeshop.auth.rate-limit.ip.capacity", "3")
+                .withProperty("coffeeshop.auth.rate-limit.ip.refill-per-minute", "1")
+                .withProperty("coffeeshop.auth.rate-limit.username.capacity", "2")
+                .withProperty("coffeeshop.auth.rate-limit.username.refill-per-minute", "1");
+        StaticListableBeanFactory beanFactory = new StaticListableBeanFactory();
+        beanFactory.addBean("meterRegistry", new SimpleMeterRegistry());
+        LoginRateLimiter rateLimiter = new LoginRateLimiter(environment, beanFactory.getBeanProvider(MeterRegistry.class));
+        filter = new LoginAdmissionFilter(rateLimiter, new ObjectMapper().findAndRegisterModules());
+    }
+
+    @Test
+    void sustainedValidBasicTraffic_IsNeverThrottled() throws Exception {
+        AtomicInteger reachedChain = new AtomicInteger();
+
+        for (int i = 0; i < 100; i++) {
+            MockHttpServletResponse response = new MockHttpServletResponse();
+            filter.doFilter(basic("budi", "rahasia"), response, respondWith(200, reachedChain));
+            assertEquals(200, response.getStatus());
+        }
+
+        assertEquals(100, reachedChain.get());
+    }
+
+    @Test
+    void failedBasicAttempts_ExhaustUsernameBucket() throws Exception {
+        AtomicInteger reachedChain = new AtomicInteger();
+        filter.doFilter(basic("budi", "salah"), new MockHttpServletResponse(), respondWith(401, reachedChain));
+        filter.doFilter(basic("budi", "salah"), new MockHttpServletResponse(), respondWith(401, reachedChain));
+
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(basic("budi", "rahasia"), response, respondWith(200, reachedChain));
+
+        assertEquals(429, response.getStatus());
+        assertNotNull(response.getHeader(HttpHeaders.RETRY_AFTER));
+        assertEquals(2, reachedChain.get());
+    }
+
+    @Test
+    void failedLogins_ChargeClientBucket() throws Exception {
+        AtomicInteger reachedChain = new AtomicInteger();
+        for (int i = 0; i < 3; i++) {
+            filter.doFilter(post("/api/auth/login"), new MockHttpServletResponse(), respondWith(401, reachedChain));
+        }
+
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(post("/api/auth/login"), response, respondWith(200, reachedChain));
+
+        assertEquals(429, response.getStatus());
+        assertEquals(3, reachedChain.get());
+    }
+
+    @Test
+    void successfulLogins_DoNotChargeClientBucket() throws Exception {
+        AtomicInteger reachedChain = new AtomicInteger();
+        for (int i = 0; i < 10; i++) {
+            MockHttpServletResponse response = new MockHttpServletResponse();
+            filter.doFilter(post("/api/auth/login"), response, respondWith(200, reachedChain));
+            assertEquals(200, response.getStatus());
+        }
+
+        assertEquals(10, reachedChain.get());
+    }
+
+    @Test
+    void register_AlwaysChargesClientBucket() throws Exception {
+        AtomicInteger reachedChain = new AtomicInteger();
+        for (int i = 0; i < 3; i++) {
+            filter.doFilter(post("/api/auth/register"), new MockHttpServletResponse(), respondWith(201, reachedChain));
+        }
+
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(post("/api/auth/register"), response, respondWith(201, reachedChain));
+
+        assertEquals(429, response.getStatus());
+        assertEquals(3, reachedChain.get());
+    }
+
+    @Test
+    void otherRequests_PassThroughWithoutCharging() throws Exception {
+        AtomicInteger reachedChain = new AtomicInteger();
+        for (int i = 0; i < 10; i++) {
+            MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/products");
+            request.setRemoteAddr(CLIENT_IP);
+            filter.doFilter(request, new MockHttpServletResponse(), respondWith(404, reachedChain));
+        }
+
+        assertEquals(10, reachedChain.get());
+    }
+
+    private static FilterChain respondWith(int status, AtomicInteger counter) {
+        return (request, response) -> {
+            counter.incrementAndGet();
+            ((MockHttpServletResponse) response).setStatus(status);
+        };
+    }
+
+    private static MockHttpServletRequest basic(String username, String password) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/orders");
+        request.setRemoteAddr(CLIENT_IP);
+        String credentials = Base64.getEncoder()
+                .encodeToString((username + ":" + password).getBytes(StandardCharsets.UTF_8));
+        request.addHeader(HttpHeaders.AUTHORIZATION, "Basic " + credentials);
+        return request;
+    }
+
+    private static MockHttpServletRequest post(String path) {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", path);
+        request.setRemoteAddr(CLIENT_IP);
+        return request;
+    }
+}
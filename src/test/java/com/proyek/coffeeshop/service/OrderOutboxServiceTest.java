@@ -0,0 +1,186 @@
+package com.proyek.coffeeshop.service;
+
+import com.proyek.coffeeshop.event.OrderEvent;
+import com.proyek.coffeeshop.event.OrderEventListener;
+import com.proyek.coffeeshop.model.entity.OrderOutboxEvent;
+import com.proyek.coffeeshop.model.enums.OrderEventType;
+import com.proyek.coffeeshop.model.enums.OrderStatus;
+import com.proyek.coffeeshop.repository.OrderOutboxRepository;
+import com.proyek.coffeeshop.service.impl.OrderOutboxServiceImpl;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests untuk OrderOutboxServiceImpl - pengiriman, percobaan ulang, parkir, dan urutan event per order.
+ */
+@DataJpaTest(properties = {
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+        // Migrasi Flyway ditulis untuk MySQL; di H2 skema dibuat langsung dari entity
+        "spring.flyway.enabled=false",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "coffeeshop.outbox.max-attempts=3"
+})
+@Import({OrderOutboxServiceImpl.class, OrderOutboxServiceTest.ListenerConfig.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED) // Update batch repository harus benar-benar di-commit
+class OrderOutboxServiceTest {
+
+    @Autowired
+    private OrderOutboxService orderOutboxService;
+
+    @Autowired
+    private OrderOutboxRepository orderOutboxRepository;
+
+    @Autowired
+    private RecordingListener listener;
+
+    @BeforeEach
+    void setUp() {
+        listener.reset();
+    }
+
+    @AfterEach
+    void tearDown() {
+        orderOutboxRepository.deleteAll();
+    }
+
+    @Test
+    void dispatchPending_DeliversInEventIdOrderAndMarksDispatched() {
+        long first = save(1L, OrderEventType.CREATED, OrderStatus.WAITING_PAYMENT);
+        long second = save(2L, OrderEventType.CREATED, OrderStatus.WAITING_PAYMENT);
+        long third = save(1L, OrderEventType.PAYMENT_CONFIRMED, OrderStatus.PROCESSING);
+
+        assertEquals(3, orderOutboxService.dispatchPending(10));
+
+        assertEquals(List.of(first, second, third), listener.deliveredEventIds());
+        assertEquals(0, orderOutboxRepository.countByDispatchedAtIsNullAndParkedAtIsNull());
+        assertEquals(0, orderOutboxService.dispatchPending(10));
+    }
+
+    @Test
+    void dispatchPending_FailingOrder_DoesNotHoldBackOtherOrders() {
+        long failing = save(1L, OrderEventType.CREATED, OrderStatus.WAITING_PAYMENT);
+        long healthy = save(2L, OrderEventType.CREATED, OrderStatus.WAITING_PAYMENT);
+        listener.failOn(1L);
+
+        assertEquals(1, orderOutboxService.dispatchPending(10));
+
+        assertTrue(listener.deliveredEventIds().contains(healthy));
+        OrderOutboxEvent pending = orderOutboxRepository.findById(failing).orElseThrow();
+        assertNull(pending.getDispatchedAt());
+        assertNull(pending.getParkedAt());
+        assertEquals(1, pending.getAttempts());
+        assertNotNull(orderOutboxRepository.findById(healthy).orElseThrow().getDispatchedAt());
+    }
+
+    @Test
+    void dispatchPending_RetriesUntilListenerRecovers() {
+        long eventId = save(1L, OrderEventType.CREATED, OrderStatus.WAITING_PAYMENT);
+        listener.failOn(1L);
+        orderOutboxService.dispatchPending(10);
+
+        listener.reset();
+        assertEquals(1, orderOutboxService.dispatchPending(10));
+
+        assertEquals(List.of(eventId), listener.deliveredEventIds());
+        assertNotNull(orderOutboxRepository.findById(eventId).orElseThrow().getDispatchedAt());
+    }
+
+    @Test
+    void dispatchPending_MaxAttemptsReached_ParksOrderEvents() {
+        long created = save(1L, OrderEventType.CREATED, OrderStatus.WAITING_PAYMENT);
+        long confirmed = save(1L, OrderEventType.PAYMENT_CONFIRMED, OrderStatus.PROCESSING);
+        listener.failOn(1L);
+
+        assertEquals(0, orderOutboxService.dispatchPending(10));
+        assertEquals(0, orderOutboxService.dispatchPending(10));
+        assertEquals(2, orderOutboxService.dispatchPending(10));
+
+        assertNotNull(orderOutboxRepository.findById(created).orElseThrow().getParkedAt());
+        assertNotNull(orderOutboxRepository.findById(confirmed).orElseThrow().getParkedAt());
+        assertEquals(0, orderOutboxService.dispatchPending(10));
+    }
+
+    @Test
+    void dispatchPending_LaterEventOfParkedOrder_IsParkedWithoutDelivery() {
+        save(1L, OrderEventType.CREATED, OrderStatus.WAITING_PAYMENT);
+        listener.failOn(1L);
+        for (int attempt = 0; attempt < 3; attempt++) {
+            orderOutboxService.dispatchPending(10);
+        }
+
+        listener.reset();
+        long cancelled = save(1L, OrderEventType.CANCELLED, OrderStatus.CANCELLED);
+        long other = save(2L, OrderEventType.CREATED, OrderStatus.WAITING_PAYMENT);
+
+        assertEquals(2, orderOutboxService.dispatchPending(10));
+
+        assertEquals(List.of(other), listener.deliveredEventIds());
+        OrderOutboxEvent parked = orderOutboxRepository.findById(cancelled).orElseThrow();
+        assertNotNull(parked.getParkedAt());
+        assertNull(parked.getDispatchedAt());
+    }
+
+    private long save(Long orderId, OrderEventType type, OrderStatus status) {
+        OrderOutboxEvent event = new OrderOutboxEvent();
+        event.setOrderId(orderId);
+        event.setEventType(type);
+        event.setStatus(status);
+        event.setOccurredAt(LocalDateTime.now());
+        return orderOutboxRepository.save(event).getEventId();
+    }
+
+    @TestConfiguration
+    static class ListenerConfig {
+
+        @Bean
+        RecordingListener recordingListener() {
+            return new RecordingListener();
+        }
+    }
+
+    /**
+     * Listener yang mencatat event terkirim dan gagal untuk order tertentu.
+     */
+    static class RecordingListener implements OrderEventListener {
+
+        private final List<Long> delivered = new ArrayList<>();
+        private final Set<Long> failingOrderIds = new HashSet<>();
+
+        @Override
+        public void onOrderEvents(List<OrderEvent> events) {
+            if (events.stream().anyMatch(event -> failingOrderIds.contains(event.getOrderId()))) {
+                throw new IllegalStateException("Listener sedang gagal");
+            }
+            events.forEach(event -> delivered.add(event.getEventId()));
+        }
+
+        void failOn(Long orderId) {
+            failingOrderIds.add(orderId);
+        }
+
+        void reset() {
+            delivered.clear();
+            failingOrderIds.clear();
+        }
+
+        List<Long> deliveredEventIds() {
+            return delivered;
+        }
+    }
+}
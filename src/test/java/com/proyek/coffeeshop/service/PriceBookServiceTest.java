@@ -0,0 +1,156 @@
+package com.proyek.coffeeshop.service;
+
+import com.proyek.coffeeshop.config.CacheConfig;
+import com.proyek.coffeeshop.event.CatalogChangedEvent;
+import com.proyek.coffeeshop.model.entity.Category;
+import com.proyek.coffeeshop.model.entity.Product;
+import com.proyek.coffeeshop.model.value.Money;
+import com.proyek.coffeeshop.model.value.PriceBook;
+import com.proyek.coffeeshop.repository.CategoryRepository;
+import com.proyek.coffeeshop.repository.PriceBookVersionRepository;
+import com.proyek.coffeeshop.repository.ProductRepository;
+import com.proyek.coffeeshop.service.impl.PriceBookServiceImpl;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests untuk PriceBookServiceImpl - pertukaran versi price book setelah perubahan katalog di-commit.
+ * Order yang sudah memegang versi N harus tetap konsisten walaupun versi N+1 diterbitkan.
+ */
+@DataJpaTest(properties = {
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+        // Migrasi Flyway ditulis untuk MySQL; di H2 skema dibuat langsung dari entity
+        "spring.flyway.enabled=false",
+        "spring.jpa.hibernate.ddl-auto=create-drop"
+})
+@Import({PriceBookServiceImpl.class, JacksonAutoConfiguration.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED) // Event listener hanya berjalan setelah commit sungguhan
+class PriceBookServiceTest {
+
+    @Autowired
+    private PriceBookService priceBookService;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private PriceBookVersionRepository priceBookVersionRepository;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private Product espresso;
+
+    @BeforeEach
+    void setUp() {
+        Category category = new Category();
+        category.setName("Coffee");
+        category = categoryRepository.save(category);
+
+        espresso = new Product();
+        espresso.setName("Espresso");
+        espresso.setPrice(new BigDecimal("15000"));
+        espresso.setCategory(category);
+        espresso.setStockQuantity(10);
+        espresso.setAvailable(true);
+        espresso = productRepository.save(espresso);
+
+        // Service singleton dipakai bersama antar test; bangun ulang dari data test ini
+        eventPublisher.publishEvent(new CatalogChangedEvent(CacheConfig.PRODUCTS));
+    }
+
+    @AfterEach
+    void tearDown() {
+        productRepository.deleteAll();
+        categoryRepository.deleteAll();
+        priceBookVersionRepository.deleteAll();
+    }
+
+    @Test
+    void onCatalogChanged_AfterCommit_SwapsInNewVersion() {
+        PriceBook before = priceBookService.getPriceBook();
+
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            changePrice("18000");
+            eventPublisher.publishEvent(new CatalogChangedEvent(CacheConfig.PRODUCTS));
+            // Belum di-commit: pembaca masih melihat price book lama
+            assertSame(before, priceBookService.getPriceBook());
+        });
+
+        PriceBook after = priceBookService.getPriceBook();
+        assertTrue(after.getVersion() > before.getVersion());
+        assertEquals(Money.of("18000"), after.product(espresso.getProductId()).getPrice());
+    }
+
+    @Test
+    void onCatalogChanged_RolledBackChange_KeepsCurrentVersion() {
+        PriceBook before = priceBookService.getPriceBook();
+
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            changePrice("18000");
+            eventPublisher.publishEvent(new CatalogChangedEvent(CacheConfig.PRODUCTS));
+            status.setRollbackOnly();
+        });
+
+        assertSame(before, priceBookService.getPriceBook());
+    }
+
+    @Test
+    void orderPricedUnderVersionN_StaysConsistentWhileNPlusOneIsPublished() {
+        // Order mengambil price book N di awal pembuatannya
+        PriceBook versionN = priceBookService.getPriceBook();
+        Money priceUnderN = versionN.product(espresso.getProductId()).getPrice();
+
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            changePrice("21000");
+            eventPublisher.publishEvent(new CatalogChangedEvent(CacheConfig.PRODUCTS));
+        });
+        PriceBook versionNPlusOne = priceBookService.getPriceBook();
+
+        // Objek N immutable: harga order yang sedang dihitung tidak berubah di tengah jalan
+        assertEquals(Money.of("15000"), priceUnderN);
+        assertEquals(priceUnderN, versionN.product(espresso.getProductId()).getPrice());
+        assertEquals(Money.of("21000"), versionNPlusOne.product(espresso.getProductId()).getPrice());
+
+        // Baris versi N tetap menyimpan harga lama untuk audit order yang mengacu ke N
+        String entriesN = priceBookVersionRepository.findById(versionN.getVersion()).orElseThrow().getEntries();
+        assertTrue(entriesN.contains("\"15000.00\""), entriesN);
+        assertFalse(entriesN.contains("\"21000.00\""), entriesN);
+    }
+
+    @Test
+    void onCatalogChanged_WithoutPriceChange_ReusesLatestVersion() {
+        long version = priceBookService.getPriceBook().getVersion();
+
+        eventPublisher.publishEvent(new CatalogChangedEvent(CacheConfig.CATEGORIES));
+
+        assertEquals(version, priceBookService.getPriceBook().getVersion());
+        assertEquals(1, priceBookVersionRepository.count());
+    }
+
+    private void changePrice(String price) {
+        Product product = productRepository.findById(espresso.getProductId()).orElseThrow();
+        product.setPrice(new BigDecimal(price));
+        productRepository.save(product);
+    }
+}
@@ -0,0 +1,156 @@
+package com.proyek.coffeeshop.service;
+
+import com.proyek.coffeeshop.exception.BadRequestException;
+import com.proyek.coffeeshop.model.entity.Category;
+import com.proyek.coffeeshop.model.entity.Product;
+import com.proyek.coffeeshop.repository.CategoryRepository;
+import com.proyek.coffeeshop.repository.ProductRepository;
+import com.proyek.coffeeshop.service.impl.StockServiceImpl;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Concurrency tests untuk StockServiceImpl - pengurangan stok atomik
+ * Banyak thread membeli produk yang sama; stok tidak boleh terjual melebihi jumlah tersedia
+ */
+@DataJpaTest(properties = {
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+        // Migrasi Flyway ditulis untuk MySQL; di H2 skema dibuat langsung dari entity
+        "spring.flyway.enabled=false",
+        "spring.jpa.hibernate.ddl-auto=create-drop"
+})
+@Import(StockServiceImpl.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED) // Setiap thread butuh commit sendiri
+class StockServiceConcurrencyTest {
+
+    private static final int THREADS = 16;
+    private static final int ATTEMPTS_PER_THREAD = 25;
+    private static final int INITIAL_STOCK = 100;
+
+    @Autowired
+    private StockService stockService;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    private Category category;
+    private Product hotProduct;
+    private Product otherProduct;
+
+    @BeforeEach
+    void setUp() {
+        category = new Category();
+        category.setName("Coffee");
+        category = categoryRepository.save(category);
+
+        hotProduct = productRepository.save(newProduct("Espresso", INITIAL_STOCK));
+        otherProduct = productRepository.save(newProduct("Latte", 5));
+    }
+
+    @AfterEach
+    void tearDown() {
+        productRepository.deleteAll();
+        categoryRepository.deleteAll();
+    }
+
+    @Test
+    void reduceStock_ConcurrentBuyersOfOneProduct_NeverOversells() throws Exception {
+        // Arrange
+        int totalAttempts = THREADS * ATTEMPTS_PER_THREAD; // 400 percobaan untuk 100 stok
+        AtomicInteger succeeded = new AtomicInteger();
+        AtomicInteger rejected = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+
+        // Act
+        List<Future<?>> futures = new ArrayList<>();
+        for (int t = 0; t < THREADS; t++) {
+            futures.add(executor.submit(() -> {
+                start.await();
+                for (int i = 0; i < ATTEMPTS_PER_THREAD; i++) {
+                    try {
+                        stockService.reduceStock(Map.of(hotProduct.getProductId(), 1));
+                        succeeded.incrementAndGet();
+                    } catch (BadRequestException e) {
+                        rejected.incrementAndGet();
+                    }
+                }
+                return null;
+            }));
+        }
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get(60, TimeUnit.SECONDS);
+        }
+        executor.shutdown();
+
+        // Assert
+        Product reloaded = productRepository.findById(hotProduct.getProductId()).orElseThrow();
+        assertEquals(INITIAL_STOCK, succeeded.get());
+        assertEquals(totalAttempts - INITIAL_STOCK, rejected.get());
+        assertEquals(0, reloaded.getStockQuantity());
+        assertFalse(reloaded.isAvailable());
+    }
+
+    @Test
+    void reduceStock_OneLineShort_RollsBackWholeOrder() {
+        // Arrange - Espresso cukup, Latte hanya 5
+        Map<Long, Integer> order = Map.of(
+                hotProduct.getProductId(), 3,
+                otherProduct.getProductId(), 6);
+
+        // Act & Assert
+        BadRequestException exception = assertThrows(
+            BadRequestException.class,
+            () -> stockService.reduceStock(order)
+        );
+
+        assertEquals("Stok produk Latte tidak mencukupi. Tersedia: 5, Dibutuhkan: 6", exception.getMessage());
+        assertEquals(INITIAL_STOCK, productRepository.findById(hotProduct.getProductId()).orElseThrow().getStockQuantity());
+        assertEquals(5, productRepository.findById(otherProduct.getProductId()).orElseThrow().getStockQuantity());
+    }
+
+    @Test
+    void reduceStock_ExactRemainingStock_MarksProductUnavailable() {
+        // Act
+        stockService.reduceStock(Map.of(otherProduct.getProductId(), 5));
+
+        // Assert
+        Product reloaded = productRepository.findById(otherProduct.getProductId()).orElseThrow();
+        assertEquals(0, reloaded.getStockQuantity());
+        assertFalse(reloaded.isAvailable());
+        assertTrue(productRepository.findById(hotProduct.getProductId()).orElseThrow().isAvailable());
+    }
+
+    private Product newProduct(String name, int stock) {
+        Product product = new Product();
+        product.setName(name);
+        product.setPrice(new BigDecimal("15000"));
+        product.setCategory(category);
+        product.setStockQuantity(stock);
+        product.setAvailable(true);
+        return product;
+    }
+}
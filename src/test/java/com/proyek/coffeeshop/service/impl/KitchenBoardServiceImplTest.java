@@ -0,0 +1,183 @@
+package com.proyek.coffeeshop.service.impl;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.proyek.coffeeshop.controller.KitchenController;
+import com.proyek.coffeeshop.dto.response.KitchenOrderDto;
+import com.proyek.coffeeshop.event.OrderEvent;
+import com.proyek.coffeeshop.model.enums.OrderEventType;
+import com.proyek.coffeeshop.model.enums.OrderStatus;
+import com.proyek.coffeeshop.service.KitchenQueueService;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+
+/**
+ * Unit tests untuk KitchenBoardServiceImpl - snapshot saat connect dan fan-out delta ke semua layar.
+ * Stream dibuka lewat KitchenController di MockMvc standalone, sehingga event benar-benar
+ * ditulis ke response oleh writer SseSubscriber.
+ */
+@ExtendWith(MockitoExtension.class)
+class KitchenBoardServiceImplTest {
+
+    private static final long AWAIT_MILLIS = 5_000;
+
+    @Mock
+    private KitchenOrderLoader kitchenOrderLoader;
+
+    @Mock
+    private KitchenQueueService kitchenQueueService;
+
+    private KitchenBoardServiceImpl kitchenBoardService;
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        StaticListableBeanFactory beanFactory = new StaticListableBeanFactory();
+        beanFactory.addBean("meterRegistry", new SimpleMeterRegistry());
+        kitchenBoardService = new KitchenBoardServiceImpl(kitchenOrderLoader, new ObjectMapper().findAndRegisterModules(),
+                beanFactory.getBeanProvider(MeterRegistry.class));
+        ReflectionTestUtils.setField(kitchenBoardService, "window", Duration.ofHours(12));
+        ReflectionTestUtils.setField(kitchenBoardService, "sseTimeout", Duration.ofMinutes(30));
+        ReflectionTestUtils.setField(kitchenBoardService, "sseHeartbeat", Duration.ofMinutes(1));
+        ReflectionTestUtils.setField(kitchenBoardService, "sseQueueCapacity", 16);
+        mockMvc = MockMvcBuilders.standaloneSetup(new KitchenController(kitchenBoardService, kitchenQueueService)).build();
+
+        when(kitchenOrderLoader.loadActive(any(), any())).thenReturn(List.of(order(1L, OrderStatus.PROCESSING)));
+    }
+
+    @Test
+    void subscribe_SendsSnapshotOfActiveOrders() throws Exception {
+        MvcResult screen = connect();
+
+        awaitContent(screen, "event:snapshot");
+        assertTrue(screen.getResponse().getContentAsString().contains("\"orderId\":1"));
+    }
+
+    @Test
+    void onOrderEvents_StatusChange_FansOutToEveryScreen() throws Exception {
+        MvcResult first = connect();
+        MvcResult second = connect();
+        awaitContent(first, "event:snapshot");
+        awaitContent(second, "event:snapshot");
+
+        kitchenBoardService.onOrderEvents(List.of(event(10L, 1L, OrderStatus.PROCESSING, OrderStatus.PREPARING)));
+
+        awaitContent(first, "event:order-updated");
+        awaitContent(second, "event:order-updated");
+        assertTrue(second.getResponse().getContentAsString().contains("id:10"));
+        assertTrue(second.getResponse().getContentAsString().contains("PREPARING"));
+        verify(kitchenOrderLoader, never()).load(any());
+    }
+
+    @Test
+    void onOrderEvents_NewOrder_LoadedOnceForAllScreens() throws Exception {
+        MvcResult first = connect();
+        MvcResult second = connect();
+        when(kitchenOrderLoader.load(List.of(2L))).thenReturn(Map.of(2L, order(2L, OrderStatus.PAID)));
+
+        kitchenBoardService.onOrderEvents(List.of(event(11L, 2L, OrderStatus.WAITING_PAYMENT, OrderStatus.PAID)));
+
+        awaitContent(first, "\"orderId\":2");
+        awaitContent(second, "\"orderId\":2");
+        verify(kitchenOrderLoader, times(1)).load(any());
+    }
+
+    @Test
+    void onOrderEvents_OrderLeavesBoard_BroadcastsRemoval() throws Exception {
+        MvcResult screen = connect();
+        awaitContent(screen, "event:snapshot");
+
+        kitchenBoardService.onOrderEvents(List.of(event(12L, 1L, OrderStatus.PROCESSING, OrderStatus.COMPLETED)));
+
+        awaitContent(screen, "event:order-removed");
+    }
+
+    @Test
+    void onOrderEvents_DuringInitialLoad_AppliedAfterLoad() throws Exception {
+        CountDownLatch loadStarted = new CountDownLatch(1);
+        CountDownLatch finishLoad = new CountDownLatch(1);
+        // Order 2 di-commit setelah query papan dimulai, sehingga tidak ada di hasil pemuatan
+        when(kitchenOrderLoader.loadActive(any(), any())).thenAnswer(invocation -> {
+            loadStarted.countDown();
+            assertTrue(finishLoad.await(AWAIT_MILLIS, TimeUnit.MILLISECONDS));
+            return List.of(order(1L, OrderStatus.PROCESSING));
+        });
+        when(kitchenOrderLoader.load(List.of(2L))).thenReturn(Map.of(2L, order(2L, OrderStatus.PAID)));
+
+        CompletableFuture<MvcResult> screen = CompletableFuture.supplyAsync(() -> {
+            try {
+                return connect();
+            } catch (Exception e) {
+                throw new IllegalStateException(e);
+            }
+        });
+        assertTrue(loadStarted.await(AWAIT_MILLIS, TimeUnit.MILLISECONDS));
+
+        CompletableFuture<Void> dispatch = CompletableFuture.runAsync(() -> kitchenBoardService.onOrderEvents(
+                List.of(event(13L, 2L, OrderStatus.WAITING_PAYMENT, OrderStatus.PAID))));
+        Thread.sleep(100);
+        assertFalse(dispatch.isDone(), "Event harus menunggu pemuatan papan selesai");
+
+        finishLoad.countDown();
+        dispatch.get(AWAIT_MILLIS, TimeUnit.MILLISECONDS);
+
+        // Tergantung urutan lock, order 2 tiba lewat snapshot atau lewat order-updated
+        awaitContent(screen.get(AWAIT_MILLIS, TimeUnit.MILLISECONDS), "\"orderId\":2");
+        verify(kitchenOrderLoader).load(List.of(2L));
+    }
+
+    private MvcResult connect() throws Exception {
+        return mockMvc.perform(get("/api/kitchen/orders/stream")
+                        .principal(new UsernamePasswordAuthenticationToken("kasir001", null)))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+    }
+
+    private static void awaitContent(MvcResult result, String expected) throws Exception {
+        long deadline = System.currentTimeMillis() + AWAIT_MILLIS;
+        while (!result.getResponse().getContentAsString().contains(expected)) {
+            if (System.currentTimeMillis() > deadline) {
+                fail("Stream tidak berisi " + expected + ": " + result.getResponse().getContentAsString());
+            }
+            Thread.sleep(10);
+        }
+    }
+
+    private static KitchenOrderDto order(Long orderId, OrderStatus status) {
+        return KitchenOrderDto.builder()
+                .orderId(orderId)
+                .status(status)
+                .orderDate(LocalDateTime.now())
+                .items(List.of(new KitchenOrderDto.Item("Espresso", 1, List.of())))
+                .build();
+    }
+
+    private static OrderEvent event(Long eventId, Long orderId, OrderStatus previousStatus, OrderStatus status) {
+        return new OrderEvent(eventId, orderId, 7L, OrderEventType.STATUS_CHANGED, previousStatus, status,
+                LocalDateTime.now());
+    }
+}
@@ -0,0 +1,192 @@
+package com.proyek.coffeeshop.service.impl;
+
+import com.proyek.coffeeshop.dto.response.KitchenOrderDto;
+import com.proyek.coffeeshop.dto.response.KitchenTaskDto;
+import com.proyek.coffeeshop.event.OrderEvent;
+import com.proyek.coffeeshop.exception.BadRequestException;
+import com.proyek.coffeeshop.model.enums.OrderEventType;
+import com.proyek.coffeeshop.model.enums.OrderStatus;
+import com.proyek.coffeeshop.service.OrderService;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests untuk KitchenQueueServiceImpl - urutan SLA, pengambilan station, dan antrian ulang
+ * setelah perubahan status dari outbox.
+ */
+@ExtendWith(MockitoExtension.class)
+class KitchenQueueServiceImplTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.now();
+
+    @Mock
+    private KitchenOrderLoader kitchenOrderLoader;
+
+    @Mock
+    private OrderService orderService;
+
+    private final List<KitchenOrderDto> activeOrders = new ArrayList<>();
+    private KitchenQueueServiceImpl kitchenQueueService;
+
+    @BeforeEach
+    void setUp() {
+        StaticListableBeanFactory beanFactory = new StaticListableBeanFactory();
+        beanFactory.addBean("meterRegistry", new SimpleMeterRegistry());
+        kitchenQueueService = new KitchenQueueServiceImpl(kitchenOrderLoader, orderService,
+                beanFactory.getBeanProvider(MeterRegistry.class));
+        ReflectionTestUtils.setField(kitchenQueueService, "window", Duration.ofHours(12));
+        ReflectionTestUtils.setField(kitchenQueueService, "sla", Duration.ofMinutes(10));
+        ReflectionTestUtils.setField(kitchenQueueService, "prepUnit", Duration.ofMinutes(1));
+        ReflectionTestUtils.setField(kitchenQueueService, "maxNext", 50);
+
+        when(kitchenOrderLoader.loadActive(any(), any())).thenReturn(activeOrders);
+    }
+
+    @Test
+    void getNextTasks_OrdersByPromisedReadyTime() {
+        // Janji siap: order 1 = -5m + 10m + 8 unit = +13m, order 2 = -1m + 10m + 1 unit = +10m
+        activeOrders.add(order(1L, NOW.minusMinutes(5), OrderStatus.PROCESSING, 4, 1));
+        activeOrders.add(order(2L, NOW.minusMinutes(1), OrderStatus.PAID, 1, 0));
+        // Sama dengan order 2 tetapi lebih banyak unit dan order lebih awal: +10m
+        activeOrders.add(order(3L, NOW.minusMinutes(3), OrderStatus.PAID, 3, 0));
+
+        List<KitchenTaskDto> tasks = kitchenQueueService.getNextTasks(10);
+
+        assertEquals(List.of(2L, 3L, 1L), orderIds(tasks));
+        assertEquals(8, tasks.get(2).getPrepUnits());
+    }
+
+    @Test
+    void getNextTasks_SamePromiseAndUnits_TieBrokenByOrderId() {
+        activeOrders.add(order(6L, NOW, OrderStatus.PAID, 1, 0));
+        activeOrders.add(order(5L, NOW, OrderStatus.PAID, 1, 0));
+
+        assertEquals(List.of(5L, 6L), orderIds(kitchenQueueService.getNextTasks(10)));
+    }
+
+    @Test
+    void claimNext_TakesTopTaskAndHidesItFromQueue() {
+        activeOrders.add(order(1L, NOW.minusMinutes(5), OrderStatus.PROCESSING, 1, 0));
+        activeOrders.add(order(2L, NOW, OrderStatus.PAID, 1, 0));
+
+        KitchenTaskDto claimed = kitchenQueueService.claimNext("bar-1").orElseThrow();
+
+        assertEquals(1L, claimed.getOrderId());
+        assertEquals("bar-1", claimed.getStation());
+        assertEquals(List.of(2L), orderIds(kitchenQueueService.getNextTasks(10)));
+    }
+
+    @Test
+    void release_RequeuesTaskAtItsPriority() {
+        activeOrders.add(order(1L, NOW.minusMinutes(5), OrderStatus.PROCESSING, 1, 0));
+        activeOrders.add(order(2L, NOW, OrderStatus.PAID, 1, 0));
+        kitchenQueueService.claimNext("bar-1");
+
+        KitchenTaskDto released = kitchenQueueService.release(1L, "bar-1");
+
+        assertNull(released.getStation());
+        assertEquals(List.of(1L, 2L), orderIds(kitchenQueueService.getNextTasks(10)));
+    }
+
+    @Test
+    void release_ByOtherStation_IsRejected() {
+        activeOrders.add(order(1L, NOW, OrderStatus.PAID, 1, 0));
+        kitchenQueueService.claimNext("bar-1");
+
+        assertThrows(BadRequestException.class, () -> kitchenQueueService.release(1L, "bar-2"));
+    }
+
+    @Test
+    void onOrderEvents_StatusChangeOfClaimedTask_KeepsItClaimed() {
+        activeOrders.add(order(1L, NOW, OrderStatus.PAID, 1, 0));
+        kitchenQueueService.claimNext("bar-1");
+
+        kitchenQueueService.onOrderEvents(List.of(event(10L, 1L, OrderStatus.PAID, OrderStatus.PREPARING)));
+
+        assertTrue(kitchenQueueService.getNextTasks(10).isEmpty());
+        assertEquals(OrderStatus.PREPARING, kitchenQueueService.release(1L, "bar-1").getStatus());
+        verify(kitchenOrderLoader, never()).load(any());
+    }
+
+    @Test
+    void onOrderEvents_OrderLeavesAndReturns_IsRequeuedFromDatabase() {
+        activeOrders.add(order(1L, NOW, OrderStatus.PROCESSING, 1, 0));
+        kitchenQueueService.claimNext("bar-1");
+
+        kitchenQueueService.onOrderEvents(List.of(event(10L, 1L, OrderStatus.PROCESSING, OrderStatus.READY_FOR_PICKUP)));
+        assertTrue(kitchenQueueService.getNextTasks(10).isEmpty());
+
+        when(kitchenOrderLoader.load(List.of(1L)))
+                .thenReturn(Map.of(1L, order(1L, NOW, OrderStatus.READY_FOR_PICKUP, 1, 0)));
+        kitchenQueueService.onOrderEvents(List.of(event(11L, 1L, OrderStatus.READY_FOR_PICKUP, OrderStatus.PROCESSING)));
+
+        List<KitchenTaskDto> tasks = kitchenQueueService.getNextTasks(10);
+        assertEquals(List.of(1L), orderIds(tasks));
+        assertEquals(OrderStatus.PROCESSING, tasks.get(0).getStatus());
+        assertNull(tasks.get(0).getStation());
+    }
+
+    @Test
+    void onOrderEvents_NewOrderAndLaterChangeInSameBatch_AppliedInOrder() {
+        kitchenQueueService.getNextTasks(10);
+        when(kitchenOrderLoader.load(List.of(4L))).thenReturn(Map.of(4L, order(4L, NOW, OrderStatus.PAID, 1, 0)));
+
+        kitchenQueueService.onOrderEvents(List.of(
+                event(20L, 4L, OrderStatus.WAITING_PAYMENT, OrderStatus.PROCESSING),
+                event(21L, 4L, OrderStatus.PROCESSING, OrderStatus.CANCELLED)));
+
+        assertTrue(kitchenQueueService.getNextTasks(10).isEmpty());
+    }
+
+    @Test
+    void complete_MarksOrderReadyAndRemovesTask() {
+        activeOrders.add(order(1L, NOW, OrderStatus.PROCESSING, 1, 0));
+        activeOrders.add(order(2L, NOW.plusMinutes(1), OrderStatus.PAID, 1, 0));
+        kitchenQueueService.claimNext("bar-1");
+        kitchenQueueService.claimNext("bar-2");
+
+        assertEquals(OrderStatus.READY_FOR_PICKUP, kitchenQueueService.complete(1L, "bar-1").getStatus());
+        assertEquals(OrderStatus.READY_TO_SERVE, kitchenQueueService.complete(2L, "bar-2").getStatus());
+
+        verify(orderService).updateOrderStatus(1L, OrderStatus.READY_FOR_PICKUP);
+        verify(orderService).updateOrderStatus(2L, OrderStatus.READY_TO_SERVE);
+        assertTrue(kitchenQueueService.claimNext("bar-1").isEmpty());
+    }
+
+    private static List<Long> orderIds(List<KitchenTaskDto> tasks) {
+        return tasks.stream().map(KitchenTaskDto::getOrderId).toList();
+    }
+
+    private static KitchenOrderDto order(Long orderId, LocalDateTime orderDate, OrderStatus status,
+                                         int quantity, int customizations) {
+        return KitchenOrderDto.builder()
+                .orderId(orderId)
+                .status(status)
+                .orderDate(orderDate)
+                .items(List.of(new KitchenOrderDto.Item("Latte", quantity,
+                        Collections.nCopies(customizations, "Extra shot"))))
+                .build();
+    }
+
+    private static OrderEvent event(Long eventId, Long orderId, OrderStatus previousStatus, OrderStatus status) {
+        return new OrderEvent(eventId, orderId, 7L, OrderEventType.STATUS_CHANGED, previousStatus, status, NOW);
+    }
+}
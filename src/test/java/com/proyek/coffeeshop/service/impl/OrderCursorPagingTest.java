@@ -0,0 +1,147 @@
+package com.proyek.coffeeshop.service.impl;
+
+import com.proyek.coffeeshop.exception.BadRequestException;
+import com.proyek.coffeeshop.model.entity.Order;
+import com.proyek.coffeeshop.model.entity.PaymentMethod;
+import com.proyek.coffeeshop.model.enums.OrderStatus;
+import com.proyek.coffeeshop.model.value.Money;
+import com.proyek.coffeeshop.repository.OrderRepository;
+import com.proyek.coffeeshop.repository.PaymentMethodRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.PageRequest;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Repository tests untuk keyset pagination order dengan OrderCursor.
+ * Halaman diambil seperti OrderServiceImpl: halaman pertama tanpa cursor, lalu
+ * cursor dari order terakhir di-encode, di-decode, dan dipakai untuk halaman berikutnya.
+ */
+@DataJpaTest(properties = {
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+        // Migrasi Flyway ditulis untuk MySQL; di H2 skema dibuat langsung dari entity
+        "spring.flyway.enabled=false",
+        "spring.jpa.hibernate.ddl-auto=create-drop"
+})
+class OrderCursorPagingTest {
+
+    private static final int PAGE_SIZE = 2;
+    private static final LocalDateTime BASE = LocalDateTime.of(2026, 1, 1, 10, 0);
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private PaymentMethodRepository paymentMethodRepository;
+
+    private final List<Order> orders = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        PaymentMethod cash = new PaymentMethod();
+        cash.setName("Cash");
+        cash = paymentMethodRepository.save(cash);
+
+        // Tiga order berbagi order_date yang sama sehingga urutannya ditentukan order_id
+        orders.add(save(cash, BASE, OrderStatus.COMPLETED));
+        orders.add(save(cash, BASE.plusMinutes(5), OrderStatus.PROCESSING));
+        orders.add(save(cash, BASE.plusMinutes(5), OrderStatus.COMPLETED));
+        orders.add(save(cash, BASE.plusMinutes(5), OrderStatus.PROCESSING));
+        orders.add(save(cash, BASE.plusMinutes(9), OrderStatus.PROCESSING));
+        orders.add(save(cash, BASE.minusMinutes(3), OrderStatus.PROCESSING));
+    }
+
+    @Test
+    void cursor_WalksAllOrdersNewestFirstWithoutGapsOrDuplicates() {
+        List<Long> walked = walk(
+                limit -> orderRepository.findFirstOrderIds(limit),
+                (cursor, limit) -> orderRepository.findOrderIdsBefore(cursor.getOrderDate(), cursor.getOrderId(), limit));
+
+        assertEquals(expectedIds(null), walked);
+    }
+
+    @Test
+    void cursor_WalksOneStatusAcrossEqualOrderDates() {
+        List<Long> walked = walk(
+                limit -> orderRepository.findFirstOrderIdsByStatus(OrderStatus.PROCESSING, limit),
+                (cursor, limit) -> orderRepository.findOrderIdsByStatusBefore(OrderStatus.PROCESSING,
+                        cursor.getOrderDate(), cursor.getOrderId(), limit));
+
+        assertEquals(expectedIds(OrderStatus.PROCESSING), walked);
+    }
+
+    @Test
+    void cursor_SplitInsideTiedTimestampsResumesByOrderId() {
+        Order middleOfTie = orders.get(2);
+
+        List<Long> rest = orderRepository.findOrderIdsBefore(middleOfTie.getOrderDate(),
+                middleOfTie.getOrderId(), PageRequest.of(0, orders.size()));
+
+        assertEquals(List.of(orders.get(1).getOrderId(), orders.get(0).getOrderId(), orders.get(5).getOrderId()),
+                rest);
+    }
+
+    @Test
+    void encode_DecodeRoundTripsPosition() {
+        Order order = orders.get(3);
+
+        OrderCursor decoded = OrderCursor.decode(OrderCursor.after(order).encode());
+
+        assertEquals(order.getOrderDate(), decoded.getOrderDate());
+        assertEquals(order.getOrderId(), decoded.getOrderId());
+    }
+
+    @Test
+    void decode_RejectsMalformedTokens() {
+        assertThrows(BadRequestException.class, () -> OrderCursor.decode("%%%"));
+        assertThrows(BadRequestException.class, () -> OrderCursor.decode("bm8tc2VwYXJhdG9y")); // "no-separator"
+        assertThrows(BadRequestException.class, () -> OrderCursor.decode("eHxZ")); // "x|Y"
+    }
+
+    /**
+     * Mengambil halaman demi halaman sampai habis, memakai cursor yang sudah melewati encode/decode.
+     */
+    private List<Long> walk(Function<PageRequest, List<Long>> first, PageFetcher next) {
+        List<Long> walked = new ArrayList<>();
+        PageRequest limit = PageRequest.of(0, PAGE_SIZE);
+        List<Long> page = first.apply(limit);
+        while (!page.isEmpty()) {
+            walked.addAll(page);
+            Order last = orderRepository.findById(page.get(page.size() - 1)).orElseThrow();
+            OrderCursor cursor = OrderCursor.decode(OrderCursor.after(last).encode());
+            page = next.fetch(cursor, limit);
+        }
+        return walked;
+    }
+
+    private List<Long> expectedIds(OrderStatus status) {
+        return orders.stream()
+                .filter(order -> status == null || order.getStatus() == status)
+                .sorted(Comparator.comparing(Order::getOrderDate).thenComparing(Order::getOrderId).reversed())
+                .map(Order::getOrderId)
+                .toList();
+    }
+
+    private Order save(PaymentMethod paymentMethod, LocalDateTime orderDate, OrderStatus status) {
+        Order order = new Order();
+        order.setPaymentMethod(paymentMethod);
+        order.setOrderDate(orderDate);
+        order.setStatus(status);
+        order.setTotalAmount(Money.of("25000"));
+        return orderRepository.save(order);
+    }
+
+    @FunctionalInterface
+    private interface PageFetcher {
+        List<Long> fetch(OrderCursor cursor, PageRequest limit);
+    }
+}
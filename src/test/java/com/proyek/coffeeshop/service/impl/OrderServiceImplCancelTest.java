@@ -0,0 +1,184 @@
+package com.proyek.coffeeshop.service.impl;
+
+import com.proyek.coffeeshop.model.entity.*;
+import com.proyek.coffeeshop.model.enums.OrderEventType;
+import com.proyek.coffeeshop.model.enums.OrderStatus;
+import com.proyek.coffeeshop.model.value.Money;
+import com.proyek.coffeeshop.repository.*;
+import com.proyek.coffeeshop.security.AppUserDetailsService;
+import com.proyek.coffeeshop.service.OrderOutboxService;
+import com.proyek.coffeeshop.service.PriceBookService;
+import com.proyek.coffeeshop.service.SalesRollupService;
+import com.proyek.coffeeshop.service.StockReservationService;
+import com.proyek.coffeeshop.service.StockService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.same;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests untuk OrderServiceImpl - pembatalan order dan pengembalian stok.
+ * Order yang dibatalkan sebelum dibayar melepas reservasinya, sedangkan order
+ * yang dibatalkan setelah dibayar mengembalikan stok seluruh item.
+ */
+@ExtendWith(MockitoExtension.class)
+class OrderServiceImplCancelTest {
+
+    private static final long ORDER_ID = 42L;
+    private static final String USERNAME = "budi";
+
+    @Mock
+    private OrderRepository orderRepository;
+
+    @Mock
+    private OrderDetailRepository orderDetailRepository;
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private CustomerRepository customerRepository;
+
+    @Mock
+    private ProductRepository productRepository;
+
+    @Mock
+    private CustomizationRepository customizationRepository;
+
+    @Mock
+    private PaymentMethodRepository paymentMethodRepository;
+
+    @Mock
+    private SalesRollupService salesRollupService;
+
+    @Mock
+    private OrderOutboxService orderOutboxService;
+
+    @Mock
+    private StockService stockService;
+
+    @Mock
+    private StockReservationService stockReservationService;
+
+    @Mock
+    private PriceBookService priceBookService;
+
+    @Mock
+    private AppUserDetailsService userDetailsService;
+
+    @Spy
+    private OrderMapper orderMapper = new OrderMapper();
+
+    @InjectMocks
+    private OrderServiceImpl orderService;
+
+    private Order order;
+
+    @BeforeEach
+    void setUp() {
+        User user = new User();
+        user.setUsername(USERNAME);
+        Customer customer = new Customer();
+        customer.setCustomerId(3L);
+        customer.setUser(user);
+
+        PaymentMethod paymentMethod = new PaymentMethod();
+        paymentMethod.setPaymentId(1L);
+        paymentMethod.setName("QRIS");
+
+        order = new Order();
+        order.setOrderId(ORDER_ID);
+        order.setCustomer(customer);
+        order.setPaymentMethod(paymentMethod);
+        order.setOrderDate(LocalDateTime.now());
+        order.setTotalAmount(Money.of("50000"));
+
+        // Produk 1 muncul di dua item, jadi stok yang kembali dijumlahkan per produk
+        List<OrderDetail> details = new ArrayList<>();
+        details.add(detail(product(1L, "Espresso"), 2));
+        details.add(detail(product(2L, "Croissant"), 1));
+        details.add(detail(product(1L, "Espresso"), 1));
+        order.setOrderDetails(details);
+
+        when(orderRepository.lockById(ORDER_ID)).thenReturn(Optional.of(order));
+        when(orderRepository.findWithDetailsById(ORDER_ID)).thenReturn(Optional.of(order));
+        when(orderRepository.save(any(Order.class))).thenAnswer(invocation -> invocation.getArgument(0));
+    }
+
+    @Test
+    void cancelOrder_AfterPayment_RestoresStockOfAllItems() {
+        order.setStatus(OrderStatus.PROCESSING);
+
+        orderService.cancelOrder(ORDER_ID, USERNAME);
+
+        assertEquals(OrderStatus.CANCELLED, order.getStatus());
+        verify(stockService).restoreStock(Map.of(1L, 3, 2L, 1));
+        verifyNoInteractions(stockReservationService);
+        verify(orderOutboxService).record(same(order), eq(OrderEventType.CANCELLED), eq(OrderStatus.PROCESSING));
+    }
+
+    @Test
+    void updateOrderStatus_ProcessingToCancelled_RestoresStock() {
+        order.setStatus(OrderStatus.PROCESSING);
+
+        orderService.updateOrderStatus(ORDER_ID, OrderStatus.CANCELLED);
+
+        assertEquals(OrderStatus.CANCELLED, order.getStatus());
+        verify(stockService).restoreStock(Map.of(1L, 3, 2L, 1));
+        verifyNoInteractions(stockReservationService);
+    }
+
+    @Test
+    void cancelOrder_BeforePayment_ReleasesReservationOnly() {
+        order.setStatus(OrderStatus.WAITING_PAYMENT);
+
+        orderService.cancelOrder(ORDER_ID, USERNAME);
+
+        assertEquals(OrderStatus.CANCELLED, order.getStatus());
+        verify(stockReservationService).release(same(order));
+        verify(stockService, never()).restoreStock(any());
+    }
+
+    @Test
+    void updateOrderStatus_ProcessingToReady_KeepsStock() {
+        order.setStatus(OrderStatus.PROCESSING);
+
+        orderService.updateOrderStatus(ORDER_ID, OrderStatus.READY_FOR_PICKUP);
+
+        verifyNoInteractions(stockService, stockReservationService);
+    }
+
+    private Product product(Long productId, String name) {
+        Product product = new Product();
+        product.setProductId(productId);
+        product.setName(name);
+        product.setPrice(new BigDecimal("15000"));
+        return product;
+    }
+
+    private OrderDetail detail(Product product, int quantity) {
+        OrderDetail detail = new OrderDetail();
+        detail.setOrder(order);
+        detail.setProduct(product);
+        detail.setQuantity(quantity);
+        detail.setUnitPrice(Money.of("15000"));
+        detail.setSubtotalPrice(Money.of("15000").times(quantity));
+        return detail;
+    }
+}
@@ -6,19 +6,32 @@ import com.proyek.coffeeshop.dto.response.CashierOrderResponseDTO;
 import com.proyek.coffeeshop.exception.BadRequestException;
 import com.proyek.coffeeshop.exception.ResourceNotFoundException;
 import com.proyek.coffeeshop.model.entity.*;
+import com.proyek.coffeeshop.model.enums.OrderEventType;
 import com.proyek.coffeeshop.model.enums.OrderStatus;
 import com.proyek.coffeeshop.model.enums.UserRole;
+import com.proyek.coffeeshop.model.value.Money;
+import com.proyek.coffeeshop.model.value.PriceBook;
 import com.proyek.coffeeshop.repository.*;
+import com.proyek.coffeeshop.security.AppUserDetailsService;
+import com.proyek.coffeeshop.security.AppUserPrincipal;
+import com.proyek.coffeeshop.service.PriceBookService;
+import com.proyek.coffeeshop.service.OrderOutboxService;
+import com.proyek.coffeeshop.service.SalesRollupService;
+import com.proyek.coffeeshop.service.StockReservationService;
+import com.proyek.coffeeshop.service.StockService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -32,6 +45,8 @@ import static org.mockito.Mockito.*;
 @ExtendWith(MockitoExtension.class)
 class OrderServiceImplCashierTest {
 
+    private static final long PRICE_BOOK_VERSION = 7L;
+
     @Mock
     private OrderRepository orderRepository;
     
@@ -56,10 +71,32 @@ class OrderServiceImplCashierTest {
     @Mock
     private CustomerRepository customerRepository;
 
+    @Mock
+    private SalesRollupService salesRollupService;
+
+    @Mock
+    private OrderOutboxService orderOutboxService;
+
+    @Mock
+    private StockService stockService;
+
+    @Mock
+    private StockReservationService stockReservationService;
+
+    @Mock
+    private PriceBookService priceBookService;
+
+    @Mock
+    private AppUserDetailsService userDetailsService;
+
+    @Spy
+    private OrderMapper orderMapper = new OrderMapper();
+
     @InjectMocks
     private OrderServiceImpl orderService;
 
     private User kasirUser;
+    private AppUserPrincipal kasirPrincipal;
     private PaymentMethod cashPaymentMethod;
     private Product product;
     private Customization customization;
@@ -72,6 +109,8 @@ class OrderServiceImplCashierTest {
         kasirUser.setUserId(1L);
         kasirUser.setUsername("kasir001");
         kasirUser.setRole(UserRole.ROLE_KASIR);
+        kasirPrincipal = new AppUserPrincipal(1L, "kasir001", "{noop}secret", "kasir001@coffeeshop.com",
+                UserRole.ROLE_KASIR, null);
 
         // Setup payment method
         cashPaymentMethod = new PaymentMethod();
@@ -108,10 +147,10 @@ class OrderServiceImplCashierTest {
     @Test
     void createCashierOrder_Success() {
         // Arrange
-        when(userRepository.findByUsername("kasir001")).thenReturn(Optional.of(kasirUser));
+        when(userDetailsService.findPrincipal("kasir001")).thenReturn(Optional.of(kasirPrincipal));
         when(paymentMethodRepository.findByName("Cash")).thenReturn(Optional.of(cashPaymentMethod));
-        when(productRepository.findById(1L)).thenReturn(Optional.of(product));
-        when(customizationRepository.findById(1L)).thenReturn(Optional.of(customization));
+        when(userRepository.getReferenceById(1L)).thenReturn(kasirUser);
+        stubPriceBook(PriceBook.ProductEntry.of(product));
         
         Order savedOrder = new Order();
         savedOrder.setOrderId(1L);
@@ -119,23 +158,12 @@ class OrderServiceImplCashierTest {
         savedOrder.setPaymentMethod(cashPaymentMethod);
         savedOrder.setStatus(OrderStatus.PAID);
         savedOrder.setOrderDate(LocalDateTime.now());
-        savedOrder.setTotalAmount(new BigDecimal("40000")); // 2 * (15000 + 5000)
-        savedOrder.setAmountTendered(new BigDecimal("50000"));
-        savedOrder.setChangeGiven(new BigDecimal("10000"));
+        savedOrder.setTotalAmount(Money.of("40000")); // 2 * (15000 + 5000)
+        savedOrder.setAmountTendered(Money.of("50000"));
+        savedOrder.setChangeGiven(Money.of("10000"));
         savedOrder.setCustomerNotes("Walk-in customer order");
         
         when(orderRepository.save(any(Order.class))).thenReturn(savedOrder);
-        when(orderDetailRepository.save(any(OrderDetail.class))).thenAnswer(invocation -> {
-            OrderDetail detail = invocation.getArgument(0);
-            detail.setDetailId(1L);
-            detail.setSubtotalPrice(new BigDecimal("40000"));
-            return detail;
-        });
-        when(orderDetailCustomizationRepository.save(any(OrderDetailCustomization.class))).thenAnswer(invocation -> {
-            OrderDetailCustomization odc = invocation.getArgument(0);
-            odc.setDetailCustomizationId(1L);
-            return odc;
-        });
 
         // Act
         CashierOrderResponseDTO result = orderService.createCashierOrder(validRequest, "kasir001");
@@ -144,26 +172,32 @@ class OrderServiceImplCashierTest {
         assertNotNull(result);
         assertEquals(1L, result.getOrderId());
         assertEquals("kasir001", result.getKasirUsername());
-        assertEquals(new BigDecimal("40000"), result.getTotalPrice());
+        assertEquals(Money.of("40000"), result.getTotalPrice());
         assertEquals("Cash", result.getPaymentMethodName());
         assertEquals(OrderStatus.PAID, result.getStatus());
-        assertEquals(new BigDecimal("50000"), result.getAmountTendered());
-        assertEquals(new BigDecimal("10000"), result.getChangeGiven());
+        assertEquals(Money.of("50000"), result.getAmountTendered());
+        assertEquals(Money.of("10000"), result.getChangeGiven());
         assertEquals("Walk-in customer order", result.getCustomerNotes());
           // Verify interactions
-        verify(userRepository).findByUsername("kasir001");
+        verify(userDetailsService).findPrincipal("kasir001");
+        verify(userRepository, never()).findByUsername(any()); // Identitas kasir dari principal cache
         verify(paymentMethodRepository).findByName("Cash");
-        verify(productRepository).findById(1L);
-        verify(customizationRepository).findById(1L);
-        verify(orderRepository, times(2)).save(any(Order.class));
-        verify(orderDetailRepository, times(1)).save(any(OrderDetail.class)); // Fixed: now only saves once
-        verify(orderDetailCustomizationRepository).save(any(OrderDetailCustomization.class));
+        verify(productRepository, never()).findAllWithCategoryByIdIn(any()); // Harga dari price book, tanpa query katalog
+        verify(customizationRepository, never()).findAllById(any());
+        verify(orderRepository).save(argThat(order -> order.getPriceBookVersion() == PRICE_BOOK_VERSION
+                && order.getOrderDetails().get(0).getUnitPrice().equals(Money.of("15000"))));
+        verify(orderRepository, times(1)).save(any(Order.class)); // Detail dan kustomisasi tersimpan lewat cascade
+        verifyNoInteractions(orderDetailRepository, orderDetailCustomizationRepository);
+        verify(stockService).reduceStock(Map.of(1L, 2));
+        verify(salesRollupService).recordOrder(savedOrder);
+        verify(orderOutboxService).record(savedOrder, OrderEventType.CREATED, null);
+        verifyNoInteractions(stockReservationService); // Order kasir langsung dibayar, tidak perlu reservasi
     }
 
     @Test
     void createCashierOrder_InvalidKasir_ThrowsException() {
         // Arrange
-        when(userRepository.findByUsername("invalid_kasir")).thenReturn(Optional.empty());
+        when(userDetailsService.findPrincipal("invalid_kasir")).thenReturn(Optional.empty());
 
         // Act & Assert
         ResourceNotFoundException exception = assertThrows(
@@ -177,12 +211,10 @@ class OrderServiceImplCashierTest {
     @Test
     void createCashierOrder_UserNotKasir_ThrowsException() {
         // Arrange
-        User nonKasirUser = new User();
-        nonKasirUser.setUserId(2L);
-        nonKasirUser.setUsername("customer001");
-        nonKasirUser.setRole(UserRole.ROLE_CUSTOMER);
+        AppUserPrincipal nonKasirUser = new AppUserPrincipal(2L, "customer001", "{noop}secret",
+                "customer001@coffeeshop.com", UserRole.ROLE_CUSTOMER, 10L);
         
-        when(userRepository.findByUsername("customer001")).thenReturn(Optional.of(nonKasirUser));
+        when(userDetailsService.findPrincipal("customer001")).thenReturn(Optional.of(nonKasirUser));
 
         // Act & Assert
         BadRequestException exception = assertThrows(
@@ -196,7 +228,7 @@ class OrderServiceImplCashierTest {
     @Test
     void createCashierOrder_PaymentMethodNotFound_ThrowsException() {
         // Arrange
-        when(userRepository.findByUsername("kasir001")).thenReturn(Optional.of(kasirUser));
+        when(userDetailsService.findPrincipal("kasir001")).thenReturn(Optional.of(kasirPrincipal));
         when(paymentMethodRepository.findByName("InvalidPayment")).thenReturn(Optional.empty());
         
         validRequest.setPaymentMethodName("InvalidPayment");
@@ -213,15 +245,17 @@ class OrderServiceImplCashierTest {
     @Test
     void createCashierOrder_ProductNotAvailable_ThrowsException() {
         // Arrange
-        when(userRepository.findByUsername("kasir001")).thenReturn(Optional.of(kasirUser));
+        when(userDetailsService.findPrincipal("kasir001")).thenReturn(Optional.of(kasirPrincipal));
         when(paymentMethodRepository.findByName("Cash")).thenReturn(Optional.of(cashPaymentMethod));
+        when(userRepository.getReferenceById(1L)).thenReturn(kasirUser);
         
         Product unavailableProduct = new Product();
         unavailableProduct.setProductId(1L);
         unavailableProduct.setName("Espresso");
         unavailableProduct.setAvailable(false);
         
-        when(productRepository.findById(1L)).thenReturn(Optional.of(unavailableProduct));
+        unavailableProduct.setPrice(new BigDecimal("15000"));
+        when(priceBookService.getPriceBook()).thenReturn(priceBookOf(PriceBook.ProductEntry.of(unavailableProduct)));
 
         // Act & Assert
         BadRequestException exception = assertThrows(
@@ -230,31 +264,16 @@ class OrderServiceImplCashierTest {
         );
         
         assertEquals("Produk Espresso sedang tidak tersedia.", exception.getMessage());
+        verifyNoInteractions(stockService);
     }
 
     @Test
     void createCashierOrder_InsufficientCashPayment_ThrowsException() {
         // Arrange
-        when(userRepository.findByUsername("kasir001")).thenReturn(Optional.of(kasirUser));
+        when(userDetailsService.findPrincipal("kasir001")).thenReturn(Optional.of(kasirPrincipal));
         when(paymentMethodRepository.findByName("Cash")).thenReturn(Optional.of(cashPaymentMethod));
-        when(productRepository.findById(1L)).thenReturn(Optional.of(product));
-        when(customizationRepository.findById(1L)).thenReturn(Optional.of(customization));
-        
-        Order savedOrder = new Order();
-        savedOrder.setOrderId(1L);
-        savedOrder.setTotalAmount(new BigDecimal("40000"));
-        when(orderRepository.save(any(Order.class))).thenReturn(savedOrder);
-        when(orderDetailRepository.save(any(OrderDetail.class))).thenAnswer(invocation -> {
-            OrderDetail detail = invocation.getArgument(0);
-            detail.setDetailId(1L);
-            detail.setSubtotalPrice(new BigDecimal("40000"));
-            return detail;
-        });
-        when(orderDetailCustomizationRepository.save(any(OrderDetailCustomization.class))).thenAnswer(invocation -> {
-            OrderDetailCustomization odc = invocation.getArgument(0);
-            odc.setDetailCustomizationId(1L);
-            return odc;
-        });
+        when(userRepository.getReferenceById(1L)).thenReturn(kasirUser);
+        stubPriceBook(PriceBook.ProductEntry.of(product));
         
         // Set insufficient amount
         validRequest.setAmountTendered(new BigDecimal("30000")); // Less than 40000
@@ -266,31 +285,17 @@ class OrderServiceImplCashierTest {
         );
         
         assertEquals("Jumlah uang yang dibayarkan (amountTendered) kurang dari total belanja.", exception.getMessage());
+        verify(orderRepository, never()).save(any(Order.class));
+        verifyNoInteractions(salesRollupService, stockService, orderOutboxService);
     }
 
     @Test
     void createCashierOrder_CashPaymentWithoutAmount_ThrowsException() {
         // Arrange
-        when(userRepository.findByUsername("kasir001")).thenReturn(Optional.of(kasirUser));
+        when(userDetailsService.findPrincipal("kasir001")).thenReturn(Optional.of(kasirPrincipal));
         when(paymentMethodRepository.findByName("Cash")).thenReturn(Optional.of(cashPaymentMethod));
-        when(productRepository.findById(1L)).thenReturn(Optional.of(product));
-        when(customizationRepository.findById(1L)).thenReturn(Optional.of(customization));
-        
-        Order savedOrder = new Order();
-        savedOrder.setOrderId(1L);
-        savedOrder.setTotalAmount(new BigDecimal("40000"));
-        when(orderRepository.save(any(Order.class))).thenReturn(savedOrder);
-        when(orderDetailRepository.save(any(OrderDetail.class))).thenAnswer(invocation -> {
-            OrderDetail detail = invocation.getArgument(0);
-            detail.setDetailId(1L);
-            detail.setSubtotalPrice(new BigDecimal("40000"));
-            return detail;
-        });
-        when(orderDetailCustomizationRepository.save(any(OrderDetailCustomization.class))).thenAnswer(invocation -> {
-            OrderDetailCustomization odc = invocation.getArgument(0);
-            odc.setDetailCustomizationId(1L);
-            return odc;
-        });
+        when(userRepository.getReferenceById(1L)).thenReturn(kasirUser);
+        stubPriceBook(PriceBook.ProductEntry.of(product));
         
         // Set null amount for cash payment
         validRequest.setAmountTendered(null);
@@ -302,5 +307,43 @@ class OrderServiceImplCashierTest {
         );
         
         assertEquals("Untuk pembayaran tunai, jumlah uang yang dibayarkan (amountTendered) harus diisi dan mencukupi.", exception.getMessage());
+        verify(orderRepository, never()).save(any(Order.class));
+        verifyNoInteractions(salesRollupService, stockService, orderOutboxService);
+    }
+
+    @Test
+    void createCashierOrder_InsufficientStock_ThrowsException() {
+        // Arrange
+        when(userDetailsService.findPrincipal("kasir001")).thenReturn(Optional.of(kasirPrincipal));
+        when(paymentMethodRepository.findByName("Cash")).thenReturn(Optional.of(cashPaymentMethod));
+        when(userRepository.getReferenceById(1L)).thenReturn(kasirUser);
+        stubPriceBook(PriceBook.ProductEntry.of(product));
+        doThrow(new BadRequestException("Stok produk Espresso tidak mencukupi. Tersedia: 1, Dibutuhkan: 2"))
+                .when(stockService).reduceStock(Map.of(1L, 2));
+
+        // Act & Assert
+        BadRequestException exception = assertThrows(
+            BadRequestException.class,
+            () -> orderService.createCashierOrder(validRequest, "kasir001")
+        );
+
+        assertEquals("Stok produk Espresso tidak mencukupi. Tersedia: 1, Dibutuhkan: 2", exception.getMessage());
+        verify(orderRepository, never()).save(any(Order.class));
+        verifyNoInteractions(salesRollupService, orderOutboxService);
+    }
+
+    /**
+     * Price book berisi produk yang diberikan dan kustomisasi "Extra Shot";
+     * produk dan kustomisasi dipasang ke order sebagai referensi tanpa query.
+     */
+    private void stubPriceBook(PriceBook.ProductEntry productEntry) {
+        when(priceBookService.getPriceBook()).thenReturn(priceBookOf(productEntry));
+        when(productRepository.getReferenceById(1L)).thenReturn(product);
+        when(customizationRepository.getReferenceById(1L)).thenReturn(customization);
+    }
+
+    private PriceBook priceBookOf(PriceBook.ProductEntry productEntry) {
+        return new PriceBook(PRICE_BOOK_VERSION, LocalDateTime.now(),
+                List.of(productEntry), List.of(PriceBook.CustomizationEntry.of(customization)));
     }
 }
@@ -0,0 +1,107 @@
+package com.proyek.coffeeshop.service.impl;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.proyek.coffeeshop.exception.BadRequestException;
+import com.proyek.coffeeshop.exception.ResourceNotFoundException;
+import com.proyek.coffeeshop.model.entity.Customer;
+import com.proyek.coffeeshop.model.entity.Order;
+import com.proyek.coffeeshop.model.enums.OrderStatus;
+import com.proyek.coffeeshop.model.enums.UserRole;
+import com.proyek.coffeeshop.repository.OrderRepository;
+import com.proyek.coffeeshop.security.AppUserDetailsService;
+import com.proyek.coffeeshop.security.AppUserPrincipal;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests untuk OrderTrackingServiceImpl - kepemilikan order dicek sebelum koneksi didaftarkan.
+ */
+@ExtendWith(MockitoExtension.class)
+class OrderTrackingServiceImplTest {
+
+    private static final Long CUSTOMER_ID = 3L;
+
+    @Mock
+    private OrderRepository orderRepository;
+
+    @Mock
+    private AppUserDetailsService userDetailsService;
+
+    private SimpleMeterRegistry meterRegistry;
+    private OrderTrackingServiceImpl orderTrackingService;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        StaticListableBeanFactory beanFactory = new StaticListableBeanFactory();
+        beanFactory.addBean("meterRegistry", meterRegistry);
+        orderTrackingService = new OrderTrackingServiceImpl(orderRepository, userDetailsService,
+                new ObjectMapper().findAndRegisterModules(), beanFactory.getBeanProvider(MeterRegistry.class));
+        ReflectionTestUtils.setField(orderTrackingService, "maxConnectionsPerCustomer", 1);
+        ReflectionTestUtils.setField(orderTrackingService, "sseTimeout", Duration.ofMinutes(30));
+        ReflectionTestUtils.setField(orderTrackingService, "sseHeartbeat", Duration.ofMinutes(1));
+        ReflectionTestUtils.setField(orderTrackingService, "sseQueueCapacity", 16);
+
+        when(userDetailsService.findPrincipal("budi")).thenReturn(Optional.of(new AppUserPrincipal(1L, "budi",
+                "{noop}secret", "budi@coffeeshop.com", UserRole.ROLE_CUSTOMER, CUSTOMER_ID)));
+    }
+
+    @Test
+    void subscribe_OwnOrder_RegistersConnection() {
+        when(orderRepository.findById(10L)).thenReturn(Optional.of(order(10L, CUSTOMER_ID)));
+        when(orderRepository.findStatusById(10L)).thenReturn(Optional.of(OrderStatus.PROCESSING));
+
+        assertNotNull(orderTrackingService.subscribe("budi", 10L));
+
+        assertEquals(1, connections());
+    }
+
+    @Test
+    void subscribe_OtherCustomersOrder_DoesNotEvictExistingConnection() {
+        orderTrackingService.subscribe("budi");
+        when(orderRepository.findById(20L)).thenReturn(Optional.of(order(20L, 99L)));
+
+        assertThrows(BadRequestException.class, () -> orderTrackingService.subscribe("budi", 20L));
+
+        assertEquals(1, connections());
+        assertEquals(0, meterRegistry.get("coffeeshop.tracking.evicted").counter().count());
+        verify(orderRepository, never()).findStatusById(any());
+    }
+
+    @Test
+    void subscribe_MissingOrder_DoesNotRegister() {
+        when(orderRepository.findById(30L)).thenReturn(Optional.empty());
+
+        assertThrows(ResourceNotFoundException.class, () -> orderTrackingService.subscribe("budi", 30L));
+
+        assertEquals(0, connections());
+    }
+
+    private double connections() {
+        return meterRegistry.get("coffeeshop.tracking.subscribers").gauge().value();
+    }
+
+    private static Order order(Long orderId, Long customerId) {
+        Customer customer = new Customer();
+        customer.setCustomerId(customerId);
+        Order order = new Order();
+        order.setOrderId(orderId);
+        order.setCustomer(customer);
+        order.setStatus(OrderStatus.PROCESSING);
+        return order;
+    }
+}
@@ -0,0 +1,46 @@
+package com.proyek.coffeeshop.service.impl;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests untuk SseSubscriber - client lambat yang antriannya penuh diputus.
+ */
+class SseSubscriberTest {
+
+    private final List<SseSubscriber> closed = new ArrayList<>();
+
+    @Test
+    void offer_QueueFull_ClosesSlowSubscriber() {
+        // Writer tidak dijalankan, sehingga antrian tidak pernah dikosongkan (client lambat)
+        SseSubscriber subscriber = new SseSubscriber(Duration.ofMinutes(1), Duration.ofMinutes(1), 2, closed::add);
+
+        assertTrue(subscriber.offer(event("1")));
+        assertTrue(subscriber.offer(event("2")));
+        assertFalse(subscriber.offer(event("3")));
+
+        assertEquals(List.of(subscriber), closed);
+        assertFalse(subscriber.offer(event("4")));
+    }
+
+    @Test
+    void close_NotifiesOwnerOnce() {
+        SseSubscriber subscriber = new SseSubscriber(Duration.ofMinutes(1), Duration.ofMinutes(1), 2, closed::add);
+
+        subscriber.close();
+        subscriber.close();
+        subscriber.getEmitter().complete();
+
+        assertEquals(List.of(subscriber), closed);
+    }
+
+    private static SseEmitter.SseEventBuilder event(String data) {
+        return SseEmitter.event().name("order-updated").data(data);
+    }
+}